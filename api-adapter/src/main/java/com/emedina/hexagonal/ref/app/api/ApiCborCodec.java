@@ -0,0 +1,251 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reflection-free CBOR (RFC 8949) codec for the API records, meant for internal service-to-service traffic.
+ * <p>
+ * Records are encoded as maps keyed by the numeric keys of the {@link ApiSchema} instead of their field names,
+ * which keeps payloads small; text keys matching the field names are accepted too when decoding, so that generic
+ * CBOR libraries can be used by clients. Only definite-length items are supported.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ApiCborCodec {
+
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_BYTES = 2;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    private static final int MAJOR_TAG = 6;
+    private static final byte TRUE = (byte) 0xF5;
+    private static final byte NULL = (byte) 0xF6;
+
+    private static final ApiSchema.ArticleResponse[] RESPONSE_FIELDS = ApiSchema.ArticleResponse.values();
+
+    /**
+     * Encodes a single article response.
+     *
+     * @param article the article
+     * @return the encoded article
+     */
+    static ApiOutputBuffer encode(final ApiResponse.Article article) {
+        final ApiOutputBuffer buffer = new ApiOutputBuffer(64);
+        write(article, buffer);
+        return buffer;
+    }
+
+    /**
+     * Encodes a list of responses as a CBOR array.
+     *
+     * @param responses the responses
+     * @return the encoded responses
+     */
+    static ApiOutputBuffer encode(final List<? extends ApiResponse> responses) {
+        final ApiOutputBuffer buffer = new ApiOutputBuffer(9 + 64 * responses.size());
+        head(MAJOR_ARRAY, responses.size(), buffer);
+        for (final ApiResponse response : responses) {
+            switch (response) {
+                case ApiResponse.Article article -> write(article, buffer);
+                case ApiResponse.Tombstone tombstone -> write(tombstone, buffer);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Decodes an article request; unknown fields are skipped and missing ones left {@code null}.
+     *
+     * @param cbor the bytes of the request
+     * @return the decoded article
+     * @throws IllegalArgumentException if the request is not a well-formed CBOR map
+     */
+    static ApiRequest.Article decodeArticleRequest(final byte[] cbor) {
+        final Reader reader = new Reader(cbor);
+        final String[] values = ApiSchema.ArticleRequest.newValues();
+
+        final long pairs = reader.head(MAJOR_MAP);
+        for (long i = 0; i < pairs; i++) {
+            final ApiSchema.ArticleRequest field = reader.key();
+            if (field == null) {
+                reader.skip(0);
+            } else {
+                values[field.ordinal()] = reader.nullableText();
+            }
+        }
+        reader.end();
+
+        return ApiSchema.ArticleRequest.create(values);
+    }
+
+    private static void write(final ApiResponse.Article article, final ApiOutputBuffer buffer) {
+        head(MAJOR_MAP, RESPONSE_FIELDS.length, buffer);
+        for (final ApiSchema.ArticleResponse field : RESPONSE_FIELDS) {
+            head(MAJOR_UNSIGNED, field.key(), buffer);
+            text(field.value(article), buffer);
+        }
+    }
+
+    private static void write(final ApiResponse.Tombstone tombstone, final ApiOutputBuffer buffer) {
+        head(MAJOR_MAP, 2, buffer);
+        head(MAJOR_UNSIGNED, ApiSchema.TombstoneResponse.ID.key(), buffer);
+        text(tombstone.id(), buffer);
+        head(MAJOR_UNSIGNED, ApiSchema.TombstoneResponse.DELETED.key(), buffer);
+        buffer.write(TRUE);
+    }
+
+    private static void text(final String value, final ApiOutputBuffer buffer) {
+        if (value == null) {
+            buffer.write(NULL);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        head(MAJOR_TEXT, bytes.length, buffer);
+        buffer.write(bytes);
+    }
+
+    private static void head(final int major, final long value, final ApiOutputBuffer buffer) {
+        final int type = major << 5;
+        if (value < 24) {
+            buffer.write((byte) (type | value));
+        } else if (value <= 0xFF) {
+            buffer.write((byte) (type | 24)).write((byte) value);
+        } else if (value <= 0xFFFF) {
+            buffer.write((byte) (type | 25)).write((byte) (value >> 8)).write((byte) value);
+        } else if (value <= 0xFFFFFFFFL) {
+            buffer.write((byte) (type | 26));
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer.write((byte) (value >> shift));
+            }
+        } else {
+            buffer.write((byte) (type | 27));
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer.write((byte) (value >> shift));
+            }
+        }
+    }
+
+    /**
+     * Minimal pull parser over the bytes of a CBOR item.
+     */
+    private static final class Reader {
+
+        private static final int MAX_DEPTH = 32;
+
+        private final byte[] cbor;
+        private int position;
+        private int major;
+
+        private Reader(final byte[] cbor) {
+            this.cbor = cbor;
+        }
+
+        long head(final int expectedMajor) {
+            final long value = this.head();
+            if (this.major != expectedMajor) {
+                throw this.error("Unexpected major type " + this.major);
+            }
+            return value;
+        }
+
+        ApiSchema.ArticleRequest key() {
+            final long value = this.head();
+            return switch (this.major) {
+                case MAJOR_UNSIGNED -> ApiSchema.ArticleRequest.byKey(value);
+                case MAJOR_TEXT -> ApiSchema.ArticleRequest.byName(this.text(value));
+                default -> throw this.error("Unsupported key type " + this.major);
+            };
+        }
+
+        String nullableText() {
+            if (this.position < this.cbor.length && this.cbor[this.position] == NULL) {
+                this.position++;
+                return null;
+            }
+            return this.text(this.head(MAJOR_TEXT));
+        }
+
+        void skip(final int depth) {
+            if (depth > MAX_DEPTH) {
+                throw this.error("Nesting too deep");
+            }
+            final long value = this.head();
+            switch (this.major) {
+                case MAJOR_BYTES, MAJOR_TEXT -> this.position += this.length(value);
+                case MAJOR_ARRAY -> {
+                    for (long i = 0; i < value; i++) {
+                        this.skip(depth + 1);
+                    }
+                }
+                case MAJOR_MAP -> {
+                    for (long i = 0; i < value; i++) {
+                        this.skip(depth + 1);
+                        this.skip(depth + 1);
+                    }
+                }
+                case MAJOR_TAG -> this.skip(depth + 1);
+                default -> {
+                    // unsigned, negative and simple values carry no content beyond their head
+                }
+            }
+        }
+
+        void end() {
+            if (this.position < this.cbor.length) {
+                throw this.error("Unexpected trailing content");
+            }
+        }
+
+        private String text(final long length) {
+            final int size = this.length(length);
+            final String value = new String(this.cbor, this.position, size, StandardCharsets.UTF_8);
+            this.position += size;
+            return value;
+        }
+
+        private int length(final long length) {
+            if (length < 0 || length > this.cbor.length - this.position) {
+                throw this.error("Length exceeds the payload");
+            }
+            return (int) length;
+        }
+
+        private long head() {
+            if (this.position >= this.cbor.length) {
+                throw this.error("Unexpected end of payload");
+            }
+            final int initial = this.cbor[this.position++] & 0xFF;
+            this.major = initial >> 5;
+            final int info = initial & 0x1F;
+            if (info < 24) {
+                return info;
+            }
+            final int bytes = switch (info) {
+                case 24 -> 1;
+                case 25 -> 2;
+                case 26 -> 4;
+                case 27 -> 8;
+                default -> throw this.error("Unsupported additional information " + info);
+            };
+            this.length(bytes);
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = (value << 8) | (this.cbor[this.position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException(message + " at position " + this.position);
+        }
+
+    }
+
+}
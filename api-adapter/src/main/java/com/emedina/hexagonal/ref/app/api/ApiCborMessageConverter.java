@@ -0,0 +1,35 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP message converter for the CBOR representation of the API records, backed by the {@link ApiCborCodec}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+final class ApiCborMessageConverter extends ApiRecordMessageConverter {
+
+    ApiCborMessageConverter() {
+        super(null, MediaType.APPLICATION_CBOR);
+    }
+
+    @Override
+    ApiRequest.Article decode(final byte[] body) {
+        return ApiCborCodec.decodeArticleRequest(body);
+    }
+
+    @Override
+    ApiOutputBuffer encode(final ApiResponse.Article article) {
+        return ApiCborCodec.encode(article);
+    }
+
+    @Override
+    ApiOutputBuffer encode(final List<? extends ApiResponse> responses) {
+        return ApiCborCodec.encode(responses);
+    }
+
+}
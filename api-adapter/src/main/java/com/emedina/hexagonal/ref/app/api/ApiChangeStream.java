@@ -0,0 +1,138 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static com.emedina.hexagonal.ref.app.api.ApiOutputBuffer.ascii;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+
+import io.vavr.control.Option;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the changes of a subscription as Server-Sent Events.
+ * <p>
+ * Every change becomes an event named after its type, whose id is its version so that a reconnecting client resumes
+ * through {@code Last-Event-ID}, and whose data is {@code {"version":..,"id":..}}, plus the {@code article} when
+ * bodies were requested. The stream is written by a blocking loop, which is why it runs on the async executor of
+ * Spring MVC, made of virtual threads. The changes available at once are written in a single batch, and a comment is
+ * sent when none arrived within {@link #HEARTBEAT}, so that dead connections are noticed.
+ * </p>
+ * <p>
+ * The stream ends, and the client reconnects, when the subscription overflows because the client reads too slowly,
+ * and anyway after {@link #MAX_LIFETIME}, so that long-lived connections rebalance across instances.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ApiChangeStream {
+
+    static final Duration HEARTBEAT = Duration.ofSeconds(15);
+    static final Duration MAX_LIFETIME = Duration.ofMinutes(10);
+    static final int MAX_BATCH = 64;
+
+    private static final byte[] RETRY = ascii("retry: 1000\n\n");
+    private static final byte[] KEEP_ALIVE = ascii(":\n\n");
+    private static final byte[] ID = ascii("id: ");
+
+    /**
+     * Precompiled {@code \nevent: <type>\ndata: {"version":} fragments, one per type of change.
+     */
+    private static final byte[][] EVENT_PREFIXES = Arrays.stream(ArticleChangeDTO.Type.values())
+        .map(t -> ascii("\nevent: " + t.name().toLowerCase(Locale.ROOT) + "\ndata: {\"version\":"))
+        .toArray(byte[][]::new);
+    private static final byte[] ID_FIELD = ascii(",\"id\":");
+    private static final byte[] ARTICLE_FIELD = ascii(",\"article\":");
+    private static final byte[] EVENT_SUFFIX = ascii("}\n\n");
+
+    /**
+     * Creates the response streaming the changes of the given subscription.
+     *
+     * @param subscription the subscription, closed once the stream ends
+     * @param withBody     whether to include the article in the events of creations and updates
+     * @return the response
+     */
+    static ResponseEntity<StreamingResponseBody> response(final ArticleChangeSubscription subscription,
+            final boolean withBody) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .cacheControl(CacheControl.noStore())
+            .body(out -> pipe(subscription, withBody, out, HEARTBEAT, MAX_LIFETIME));
+    }
+
+    /**
+     * Adapts a failure response so that it can be returned in place of a stream.
+     *
+     * @param failure the failure response
+     * @return the same response, its body written once streaming starts
+     */
+    static ResponseEntity<StreamingResponseBody> failure(final ResponseEntity<byte[]> failure) {
+        final byte[] body = failure.getBody();
+        return ResponseEntity.status(failure.getStatusCode())
+            .headers(failure.getHeaders())
+            .body(body == null ? null : out -> out.write(body));
+    }
+
+    static void pipe(final ArticleChangeSubscription subscription, final boolean withBody, final OutputStream out,
+            final Duration heartbeat, final Duration maxLifetime) throws IOException {
+        final long end = System.nanoTime() + maxLifetime.toNanos();
+        try (subscription) {
+            out.write(RETRY);
+            out.flush();
+            while (System.nanoTime() - end < 0) {
+                Option<ArticleChangeDTO> change = subscription.next(heartbeat);
+                if (subscription.isOverflowed()) {
+                    log.atDebug().log("Change stream ended, the client is reading too slowly");
+                    return;
+                }
+                if (change.isEmpty()) {
+                    out.write(KEEP_ALIVE);
+                } else {
+                    final ApiOutputBuffer buffer = new ApiOutputBuffer(256);
+                    int batched = 0;
+                    do {
+                        write(change.get(), withBody, buffer);
+                        change = ++batched < MAX_BATCH ? subscription.next(Duration.ZERO) : Option.none();
+                    } while (change.isDefined());
+                    buffer.writeTo(out);
+                }
+                out.flush();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void write(final ArticleChangeDTO change, final boolean withBody, final ApiOutputBuffer buffer) {
+        // An empty id makes the client forget its last one, as there is nothing before the first version
+        buffer.write(ID);
+        if (change.version() >= 0) {
+            buffer.write(ascii(Long.toString(change.version())));
+        }
+        buffer.write(EVENT_PREFIXES[change.type().ordinal()])
+            .write(ascii(Long.toString(change.version())));
+        if (change.id() != null) {
+            buffer.write(ID_FIELD).string(change.id());
+        }
+        if (withBody && change.article() != null) {
+            buffer.write(ARTICLE_FIELD);
+            ApiJsonCodec.write(ApiMapper.INSTANCE.toArticleResponse(change.article()), buffer);
+        }
+        buffer.write(EVENT_SUFFIX);
+    }
+
+}
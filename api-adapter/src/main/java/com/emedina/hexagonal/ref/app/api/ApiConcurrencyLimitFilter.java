@@ -0,0 +1,102 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filter applying an adaptive concurrency limit in front of the article API.
+ * <p>
+ * With virtual threads the container accepts any number of concurrent requests, so without a limit they would all
+ * pile up on the repository and the author API until latency collapses. Reads and writes are limited separately by
+ * their own {@link ApiConcurrencyLimiter}, and requests beyond the limit are rejected with
+ * {@code 503 Service Unavailable}.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+final class ApiConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String PATH_PREFIX = "/api/articles";
+
+    static final byte[] SERVICE_UNAVAILABLE = ApiProblemEncoder.encodeConstant(HttpStatus.SERVICE_UNAVAILABLE,
+            "Too many concurrent requests, please retry later");
+
+    private final ApiConcurrencyLimiter readLimiter = new ApiConcurrencyLimiter();
+    private final ApiConcurrencyLimiter writeLimiter = new ApiConcurrencyLimiter();
+
+    private final Counter readRejections;
+    private final Counter writeRejections;
+
+    ApiConcurrencyLimitFilter(final MeterRegistry registry) {
+        this.readRejections = this.registerMetrics(registry, "read", this.readLimiter);
+        this.writeRejections = this.registerMetrics(registry, "write", this.writeLimiter);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final boolean read = HttpMethod.GET.matches(request.getMethod());
+        final ApiConcurrencyLimiter limiter = read ? this.readLimiter : this.writeLimiter;
+
+        if (!limiter.tryAcquire()) {
+            log.atDebug().setMessage("Request to [{}] rejected, limit of [{}] reached")
+                .addArgument(request::getRequestURI)
+                .addArgument(limiter::limit)
+                .log();
+            (read ? this.readRejections : this.writeRejections).increment();
+            this.reject(response);
+            return;
+        }
+
+        final int inFlightAtStart = limiter.inFlight();
+        final long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start, inFlightAtStart);
+        }
+    }
+
+    private void reject(final HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(SERVICE_UNAVAILABLE.length);
+        response.getOutputStream().write(SERVICE_UNAVAILABLE);
+    }
+
+    private Counter registerMetrics(final MeterRegistry registry, final String group,
+            final ApiConcurrencyLimiter limiter) {
+        Gauge.builder("api.concurrency.limit", limiter, ApiConcurrencyLimiter::limit)
+            .tag("group", group)
+            .register(registry);
+        Gauge.builder("api.concurrency.inflight", limiter, ApiConcurrencyLimiter::inFlight)
+            .tag("group", group)
+            .register(registry);
+        return registry.counter("api.concurrency.rejected", "group", group);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Adaptive concurrency limiter following the gradient algorithm.
+ * <p>
+ * The limit is continuously adjusted from the ratio between a long-term average of the measured round-trip time
+ * and the latest sample: while latency stays at its baseline the limit grows by a queue allowance of
+ * {@code sqrt(limit)}, and as soon as latency rises because requests start queueing on the repository or the
+ * author API, the gradient drops below one and the limit shrinks accordingly. Requests beyond the current limit
+ * are meant to be rejected straight away instead of piling up.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class ApiConcurrencyLimiter {
+
+    static final int INITIAL_LIMIT = 20;
+    static final int MIN_LIMIT = 4;
+    static final int MAX_LIMIT = 200;
+
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOW = 600;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DRIFT_TOLERANCE = 2.0;
+    private static final double DRIFT_DECAY = 0.95;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Getter
+    @Accessors(fluent = true)
+    private volatile double limit = INITIAL_LIMIT;
+    private double longRtt;
+
+    /**
+     * Tries to take a permit for a new request.
+     *
+     * @return {@code true} if the request may proceed, in which case {@link #release(long, int)} must be called
+     *         once it completes; {@code false} if it must be rejected
+     */
+    boolean tryAcquire() {
+        if (this.inFlight.incrementAndGet() > (int) this.limit) {
+            this.inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases the permit of a completed request, feeding its round-trip time into the limit.
+     *
+     * @param rttNanos       the round-trip time of the request
+     * @param inFlightAtStart the number of in-flight requests when it was admitted
+     */
+    void release(final long rttNanos, final int inFlightAtStart) {
+        this.inFlight.decrementAndGet();
+        this.onSample(rttNanos, inFlightAtStart);
+    }
+
+    int inFlight() {
+        return this.inFlight.get();
+    }
+
+    private synchronized void onSample(final long rttNanos, final int inFlightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        final double shortRtt = rttNanos;
+        this.longRtt = this.longRtt == 0 ? shortRtt : this.longRtt + (shortRtt - this.longRtt) / LONG_WINDOW;
+
+        // Once latency has been high for a while, converge the baseline back faster
+        if (this.longRtt / shortRtt > DRIFT_TOLERANCE) {
+            this.longRtt *= DRIFT_DECAY;
+        }
+
+        // Do not grow the limit while it is not being used
+        if (inFlightAtStart < this.limit / 2) {
+            return;
+        }
+
+        final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, this.longRtt / shortRtt));
+        final double newLimit = this.limit * gradient + Math.sqrt(this.limit);
+        final double smoothed = this.limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        this.limit = Math.max(MIN_LIMIT, Math.min(MAX_LIMIT, smoothed));
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Consistency of the reads of the article API, exchanged with the clients through the {@code X-Article-Version}
+ * header.
+ * <p>
+ * Successful writes answer with the version they brought the articles to. With {@link Mode#READ_YOUR_WRITES}, the
+ * default, a read presenting that version is served from a read model at least that recent; with
+ * {@link Mode#EVENTUAL} the header of the reads is ignored and they are always served from the read model as it
+ * is, which may not reflect the latest writes yet. The mode is set with {@code articles.read-model.consistency}.
+ * </p>
+ * <p>
+ * A version that is not a non-negative number was not handed out by any write, and is rejected as invalid rather than
+ * silently read as no version at all.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+final class ApiConsistency {
+
+    static final String VERSION_HEADER = "X-Article-Version";
+
+    /**
+     * Consistency modes of the reads.
+     */
+    enum Mode {
+
+        READ_YOUR_WRITES,
+        EVENTUAL
+
+    }
+
+    private final Mode mode;
+
+    ApiConsistency(@Value("${articles.read-model.consistency:read-your-writes}") final Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Creates the consistency token of the given request.
+     *
+     * @param request the request
+     * @return either the token requiring the version presented by the request, if honoured, or none, or an error if
+     *         the version is not a non-negative number
+     */
+    Either<Error, ConsistencyToken> tokenOf(final HttpServletRequest request) {
+        final String header = request.getHeader(VERSION_HEADER);
+        if (this.mode == Mode.EVENTUAL || header == null || header.isBlank()) {
+            return Either.right(ConsistencyToken.none());
+        }
+        return Try.of(() -> Long.parseLong(header.strip()))
+            .filter(version -> version >= 0L)
+            .toEither()
+            .<Error>mapLeft(e -> new Error.ValidationErrors(List.of(new ValidationError.Invalid(header))))
+            .map(ConsistencyToken::requiring);
+    }
+
+    /**
+     * Adds the version written under the given token, if any, to a response.
+     *
+     * @param response the response
+     * @param token    the token of the request
+     * @param <T>      the type of the body of the response
+     * @return the response, with the version header if something was written
+     */
+    <T> ResponseEntity<T> withVersion(final ResponseEntity<T> response, final ConsistencyToken token) {
+        if (token.written() == ConsistencyToken.NONE) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+            .headers(response.getHeaders())
+            .header(VERSION_HEADER, Long.toString(token.written()))
+            .body(response.getBody());
+    }
+
+}
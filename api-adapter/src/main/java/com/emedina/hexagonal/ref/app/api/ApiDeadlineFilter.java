@@ -0,0 +1,76 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter stamping every article API request with its {@link Deadline} as soon as it enters the filter chain.
+ * <p>
+ * The budget is taken from the {@code X-Request-Timeout} header, in milliseconds, capped to {@link #MAX_BUDGET}
+ * and defaulting to {@link #DEFAULT_BUDGET}. The filter runs first, ahead of the concurrency limit, so the budget
+ * covers everything the application does with the request, which is what allows the stages downstream to shed work
+ * the client has already given up on. The time spent before the request reaches the filter chain, accepting the
+ * connection and parsing the request in the container, is not measured, so clients should leave some slack for it.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+final class ApiDeadlineFilter extends OncePerRequestFilter {
+
+    static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    static final Duration DEFAULT_BUDGET = Duration.ofSeconds(5);
+    static final Duration MAX_BUDGET = Duration.ofSeconds(60);
+
+    private static final String DEADLINE_ATTRIBUTE = ApiDeadlineFilter.class.getName() + ".deadline";
+
+    /**
+     * Gets the deadline of the given request, falling back to the default budget from now if it was not stamped.
+     *
+     * @param request the request
+     * @return the deadline of the request
+     */
+    static Deadline deadlineOf(final HttpServletRequest request) {
+        return request.getAttribute(DEADLINE_ATTRIBUTE) instanceof Deadline deadline
+            ? deadline
+            : Deadline.after(DEFAULT_BUDGET);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(ApiConcurrencyLimitFilter.PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        request.setAttribute(DEADLINE_ATTRIBUTE, Deadline.after(budgetOf(request.getHeader(TIMEOUT_HEADER))));
+        filterChain.doFilter(request, response);
+    }
+
+    static Duration budgetOf(final String header) {
+        if (header == null || header.isBlank()) {
+            return DEFAULT_BUDGET;
+        }
+        try {
+            final long millis = Long.parseLong(header.strip());
+            return millis <= 0 ? DEFAULT_BUDGET : Duration.ofMillis(Math.min(millis, MAX_BUDGET.toMillis()));
+        } catch (final NumberFormatException e) {
+            return DEFAULT_BUDGET;
+        }
+    }
+
+}
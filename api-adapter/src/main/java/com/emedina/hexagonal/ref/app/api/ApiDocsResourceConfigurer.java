@@ -0,0 +1,36 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Serves the OpenAPI document of the {@link ArticleApi} as a static resource.
+ * <p>
+ * The document is maintained at build time instead of being produced by springdoc scanning the annotations on
+ * first access, which costs CPU, memory and a latency spike right after every deploy; the runtime scanner stays
+ * available through {@code springdoc.api-docs.enabled}. Clients may cache the document for {@link #MAX_AGE} and
+ * revalidate it afterwards against its last modification time.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Configuration(proxyBeanMethods = false)
+class ApiDocsResourceConfigurer implements WebMvcConfigurer {
+
+    static final String PATH_PATTERN = "/openapi/**";
+    static final String LOCATION = "classpath:/openapi/";
+    static final Duration MAX_AGE = Duration.ofHours(1);
+
+    @Override
+    public void addResourceHandlers(final ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(PATH_PATTERN)
+            .addResourceLocations(LOCATION)
+            .setCacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+            .setUseLastModified(true);
+    }
+
+}
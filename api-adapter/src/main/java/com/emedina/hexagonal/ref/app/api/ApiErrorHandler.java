@@ -1,98 +1,156 @@
 package com.emedina.hexagonal.ref.app.api;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
-import java.net.URI;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
 
 /**
- * API error handler that maps error values to HTTP status codes and problem details
- * using a list of {@link ProblemDetail}.
+ * API error handler that maps error values to HTTP status codes and problem details, encoding them straight
+ * into an {@code application/problem+json} body through the {@link ApiProblemEncoder}.
+ * <p>
+ * Work shed because the deadline of its request expired is answered with {@code 503 Service Unavailable} and counted
+ * per stage in the {@code api.deadline.shed} metric; so is work refused because a resource is temporarily
+ * exhausted, which the client may retry later.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 final class ApiErrorHandler {
 
-    List<ProblemDetail> mapErrorToProblemDetail(final Error error, final HttpServletRequest request) {
-        return switch (error) {
-            case Error.ValidationErrors validationErrors ->
-                    List.of(this.createProblemDetailFromValidationErrors(validationErrors));
-            case Error.MultipleErrors multipleErrors ->
-                    this.createProblemDetailFromMultipleErrors(multipleErrors, request);
-            case Error.BusinessError.InvalidId invalidId ->
-                    List.of(this.createProblemDetailFromBusinessError(invalidId));
-            case Error.BusinessError.UnknownArticle unknownArticle ->
-                    List.of(this.createProblemDetailFromBusinessError(unknownArticle));
-            case Error.TechnicalError.SomethingWentWrong somethingWentWrong ->
-                    List.of(this.createProblemDetailFromTechnicalError(somethingWentWrong, request));
-        };
+    static final String SHED_METRIC_NAME = "api.deadline.shed";
+
+    private static final byte[] INTERNAL_SERVER_ERROR = utf8("Internal server error [");
+    private static final byte[] ARTICLE_ID = utf8("Article id [");
+    private static final byte[] NOT_VALID = utf8("] not valid");
+    private static final byte[] ARTICLE_WITH_ID = utf8("Article with id [");
+    private static final byte[] NOT_FOUND = utf8("] not found");
+    private static final byte[] ALREADY_EXISTS = utf8("] already exists");
+    private static final byte[] AUTHOR_ID = utf8("Author id [");
+    private static final byte[] AUTHOR_WITH_ID = utf8("Author with id [");
+    private static final byte[] INVALID_VALUE = utf8("Invalid value provided [");
+    private static final byte[] CANNOT_BE_NULL = utf8("Cannot be null [");
+    private static final byte[] MUST_HAVE_CONTENT = utf8("Must have content [");
+    private static final byte[] CANNOT_BE_EMPTY = utf8("Cannot be empty [");
+    private static final byte[] CLOSING_BRACKET = utf8("]");
+    private static final byte[] SEPARATOR = utf8(", ");
+    private static final byte[] DEADLINE_EXCEEDED = utf8("Request deadline exceeded at [");
+    private static final byte[] TEMPORARILY_UNAVAILABLE = utf8("Temporarily unavailable [");
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the failure response for the given error, typing every problem with the originating URI.
+     *
+     * @param error   the error to map
+     * @param request the originating request
+     * @return the failure response
+     */
+    ResponseEntity<byte[]> createFailureResponse(final Error error, final HttpServletRequest request) {
+        final ApiProblemEncoder.Writer writer = ApiProblemEncoder.writer(request.getRequestURI());
+        this.writeError(error, writer);
+        return writer.toResponse();
     }
 
-    private ProblemDetail createProblemDetailFromTechnicalError(final Error.TechnicalError technicalError,
-                                                                final HttpServletRequest request) {
+    private void writeError(final Error error, final ApiProblemEncoder.Writer writer) {
+        switch (error) {
+            case Error.ValidationErrors validationErrors -> this.writeValidationErrors(validationErrors, writer);
+            case Error.MultipleErrors multipleErrors -> this.writeMultipleErrors(multipleErrors, writer);
+            case Error.BusinessError businessError -> this.writeBusinessError(businessError, writer);
+            case Error.TechnicalError technicalError -> this.writeTechnicalError(technicalError, writer);
+        }
+    }
+
+    private void writeTechnicalError(final Error.TechnicalError technicalError, final ApiProblemEncoder.Writer writer) {
         log.atTrace().setMessage("Technical error received").log();
-        return switch (technicalError) {
-            case Error.TechnicalError.SomethingWentWrong somethingWentWrongError -> {
-                final ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
-                problemDetail.setInstance(URI.create(request.getRequestURI()));
-                problemDetail.setDetail("Internal server error [%s]".formatted(somethingWentWrongError.message()));
-                yield problemDetail;
+        switch (technicalError) {
+            case Error.TechnicalError.SomethingWentWrong somethingWentWrongError -> writer
+                    .beginProblem(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .literal(INTERNAL_SERVER_ERROR).value(somethingWentWrongError.message()).literal(CLOSING_BRACKET)
+                    .endProblem(true);
+            case Error.TechnicalError.DeadlineExceeded deadlineExceeded -> {
+                this.meterRegistry.counter(SHED_METRIC_NAME, "stage", deadlineExceeded.stage()).increment();
+                writer.beginProblem(HttpStatus.SERVICE_UNAVAILABLE)
+                    .literal(DEADLINE_EXCEEDED).value(deadlineExceeded.stage()).literal(CLOSING_BRACKET)
+                    .endProblem(false);
             }
-        };
+            case Error.TechnicalError.Unavailable unavailable -> writer
+                    .beginProblem(HttpStatus.SERVICE_UNAVAILABLE)
+                    .literal(TEMPORARILY_UNAVAILABLE).value(unavailable.reason()).literal(CLOSING_BRACKET)
+                    .endProblem(false);
+        }
     }
 
-    private ProblemDetail createProblemDetailFromBusinessError(final Error.BusinessError businessError) {
+    private void writeBusinessError(final Error.BusinessError businessError, final ApiProblemEncoder.Writer writer) {
         log.atTrace().setMessage("Business error received").log();
-        return switch (businessError) {
-            case Error.BusinessError.InvalidId invalidId -> {
-                final ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-                problemDetail.setDetail("Article id [%s] not valid".formatted(invalidId.id()));
-                yield problemDetail;
-            }
-            case Error.BusinessError.UnknownArticle unknownArticle -> {
-                final ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND.value());
-                problemDetail.setDetail("Article with id [%s] not found".formatted(unknownArticle.id()));
-                yield problemDetail;
-            }
-        };
+        switch (businessError) {
+            case Error.BusinessError.InvalidId invalidId -> writer
+                    .beginProblem(HttpStatus.BAD_REQUEST)
+                    .literal(ARTICLE_ID).value(invalidId.id()).literal(NOT_VALID)
+                    .endProblem(false);
+            case Error.BusinessError.UnknownArticle unknownArticle -> writer
+                    .beginProblem(HttpStatus.NOT_FOUND)
+                    .literal(ARTICLE_WITH_ID).value(unknownArticle.id()).literal(NOT_FOUND)
+                    .endProblem(false);
+            case Error.BusinessError.DuplicateArticle duplicateArticle -> writer
+                    .beginProblem(HttpStatus.CONFLICT)
+                    .literal(ARTICLE_WITH_ID).value(duplicateArticle.id()).literal(ALREADY_EXISTS)
+                    .endProblem(false);
+            case Error.BusinessError.UnknownAuthor unknownAuthor -> writer
+                    .beginProblem(HttpStatus.BAD_REQUEST)
+                    .literal(AUTHOR_WITH_ID).value(unknownAuthor.id()).literal(NOT_FOUND)
+                    .endProblem(false);
+            case Error.BusinessError.InvalidAuthorId invalidAuthorId -> writer
+                    .beginProblem(HttpStatus.BAD_REQUEST)
+                    .literal(AUTHOR_ID).value(invalidAuthorId.id()).literal(NOT_VALID)
+                    .endProblem(false);
+        }
     }
 
-    private ProblemDetail createProblemDetailFromValidationErrors(final Error.ValidationErrors validationErrors) {
+    private void writeValidationErrors(final Error.ValidationErrors validationErrors,
+                                       final ApiProblemEncoder.Writer writer) {
         log.atTrace().setMessage("Validation errors received, continue to map list of [{}]")
                 .addArgument(validationErrors.errors()::size).log();
-        final ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-        problemDetail.setDetail(validationErrors.errors().stream()
-                .map(this::createDetailFromValidationError).collect(Collectors.joining(", ")));
-
-        return problemDetail;
+        writer.beginProblem(HttpStatus.BAD_REQUEST);
+        boolean first = true;
+        for (final ValidationError validationError : validationErrors.errors()) {
+            if (!first) {
+                writer.literal(SEPARATOR);
+            }
+            this.writeValidationError(validationError, writer);
+            first = false;
+        }
+        writer.endProblem(false);
     }
 
-    private String createDetailFromValidationError(final ValidationError validationError) {
-        return switch (validationError) {
-            case ValidationError.Invalid invalid -> "Invalid value provided [%s]".formatted(invalid.value());
-            case ValidationError.CannotBeNull cannotBeNull -> "Cannot be null [%s]".formatted(cannotBeNull.obj());
+    private void writeValidationError(final ValidationError validationError, final ApiProblemEncoder.Writer writer) {
+        switch (validationError) {
+            case ValidationError.Invalid invalid -> writer.literal(INVALID_VALUE).value(invalid.value());
+            case ValidationError.CannotBeNull cannotBeNull -> writer.literal(CANNOT_BE_NULL).value(cannotBeNull.obj());
             case ValidationError.MustHaveContent mustHaveContent ->
-                    "Must have content [%s]".formatted(mustHaveContent.name());
-            case ValidationError.CannotBeEmpty cannotBeEmpty -> "Cannot be empty [%s]".formatted(cannotBeEmpty.list());
-        };
+                    writer.literal(MUST_HAVE_CONTENT).value(mustHaveContent.name());
+            case ValidationError.CannotBeEmpty cannotBeEmpty -> writer.literal(CANNOT_BE_EMPTY).value(cannotBeEmpty.list());
+        }
+        writer.literal(CLOSING_BRACKET);
     }
 
-    private List<ProblemDetail> createProblemDetailFromMultipleErrors(final Error.MultipleErrors multipleErrors,
-                                                                      final HttpServletRequest request) {
+    private void writeMultipleErrors(final Error.MultipleErrors multipleErrors, final ApiProblemEncoder.Writer writer) {
         log.atTrace().setMessage("Multiple errors received").log();
-        return multipleErrors.errors().stream()
-                .map(e -> this.mapErrorToProblemDetail(e, request))
-                .flatMap(List::stream)
-                .toList();
+        multipleErrors.errors().forEach(e -> this.writeError(e, writer));
+    }
+
+    private static byte[] utf8(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 
 }
@@ -1,12 +1,13 @@
 package com.emedina.hexagonal.ref.app.api;
 
+import org.slf4j.event.Level;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -14,13 +15,30 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * Catches exceptions that escape the functional error handling (Either) and converts them
  * to RFC 7807 Problem Details responses.
+ * <p>
+ * As none of these responses carry parameters, their bodies are encoded only once and reused.
+ * </p>
+ * <p>
+ * Logging goes through the {@link ApiLogGate}, so that a flood of failing requests only logs a few stack traces
+ * per interval and aggregates the rest.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 final class ApiGlobalExceptionHandler {
 
+    static final byte[] INVALID_REQUEST_BODY = ApiProblemEncoder.encodeConstant(HttpStatus.BAD_REQUEST,
+            "Invalid request body: malformed JSON or missing required fields");
+    static final byte[] INTERNAL_CONFIGURATION_ERROR = ApiProblemEncoder.encodeConstant(
+            HttpStatus.INTERNAL_SERVER_ERROR, "Internal configuration error");
+    static final byte[] UNEXPECTED_ERROR = ApiProblemEncoder.encodeConstant(HttpStatus.INTERNAL_SERVER_ERROR,
+            "An unexpected error occurred");
+
+    private final ApiLogGate logGate;
+
     /**
      * Handles malformed JSON or deserialization errors.
      *
@@ -28,16 +46,12 @@ final class ApiGlobalExceptionHandler {
      * @return a 400 Bad Request response with problem details
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    ResponseEntity<ProblemDetail> handleHttpMessageNotReadable(final HttpMessageNotReadableException ex) {
-        log.atWarn().setMessage("Invalid request body received").setCause(ex).log();
+    ResponseEntity<byte[]> handleHttpMessageNotReadable(final HttpMessageNotReadableException ex) {
+        if (this.logGate.tryAcquire(Level.WARN, ex)) {
+            log.atWarn().setMessage("Invalid request body received").setCause(ex).log();
+        }
 
-        final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.BAD_REQUEST,
-                "Invalid request body: malformed JSON or missing required fields"
-        );
-        problemDetail.setTitle("Bad Request");
-
-        return ResponseEntity.badRequest().body(problemDetail);
+        return ApiProblemEncoder.createConstantResponse(HttpStatus.BAD_REQUEST, INVALID_REQUEST_BODY);
     }
 
     /**
@@ -47,16 +61,12 @@ final class ApiGlobalExceptionHandler {
      * @return a 500 Internal Server Error response with problem details
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    ResponseEntity<ProblemDetail> handleIllegalArgument(final IllegalArgumentException ex) {
-        log.atError().setMessage("Configuration error detected").setCause(ex).log();
-
-        final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                "Internal configuration error"
-        );
-        problemDetail.setTitle("Internal Server Error");
+    ResponseEntity<byte[]> handleIllegalArgument(final IllegalArgumentException ex) {
+        if (this.logGate.tryAcquire(Level.ERROR, ex)) {
+            log.atError().setMessage("Configuration error detected").setCause(ex).log();
+        }
 
-        return ResponseEntity.internalServerError().body(problemDetail);
+        return ApiProblemEncoder.createConstantResponse(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_CONFIGURATION_ERROR);
     }
 
     /**
@@ -66,16 +76,12 @@ final class ApiGlobalExceptionHandler {
      * @return a 500 Internal Server Error response with problem details
      */
     @ExceptionHandler(Exception.class)
-    ResponseEntity<ProblemDetail> handleUnexpectedException(final Exception ex) {
-        log.atError().setMessage("Unexpected error occurred").setCause(ex).log();
-
-        final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                "An unexpected error occurred"
-        );
-        problemDetail.setTitle("Internal Server Error");
+    ResponseEntity<byte[]> handleUnexpectedException(final Exception ex) {
+        if (this.logGate.tryAcquire(Level.ERROR, ex)) {
+            log.atError().setMessage("Unexpected error occurred").setCause(ex).log();
+        }
 
-        return ResponseEntity.internalServerError().body(problemDetail);
+        return ApiProblemEncoder.createConstantResponse(HttpStatus.INTERNAL_SERVER_ERROR, UNEXPECTED_ERROR);
     }
 
 }
@@ -0,0 +1,317 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reflection-free JSON codec for the API records.
+ * <p>
+ * The layout of every record is fixed by the {@link ApiSchema}, so its field names are precompiled into byte
+ * fragments and written straight into an {@link ApiOutputBuffer}, while request bodies are parsed directly from
+ * their UTF-8 bytes. No introspection nor generic serializers are involved on the request path.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ApiJsonCodec {
+
+    private static final ApiSchema.ArticleResponse[] RESPONSE_FIELDS = ApiSchema.ArticleResponse.values();
+
+    /**
+     * Precompiled {@code {"name":} and {@code ,"name":} fragments, one per field of the response.
+     */
+    private static final byte[][] RESPONSE_FIELD_NAMES = Arrays.stream(RESPONSE_FIELDS)
+        .map(f -> ApiOutputBuffer.ascii((f.ordinal() == 0 ? "{\"" : ",\"") + f.fieldName() + "\":"))
+        .toArray(byte[][]::new);
+
+    private static final byte[] TOMBSTONE_ID = ApiOutputBuffer.ascii(
+        "{\"" + ApiSchema.TombstoneResponse.ID.fieldName() + "\":");
+    private static final byte[] TOMBSTONE_DELETED = ApiOutputBuffer.ascii(
+        ",\"" + ApiSchema.TombstoneResponse.DELETED.fieldName() + "\":true}");
+
+    /**
+     * Encodes a single article response.
+     *
+     * @param article the article
+     * @return the encoded article
+     */
+    static ApiOutputBuffer encode(final ApiResponse.Article article) {
+        final ApiOutputBuffer buffer = new ApiOutputBuffer(128);
+        write(article, buffer);
+        return buffer;
+    }
+
+    /**
+     * Encodes a list of responses as a JSON array.
+     *
+     * @param responses the responses
+     * @return the encoded responses
+     */
+    static ApiOutputBuffer encode(final List<? extends ApiResponse> responses) {
+        final ApiOutputBuffer buffer = new ApiOutputBuffer(2 + 128 * responses.size());
+        buffer.write((byte) '[');
+        for (int i = 0; i < responses.size(); i++) {
+            if (i > 0) {
+                buffer.write((byte) ',');
+            }
+            switch (responses.get(i)) {
+                case ApiResponse.Article article -> write(article, buffer);
+                case ApiResponse.Tombstone tombstone ->
+                    buffer.write(TOMBSTONE_ID).string(tombstone.id()).write(TOMBSTONE_DELETED);
+            }
+        }
+        return buffer.write((byte) ']');
+    }
+
+    /**
+     * Decodes an article request; unknown fields are skipped and missing ones left {@code null}.
+     *
+     * @param json the UTF-8 bytes of the request
+     * @return the decoded article
+     * @throws IllegalArgumentException if the request is not a well-formed JSON object
+     */
+    static ApiRequest.Article decodeArticleRequest(final byte[] json) {
+        final Reader reader = new Reader(json);
+        final String[] values = ApiSchema.ArticleRequest.newValues();
+
+        reader.expect('{');
+        if (!reader.consumeIf('}')) {
+            do {
+                final ApiSchema.ArticleRequest field = ApiSchema.ArticleRequest.byName(reader.string());
+                reader.expect(':');
+                if (field == null) {
+                    reader.skipValue();
+                } else {
+                    values[field.ordinal()] = reader.nullableString();
+                }
+            } while (reader.consumeIf(','));
+            reader.expect('}');
+        }
+        reader.end();
+
+        return ApiSchema.ArticleRequest.create(values);
+    }
+
+    /**
+     * Encodes a single article response at the end of the given buffer, for encoders embedding articles.
+     *
+     * @param article the article
+     * @param buffer  the buffer to write to
+     */
+    static void write(final ApiResponse.Article article, final ApiOutputBuffer buffer) {
+        for (final ApiSchema.ArticleResponse field : RESPONSE_FIELDS) {
+            buffer.write(RESPONSE_FIELD_NAMES[field.ordinal()]).string(field.value(article));
+        }
+        buffer.write((byte) '}');
+    }
+
+    /**
+     * Minimal pull parser over the UTF-8 bytes of a JSON document.
+     * <p>
+     * As multibyte UTF-8 sequences never contain ASCII bytes, structural characters can be matched byte by byte and
+     * runs of unescaped characters decoded at once.
+     * </p>
+     */
+    private static final class Reader {
+
+        private static final int MAX_DEPTH = 32;
+
+        private final byte[] json;
+        private int position;
+
+        private Reader(final byte[] json) {
+            this.json = json;
+        }
+
+        void expect(final char c) {
+            if (this.peek() != c) {
+                throw this.error("Expected '" + c + "'");
+            }
+            this.position++;
+        }
+
+        boolean consumeIf(final char c) {
+            if (this.peek() == c) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        void end() {
+            this.skipWhitespace();
+            if (this.position < this.json.length) {
+                throw this.error("Unexpected trailing content");
+            }
+        }
+
+        String nullableString() {
+            if (this.peek() == 'n') {
+                this.literal("null");
+                return null;
+            }
+            return this.string();
+        }
+
+        String string() {
+            this.expect('"');
+            final int start = this.position;
+            while (this.position < this.json.length) {
+                final byte b = this.json[this.position];
+                if (b == '"') {
+                    return new String(this.json, start, this.position++ - start, StandardCharsets.UTF_8);
+                }
+                if (b == '\\') {
+                    return this.escapedString(start);
+                }
+                if (b >= 0 && b < 0x20) {
+                    throw this.error("Unescaped control character");
+                }
+                this.position++;
+            }
+            throw this.error("Unterminated string");
+        }
+
+        void skipValue() {
+            this.skipValue(0);
+        }
+
+        private void skipValue(final int depth) {
+            if (depth > MAX_DEPTH) {
+                throw this.error("Nesting too deep");
+            }
+            switch (this.peek()) {
+                case '"' -> this.string();
+                case '{' -> {
+                    this.position++;
+                    if (!this.consumeIf('}')) {
+                        do {
+                            this.string();
+                            this.expect(':');
+                            this.skipValue(depth + 1);
+                        } while (this.consumeIf(','));
+                        this.expect('}');
+                    }
+                }
+                case '[' -> {
+                    this.position++;
+                    if (!this.consumeIf(']')) {
+                        do {
+                            this.skipValue(depth + 1);
+                        } while (this.consumeIf(','));
+                        this.expect(']');
+                    }
+                }
+                case 't' -> this.literal("true");
+                case 'f' -> this.literal("false");
+                case 'n' -> this.literal("null");
+                default -> this.number();
+            }
+        }
+
+        private String escapedString(final int start) {
+            final StringBuilder sb = new StringBuilder(this.position - start + 16);
+            int run = start;
+            while (this.position < this.json.length) {
+                final byte b = this.json[this.position];
+                if (b == '"') {
+                    sb.append(new String(this.json, run, this.position++ - run, StandardCharsets.UTF_8));
+                    return sb.toString();
+                }
+                if (b == '\\') {
+                    sb.append(new String(this.json, run, this.position - run, StandardCharsets.UTF_8));
+                    this.position++;
+                    sb.append(this.escape());
+                    run = this.position;
+                } else if (b >= 0 && b < 0x20) {
+                    throw this.error("Unescaped control character");
+                } else {
+                    this.position++;
+                }
+            }
+            throw this.error("Unterminated string");
+        }
+
+        private char escape() {
+            if (this.position >= this.json.length) {
+                throw this.error("Unterminated escape");
+            }
+            final byte b = this.json[this.position++];
+            return switch (b) {
+                case '"' -> '"';
+                case '\\' -> '\\';
+                case '/' -> '/';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> this.unicode();
+                default -> throw this.error("Invalid escape");
+            };
+        }
+
+        private char unicode() {
+            if (this.position + 4 > this.json.length) {
+                throw this.error("Invalid unicode escape");
+            }
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                final int digit = Character.digit(this.json[this.position++], 16);
+                if (digit < 0) {
+                    throw this.error("Invalid unicode escape");
+                }
+                value = (value << 4) | digit;
+            }
+            return (char) value;
+        }
+
+        private void number() {
+            final int start = this.position;
+            while (this.position < this.json.length && isNumberByte(this.json[this.position])) {
+                this.position++;
+            }
+            if (this.position == start) {
+                throw this.error("Unexpected value");
+            }
+        }
+
+        private void literal(final String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                if (this.position >= this.json.length || this.json[this.position++] != literal.charAt(i)) {
+                    throw this.error("Expected '" + literal + "'");
+                }
+            }
+        }
+
+        private int peek() {
+            this.skipWhitespace();
+            return this.position < this.json.length ? this.json[this.position] : -1;
+        }
+
+        private void skipWhitespace() {
+            while (this.position < this.json.length) {
+                final byte b = this.json[this.position];
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return;
+                }
+                this.position++;
+            }
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException(message + " at position " + this.position);
+        }
+
+        private static boolean isNumberByte(final byte b) {
+            return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+        }
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP message converter for the JSON representation of the API records, backed by the {@link ApiJsonCodec}.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+final class ApiJsonMessageConverter extends ApiRecordMessageConverter {
+
+    ApiJsonMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    ApiRequest.Article decode(final byte[] body) {
+        return ApiJsonCodec.decodeArticleRequest(body);
+    }
+
+    @Override
+    ApiOutputBuffer encode(final ApiResponse.Article article) {
+        return ApiJsonCodec.encode(article);
+    }
+
+    @Override
+    ApiOutputBuffer encode(final List<? extends ApiResponse> responses) {
+        return ApiJsonCodec.encode(responses);
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rate-limiting gate for the logging of exceptions that escape the functional error handling.
+ * <p>
+ * For every exception type only the first {@link #PERMITS_PER_INTERVAL} occurrences within an
+ * {@link #INTERVAL} are let through to be logged with their stack trace; the rest are just counted, and a single
+ * aggregated line is logged once the interval is over. This way a misbehaving client cannot turn the failure path
+ * into a disk-I/O and CPU storm.
+ * </p>
+ * <p>
+ * The interval of every type is a single immutable state, its start along with the permits taken and the
+ * occurrences suppressed in it, swapped with one compare-and-set: rolling over to a new interval and capturing the
+ * count of the old one happen atomically, so that no occurrence is counted in both or in neither. The interval rolls
+ * over on the next occurrence of its type, or, so that the tail of a flood is not lost when nothing follows it, on a
+ * flush run every interval, and on close.
+ * </p>
+ * <p>
+ * Every occurrence is counted in the {@code api.exceptions} metric, tagged with the exception type and whether it
+ * was {@code logged} or {@code suppressed}.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Component
+final class ApiLogGate implements AutoCloseable {
+
+    static final String METRIC_NAME = "api.exceptions";
+    static final int PERMITS_PER_INTERVAL = 5;
+    static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    private final MeterRegistry registry;
+    private final int permitsPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<Class<?>, Window> windows = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    ApiLogGate(final MeterRegistry registry) {
+        this(registry, PERMITS_PER_INTERVAL, INTERVAL, System::nanoTime);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("api-log-gate")
+            .daemon()
+            .factory());
+        this.flusher.scheduleAtFixedRate(this::flush, this.intervalNanos, this.intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    ApiLogGate(final MeterRegistry registry, final int permitsPerInterval, final Duration interval,
+            final LongSupplier nanoClock) {
+        this.registry = registry;
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Records an occurrence of the given exception and decides whether it may be logged.
+     * <p>
+     * When the interval of its type is over and occurrences were suppressed in it, an aggregated line is logged at
+     * the level of the type, without stack trace, as the next interval starts.
+     * </p>
+     *
+     * @param level the level the caller logs the exception at
+     * @param ex    the exception
+     * @return {@code true} if the exception may be logged with its stack trace, {@code false} otherwise
+     */
+    boolean tryAcquire(final Level level, final Throwable ex) {
+        final Window window = this.windows.computeIfAbsent(ex.getClass(), type -> this.createWindow(type, level));
+        final long now = this.nanoClock.getAsLong();
+        while (true) {
+            final State current = window.state().get();
+            final State base = now - current.start() >= this.intervalNanos ? new State(now, 0, 0) : current;
+            final boolean permitted = base.permits() < this.permitsPerInterval;
+            final State next = permitted
+                ? new State(base.start(), base.permits() + 1, base.suppressed())
+                : new State(base.start(), base.permits(), base.suppressed() + 1);
+            if (window.state().compareAndSet(current, next)) {
+                if (base != current) {
+                    this.logSuppressed(window, current, now);
+                }
+                (permitted ? window.logged() : window.suppressedCounter()).increment();
+                return permitted;
+            }
+        }
+    }
+
+    /**
+     * Rolls over the intervals that are over and had occurrences suppressed, logging their aggregated lines, even
+     * though no occurrence of their type followed.
+     */
+    void flush() {
+        this.flush(false);
+    }
+
+    /**
+     * Stops flushing, then logs the aggregated lines of every interval with occurrences suppressed, over or not.
+     */
+    @Override
+    public void close() {
+        if (this.flusher != null) {
+            this.flusher.shutdownNow();
+        }
+        this.flush(true);
+    }
+
+    private void flush(final boolean all) {
+        final long now = this.nanoClock.getAsLong();
+        for (final Window window : this.windows.values()) {
+            State current = window.state().get();
+            while (current.suppressed() > 0 && (all || now - current.start() >= this.intervalNanos)) {
+                if (window.state().compareAndSet(current, new State(now, 0, 0))) {
+                    this.logSuppressed(window, current, now);
+                    break;
+                }
+                current = window.state().get();
+            }
+        }
+    }
+
+    private void logSuppressed(final Window window, final State interval, final long now) {
+        if (interval.suppressed() > 0) {
+            log.atLevel(window.level()).setMessage("Suppressed [{}] occurrences of [{}] in the last [{}]")
+                .addArgument(interval.suppressed())
+                .addArgument(window.type()::getName)
+                .addArgument(() -> Duration.ofMillis(TimeUnit.NANOSECONDS.toMillis(now - interval.start())))
+                .log();
+        }
+    }
+
+    private Window createWindow(final Class<?> type, final Level level) {
+        return new Window(
+            type,
+            level,
+            new AtomicReference<>(new State(this.nanoClock.getAsLong(), 0, 0)),
+            this.registry.counter(METRIC_NAME, "exception", type.getSimpleName(), "outcome", "logged"),
+            this.registry.counter(METRIC_NAME, "exception", type.getSimpleName(), "outcome", "suppressed"));
+    }
+
+    /**
+     * Interval of a single exception type: when it started, and the permits taken and occurrences suppressed since.
+     */
+    private record State(long start, int permits, long suppressed) {
+    }
+
+    /**
+     * Current interval of a single exception type, logged at the level of its first occurrence.
+     */
+    private record Window(Class<?> type, Level level, AtomicReference<State> state, Counter logged,
+            Counter suppressedCounter) {
+    }
+
+}
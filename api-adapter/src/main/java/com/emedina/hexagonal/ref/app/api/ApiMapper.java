@@ -1,5 +1,6 @@
 package com.emedina.hexagonal.ref.app.api;
 
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
@@ -16,4 +17,16 @@ interface ApiMapper {
 
     ApiResponse.Article toArticleResponse(final ArticleDTO dto);
 
+    /**
+     * Maps a change to the article it left, or to a tombstone if it was a deletion.
+     *
+     * @param change the change
+     * @return the article or the tombstone
+     */
+    default ApiResponse toChangeResponse(final ArticleChangeDTO change) {
+        return change.type() == ArticleChangeDTO.Type.DELETED
+            ? new ApiResponse.Tombstone(change.id())
+            : this.toArticleResponse(change.article());
+    }
+
 }
@@ -0,0 +1,137 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer shared by the encoders of the API layer, with helpers to write JSON strings as UTF-8.
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class ApiOutputBuffer {
+
+    private static final byte[] ELLIPSIS = "…".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] UNICODE_ESCAPE = ascii("\\u00");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    private byte[] buffer;
+    private int size;
+
+    ApiOutputBuffer(final int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Appends a precompiled fragment.
+     *
+     * @param bytes the fragment
+     * @return this buffer
+     */
+    ApiOutputBuffer write(final byte[] bytes) {
+        this.ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+        this.size += bytes.length;
+        return this;
+    }
+
+    /**
+     * Appends a single byte.
+     *
+     * @param b the byte
+     * @return this buffer
+     */
+    ApiOutputBuffer write(final byte b) {
+        this.ensureCapacity(1);
+        this.buffer[this.size++] = b;
+        return this;
+    }
+
+    /**
+     * Appends a quoted JSON string, or {@code null} when there is no value.
+     *
+     * @param value the value
+     * @return this buffer
+     */
+    ApiOutputBuffer string(final String value) {
+        if (value == null) {
+            return this.write(NULL);
+        }
+        this.write((byte) '"');
+        this.escaped(value, Integer.MAX_VALUE);
+        return this.write((byte) '"');
+    }
+
+    /**
+     * Appends the content of a JSON string, escaped and capped to the given number of characters; an ellipsis is
+     * added when the value had to be capped.
+     *
+     * @param value     the value
+     * @param maxLength the maximum number of characters to render
+     * @return this buffer
+     */
+    ApiOutputBuffer escaped(final String value, final int maxLength) {
+        int end = Math.min(value.length(), maxLength);
+        if (end < value.length() && Character.isHighSurrogate(value.charAt(end - 1))) {
+            end--;
+        }
+        this.ensureCapacity(end);
+        for (int i = 0; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                this.write((byte) '\\');
+                this.write((byte) c);
+            } else if (c < 0x20) {
+                this.write(UNICODE_ESCAPE);
+                this.write(HEX[c >> 4]);
+                this.write(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                this.write((byte) c);
+            } else if (c < 0x800) {
+                this.write((byte) (0xC0 | (c >> 6)));
+                this.write((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                this.write((byte) (0xF0 | (codePoint >> 18)));
+                this.write((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                this.write((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                this.write((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                this.write((byte) '?');
+            } else {
+                this.write((byte) (0xE0 | (c >> 12)));
+                this.write((byte) (0x80 | ((c >> 6) & 0x3F)));
+                this.write((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        if (end < value.length()) {
+            this.write(ELLIPSIS);
+        }
+        return this;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    void writeTo(final OutputStream out) throws IOException {
+        out.write(this.buffer, 0, this.size);
+    }
+
+    static byte[] ascii(final String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private void ensureCapacity(final int extra) {
+        if (this.size + extra > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length << 1, this.size + extra));
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Option;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Cache of the encoded bodies of the list of all the articles, along with their gzip variants, keyed by the version
+ * of the read model they were served from.
+ * <p>
+ * The list only changes when the read model moves on, yet every read would otherwise map, encode and, past the
+ * {@code server.compression.min-response-size}, have the container gzip it all over again. Instead, the first read
+ * of a version encodes it once per representation, JSON or CBOR, and compresses it once, at the best level since it
+ * is paid for only once; later reads of that version, or of an older one, are answered with the variant negotiated
+ * through {@code Accept-Encoding} without encoding or compressing anything. Only the latest version of every
+ * representation is kept, as the read model never goes back. The container does not compress responses that already
+ * carry a {@code Content-Encoding}, so the gzip variant is sent as is; as the body depends on both {@code Accept} and
+ * {@code Accept-Encoding}, the response varies by both.
+ * </p>
+ * <p>
+ * A variant is encoded and compressed outside of any lock of the cache, then published unless a concurrent read of
+ * the same version, or a newer one, already did: compressing a large list while holding a bin of the map would stall
+ * every read of that representation behind it. Concurrent first reads of a version may thus encode it more than once,
+ * but only one of the variants is kept.
+ * </p>
+ * <p>
+ * A request accepting neither JSON nor CBOR, or with an {@code Accept} header that does not parse, gets no variant,
+ * so that it is answered through the message converters like any other, which refuse it with a {@code 406}.
+ * </p>
+ * <p>
+ * The ratio of the identity to the compressed size of every variant is recorded in
+ * {@code articles.api.compression.ratio}, the time spent compressing in {@code articles.api.compression.cpu}, and
+ * whether reads were served from the cache in {@code articles.api.precompressed}, tagged by outcome. Compression is
+ * CPU-bound and never blocks, so its elapsed time stands for its CPU time, which the JVM does not measure for virtual
+ * threads.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+final class ApiPrecompressedArticles {
+
+    static final String GZIP = "gzip";
+
+    private static final MediaType DEFAULT_REPRESENTATION = MediaType.APPLICATION_JSON;
+
+    /**
+     * Encoded bodies of one version of the list in one representation; the gzip variant is missing when the body is
+     * too small to be worth compressing, or did not shrink.
+     */
+    private record Variants(long version, byte[] identity, byte[] gzip) {
+
+    }
+
+    private final ConcurrentMap<MediaType, Variants> variants = new ConcurrentHashMap<>();
+    private final long minCompressedSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final DistributionSummary ratio;
+    private final Timer compression;
+
+    ApiPrecompressedArticles(final MeterRegistry registry,
+            @Value("${server.compression.min-response-size:2KB}") final DataSize minCompressedSize) {
+        this.minCompressedSize = minCompressedSize.toBytes();
+        this.hits = registry.counter("articles.api.precompressed", "outcome", "hit");
+        this.misses = registry.counter("articles.api.precompressed", "outcome", "miss");
+        this.ratio = registry.summary("articles.api.compression.ratio");
+        this.compression = registry.timer("articles.api.compression.cpu");
+    }
+
+    /**
+     * Creates the response to a read of all the articles served from the given version of the read model.
+     *
+     * @param version   the version of the read model the articles were served from
+     * @param request   the request, to negotiate the representation and the encoding from
+     * @param responses the articles to encode, only mapped when the version is not cached yet
+     * @return the response, with the body encoded in the negotiated representation and compressed if accepted, or
+     *         none if no representation is acceptable
+     */
+    Option<ResponseEntity<byte[]>> response(final long version, final HttpServletRequest request,
+            final Supplier<List<ApiResponse>> responses) {
+        return representationOf(request.getHeader(HttpHeaders.ACCEPT)).map(representation -> {
+            final Variants cached = this.variantsOf(representation, version, responses);
+            final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(representation)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+            if (cached.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(cached.gzip());
+            }
+            return response.body(cached.identity());
+        });
+    }
+
+    /**
+     * Negotiates the representation of the list from an {@code Accept} header, as the most specific accepted media
+     * type including it weighs it; JSON is preferred unless CBOR is weighed higher.
+     *
+     * @param accept the header, if any
+     * @return the media type of the representation, or none if neither is acceptable or the header does not parse
+     */
+    static Option<MediaType> representationOf(final String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Option.of(DEFAULT_REPRESENTATION);
+        }
+        try {
+            final List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            final double json = qualityOf(DEFAULT_REPRESENTATION, accepted);
+            final double cbor = qualityOf(MediaType.APPLICATION_CBOR, accepted);
+            if (json <= 0 && cbor <= 0) {
+                return Option.none();
+            }
+            return Option.of(cbor > json ? MediaType.APPLICATION_CBOR : DEFAULT_REPRESENTATION);
+        } catch (final InvalidMediaTypeException e) {
+            return Option.none();
+        }
+    }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header accepts gzip, by name or through a wildcard.
+     *
+     * @param acceptEncoding the header, if any
+     * @return {@code true} if gzip is accepted with a non-zero quality
+     */
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parameters = coding.split(";");
+            final String name = parameters[0].strip().toLowerCase(Locale.ROOT);
+            if (name.equals(GZIP) || name.equals("x-gzip")) {
+                gzip = qualityOf(parameters);
+            } else if (name.equals("*")) {
+                any = qualityOf(parameters);
+            }
+        }
+        return (gzip >= 0 ? gzip : any) > 0;
+    }
+
+    private Variants variantsOf(final MediaType representation, final long version,
+            final Supplier<List<ApiResponse>> responses) {
+        Variants current = this.variants.get(representation);
+        if (current != null && current.version() >= version) {
+            this.hits.increment();
+            return current;
+        }
+        this.misses.increment();
+        final Variants encoded = this.encode(representation, version, responses.get());
+        // Published unless a concurrent read of the same or a newer version got there first
+        while (true) {
+            if (current == null) {
+                current = this.variants.putIfAbsent(representation, encoded);
+                if (current == null) {
+                    return encoded;
+                }
+            } else if (current.version() >= version) {
+                return current;
+            } else if (this.variants.replace(representation, current, encoded)) {
+                return encoded;
+            } else {
+                current = this.variants.get(representation);
+            }
+        }
+    }
+
+    private Variants encode(final MediaType representation, final long version, final List<ApiResponse> responses) {
+        final byte[] identity = (MediaType.APPLICATION_CBOR.equals(representation)
+            ? ApiCborCodec.encode(responses)
+            : ApiJsonCodec.encode(responses)).toByteArray();
+        final byte[] gzip = identity.length < this.minCompressedSize ? null : this.compress(identity);
+        return new Variants(version, identity, gzip != null && gzip.length < identity.length ? gzip : null);
+    }
+
+    private byte[] compress(final byte[] identity) {
+        final long start = System.nanoTime();
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                this.def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(identity);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.compression.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        this.ratio.record((double) identity.length / compressed.size());
+        return compressed.toByteArray();
+    }
+
+    private static double qualityOf(final MediaType representation, final List<MediaType> accepted) {
+        return accepted.stream()
+            .filter(type -> type.includes(representation))
+            .max(Comparator.comparingInt(ApiPrecompressedArticles::specificityOf))
+            .map(MediaType::getQualityValue)
+            .orElse(0.0);
+    }
+
+    private static int specificityOf(final MediaType type) {
+        return type.isWildcardType() ? 0 : type.isWildcardSubtype() ? 1 : 2;
+    }
+
+    private static double qualityOf(final String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final String parameter = parameters[i].strip();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (final NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+}
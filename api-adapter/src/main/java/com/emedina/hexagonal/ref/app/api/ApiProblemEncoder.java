@@ -0,0 +1,224 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Encoder that writes RFC 7807 problems as {@code application/problem+json} straight into a byte buffer, using
+ * precompiled templates instead of building {@link org.springframework.http.ProblemDetail} objects and serializing
+ * them reflectively.
+ * <p>
+ * Every rendered value is escaped and capped to {@link #MAX_VALUE_LENGTH} characters (lists to
+ * {@link #MAX_LIST_ELEMENTS} elements), so that a flood of bad requests cannot make the failure path expensive.
+ * Bodies without parameters are encoded only once through {@link #encodeConstant(HttpStatus, String)}.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ApiProblemEncoder {
+
+    static final int MAX_VALUE_LENGTH = 256;
+    static final int MAX_LIST_ELEMENTS = 8;
+
+    private static final byte[] TYPE_PREFIX = ascii("{\"type\":\"");
+    private static final byte[] DETAIL_SUFFIX = ascii("\"");
+    private static final byte[] INSTANCE_PREFIX = ascii(",\"instance\":\"");
+    private static final byte[] OBJECT_SUFFIX = ascii("}");
+    private static final byte[] ABOUT_BLANK = ascii("about:blank");
+    private static final byte[] NULL = ascii("null");
+
+    /**
+     * Precompiled {@code ","title":"...","status":...,"detail":"} fragments, one per status code.
+     */
+    private static final Map<HttpStatus, byte[]> STATUS_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * Encodes a single problem without parameters, meant to be computed once and cached by the caller.
+     *
+     * @param status the status of the problem
+     * @param detail the fixed detail of the problem
+     * @return the encoded problem
+     */
+    static byte[] encodeConstant(final HttpStatus status, final String detail) {
+        final Writer writer = new Writer(null, false);
+        writer.beginProblem(status);
+        writer.value(detail);
+        writer.endProblem(false);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Creates a failure response for a cached body, encoded through {@link #encodeConstant(HttpStatus, String)}.
+     *
+     * @param status the status of the problem
+     * @param body   the cached body
+     * @return the failure response
+     */
+    static ResponseEntity<byte[]> createConstantResponse(final HttpStatus status, final byte[] body) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_PROBLEM_JSON).body(body);
+    }
+
+    /**
+     * Creates a writer for a list of problems, all of them typed with the originating URI.
+     *
+     * @param uri the originating URI
+     * @return a new writer
+     */
+    static Writer writer(final String uri) {
+        return new Writer(uri, true);
+    }
+
+    private static byte[] statusTemplate(final HttpStatus status) {
+        return STATUS_TEMPLATES.computeIfAbsent(status, s -> ascii("\",\"title\":\"%s\",\"status\":%d,\"detail\":\""
+            .formatted(s.getReasonPhrase(), s.value())));
+    }
+
+    private static byte[] ascii(final String value) {
+        return ApiOutputBuffer.ascii(value);
+    }
+
+    /**
+     * Streaming writer of problems into an {@link ApiOutputBuffer}.
+     */
+    static final class Writer {
+
+        private final String uri;
+        private final boolean array;
+
+        private final ApiOutputBuffer buffer = new ApiOutputBuffer(256);
+        private int problems;
+        private HttpStatus lastStatus;
+
+        private Writer(final String uri, final boolean array) {
+            this.uri = uri;
+            this.array = array;
+            if (array) {
+                this.write((byte) '[');
+            }
+        }
+
+        /**
+         * Starts a new problem, leaving the writer positioned inside its detail.
+         *
+         * @param status the status of the problem
+         * @return this writer
+         */
+        Writer beginProblem(final HttpStatus status) {
+            if (this.problems++ > 0) {
+                this.write((byte) ',');
+            }
+            this.lastStatus = status;
+            this.write(TYPE_PREFIX);
+            if (this.uri == null) {
+                this.write(ABOUT_BLANK);
+            } else {
+                this.escaped(this.uri, MAX_VALUE_LENGTH);
+            }
+            this.write(statusTemplate(status));
+            return this;
+        }
+
+        /**
+         * Appends a literal fragment of the detail.
+         *
+         * @param literal the precompiled fragment
+         * @return this writer
+         */
+        Writer literal(final byte[] literal) {
+            this.write(literal);
+            return this;
+        }
+
+        /**
+         * Appends a value to the detail, escaped and capped; lists are capped on their number of elements too.
+         *
+         * @param value the value to render
+         * @return this writer
+         */
+        Writer value(final Object value) {
+            switch (value) {
+                case null -> this.write(NULL);
+                case List<?> list -> this.list(list);
+                default -> this.escaped(String.valueOf(value), MAX_VALUE_LENGTH);
+            }
+            return this;
+        }
+
+        /**
+         * Closes the current problem, optionally adding the originating URI as its instance.
+         *
+         * @param withInstance whether to add the instance
+         * @return this writer
+         */
+        Writer endProblem(final boolean withInstance) {
+            this.write(DETAIL_SUFFIX);
+            if (withInstance && this.uri != null) {
+                this.write(INSTANCE_PREFIX);
+                this.escaped(this.uri, MAX_VALUE_LENGTH);
+                this.write(DETAIL_SUFFIX);
+            }
+            this.write(OBJECT_SUFFIX);
+            return this;
+        }
+
+        /**
+         * Creates the failure response: if there is only one problem its status is used, otherwise
+         * {@link HttpStatus#I_AM_A_TEAPOT}.
+         *
+         * @return the failure response
+         */
+        ResponseEntity<byte[]> toResponse() {
+            final HttpStatusCode status = this.problems == 1 ? this.lastStatus : HttpStatus.I_AM_A_TEAPOT;
+            return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(this.toByteArray());
+        }
+
+        byte[] toByteArray() {
+            if (this.array) {
+                this.write((byte) ']');
+            }
+            return this.buffer.toByteArray();
+        }
+
+        private void list(final List<?> list) {
+            this.write((byte) '[');
+            final int rendered = Math.min(list.size(), MAX_LIST_ELEMENTS);
+            for (int i = 0; i < rendered; i++) {
+                if (i > 0) {
+                    this.write((byte) ',');
+                    this.write((byte) ' ');
+                }
+                this.escaped(String.valueOf(list.get(i)), MAX_VALUE_LENGTH);
+            }
+            if (list.size() > rendered) {
+                this.write(ascii(", (+%d more)".formatted(list.size() - rendered)));
+            }
+            this.write((byte) ']');
+        }
+
+        private void escaped(final String value, final int maxLength) {
+            this.buffer.escaped(value, maxLength);
+        }
+
+        private void write(final byte[] bytes) {
+            this.buffer.write(bytes);
+        }
+
+        private void write(final byte b) {
+            this.buffer.write(b);
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Base HTTP message converter for the API records, backed by one of their reflection-free codecs.
+ * <p>
+ * Implementations are beans, so they are registered ahead of the default converters, which are still used for
+ * any other type. Every representation follows the same {@link ApiSchema}.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+abstract sealed class ApiRecordMessageConverter extends AbstractHttpMessageConverter<Object>
+        permits ApiJsonMessageConverter, ApiCborMessageConverter {
+
+    ApiRecordMessageConverter(final Charset defaultCharset, final MediaType... supportedMediaTypes) {
+        super(defaultCharset, supportedMediaTypes);
+    }
+
+    /**
+     * Decodes an article request.
+     *
+     * @param body the body of the request
+     * @return the decoded article
+     * @throws IllegalArgumentException if the body is malformed
+     */
+    abstract ApiRequest.Article decode(byte[] body);
+
+    /**
+     * Encodes a single article response.
+     *
+     * @param article the article
+     * @return the encoded article
+     */
+    abstract ApiOutputBuffer encode(ApiResponse.Article article);
+
+    /**
+     * Encodes a list of responses.
+     *
+     * @param responses the responses
+     * @return the encoded responses
+     */
+    abstract ApiOutputBuffer encode(List<? extends ApiResponse> responses);
+
+    @Override
+    protected final boolean supports(final Class<?> clazz) {
+        return this.isReadable(clazz) || this.isWritable(clazz);
+    }
+
+    @Override
+    public final boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        return this.isReadable(clazz) && this.canRead(mediaType);
+    }
+
+    @Override
+    public final boolean canWrite(final Class<?> clazz, final MediaType mediaType) {
+        return this.isWritable(clazz) && this.canWrite(mediaType);
+    }
+
+    @Override
+    protected final Object readInternal(final Class<?> clazz, final HttpInputMessage inputMessage) throws IOException {
+        try {
+            return this.decode(inputMessage.getBody().readAllBytes());
+        } catch (final IllegalArgumentException ex) {
+            throw new HttpMessageNotReadableException("Invalid request body: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected final void writeInternal(final Object body, final HttpOutputMessage outputMessage) throws IOException {
+        final ApiOutputBuffer buffer = switch (body) {
+            case ApiResponse.Article article -> this.encode(article);
+            case ApiResponseList responses -> this.encode(responses);
+            default -> throw new HttpMessageNotWritableException("Unsupported body type [" + body.getClass() + "]");
+        };
+        outputMessage.getHeaders().setContentLength(buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    private boolean isReadable(final Class<?> clazz) {
+        return clazz == ApiRequest.Article.class;
+    }
+
+    private boolean isWritable(final Class<?> clazz) {
+        return clazz == ApiResponse.Article.class || clazz == ApiResponseList.class;
+    }
+
+}
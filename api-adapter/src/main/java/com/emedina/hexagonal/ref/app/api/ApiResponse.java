@@ -10,4 +10,10 @@ sealed interface ApiResponse {
     record Article(String id, String author, String title, String content) implements ApiResponse {
     }
 
+    /**
+     * Deleted article, as returned by incremental synchronisations.
+     */
+    record Tombstone(String id) implements ApiResponse {
+    }
+
 }
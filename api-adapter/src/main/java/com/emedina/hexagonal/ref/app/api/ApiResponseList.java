@@ -0,0 +1,30 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Read-only list of API responses, marking response bodies that the {@link ApiJsonMessageConverter} can encode
+ * without relying on their generic type, which is erased by the time the body is written.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@RequiredArgsConstructor
+final class ApiResponseList extends AbstractList<ApiResponse> implements RandomAccess {
+
+    private final List<ApiResponse> responses;
+
+    @Override
+    public ApiResponse get(final int index) {
+        return this.responses.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.responses.size();
+    }
+
+}
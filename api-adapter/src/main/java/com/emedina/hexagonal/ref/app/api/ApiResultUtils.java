@@ -2,20 +2,27 @@ package com.emedina.hexagonal.ref.app.api;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.springframework.http.*;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 
-import java.net.URI;
 import java.util.List;
 
 /**
- * Utility class to create the {@link ResponseEntity} based on an {@link ApiResponse} for successful responses
- * or a {@link ProblemDetail} for failure responses.
+ * Utility class to create the {@link ResponseEntity} based on an {@link ApiResponse} for successful responses.
+ * <p>
+ * Failure responses are created by the {@link ApiErrorHandler}.
+ * </p>
+ * <p>
+ * Lists are wrapped in an {@link ApiResponseList}, so that the {@link ApiJsonMessageConverter} can encode them.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 final class ApiResultUtils {
 
+    static final String SYNC_HEADER = "X-Article-Sync";
+
     static ResponseEntity<ApiResponse> createSuccessResponse(final HttpStatusCode status,
                                                              final ApiResponse response) {
         return ResponseEntity.status(status).body(response);
@@ -23,25 +30,25 @@ final class ApiResultUtils {
 
     static ResponseEntity<List<ApiResponse>> createSuccessListResponse(final HttpStatusCode status,
                                                                        final List<ApiResponse> response) {
-        return ResponseEntity.status(status).body(response);
+        return ResponseEntity.status(status).body(response == null ? null : new ApiResponseList(response));
     }
 
     /**
-     * Creates a failure response with a list of {@link ProblemDetail}, setting the originating {@link URI}.
+     * Creates the response of an incremental synchronisation, telling the new high-water mark in the
+     * {@code X-Article-Version} header and whether the changes are a {@code delta} or in {@code full} in the
+     * {@code X-Article-Sync} header.
      *
-     * @param problemDetails the list of problems
-     * @param uri            the originating URI
-     * @return the failure response
+     * @param version  the high-water mark
+     * @param full     whether the changes replace whatever the client synchronised before
+     * @param response the changed articles and tombstones
+     * @return the response
      */
-    static ResponseEntity<List<ProblemDetail>> createFailureResponse(final List<ProblemDetail> problemDetails, final URI uri) {
-        return ResponseEntity
-                // If there is only one problem, and it has a status code, return that status code.
-                .status(problemDetails.size() == 1 ? HttpStatusCode.valueOf(problemDetails.get(0).getStatus()) : HttpStatus.I_AM_A_TEAPOT)
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(problemDetails.stream().map(detail -> {
-                    detail.setType(uri);
-                    return detail;
-                }).toList());
+    static ResponseEntity<List<ApiResponse>> createSyncResponse(final long version, final boolean full,
+                                                                final List<ApiResponse> response) {
+        return ResponseEntity.ok()
+                .header(ApiConsistency.VERSION_HEADER, Long.toString(version))
+                .header(SYNC_HEADER, full ? "full" : "delta")
+                .body(new ApiResponseList(response));
     }
 
 }
@@ -0,0 +1,113 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Schema of the API records shared by all their wire representations.
+ * <p>
+ * Every field has a name, used by textual representations such as JSON, and a stable numeric key, used by binary
+ * representations such as CBOR to avoid repeating field names in every payload. Keys must never be reused nor
+ * renumbered once published; new fields are given the next free key.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ApiSchema {
+
+    /**
+     * Fields of {@link ApiRequest.Article}, in component order.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    @RequiredArgsConstructor
+    enum ArticleRequest {
+
+        ID(0, "id"),
+        AUTHOR_ID(1, "authorId"),
+        TITLE(2, "title"),
+        CONTENT(3, "content");
+
+        private static final ArticleRequest[] VALUES = values();
+
+        private final int key;
+        private final String fieldName;
+
+        static ArticleRequest byName(final String name) {
+            for (final ArticleRequest field : VALUES) {
+                if (field.fieldName.equals(name)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        static ArticleRequest byKey(final long key) {
+            for (final ArticleRequest field : VALUES) {
+                if (field.key == key) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        static String[] newValues() {
+            return new String[VALUES.length];
+        }
+
+        static ApiRequest.Article create(final String[] values) {
+            return new ApiRequest.Article(values[ID.ordinal()], values[AUTHOR_ID.ordinal()], values[TITLE.ordinal()],
+                values[CONTENT.ordinal()]);
+        }
+
+    }
+
+    /**
+     * Fields of {@link ApiResponse.Article}, in component order.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    @RequiredArgsConstructor
+    enum ArticleResponse {
+
+        ID(0, "id"),
+        AUTHOR(1, "author"),
+        TITLE(2, "title"),
+        CONTENT(3, "content");
+
+        private final int key;
+        private final String fieldName;
+
+        String value(final ApiResponse.Article article) {
+            return switch (this) {
+                case ID -> article.id();
+                case AUTHOR -> article.author();
+                case TITLE -> article.title();
+                case CONTENT -> article.content();
+            };
+        }
+
+    }
+
+    /**
+     * Fields of {@link ApiResponse.Tombstone}; the {@code deleted} flag, always {@code true}, tells it apart from an
+     * article in the same list.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    @RequiredArgsConstructor
+    enum TombstoneResponse {
+
+        ID(0, "id"),
+        DELETED(4, "deleted");
+
+        private final int key;
+        private final String fieldName;
+
+    }
+
+}
@@ -8,8 +8,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 /**
  * API interface declaring all available features as REST endpoints, together with metadata annotations
@@ -18,10 +21,22 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
  * Notice the usage of the sealed interface feature in order to enhance the control over class inheritance
  * and improve the design of class hierarchies.
  * </p>
+ * <p>
+ * Articles are represented as JSON by default; internal consumers may negotiate the more compact CBOR
+ * representation through the {@code Accept} and {@code Content-Type} headers.
+ * </p>
+ * <p>
+ * Instead of polling the whole catalogue, consumers may follow its changes as Server-Sent Events from
+ * {@code /api/articles/changes}; see {@link ApiChangeStream}.
+ * </p>
+ * <p>
+ * The OpenAPI document of these endpoints is served statically from {@code /openapi/articles.json}, so any change to
+ * the annotations below must be reflected in it; a test of the assembly checks that both agree.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
-@RequestMapping(value = "/api/articles", produces = APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/api/articles", produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE})
 @ApiResponses(value = {
         @ApiResponse(responseCode = "400", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(type = "string"))),
         @ApiResponse(responseCode = "401", content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(type = "string"))),
@@ -37,14 +52,32 @@ sealed interface ArticleApi permits ArticleController {
     @GetMapping
     @Operation(
             summary = "Retrieve all articles",
-            description = "Retrieves all articles"
+            description = "Retrieves all articles or, given the high-water mark of a previous synchronisation as "
+                    + "since, only the articles changed after it and the tombstones of those deleted; the new "
+                    + "high-water mark is returned in the X-Article-Version header"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "All articles that were found"),
+            @ApiResponse(responseCode = "400", description = "The provided high-water mark is invalid"),
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Service unavailable")
+    })
+    ResponseEntity<?> get(final String since, final HttpServletRequest request);
+
+    @GetMapping(path = "/changes", produces = TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream the changes of the articles",
+            description = "Streams the creations, updates and deletions of articles as Server-Sent Events, "
+                    + "resuming after the version given by the Last-Event-ID header"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The stream of changes"),
+            @ApiResponse(responseCode = "400", description = "The provided Last-Event-ID is invalid"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
             @ApiResponse(responseCode = "503", description = "Service unavailable")
     })
-    ResponseEntity<?> get(final HttpServletRequest request);
+    ResponseEntity<StreamingResponseBody> changes(final String lastEventId, final boolean body,
+            final HttpServletRequest request);
 
     @GetMapping(path = "/{articleId}")
     @Operation(
@@ -68,6 +101,7 @@ sealed interface ArticleApi permits ArticleController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "The article was created successfully"),
             @ApiResponse(responseCode = "400", description = "The provided data is invalid"),
+            @ApiResponse(responseCode = "409", description = "An article with the same identifier already exists"),
             @ApiResponse(responseCode = "500", description = "Internal server error"),
             @ApiResponse(responseCode = "503", description = "Service unavailable")
     })
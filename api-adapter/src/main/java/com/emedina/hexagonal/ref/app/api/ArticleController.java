@@ -1,30 +1,47 @@
 package com.emedina.hexagonal.ref.app.api;
 
-import java.net.URI;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand;
 import com.emedina.hexagonal.ref.app.application.command.DeleteArticleCommand;
 import com.emedina.hexagonal.ref.app.application.command.UpdateArticleCommand;
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
 import com.emedina.hexagonal.ref.app.application.query.FindArticleQuery;
+import com.emedina.hexagonal.ref.app.application.query.GetArticleChangesQuery;
 import com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery;
+import com.emedina.hexagonal.ref.app.application.query.WatchArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.sharedkernel.command.core.CommandBus;
 import com.emedina.sharedkernel.query.core.QueryBus;
 
+import io.vavr.control.Either;
+import io.vavr.control.Option;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementation of the API interface using a REST controller.
+ * <p>
+ * Every dispatch to the buses runs within the {@link Deadline} of its request, so that the work is shed as soon as
+ * the client has given up on it, and within its {@link ConsistencyToken}, so that clients can read their own writes;
+ * see {@link ApiConsistency}. All the articles served from the read model are answered from the encoded and
+ * precompressed bodies of its version; see {@link ApiPrecompressedArticles}.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
@@ -33,24 +50,45 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 final class ArticleController implements ArticleApi {
 
+        static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
         private final CommandBus commandBus;
         private final QueryBus queryBus;
 
         private final ApiErrorHandler apiErrorHandler;
+        private final ApiConsistency apiConsistency;
+        private final ApiPrecompressedArticles apiPrecompressedArticles;
 
         /**
-         * @see ArticleApi#get(HttpServletRequest)
+         * @see ArticleApi#get(String, HttpServletRequest)
          */
         @Override
-        public ResponseEntity<?> get(final HttpServletRequest request) {
+        public ResponseEntity<?> get(@RequestParam(value = "since", required = false) final String since,
+                final HttpServletRequest request) {
                 log.atTrace().log(Thread.currentThread().getName());
-                return GetAllArticlesQuery.validateThenCreate()
+                if (since != null) {
+                        return this.sync(since, request);
+                }
+                return this.apiConsistency.tokenOf(request)
+                        .fold(e -> this.apiErrorHandler.createFailureResponse(e, request),
+                                token -> this.getAll(token, request));
+        }
+
+        /**
+         * @see ArticleApi#changes(String, boolean, HttpServletRequest)
+         */
+        @Override
+        public ResponseEntity<StreamingResponseBody> changes(
+                @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) final String lastEventId,
+                @RequestParam(value = "body", defaultValue = "false") final boolean body,
+                final HttpServletRequest request) {
+                return WatchArticleChangesQuery.validateThenCreate(lastEventId)
                         .toEither()
-                        .flatMap(query -> this.queryBus.<Error, List<ArticleDTO>, GetAllArticlesQuery>query(query))
-                        .mapLeft(e -> this.apiErrorHandler.mapErrorToProblemDetail(e, request))
-                        .fold(lpd -> ApiResultUtils.createFailureResponse(lpd, URI.create(request.getRequestURI())),
-                                a -> ApiResultUtils.createSuccessListResponse(HttpStatus.OK,
-                                        a.stream().<ApiResponse>map(ApiMapper.INSTANCE::toArticleResponse).toList()));
+                        .flatMap(query -> this.withinDeadline(request, ConsistencyToken.none(),
+                                () -> this.queryBus.<Error, ArticleChangeSubscription, WatchArticleChangesQuery>query(
+                                        query)))
+                        .fold(e -> ApiChangeStream.failure(this.apiErrorHandler.createFailureResponse(e, request)),
+                                s -> ApiChangeStream.response(s, body));
         }
 
         /**
@@ -61,9 +99,10 @@ final class ArticleController implements ArticleApi {
                 final HttpServletRequest request) {
                 return FindArticleQuery.validateThenCreate(articleId)
                         .toEither()
-                        .flatMap(query -> this.queryBus.<Error, ArticleDTO, FindArticleQuery>query(query))
-                        .mapLeft(e -> this.apiErrorHandler.mapErrorToProblemDetail(e, request))
-                        .fold(lpd -> ApiResultUtils.createFailureResponse(lpd, URI.create(request.getRequestURI())),
+                        .flatMap(query -> this.apiConsistency.tokenOf(request)
+                                .flatMap(token -> this.withinDeadline(request, token,
+                                        () -> this.queryBus.<Error, ArticleDTO, FindArticleQuery>query(query))))
+                        .fold(e -> this.apiErrorHandler.createFailureResponse(e, request),
                                 a -> ApiResultUtils.createSuccessResponse(HttpStatus.OK, ApiMapper.INSTANCE
                                         .toArticleResponse(a)));
         }
@@ -74,13 +113,15 @@ final class ArticleController implements ArticleApi {
         @Override
         public ResponseEntity<?> create(@RequestBody final ApiRequest.Article articleRequest,
                 final HttpServletRequest request) {
+                final ConsistencyToken token = ConsistencyToken.none();
                 return CreateArticleCommand.validateThenCreate(articleRequest.id(), articleRequest.authorId(),
                         articleRequest.title(), articleRequest.content())
                         .toEither()
-                        .flatMap(cac -> this.commandBus.<Error, CreateArticleCommand>execute(cac))
-                        .mapLeft(e -> this.apiErrorHandler.mapErrorToProblemDetail(e, request))
-                        .fold(lpd -> ApiResultUtils.createFailureResponse(lpd, URI.create(request.getRequestURI())),
-                                a -> ApiResultUtils.createSuccessResponse(HttpStatus.CREATED, null));
+                        .flatMap(cac -> this.withinDeadline(request, token,
+                                () -> this.commandBus.<Error, CreateArticleCommand>execute(cac)))
+                        .fold(e -> this.apiErrorHandler.createFailureResponse(e, request),
+                                a -> this.apiConsistency.withVersion(
+                                        ApiResultUtils.createSuccessResponse(HttpStatus.CREATED, null), token));
         }
 
         /**
@@ -89,13 +130,15 @@ final class ArticleController implements ArticleApi {
         @Override
         public ResponseEntity<?> update(@RequestBody final ApiRequest.Article articleRequest,
                 final HttpServletRequest request) {
+                final ConsistencyToken token = ConsistencyToken.none();
                 return UpdateArticleCommand.validateThenCreate(articleRequest.id(), articleRequest.authorId(),
                         articleRequest.title(), articleRequest.content())
                         .toEither()
-                        .flatMap(uac -> this.commandBus.<Error, UpdateArticleCommand>execute(uac))
-                        .mapLeft(e -> this.apiErrorHandler.mapErrorToProblemDetail(e, request))
-                        .fold(lpd -> ApiResultUtils.createFailureResponse(lpd, URI.create(request.getRequestURI())),
-                                a -> ApiResultUtils.createSuccessResponse(HttpStatus.OK, null));
+                        .flatMap(uac -> this.withinDeadline(request, token,
+                                () -> this.commandBus.<Error, UpdateArticleCommand>execute(uac)))
+                        .fold(e -> this.apiErrorHandler.createFailureResponse(e, request),
+                                a -> this.apiConsistency.withVersion(
+                                        ApiResultUtils.createSuccessResponse(HttpStatus.OK, null), token));
         }
 
         /**
@@ -104,12 +147,58 @@ final class ArticleController implements ArticleApi {
         @Override
         public ResponseEntity<?> delete(@PathVariable("articleId") final String articleId,
                 final HttpServletRequest request) {
+                final ConsistencyToken token = ConsistencyToken.none();
                 return DeleteArticleCommand.validateThenCreate(articleId)
                         .toEither()
-                        .flatMap(dac -> this.commandBus.<Error, DeleteArticleCommand>execute(dac))
-                        .mapLeft(e -> this.apiErrorHandler.mapErrorToProblemDetail(e, request))
-                        .fold(lpd -> ApiResultUtils.createFailureResponse(lpd, URI.create(request.getRequestURI())),
-                                a -> ApiResultUtils.createSuccessResponse(HttpStatus.OK, null));
+                        .flatMap(dac -> this.withinDeadline(request, token,
+                                () -> this.commandBus.<Error, DeleteArticleCommand>execute(dac)))
+                        .fold(e -> this.apiErrorHandler.createFailureResponse(e, request),
+                                a -> this.apiConsistency.withVersion(
+                                        ApiResultUtils.createSuccessResponse(HttpStatus.OK, null), token));
+        }
+
+        private ResponseEntity<?> getAll(final ConsistencyToken token, final HttpServletRequest request) {
+                return GetAllArticlesQuery.validateThenCreate()
+                        .toEither()
+                        .flatMap(query -> this.withinDeadline(request, token,
+                                () -> this.queryBus.<Error, List<ArticleDTO>, GetAllArticlesQuery>query(query)))
+                        .fold(e -> this.apiErrorHandler.createFailureResponse(e, request),
+                                a -> this.listResponse(token, request, a));
+        }
+
+        private ResponseEntity<?> listResponse(final ConsistencyToken token, final HttpServletRequest request,
+                final List<ArticleDTO> articles) {
+                if (token.read() != ConsistencyToken.NONE) {
+                        final Option<ResponseEntity<byte[]>> precompressed = this.apiPrecompressedArticles.response(
+                                token.read(), request, () -> toResponses(articles));
+                        if (precompressed.isDefined()) {
+                                return precompressed.get();
+                        }
+                }
+                return ApiResultUtils.createSuccessListResponse(HttpStatus.OK, toResponses(articles));
+        }
+
+        private ResponseEntity<?> sync(final String since, final HttpServletRequest request) {
+                return GetArticleChangesQuery.validateThenCreate(since)
+                        .toEither()
+                        .flatMap(query -> this.apiConsistency.tokenOf(request)
+                                .flatMap(token -> this.withinDeadline(request, token,
+                                        () -> this.queryBus.<Error, ArticleChangesDTO,
+                                                GetArticleChangesQuery>query(query))))
+                        .fold(e -> this.apiErrorHandler.createFailureResponse(e, request),
+                                c -> ApiResultUtils.createSyncResponse(c.version(), c.full(),
+                                        c.changes().stream().map(ApiMapper.INSTANCE::toChangeResponse).toList()));
+        }
+
+        private static List<ApiResponse> toResponses(final List<ArticleDTO> articles) {
+                return articles.stream().<ApiResponse>map(ApiMapper.INSTANCE::toArticleResponse).toList();
+        }
+
+        private <T> Either<Error, T> withinDeadline(final HttpServletRequest request, final ConsistencyToken token,
+                final Supplier<Either<Error, T>> dispatch) {
+                return ConsistencyToken.callWithin(token,
+                        () -> Deadline.callWithin(ApiDeadlineFilter.deadlineOf(request),
+                                () -> Deadline.check(Deadline.Stage.DISPATCH).flatMap(v -> dispatch.get())));
         }
 
 }
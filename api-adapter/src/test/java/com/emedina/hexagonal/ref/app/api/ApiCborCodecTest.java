@@ -0,0 +1,181 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HexFormat;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ApiCborCodec.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiCborCodec Tests")
+class ApiCborCodecTest {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Nested
+    @DisplayName("Given encode method")
+    class EncodeTests {
+
+        @Test
+        @DisplayName("When encoding an article, then should render a map keyed by the schema keys")
+        void shouldRenderMapWithSchemaKeys_whenEncodingArticle() {
+            // Given
+            var article = new ApiResponse.Article("1", "A", null, "C");
+
+            // When
+            byte[] result = ApiCborCodec.encode(article).toByteArray();
+
+            // Then
+            assertThat(HEX.formatHex(result)).isEqualTo("a4" + "006131" + "016141" + "02f6" + "036143");
+        }
+
+        @Test
+        @DisplayName("When encoding long values, then should use extended lengths")
+        void shouldUseExtendedLengths_whenEncodingLongValues() {
+            // Given
+            var article = new ApiResponse.Article("x".repeat(24), "y".repeat(256), "z".repeat(65536), "");
+
+            // When
+            byte[] result = ApiCborCodec.encode(article).toByteArray();
+
+            // Then
+            var hex = HEX.formatHex(result);
+            assertThat(hex).startsWith("a4" + "00" + "7818");
+            assertThat(hex).contains("01" + "790100");
+            assertThat(hex).contains("02" + "7a00010000");
+            assertThat(hex).endsWith("03" + "60");
+        }
+
+        @Test
+        @DisplayName("When encoding a list of articles, then should render an array of maps")
+        void shouldRenderArray_whenEncodingList() {
+            // Given
+            List<ApiResponse> responses = List.of(
+                new ApiResponse.Article("1", "A", "T", "C"),
+                new ApiResponse.Article("2", "B", "U", "D"));
+
+            // When
+            byte[] result = ApiCborCodec.encode(responses).toByteArray();
+
+            // Then
+            assertThat(HEX.formatHex(result)).isEqualTo("82"
+                + "a4" + "006131" + "016141" + "026154" + "036143"
+                + "a4" + "006132" + "016142" + "026155" + "036144");
+        }
+
+        @Test
+        @DisplayName("When encoding a list with tombstones, then should render them keyed by the schema keys")
+        void shouldRenderTombstones_whenEncodingListWithTombstones() {
+            // Given
+            List<ApiResponse> responses = List.of(new ApiResponse.Tombstone("2"));
+
+            // When
+            byte[] result = ApiCborCodec.encode(responses).toByteArray();
+
+            // Then
+            assertThat(HEX.formatHex(result)).isEqualTo("81" + "a2" + "006132" + "04f5");
+        }
+    }
+
+    @Nested
+    @DisplayName("Given decodeArticleRequest method")
+    class DecodeTests {
+
+        @Test
+        @DisplayName("When decoding a request with numeric keys, then should read all its fields")
+        void shouldReadAllFields_whenDecodingNumericKeys() {
+            // Given
+            var cbor = HEX.parseHex("a4" + "006131" + "01626131" + "02f6" + "036143");
+
+            // When
+            ApiRequest.Article result = ApiCborCodec.decodeArticleRequest(cbor);
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article("1", "a1", null, "C"));
+        }
+
+        @Test
+        @DisplayName("When decoding a request with text keys, then should match them by field name")
+        void shouldMatchFieldNames_whenDecodingTextKeys() {
+            // Given
+            var cbor = HEX.parseHex("a2" + "657469746c65" + "6154" + "68617574686f724964" + "6161");
+
+            // When
+            ApiRequest.Article result = ApiCborCodec.decodeArticleRequest(cbor);
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article(null, "a", "T", null));
+        }
+
+        @Test
+        @DisplayName("When decoding unknown fields, then should skip them")
+        void shouldSkipUnknownFields_whenDecodingRequest() {
+            // Given
+            var cbor = HEX.parseHex("a3"
+                + "07" + "82" + "a1" + "20" + "f5" + "c1" + "1a00000001"
+                + "63666f6f" + "43010203"
+                + "02" + "6154");
+
+            // When
+            ApiRequest.Article result = ApiCborCodec.decodeArticleRequest(cbor);
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article(null, null, "T", null));
+        }
+
+        @Test
+        @DisplayName("When decoding malformed CBOR, then should throw IllegalArgumentException")
+        void shouldThrow_whenDecodingMalformedCbor() {
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(HEX.parseHex("80")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(HEX.parseHex("a1" + "00" + "6531")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(HEX.parseHex("a1" + "00" + "01")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(HEX.parseHex("a1" + "f5" + "6131")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(HEX.parseHex("bf" + "ff")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(HEX.parseHex("a0" + "00")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(HEX.parseHex("a1" + "07" + "7b8000000000000000")))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("When decoding too deeply nested unknown fields, then should throw IllegalArgumentException")
+        void shouldThrow_whenDecodingTooDeeplyNestedFields() {
+            // Given
+            var cbor = HEX.parseHex("a1" + "07" + "81".repeat(64) + "00");
+
+            // When & Then
+            assertThatThrownBy(() -> ApiCborCodec.decodeArticleRequest(cbor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Nesting too deep");
+        }
+
+        @Test
+        @DisplayName("When round-tripping a response layout, then should keep every value")
+        void shouldKeepValues_whenRoundTripping() {
+            // Given
+            var response = new ApiResponse.Article("id-1", "author-é", "Título 😀", "x".repeat(1000));
+
+            // When
+            ApiRequest.Article result = ApiCborCodec.decodeArticleRequest(ApiCborCodec.encode(response).toByteArray());
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article("id-1", "author-é", "Título 😀", "x".repeat(1000)));
+        }
+    }
+
+}
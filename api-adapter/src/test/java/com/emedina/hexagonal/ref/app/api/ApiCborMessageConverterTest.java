@@ -0,0 +1,81 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+/**
+ * Unit tests for ApiCborMessageConverter.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiCborMessageConverter Tests")
+class ApiCborMessageConverterTest {
+
+    private ApiCborMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new ApiCborMessageConverter();
+    }
+
+    @Test
+    @DisplayName("When checking media types, then should only support CBOR")
+    void shouldOnlySupportCbor_whenCheckingMediaTypes() {
+        assertThat(converter.canRead(ApiRequest.Article.class, MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(converter.canRead(ApiRequest.Article.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(ApiResponseList.class, MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(converter.canWrite(ApiResponse.Article.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("When reading a valid body, then should return the article request")
+    void shouldReturnArticleRequest_whenReadingValidBody() throws IOException {
+        // Given
+        var input = mock(HttpInputMessage.class);
+        when(input.getBody()).thenReturn(new ByteArrayInputStream(HexFormat.of().parseHex("a1" + "026154")));
+        when(input.getHeaders()).thenReturn(new HttpHeaders());
+
+        // When
+        Object result = converter.read(ApiRequest.Article.class, input);
+
+        // Then
+        assertThat(result).isEqualTo(new ApiRequest.Article(null, null, "T", null));
+    }
+
+    @Test
+    @DisplayName("When writing a list of responses, then should write a CBOR array")
+    void shouldWriteArray_whenWritingList() throws IOException {
+        // Given
+        var body = new ByteArrayOutputStream();
+        var output = mock(HttpOutputMessage.class);
+        var headers = new HttpHeaders();
+        when(output.getBody()).thenReturn(body);
+        when(output.getHeaders()).thenReturn(headers);
+
+        // When
+        converter.write(new ApiResponseList(List.of(new ApiResponse.Article("1", "A", "T", "C"))),
+            MediaType.APPLICATION_CBOR, output);
+
+        // Then
+        assertThat(HexFormat.of().formatHex(body.toByteArray()))
+            .isEqualTo("81" + "a4" + "006131" + "016141" + "026154" + "036143");
+        assertThat(headers.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(headers.getContentLength()).isEqualTo(body.size());
+    }
+
+}
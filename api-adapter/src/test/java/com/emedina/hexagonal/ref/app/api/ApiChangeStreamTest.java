@@ -0,0 +1,168 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+
+import io.vavr.control.Option;
+
+/**
+ * Unit tests for ApiChangeStream.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiChangeStream Tests")
+class ApiChangeStreamTest {
+
+    private static final ArticleChangeDTO CREATED = new ArticleChangeDTO(1, ArticleChangeDTO.Type.CREATED, "a-1",
+        new ArticleDTO("a-1", "Title", "Content", "Author"));
+    private static final ArticleChangeDTO DELETED = new ArticleChangeDTO(2, ArticleChangeDTO.Type.DELETED, "a-1",
+        null);
+
+    @Mock
+    private ArticleChangeSubscription subscription;
+
+    @Nested
+    @DisplayName("Given a stream of changes")
+    class PipeTests {
+
+        @Test
+        @DisplayName("When changes are available, then should write them in one batch until the client overflows")
+        void shouldWriteBatchUntilOverflow_whenChangesAvailable() throws Exception {
+            // Given
+            when(subscription.next(any(Duration.class)))
+                .thenReturn(Option.some(CREATED), Option.some(DELETED), Option.none(), Option.none());
+            when(subscription.isOverflowed()).thenReturn(false, true);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            ApiChangeStream.pipe(subscription, true, out, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+            // Then
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("retry: 1000\n\n"
+                + "id: 1\nevent: created\ndata: {\"version\":1,\"id\":\"a-1\",\"article\":"
+                + "{\"id\":\"a-1\",\"author\":\"Author\",\"title\":\"Title\",\"content\":\"Content\"}}\n\n"
+                + "id: 2\nevent: deleted\ndata: {\"version\":2,\"id\":\"a-1\"}\n\n");
+            verify(subscription).close();
+        }
+
+        @Test
+        @DisplayName("When no change arrives, then should keep the connection alive until its lifetime ends")
+        void shouldKeepAlive_whenNoChangeArrives() throws Exception {
+            // Given
+            when(subscription.next(any(Duration.class))).thenReturn(Option.none());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            ApiChangeStream.pipe(subscription, false, out, Duration.ofMillis(1), Duration.ofMillis(20));
+
+            // Then
+            assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("retry: 1000\n\n:\n\n");
+            verify(subscription).close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the encoding of a change")
+    class WriteTests {
+
+        @Test
+        @DisplayName("When bodies are not requested, then should leave the article out")
+        void shouldLeaveArticleOut_whenBodiesNotRequested() {
+            // Given
+            ApiOutputBuffer buffer = new ApiOutputBuffer(16);
+
+            // When
+            ApiChangeStream.write(CREATED, false, buffer);
+
+            // Then
+            assertThat(new String(buffer.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("id: 1\nevent: created\ndata: {\"version\":1,\"id\":\"a-1\"}\n\n");
+        }
+
+        @Test
+        @DisplayName("When resetting before the first version, then should clear the last event id")
+        void shouldClearLastEventId_whenResettingBeforeFirstVersion() {
+            // Given
+            ApiOutputBuffer buffer = new ApiOutputBuffer(16);
+
+            // When
+            ApiChangeStream.write(ArticleChangeDTO.reset(-1), true, buffer);
+
+            // Then
+            assertThat(new String(buffer.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("id: \nevent: reset\ndata: {\"version\":-1}\n\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the responses")
+    class ResponseTests {
+
+        @Test
+        @DisplayName("When streaming a subscription, then should answer an uncached event stream")
+        void shouldAnswerUncachedEventStream_whenStreamingSubscription() {
+            // When
+            ResponseEntity<StreamingResponseBody> response = ApiChangeStream.response(subscription, false);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.TEXT_EVENT_STREAM);
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-store");
+        }
+
+        @Test
+        @DisplayName("When adapting a failure, then should keep its status, headers and body")
+        void shouldKeepStatusHeadersAndBody_whenAdaptingFailure() throws Exception {
+            // Given
+            byte[] problem = "{}".getBytes(StandardCharsets.UTF_8);
+            ResponseEntity<byte[]> failure = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problem);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            ResponseEntity<StreamingResponseBody> response = ApiChangeStream.failure(failure);
+            response.getBody().writeTo(out);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+            assertThat(out.toByteArray()).isEqualTo(problem);
+        }
+
+        @Test
+        @DisplayName("When adapting a failure without body, then should have no body either")
+        void shouldHaveNoBody_whenAdaptingFailureWithoutBody() {
+            // When
+            ResponseEntity<StreamingResponseBody> response = ApiChangeStream.failure(
+                ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(response.getBody()).isNull();
+        }
+    }
+
+}
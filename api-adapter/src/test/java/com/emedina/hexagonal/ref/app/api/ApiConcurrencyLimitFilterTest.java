@@ -0,0 +1,130 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Unit tests for ApiConcurrencyLimitFilter.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiConcurrencyLimitFilter Tests")
+class ApiConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private ApiConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new ApiConcurrencyLimitFilter(registry);
+    }
+
+    @Test
+    @DisplayName("When requesting another path, then should not filter it")
+    void shouldNotFilter_whenRequestingAnotherPath() {
+        // Given
+        var request = request("GET", "/actuator/health");
+
+        // When & Then
+        assertThat(filter.shouldNotFilter(request)).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/articles/1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("When within the limit, then should proceed with the chain")
+    void shouldProceed_whenWithinLimit() throws Exception {
+        // Given
+        var request = request("GET", "/api/articles");
+        var response = mock(HttpServletResponse.class);
+        var chain = mock(FilterChain.class);
+
+        // When
+        filter.doFilterInternal(request, response, chain);
+
+        // Then
+        verify(chain).doFilter(request, response);
+        verify(response, never()).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(registry.get("api.concurrency.inflight").tag("group", "read").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("When the limit is reached, then should reject with SERVICE_UNAVAILABLE")
+    void shouldReject_whenLimitReached() throws Exception {
+        // Given
+        var outputStream = mock(ServletOutputStream.class);
+        var rejected = mock(HttpServletResponse.class);
+        when(rejected.getOutputStream()).thenReturn(outputStream);
+        var rejectedChain = mock(FilterChain.class);
+
+        List<Exception> failures = new ArrayList<>();
+        var chain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+            // Saturate the write limit from within the chain of the first request
+            var nested = nestedChain(ApiConcurrencyLimiter.INITIAL_LIMIT - 2, failures, rejected, rejectedChain);
+            filter.doFilterInternal(request("POST", "/api/articles"), mock(HttpServletResponse.class), nested);
+            return null;
+        }).when(chain).doFilter(any(ServletRequest.class), any(ServletResponse.class));
+
+        // When
+        filter.doFilterInternal(request("POST", "/api/articles"), mock(HttpServletResponse.class), chain);
+
+        // Then
+        assertThat(failures).isEmpty();
+        verify(rejectedChain, never()).doFilter(any(ServletRequest.class), any(ServletResponse.class));
+        verify(rejected).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        verify(rejected).setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        verify(outputStream).write(ApiConcurrencyLimitFilter.SERVICE_UNAVAILABLE);
+        assertThat(registry.get("api.concurrency.rejected").tag("group", "write").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("api.concurrency.rejected").tag("group", "read").counter().count()).isZero();
+    }
+
+    private FilterChain nestedChain(final int depth, final List<Exception> failures,
+            final HttpServletResponse rejected, final FilterChain rejectedChain) throws Exception {
+        var chain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+            try {
+                if (depth == 0) {
+                    filter.doFilterInternal(request("PUT", "/api/articles/1"), rejected, rejectedChain);
+                } else {
+                    filter.doFilterInternal(request("PUT", "/api/articles/1"), mock(HttpServletResponse.class),
+                        nestedChain(depth - 1, failures, rejected, rejectedChain));
+                }
+            } catch (final Exception ex) {
+                failures.add(ex);
+            }
+            return null;
+        }).when(chain).doFilter(any(ServletRequest.class), any(ServletResponse.class));
+        return chain;
+    }
+
+    private static HttpServletRequest request(final String method, final String uri) {
+        var request = mock(HttpServletRequest.class);
+        when(request.getMethod()).thenReturn(method);
+        when(request.getRequestURI()).thenReturn(uri);
+        return request;
+    }
+
+}
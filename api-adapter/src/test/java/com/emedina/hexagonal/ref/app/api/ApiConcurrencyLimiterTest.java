@@ -0,0 +1,101 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ApiConcurrencyLimiter.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiConcurrencyLimiter Tests")
+class ApiConcurrencyLimiterTest {
+
+    private static final long BASELINE_RTT = 1_000_000L;
+
+    private ApiConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ApiConcurrencyLimiter();
+    }
+
+    @Test
+    @DisplayName("When acquiring beyond the initial limit, then should reject")
+    void shouldReject_whenAcquiringBeyondInitialLimit() {
+        // Given
+        IntStream.range(0, ApiConcurrencyLimiter.INITIAL_LIMIT).forEach(i -> assertThat(limiter.tryAcquire()).isTrue());
+
+        // When
+        boolean result = limiter.tryAcquire();
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(ApiConcurrencyLimiter.INITIAL_LIMIT);
+    }
+
+    @Test
+    @DisplayName("When releasing a permit, then should admit a new request")
+    void shouldAdmitNewRequest_whenReleasingPermit() {
+        // Given
+        IntStream.range(0, ApiConcurrencyLimiter.INITIAL_LIMIT).forEach(i -> limiter.tryAcquire());
+
+        // When
+        limiter.release(BASELINE_RTT, 1);
+
+        // Then
+        assertThat(limiter.inFlight()).isEqualTo(ApiConcurrencyLimiter.INITIAL_LIMIT - 1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("When latency stays at its baseline under load, then should grow the limit up to its maximum")
+    void shouldGrowLimit_whenLatencyStaysAtBaseline() {
+        // When
+        sample(BASELINE_RTT, 1_000);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(ApiConcurrencyLimiter.MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("When latency rises under load, then should shrink the limit down towards its minimum")
+    void shouldShrinkLimit_whenLatencyRises() {
+        // Given
+        sample(BASELINE_RTT, 100);
+        double grown = limiter.limit();
+
+        // When
+        sample(BASELINE_RTT * 50, 200);
+
+        // Then
+        assertThat(limiter.limit()).isLessThan(grown);
+        assertThat(limiter.limit()).isLessThan(ApiConcurrencyLimiter.MIN_LIMIT + 1);
+    }
+
+    @Test
+    @DisplayName("When the limit is not being used, then should not grow it")
+    void shouldNotGrowLimit_whenNotUsed() {
+        // When
+        IntStream.range(0, 100).forEach(i -> {
+            limiter.tryAcquire();
+            limiter.release(BASELINE_RTT, 1);
+        });
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(ApiConcurrencyLimiter.INITIAL_LIMIT);
+    }
+
+    private void sample(final long rtt, final int samples) {
+        IntStream.range(0, samples).forEach(i -> {
+            limiter.tryAcquire();
+            limiter.release(rtt, (int) limiter.limit());
+        });
+    }
+
+}
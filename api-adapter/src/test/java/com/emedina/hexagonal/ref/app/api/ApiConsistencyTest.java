@@ -0,0 +1,121 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Unit tests for ApiConsistency.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiConsistency Tests")
+class ApiConsistencyTest {
+
+    private final ApiConsistency readYourWrites = new ApiConsistency(ApiConsistency.Mode.READ_YOUR_WRITES);
+
+    @Nested
+    @DisplayName("Given tokenOf method")
+    class TokenOfTests {
+
+        @Test
+        @DisplayName("When reading your writes with a version, then should require it")
+        void shouldRequireVersion_whenReadingYourWrites() {
+            // Given
+            var request = requestWithVersion(" 42 ");
+
+            // When & Then
+            assertThat(readYourWrites.tokenOf(request).get().required()).isEqualTo(42);
+        }
+
+        @Test
+        @DisplayName("When the version is missing, then should require none")
+        void shouldRequireNone_whenVersionMissing() {
+            // When & Then
+            assertThat(readYourWrites.tokenOf(requestWithVersion(null)).get().required())
+                .isEqualTo(ConsistencyToken.NONE);
+            assertThat(readYourWrites.tokenOf(requestWithVersion(" ")).get().required())
+                .isEqualTo(ConsistencyToken.NONE);
+        }
+
+        @Test
+        @DisplayName("When the version is not a non-negative number, then should reject it as invalid")
+        void shouldRejectVersion_whenNotNonNegativeNumber() {
+            // When & Then
+            assertThat(readYourWrites.tokenOf(requestWithVersion("abc")).getLeft()).isEqualTo(
+                new Error.ValidationErrors(List.of(new ValidationError.Invalid("abc"))));
+            assertThat(readYourWrites.tokenOf(requestWithVersion("-1")).getLeft()).isEqualTo(
+                new Error.ValidationErrors(List.of(new ValidationError.Invalid("-1"))));
+            assertThat(readYourWrites.tokenOf(requestWithVersion("99999999999999999999")).isLeft()).isTrue();
+        }
+
+        @Test
+        @DisplayName("When reads are eventually consistent, then should ignore the version")
+        void shouldIgnoreVersion_whenEventual() {
+            // Given
+            var eventual = new ApiConsistency(ApiConsistency.Mode.EVENTUAL);
+
+            // When & Then
+            assertThat(eventual.tokenOf(requestWithVersion("42")).get().required()).isEqualTo(ConsistencyToken.NONE);
+            assertThat(eventual.tokenOf(requestWithVersion("abc")).get().required())
+                .isEqualTo(ConsistencyToken.NONE);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Given withVersion method")
+    class WithVersionTests {
+
+        @Test
+        @DisplayName("When nothing was written, then should leave the response as is")
+        void shouldLeaveResponse_whenNothingWritten() {
+            // Given
+            ResponseEntity<ApiResponse> response = ResponseEntity.status(HttpStatus.OK).body(null);
+
+            // When & Then
+            assertThat(readYourWrites.withVersion(response, ConsistencyToken.none())).isSameAs(response);
+        }
+
+        @Test
+        @DisplayName("When a version was written, then should add it to the response")
+        void shouldAddVersion_whenWritten() {
+            // Given
+            ResponseEntity<ApiResponse> response = ResponseEntity.status(HttpStatus.CREATED).body(null);
+            var token = ConsistencyToken.none();
+            ConsistencyToken.callWithin(token, () -> {
+                ConsistencyToken.recordWrite(9);
+                return null;
+            });
+
+            // When
+            ResponseEntity<ApiResponse> versioned = readYourWrites.withVersion(response, token);
+
+            // Then
+            assertThat(versioned.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(versioned.getHeaders().getFirst(ApiConsistency.VERSION_HEADER)).isEqualTo("9");
+        }
+
+    }
+
+    private static HttpServletRequest requestWithVersion(final String version) {
+        var request = mock(HttpServletRequest.class);
+        when(request.getHeader(ApiConsistency.VERSION_HEADER)).thenReturn(version);
+        return request;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Unit tests for ApiDeadlineFilter.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiDeadlineFilter Tests")
+class ApiDeadlineFilterTest {
+
+    private final ApiDeadlineFilter filter = new ApiDeadlineFilter();
+
+    @Nested
+    @DisplayName("Given doFilterInternal method")
+    class FilterTests {
+
+        @Test
+        @DisplayName("When requesting another path, then should not filter it")
+        void shouldNotFilter_whenRequestingAnotherPath() {
+            // Given
+            var request = mock(HttpServletRequest.class);
+            when(request.getRequestURI()).thenReturn("/actuator/health", "/api/articles/1");
+
+            // When & Then
+            assertThat(filter.shouldNotFilter(request)).isTrue();
+            assertThat(filter.shouldNotFilter(request)).isFalse();
+        }
+
+        @Test
+        @DisplayName("When a request arrives, then should stamp its deadline and proceed with the chain")
+        void shouldStampDeadline_whenRequestArrives() throws Exception {
+            // Given
+            var request = mock(HttpServletRequest.class);
+            var response = mock(HttpServletResponse.class);
+            var chain = mock(FilterChain.class);
+            when(request.getHeader(ApiDeadlineFilter.TIMEOUT_HEADER)).thenReturn("250");
+
+            // When
+            filter.doFilterInternal(request, response, chain);
+
+            // Then
+            var deadline = ArgumentCaptor.forClass(Object.class);
+            verify(request).setAttribute(anyString(), deadline.capture());
+            verify(chain).doFilter(request, response);
+            assertThat(deadline.getValue()).isInstanceOf(Deadline.class);
+            assertThat(((Deadline) deadline.getValue()).remaining()).isLessThanOrEqualTo(Duration.ofMillis(250));
+        }
+
+        @Test
+        @DisplayName("When getting the deadline of a stamped request, then should return the stamped one")
+        void shouldReturnStampedDeadline_whenGettingDeadlineOfStampedRequest() {
+            // Given
+            var request = mock(HttpServletRequest.class);
+            var stamped = Deadline.after(Duration.ZERO);
+            when(request.getAttribute(any())).thenReturn(stamped);
+
+            // When & Then
+            assertThat(ApiDeadlineFilter.deadlineOf(request)).isSameAs(stamped);
+        }
+
+        @Test
+        @DisplayName("When getting the deadline of an unstamped request, then should fall back to the default budget")
+        void shouldFallBackToDefault_whenGettingDeadlineOfUnstampedRequest() {
+            // Given
+            var request = mock(HttpServletRequest.class);
+
+            // When
+            Deadline result = ApiDeadlineFilter.deadlineOf(request);
+
+            // Then
+            assertThat(result.isExpired()).isFalse();
+            assertThat(result.remaining()).isLessThanOrEqualTo(ApiDeadlineFilter.DEFAULT_BUDGET);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given budgetOf method")
+    class BudgetTests {
+
+        @Test
+        @DisplayName("When the header holds a valid timeout, then should use it")
+        void shouldUseHeader_whenValidTimeout() {
+            assertThat(ApiDeadlineFilter.budgetOf(" 1500 ")).isEqualTo(Duration.ofMillis(1500));
+        }
+
+        @Test
+        @DisplayName("When the header exceeds the maximum, then should cap it")
+        void shouldCap_whenTimeoutExceedsMaximum() {
+            assertThat(ApiDeadlineFilter.budgetOf("3600000")).isEqualTo(ApiDeadlineFilter.MAX_BUDGET);
+        }
+
+        @Test
+        @DisplayName("When the header is missing or invalid, then should use the default budget")
+        void shouldUseDefault_whenHeaderMissingOrInvalid() {
+            assertThat(ApiDeadlineFilter.budgetOf(null)).isEqualTo(ApiDeadlineFilter.DEFAULT_BUDGET);
+            assertThat(ApiDeadlineFilter.budgetOf(" ")).isEqualTo(ApiDeadlineFilter.DEFAULT_BUDGET);
+            assertThat(ApiDeadlineFilter.budgetOf("soon")).isEqualTo(ApiDeadlineFilter.DEFAULT_BUDGET);
+            assertThat(ApiDeadlineFilter.budgetOf("-5")).isEqualTo(ApiDeadlineFilter.DEFAULT_BUDGET);
+        }
+    }
+
+}
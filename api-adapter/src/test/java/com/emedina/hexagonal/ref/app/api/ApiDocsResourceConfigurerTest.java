@@ -0,0 +1,107 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.ServletContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for ApiDocsResourceConfigurer.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiDocsResourceConfigurer Tests")
+class ApiDocsResourceConfigurerTest {
+
+    @Test
+    @DisplayName("When adding resource handlers, then should map the OpenAPI document path")
+    void shouldMapOpenApiPath_whenAddingResourceHandlers() {
+        // Given
+        var registry = new ResourceHandlerRegistry(new StaticApplicationContext(), mock(ServletContext.class));
+
+        // When
+        new ApiDocsResourceConfigurer().addResourceHandlers(registry);
+
+        // Then
+        assertThat(registry.hasMappingForPattern(ApiDocsResourceConfigurer.PATH_PATTERN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("When reading the bundled document, then should describe every article endpoint")
+    void shouldDescribeEveryEndpoint_whenReadingBundledDocument() throws Exception {
+        // Given
+        JsonNode document = bundledDocument();
+
+        // When
+        JsonNode paths = document.path("paths");
+
+        // Then
+        assertThat(document.path("openapi").asString()).startsWith("3.");
+        assertThat(paths.path("/api/articles").has("get")).isTrue();
+        assertThat(paths.path("/api/articles").has("post")).isTrue();
+        assertThat(paths.path("/api/articles/{articleId}").has("get")).isTrue();
+        assertThat(paths.path("/api/articles/{articleId}").has("put")).isTrue();
+        assertThat(paths.path("/api/articles/{articleId}").has("delete")).isTrue();
+        assertThat(paths.path("/api/articles/changes").has("get")).isTrue();
+        assertThat(paths.path("/api/articles").path("post").path("responses").has("409")).isTrue();
+    }
+
+    @Test
+    @DisplayName("When comparing the bundled document with ArticleApi, then should agree on operations and responses")
+    void shouldAgreeWithArticleApi_whenComparingBundledDocument() throws Exception {
+        // Given
+        JsonNode paths = bundledDocument().path("paths");
+        String basePath = ArticleApi.class.getAnnotation(RequestMapping.class).value()[0];
+        ApiResponse[] common = ArticleApi.class.getAnnotation(ApiResponses.class).value();
+
+        for (Method method : ArticleApi.class.getDeclaredMethods()) {
+            RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+            String path = basePath + (mapping.path().length == 0 ? "" : mapping.path()[0]);
+            String httpMethod = mapping.method()[0].name().toLowerCase();
+
+            // When
+            JsonNode operation = paths.path(path).path(httpMethod);
+
+            // Then
+            assertThat(operation.isObject()).as("%s %s", httpMethod, path).isTrue();
+            assertThat(operation.path("summary").asString())
+                .isEqualTo(method.getAnnotation(Operation.class).summary());
+            assertThat(new TreeSet<>(operation.path("responses").propertyNames()))
+                .as("%s %s", httpMethod, path)
+                .isEqualTo(responseCodes(common, method.getAnnotation(ApiResponses.class).value()));
+        }
+    }
+
+    private JsonNode bundledDocument() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/openapi/articles.json")) {
+            return JsonMapper.builder().build().readTree(in);
+        }
+    }
+
+    private static Set<String> responseCodes(final ApiResponse[] common, final ApiResponse[] specific) {
+        return Stream.concat(Arrays.stream(common), Arrays.stream(specific))
+            .map(ApiResponse::responseCode)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+}
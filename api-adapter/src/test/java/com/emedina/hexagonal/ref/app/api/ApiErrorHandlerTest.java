@@ -4,7 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +13,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -27,12 +30,14 @@ import jakarta.servlet.http.HttpServletRequest;
 @DisplayName("ApiErrorHandler Tests")
 class ApiErrorHandlerTest {
 
+    private SimpleMeterRegistry registry;
     private ApiErrorHandler apiErrorHandler;
     private HttpServletRequest mockRequest;
 
     @BeforeEach
     void setUp() {
-        apiErrorHandler = new ApiErrorHandler();
+        registry = new SimpleMeterRegistry();
+        apiErrorHandler = new ApiErrorHandler(registry);
         mockRequest = mock(HttpServletRequest.class);
         when(mockRequest.getRequestURI()).thenReturn("/api/test");
     }
@@ -49,12 +54,12 @@ class ApiErrorHandlerTest {
             var error = new Error.ValidationErrors(List.of(validationError));
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).contains("Cannot be null [testObject]");
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("Cannot be null [testObject]");
         }
 
         @Test
@@ -65,12 +70,12 @@ class ApiErrorHandlerTest {
             var error = new Error.ValidationErrors(List.of(validationError));
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).contains("Must have content [testField]");
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("Must have content [testField]");
         }
 
         @Test
@@ -81,12 +86,12 @@ class ApiErrorHandlerTest {
             var error = new Error.ValidationErrors(List.of(validationError));
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).contains("Cannot be empty [[testList]]");
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("Cannot be empty [[testList]]");
         }
 
         @Test
@@ -97,12 +102,12 @@ class ApiErrorHandlerTest {
             var error = new Error.ValidationErrors(List.of(validationError));
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).contains("Invalid value provided [testValue]");
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("Invalid value provided [testValue]");
         }
 
         @Test
@@ -114,13 +119,13 @@ class ApiErrorHandlerTest {
             var error = new Error.ValidationErrors(List.of(validationError1, validationError2));
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).contains("Cannot be null [testObject]");
-            assertThat(result.get(0).getDetail()).contains("Invalid value provided [testValue]");
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("Cannot be null [testObject]");
+            assertThat(problems(result).get(0)).contains("Invalid value provided [testValue]");
         }
     }
 
@@ -135,12 +140,12 @@ class ApiErrorHandlerTest {
             var error = new Error.BusinessError.InvalidId("test-id");
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).isEqualTo("Article id [test-id] not valid");
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Article id [test-id] not valid\"");
         }
 
         @Test
@@ -150,12 +155,57 @@ class ApiErrorHandlerTest {
             var error = new Error.BusinessError.UnknownArticle("test-id");
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
-            assertThat(result.get(0).getDetail()).isEqualTo("Article with id [test-id] not found");
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.NOT_FOUND.value());
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Article with id [test-id] not found\"");
+        }
+
+        @Test
+        @DisplayName("When mapping BusinessError.DuplicateArticle, then should return CONFLICT with appropriate detail")
+        void shouldReturnConflict_whenMappingDuplicateArticleBusinessError() {
+            // Given
+            var error = new Error.BusinessError.DuplicateArticle("test-id");
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.CONFLICT.value());
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Article with id [test-id] already exists\"");
+        }
+
+        @Test
+        @DisplayName("When mapping BusinessError.UnknownAuthor, then should return BAD_REQUEST with appropriate detail")
+        void shouldReturnBadRequest_whenMappingUnknownAuthorBusinessError() {
+            // Given
+            var error = new Error.BusinessError.UnknownAuthor("author-id");
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Author with id [author-id] not found\"");
+        }
+
+        @Test
+        @DisplayName("When mapping BusinessError.InvalidAuthorId, then should return BAD_REQUEST with appropriate detail")
+        void shouldReturnBadRequest_whenMappingInvalidAuthorIdBusinessError() {
+            // Given
+            var error = new Error.BusinessError.InvalidAuthorId("author-id");
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Author id [author-id] not valid\"");
         }
     }
 
@@ -170,13 +220,44 @@ class ApiErrorHandlerTest {
             var error = new Error.TechnicalError.SomethingWentWrong("Test error message");
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(problems(result)).hasSize(1);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Internal server error [Test error message]\"");
+            assertThat(problems(result).get(0)).contains("\"instance\":\"/api/test\"");
+        }
+
+        @Test
+        @DisplayName("When mapping TechnicalError.DeadlineExceeded, then should return SERVICE_UNAVAILABLE and count the shed work")
+        void shouldReturnServiceUnavailable_whenMappingDeadlineExceededTechnicalError() {
+            // Given
+            var error = new Error.TechnicalError.DeadlineExceeded("repository");
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Request deadline exceeded at [repository]\"");
+            assertThat(registry.get(ApiErrorHandler.SHED_METRIC_NAME).tag("stage", "repository").counter().count())
+                .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("When mapping TechnicalError.Unavailable, then should return SERVICE_UNAVAILABLE with appropriate detail")
+        void shouldReturnServiceUnavailable_whenMappingUnavailableTechnicalError() {
+            // Given
+            var error = new Error.TechnicalError.Unavailable("The article outbox is full");
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            assertThat(result.get(0).getDetail()).isEqualTo("Internal server error [Test error message]");
-            assertThat(result.get(0).getInstance()).isEqualTo(URI.create("/api/test"));
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(problems(result).get(0))
+                .contains("\"detail\":\"Temporarily unavailable [The article outbox is full]\"");
         }
     }
 
@@ -193,14 +274,14 @@ class ApiErrorHandlerTest {
             var error = new Error.MultipleErrors(List.of(businessError, technicalError));
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).isEqualTo("Article id [test-id] not valid");
-            assertThat(result.get(1).getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            assertThat(result.get(1).getDetail()).isEqualTo("Internal server error [Test error message]");
+            assertThat(problems(result)).hasSize(2);
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("\"detail\":\"Article id [test-id] not valid\"");
+            assertThat(problems(result).get(1)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(problems(result).get(1)).contains("\"detail\":\"Internal server error [Test error message]\"");
         }
 
         @Test
@@ -215,20 +296,74 @@ class ApiErrorHandlerTest {
             var error = new Error.MultipleErrors(List.of(nestedMultipleErrors, technicalError));
 
             // When
-            List<ProblemDetail> result = apiErrorHandler.mapErrorToProblemDetail(error, mockRequest);
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
 
             // Then
-            assertThat(result).hasSize(3);
+            assertThat(problems(result)).hasSize(3);
             // First problem detail from ValidationErrors
-            assertThat(result.get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(0).getDetail()).contains("Cannot be null [testObject]");
+            assertThat(problems(result).get(0)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(0)).contains("Cannot be null [testObject]");
             // Second problem detail from BusinessError.InvalidId
-            assertThat(result.get(1).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.get(1).getDetail()).isEqualTo("Article id [test-id] not valid");
+            assertThat(problems(result).get(1)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(problems(result).get(1)).contains("\"detail\":\"Article id [test-id] not valid\"");
             // Third problem detail from TechnicalError.SomethingWentWrong
-            assertThat(result.get(2).getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            assertThat(result.get(2).getDetail()).isEqualTo("Internal server error [Test error message]");
+            assertThat(problems(result).get(2)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(problems(result).get(2)).contains("\"detail\":\"Internal server error [Test error message]\"");
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the failure response")
+    class FailureResponseTests {
+
+        @Test
+        @DisplayName("When mapping a single error, then should use its status and type it with the request URI")
+        void shouldUseProblemStatusAndRequestUri_whenMappingSingleError() {
+            // Given
+            var error = new Error.BusinessError.UnknownArticle("test-id");
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+            assertThat(problems(result).get(0)).contains("\"type\":\"/api/test\"");
         }
+
+        @Test
+        @DisplayName("When mapping several errors, then should return I_AM_A_TEAPOT")
+        void shouldReturnTeapot_whenMappingSeveralErrors() {
+            // Given
+            var error = new Error.MultipleErrors(List.of(new Error.BusinessError.InvalidId("id-1"),
+                new Error.BusinessError.InvalidId("id-2")));
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+            assertThat(problems(result)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("When mapping no errors, then should return I_AM_A_TEAPOT with an empty list")
+        void shouldReturnTeapotWithEmptyList_whenMappingNoErrors() {
+            // Given
+            var error = new Error.MultipleErrors(List.of());
+
+            // When
+            ResponseEntity<byte[]> result = apiErrorHandler.createFailureResponse(error, mockRequest);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+            assertThat(new String(result.getBody(), StandardCharsets.UTF_8)).isEqualTo("[]");
+        }
+    }
+
+    private static List<String> problems(final ResponseEntity<byte[]> response) {
+        final String body = new String(response.getBody(), StandardCharsets.UTF_8);
+        return body.length() <= 2 ? List.of() : Arrays.asList(body.substring(1, body.length() - 1).split("(?<=\\}),(?=\\{)"));
     }
 
 }
@@ -4,15 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for ApiGlobalExceptionHandler.
  *
@@ -25,7 +29,8 @@ class ApiGlobalExceptionHandlerTest {
 
     @BeforeEach
     void setUp() {
-        exceptionHandler = new ApiGlobalExceptionHandler();
+        exceptionHandler = new ApiGlobalExceptionHandler(new ApiLogGate(new SimpleMeterRegistry(),
+            ApiLogGate.PERMITS_PER_INTERVAL, ApiLogGate.INTERVAL, System::nanoTime));
     }
 
     @Nested
@@ -40,14 +45,14 @@ class ApiGlobalExceptionHandlerTest {
             when(exception.getMessage()).thenReturn("Malformed JSON");
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleHttpMessageNotReadable(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleHttpMessageNotReadable(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.getBody().getTitle()).isEqualTo("Bad Request");
-            assertThat(result.getBody().getDetail()).isEqualTo("Invalid request body: malformed JSON or missing required fields");
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
+            assertThat(body(result)).contains("\"title\":\"Bad Request\"");
+            assertThat(body(result)).contains("\"detail\":\"Invalid request body: malformed JSON or missing required fields\"");
         }
 
         @Test
@@ -58,12 +63,12 @@ class ApiGlobalExceptionHandlerTest {
             when(exception.getMessage()).thenReturn(null);
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleHttpMessageNotReadable(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleHttpMessageNotReadable(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.BAD_REQUEST.value());
         }
     }
 
@@ -78,14 +83,14 @@ class ApiGlobalExceptionHandlerTest {
             var exception = new IllegalArgumentException("No handler found for command");
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleIllegalArgument(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleIllegalArgument(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            assertThat(result.getBody().getTitle()).isEqualTo("Internal Server Error");
-            assertThat(result.getBody().getDetail()).isEqualTo("Internal configuration error");
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(body(result)).contains("\"title\":\"Internal Server Error\"");
+            assertThat(body(result)).contains("\"detail\":\"Internal configuration error\"");
         }
 
         @Test
@@ -95,12 +100,12 @@ class ApiGlobalExceptionHandlerTest {
             var exception = new IllegalArgumentException((String) null);
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleIllegalArgument(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleIllegalArgument(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
         }
     }
 
@@ -115,14 +120,14 @@ class ApiGlobalExceptionHandlerTest {
             var exception = new Exception("Unexpected error occurred");
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleUnexpectedException(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleUnexpectedException(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            assertThat(result.getBody().getTitle()).isEqualTo("Internal Server Error");
-            assertThat(result.getBody().getDetail()).isEqualTo("An unexpected error occurred");
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(body(result)).contains("\"title\":\"Internal Server Error\"");
+            assertThat(body(result)).contains("\"detail\":\"An unexpected error occurred\"");
         }
 
         @Test
@@ -132,14 +137,14 @@ class ApiGlobalExceptionHandlerTest {
             var exception = new RuntimeException("Runtime error");
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleUnexpectedException(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleUnexpectedException(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            assertThat(result.getBody().getTitle()).isEqualTo("Internal Server Error");
-            assertThat(result.getBody().getDetail()).isEqualTo("An unexpected error occurred");
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(body(result)).contains("\"title\":\"Internal Server Error\"");
+            assertThat(body(result)).contains("\"detail\":\"An unexpected error occurred\"");
         }
 
         @Test
@@ -149,12 +154,12 @@ class ApiGlobalExceptionHandlerTest {
             var exception = new NullPointerException("Null value encountered");
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleUnexpectedException(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleUnexpectedException(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
         }
 
         @Test
@@ -164,13 +169,38 @@ class ApiGlobalExceptionHandlerTest {
             var exception = new Exception((String) null);
 
             // When
-            ResponseEntity<ProblemDetail> result = exceptionHandler.handleUnexpectedException(exception);
+            ResponseEntity<byte[]> result = exceptionHandler.handleUnexpectedException(exception);
 
             // Then
             assertThat(result.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
             assertThat(result.getBody()).isNotNull();
-            assertThat(result.getBody().getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            assertThat(body(result)).contains("\"status\":" + HttpStatus.INTERNAL_SERVER_ERROR.value());
         }
     }
 
+    @Nested
+    @DisplayName("Given cached problem bodies")
+    class CachedBodiesTests {
+
+        @Test
+        @DisplayName("When handling the same exception twice, then should reuse the same encoded body")
+        void shouldReuseEncodedBody_whenHandlingSameExceptionTwice() {
+            // Given
+            var first = new RuntimeException("First");
+            var second = new RuntimeException("Second");
+
+            // When
+            ResponseEntity<byte[]> firstResult = exceptionHandler.handleUnexpectedException(first);
+            ResponseEntity<byte[]> secondResult = exceptionHandler.handleUnexpectedException(second);
+
+            // Then
+            assertThat(firstResult.getBody()).isSameAs(secondResult.getBody());
+            assertThat(firstResult.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+        }
+    }
+
+    private static String body(final ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+
 }
@@ -0,0 +1,80 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Throughput comparison between the {@link ApiJsonCodec} and the default Jackson mapping of the API records.
+ * <p>
+ * Only enabled on demand: {@code mvn -pl api-adapter test -Dtest=ApiJsonCodecBenchmarkTest -Dbenchmark=true}.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiJsonCodec Benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ApiJsonCodecBenchmarkTest {
+
+    private static final int WARM_UP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+
+    private static final byte[] REQUEST = ("{\"id\":\"article-1\",\"authorId\":\"author-1\",\"title\":\"A title\","
+        + "\"content\":\"Some content with \\\"quotes\\\" and unicode é\"}").getBytes(StandardCharsets.UTF_8);
+    private static final List<ApiResponse> RESPONSES = IntStream.range(0, 20)
+        .<ApiResponse>mapToObj(i -> new ApiResponse.Article("article-" + i, "Author " + i, "Title " + i, "Content " + i))
+        .toList();
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("Request parsing throughput")
+    void requestParsing() {
+        final ApiRequest.Article expected = this.jsonMapper.readValue(REQUEST, ApiRequest.Article.class);
+        assertThat(ApiJsonCodec.decodeArticleRequest(REQUEST)).isEqualTo(expected);
+
+        report("parse", () -> ApiJsonCodec.decodeArticleRequest(REQUEST),
+            () -> this.jsonMapper.readValue(REQUEST, ApiRequest.Article.class));
+    }
+
+    @Test
+    @DisplayName("Response writing throughput")
+    void responseWriting() {
+        final byte[] expected = this.jsonMapper.writeValueAsBytes(RESPONSES);
+        assertThat(ApiJsonCodec.encode(RESPONSES).toByteArray()).isEqualTo(expected);
+
+        report("write", () -> ApiJsonCodec.encode(RESPONSES).toByteArray(),
+            () -> this.jsonMapper.writeValueAsBytes(RESPONSES));
+    }
+
+    private static void report(final String operation, final Supplier<Object> codec, final Supplier<Object> jackson) {
+        final double codecOps = measure(codec);
+        final double jacksonOps = measure(jackson);
+        System.out.printf("%s: codec %.0f ops/s, jackson %.0f ops/s (x%.2f)%n", operation, codecOps, jacksonOps,
+            codecOps / jacksonOps);
+    }
+
+    private static double measure(final Supplier<Object> operation) {
+        int sink = 0;
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            sink += operation.get().hashCode();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += operation.get().hashCode();
+        }
+        final long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotNull();
+        return MEASURED_ITERATIONS * 1_000_000_000.0 / elapsed;
+    }
+
+}
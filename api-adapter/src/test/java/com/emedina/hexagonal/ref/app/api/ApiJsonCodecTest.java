@@ -0,0 +1,192 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ApiJsonCodec.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiJsonCodec Tests")
+class ApiJsonCodecTest {
+
+    @Nested
+    @DisplayName("Given encode method")
+    class EncodeTests {
+
+        @Test
+        @DisplayName("When encoding an article, then should render all its fields")
+        void shouldRenderAllFields_whenEncodingArticle() {
+            // Given
+            var article = new ApiResponse.Article("article-1", "John Doe", "Title \"1\"", "Línea\nnueva");
+
+            // When
+            byte[] result = ApiJsonCodec.encode(article).toByteArray();
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":\"article-1\",\"author\":\"John Doe\",\"title\":\"Title \\\"1\\\"\","
+                    + "\"content\":\"Línea\\u000anueva\"}");
+        }
+
+        @Test
+        @DisplayName("When encoding an article with null fields, then should render them as null")
+        void shouldRenderNull_whenEncodingArticleWithNullFields() {
+            // Given
+            var article = new ApiResponse.Article("article-1", null, "Title", null);
+
+            // When
+            byte[] result = ApiJsonCodec.encode(article).toByteArray();
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":\"article-1\",\"author\":null,\"title\":\"Title\",\"content\":null}");
+        }
+
+        @Test
+        @DisplayName("When encoding a list of articles, then should render a JSON array")
+        void shouldRenderArray_whenEncodingList() {
+            // Given
+            List<ApiResponse> responses = List.of(
+                new ApiResponse.Article("1", "A", "T1", "C1"),
+                new ApiResponse.Article("2", "B", "T2", "C2"));
+
+            // When
+            byte[] result = ApiJsonCodec.encode(responses).toByteArray();
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(
+                "[{\"id\":\"1\",\"author\":\"A\",\"title\":\"T1\",\"content\":\"C1\"},"
+                    + "{\"id\":\"2\",\"author\":\"B\",\"title\":\"T2\",\"content\":\"C2\"}]");
+        }
+
+        @Test
+        @DisplayName("When encoding an empty list, then should render an empty array")
+        void shouldRenderEmptyArray_whenEncodingEmptyList() {
+            // When
+            byte[] result = ApiJsonCodec.encode(List.<ApiResponse>of()).toByteArray();
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("[]");
+        }
+
+        @Test
+        @DisplayName("When encoding a list with tombstones, then should flag them as deleted")
+        void shouldFlagTombstones_whenEncodingListWithTombstones() {
+            // Given
+            List<ApiResponse> responses = List.of(
+                new ApiResponse.Article("1", "A", "T1", "C1"),
+                new ApiResponse.Tombstone("2"));
+
+            // When
+            byte[] result = ApiJsonCodec.encode(responses).toByteArray();
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(
+                "[{\"id\":\"1\",\"author\":\"A\",\"title\":\"T1\",\"content\":\"C1\"},"
+                    + "{\"id\":\"2\",\"deleted\":true}]");
+        }
+    }
+
+    @Nested
+    @DisplayName("Given decodeArticleRequest method")
+    class DecodeTests {
+
+        @Test
+        @DisplayName("When decoding a complete request, then should read all its fields")
+        void shouldReadAllFields_whenDecodingCompleteRequest() {
+            // Given
+            var json = " { \"id\" : \"1\", \"authorId\":\"a-1\",\n\"title\":\"Título\", \"content\":\"Content\" } ";
+
+            // When
+            ApiRequest.Article result = ApiJsonCodec.decodeArticleRequest(bytes(json));
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article("1", "a-1", "Título", "Content"));
+        }
+
+        @Test
+        @DisplayName("When decoding escaped strings, then should unescape them")
+        void shouldUnescape_whenDecodingEscapedStrings() {
+            // Given
+            var json = "{\"title\":\"a\\\"b\\\\c\\/d\\n\\t\\u00e9\\ud83d\\ude00\"}";
+
+            // When
+            ApiRequest.Article result = ApiJsonCodec.decodeArticleRequest(bytes(json));
+
+            // Then
+            assertThat(result.title()).isEqualTo("a\"b\\c/d\n\té😀");
+        }
+
+        @Test
+        @DisplayName("When decoding null, missing and unknown fields, then should leave missing ones null")
+        void shouldSkipUnknownFields_whenDecodingRequest() {
+            // Given
+            var json = "{\"id\":null,\"extra\":{\"a\":[1,-2.5e3,true,false,null,\"x\"]},\"title\":\"T\"}";
+
+            // When
+            ApiRequest.Article result = ApiJsonCodec.decodeArticleRequest(bytes(json));
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article(null, null, "T", null));
+        }
+
+        @Test
+        @DisplayName("When decoding an empty object, then should return an article with null fields")
+        void shouldReturnNullFields_whenDecodingEmptyObject() {
+            // When
+            ApiRequest.Article result = ApiJsonCodec.decodeArticleRequest(bytes("{}"));
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article(null, null, null, null));
+        }
+
+        @Test
+        @DisplayName("When decoding malformed JSON, then should throw IllegalArgumentException")
+        void shouldThrow_whenDecodingMalformedJson() {
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{\"id\":\"1\"")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{\"id\":\"1}")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{\"id\":\"\\x\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{\"id\":\"\\u12\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{\"id\":tru}")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{\"x\":}")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{} {}")))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes("{\"id\":\"a\nb\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("When decoding too deeply nested unknown fields, then should throw IllegalArgumentException")
+        void shouldThrow_whenDecodingTooDeeplyNestedFields() {
+            // Given
+            var json = "{\"x\":" + "[".repeat(64) + "]".repeat(64) + "}";
+
+            // When & Then
+            assertThatThrownBy(() -> ApiJsonCodec.decodeArticleRequest(bytes(json)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Nesting too deep");
+        }
+    }
+
+    private static byte[] bytes(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Unit tests for ApiJsonMessageConverter.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiJsonMessageConverter Tests")
+class ApiJsonMessageConverterTest {
+
+    private ApiJsonMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new ApiJsonMessageConverter();
+    }
+
+    @Nested
+    @DisplayName("Given supported types")
+    class SupportedTypesTests {
+
+        @Test
+        @DisplayName("When checking readable types, then should only read article requests as JSON")
+        void shouldOnlyReadArticleRequests_whenCheckingReadableTypes() {
+            assertThat(converter.canRead(ApiRequest.Article.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canRead(ApiRequest.Article.class, MediaType.APPLICATION_XML)).isFalse();
+            assertThat(converter.canRead(ApiResponse.Article.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canRead(String.class, MediaType.APPLICATION_JSON)).isFalse();
+        }
+
+        @Test
+        @DisplayName("When checking writable types, then should only write API responses as JSON")
+        void shouldOnlyWriteApiResponses_whenCheckingWritableTypes() {
+            assertThat(converter.canWrite(ApiResponse.Article.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canWrite(ApiResponseList.class, MediaType.APPLICATION_JSON)).isTrue();
+            assertThat(converter.canWrite(ApiResponse.Article.class, MediaType.APPLICATION_XML)).isFalse();
+            assertThat(converter.canWrite(ApiRequest.Article.class, MediaType.APPLICATION_JSON)).isFalse();
+            assertThat(converter.canWrite(List.class, MediaType.APPLICATION_JSON)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Given read method")
+    class ReadTests {
+
+        @Test
+        @DisplayName("When reading a valid body, then should return the article request")
+        void shouldReturnArticleRequest_whenReadingValidBody() throws IOException {
+            // Given
+            var input = input("{\"id\":\"1\",\"authorId\":\"a\",\"title\":\"T\",\"content\":\"C\"}");
+
+            // When
+            Object result = converter.read(ApiRequest.Article.class, input);
+
+            // Then
+            assertThat(result).isEqualTo(new ApiRequest.Article("1", "a", "T", "C"));
+        }
+
+        @Test
+        @DisplayName("When reading a malformed body, then should throw HttpMessageNotReadableException")
+        void shouldThrowNotReadable_whenReadingMalformedBody() throws IOException {
+            // Given
+            var input = input("{\"id\":");
+
+            // When & Then
+            assertThatThrownBy(() -> converter.read(ApiRequest.Article.class, input))
+                .isInstanceOf(HttpMessageNotReadableException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given write method")
+    class WriteTests {
+
+        @Test
+        @DisplayName("When writing an article, then should write its JSON and content length")
+        void shouldWriteJson_whenWritingArticle() throws IOException {
+            // Given
+            var body = new ByteArrayOutputStream();
+            var output = output(body);
+
+            // When
+            converter.write(new ApiResponse.Article("1", "A", "T", "C"), MediaType.APPLICATION_JSON, output);
+
+            // Then
+            var expected = "{\"id\":\"1\",\"author\":\"A\",\"title\":\"T\",\"content\":\"C\"}";
+            assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+            assertThat(output.getHeaders().getContentLength()).isEqualTo(expected.length());
+            assertThat(output.getHeaders().getContentType()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("When writing a list of responses, then should write a JSON array")
+        void shouldWriteArray_whenWritingList() throws IOException {
+            // Given
+            var body = new ByteArrayOutputStream();
+            var responses = new ApiResponseList(List.of(new ApiResponse.Article("1", "A", "T", "C")));
+
+            // When
+            converter.write(responses, MediaType.APPLICATION_JSON, output(body));
+
+            // Then
+            assertThat(body.toString(StandardCharsets.UTF_8))
+                .isEqualTo("[{\"id\":\"1\",\"author\":\"A\",\"title\":\"T\",\"content\":\"C\"}]");
+        }
+    }
+
+    private static HttpInputMessage input(final String json) throws IOException {
+        var input = mock(HttpInputMessage.class);
+        when(input.getBody()).thenReturn(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        when(input.getHeaders()).thenReturn(new HttpHeaders());
+        return input;
+    }
+
+    private static HttpOutputMessage output(final ByteArrayOutputStream body) throws IOException {
+        var output = mock(HttpOutputMessage.class);
+        var headers = new HttpHeaders();
+        when(output.getBody()).thenReturn(body);
+        when(output.getHeaders()).thenReturn(headers);
+        return output;
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ApiLogGate.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiLogGate Tests")
+class ApiLogGateTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    private SimpleMeterRegistry registry;
+    private AtomicLong clock;
+    private ApiLogGate logGate;
+    private ListAppender<ILoggingEvent> logs;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        logGate = new ApiLogGate(registry, 2, INTERVAL, clock::get);
+        logs = new ListAppender<>();
+        logs.start();
+        ((Logger) LoggerFactory.getLogger(ApiLogGate.class)).addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger(ApiLogGate.class)).detachAppender(logs);
+    }
+
+    @Test
+    @DisplayName("When acquiring within the permits, then should let the exceptions be logged")
+    void shouldLetExceptionsBeLogged_whenAcquiringWithinPermits() {
+        // When & Then
+        assertThat(logGate.tryAcquire(Level.WARN, new IllegalStateException("first"))).isTrue();
+        assertThat(logGate.tryAcquire(Level.WARN, new IllegalStateException("second"))).isTrue();
+        assertThat(counter("IllegalStateException", "logged")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("When exceeding the permits, then should suppress and count the exceptions")
+    void shouldSuppressExceptions_whenExceedingPermits() {
+        // Given
+        logGate.tryAcquire(Level.WARN, new IllegalStateException());
+        logGate.tryAcquire(Level.WARN, new IllegalStateException());
+
+        // When
+        boolean result = logGate.tryAcquire(Level.WARN, new IllegalStateException());
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(counter("IllegalStateException", "logged")).isEqualTo(2.0);
+        assertThat(counter("IllegalStateException", "suppressed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("When the interval elapses, then should grant the permits again")
+    void shouldGrantPermitsAgain_whenIntervalElapses() {
+        // Given
+        logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+        logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+        logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+
+        // When
+        clock.addAndGet(INTERVAL.toNanos());
+        boolean result = logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(counter("IllegalStateException", "logged")).isEqualTo(3.0);
+        assertThat(counter("IllegalStateException", "suppressed")).isEqualTo(1.0);
+        assertThat(logs.list).singleElement()
+            .satisfies(event -> assertThat(event.getFormattedMessage()).startsWith("Suppressed [1] occurrences"));
+    }
+
+    @Test
+    @DisplayName("When flushing after the interval elapses, then should log the suppressed ones without a later one")
+    void shouldLogSuppressed_whenFlushingAfterIntervalElapses() {
+        // Given
+        logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+        logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+        logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+        logGate.tryAcquire(Level.ERROR, new IllegalStateException());
+
+        // When
+        logGate.flush();
+        clock.addAndGet(INTERVAL.toNanos());
+        logGate.flush();
+        logGate.flush();
+
+        // Then
+        assertThat(logs.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(ch.qos.logback.classic.Level.ERROR);
+            assertThat(event.getFormattedMessage()).isEqualTo(
+                "Suppressed [2] occurrences of [java.lang.IllegalStateException] in the last [PT10S]");
+        });
+        assertThat(logGate.tryAcquire(Level.ERROR, new IllegalStateException())).isTrue();
+        assertThat(logs.list).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("When closing, then should log the suppressed ones before the interval elapses")
+    void shouldLogSuppressed_whenClosing() {
+        // Given
+        logGate.tryAcquire(Level.WARN, new IllegalStateException());
+        logGate.tryAcquire(Level.WARN, new IllegalStateException());
+        logGate.tryAcquire(Level.WARN, new IllegalStateException());
+
+        // When
+        logGate.close();
+
+        // Then
+        assertThat(logs.list).singleElement()
+            .satisfies(event -> assertThat(event.getFormattedMessage()).startsWith("Suppressed [1] occurrences"));
+    }
+
+    @Test
+    @DisplayName("When acquiring concurrently across intervals, then should count every occurrence exactly once")
+    void shouldCountEveryOccurrenceOnce_whenAcquiringConcurrentlyAcrossIntervals() throws InterruptedException {
+        // Given
+        var threads = new ArrayList<Thread>();
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    if (j % 100 == 0) {
+                        clock.addAndGet(INTERVAL.toNanos());
+                    }
+                    logGate.tryAcquire(Level.WARN, new IllegalStateException());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        logGate.close();
+
+        // Then
+        long reported = logs.list.stream().mapToLong(event -> (Long) event.getArgumentArray()[0]).sum();
+        assertThat(counter("IllegalStateException", "logged") + counter("IllegalStateException", "suppressed"))
+            .isEqualTo(8000.0);
+        assertThat(reported).isEqualTo((long) counter("IllegalStateException", "suppressed"));
+    }
+
+    @Test
+    @DisplayName("When acquiring for different exception types, then should keep separate permits")
+    void shouldKeepSeparatePermits_whenAcquiringForDifferentTypes() {
+        // Given
+        logGate.tryAcquire(Level.WARN, new IllegalStateException());
+        logGate.tryAcquire(Level.WARN, new IllegalStateException());
+
+        // When
+        boolean result = logGate.tryAcquire(Level.WARN, new UnsupportedOperationException());
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(counter("UnsupportedOperationException", "logged")).isEqualTo(1.0);
+    }
+
+    private double counter(final String exception, final String outcome) {
+        return registry.get(ApiLogGate.METRIC_NAME).tag("exception", exception).tag("outcome", outcome).counter()
+            .count();
+    }
+
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 
 /**
@@ -132,4 +133,36 @@ class ApiMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("Given toChangeResponse method")
+    class ToChangeResponseTests {
+
+        @Test
+        @DisplayName("When mapping an update, then should map the article it left")
+        void shouldMapArticle_whenMappingUpdate() {
+            // Given
+            var change = new ArticleChangeDTO(3, ArticleChangeDTO.Type.UPDATED, "article-1",
+                new ArticleDTO("article-1", "Title", "Content", "Author"));
+
+            // When
+            ApiResponse result = mapper.toChangeResponse(change);
+
+            // Then
+            assertThat(result).isEqualTo(new ApiResponse.Article("article-1", "Author", "Title", "Content"));
+        }
+
+        @Test
+        @DisplayName("When mapping a deletion, then should map a tombstone")
+        void shouldMapTombstone_whenMappingDeletion() {
+            // Given
+            var change = new ArticleChangeDTO(4, ArticleChangeDTO.Type.DELETED, "article-1", null);
+
+            // When
+            ApiResponse result = mapper.toChangeResponse(change);
+
+            // Then
+            assertThat(result).isEqualTo(new ApiResponse.Tombstone("article-1"));
+        }
+    }
+
 }
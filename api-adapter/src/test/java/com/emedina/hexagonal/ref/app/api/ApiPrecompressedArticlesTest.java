@@ -0,0 +1,292 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Unit tests for ApiPrecompressedArticles.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiPrecompressedArticles Tests")
+class ApiPrecompressedArticlesTest {
+
+    private SimpleMeterRegistry registry;
+    private ApiPrecompressedArticles precompressed;
+    private AtomicInteger encoded;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        precompressed = new ApiPrecompressedArticles(registry, DataSize.ofKilobytes(2));
+        encoded = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Given response method")
+    class ResponseTests {
+
+        @Test
+        @DisplayName("When gzip is accepted, then should answer the compressed body of the encoded articles")
+        void shouldAnswerCompressedBody_whenGzipAccepted() throws IOException {
+            // Given
+            var articles = articles(100);
+
+            // When
+            ResponseEntity<byte[]> response = precompressed.response(1, request(null, "gzip, deflate"),
+                counting(articles)).get();
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                .isEqualTo(ApiPrecompressedArticles.GZIP);
+            assertThat(response.getHeaders().getVary())
+                .containsExactly(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+            assertThat(gunzip(response.getBody())).isEqualTo(ApiJsonCodec.encode(articles).toByteArray());
+            assertThat(registry.get("articles.api.compression.ratio").summary().count()).isEqualTo(1);
+            assertThat(registry.get("articles.api.compression.ratio").summary().max()).isGreaterThan(1.0);
+            assertThat(registry.get("articles.api.compression.cpu").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("When gzip is not accepted, then should answer the identity body")
+        void shouldAnswerIdentityBody_whenGzipNotAccepted() {
+            // Given
+            var articles = articles(100);
+
+            // When
+            ResponseEntity<byte[]> response = precompressed.response(1, request(null, null), counting(articles))
+                .get();
+
+            // Then
+            assertThat(response.getHeaders().containsHeader(HttpHeaders.CONTENT_ENCODING)).isFalse();
+            assertThat(response.getHeaders().getVary())
+                .containsExactly(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+            assertThat(response.getBody()).isEqualTo(ApiJsonCodec.encode(articles).toByteArray());
+        }
+
+        @Test
+        @DisplayName("When the body is below the minimum size, then should answer it uncompressed")
+        void shouldAnswerUncompressed_whenBodyBelowMinimumSize() {
+            // Given
+            var articles = articles(1);
+
+            // When
+            ResponseEntity<byte[]> response = precompressed.response(1, request(null, "gzip"), counting(articles))
+                .get();
+
+            // Then
+            assertThat(response.getHeaders().containsHeader(HttpHeaders.CONTENT_ENCODING)).isFalse();
+            assertThat(response.getBody()).isEqualTo(ApiJsonCodec.encode(articles).toByteArray());
+            assertThat(registry.get("articles.api.compression.cpu").timer().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("When CBOR is preferred, then should answer the CBOR body")
+        void shouldAnswerCborBody_whenCborPreferred() {
+            // Given
+            var articles = articles(1);
+
+            // When
+            ResponseEntity<byte[]> response = precompressed.response(1, request("application/cbor", null),
+                counting(articles)).get();
+
+            // Then
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+            assertThat(response.getBody()).isEqualTo(ApiCborCodec.encode(articles).toByteArray());
+        }
+
+        @Test
+        @DisplayName("When no representation is acceptable, then should answer none")
+        void shouldAnswerNone_whenNoRepresentationAcceptable() {
+            // When
+            var response = precompressed.response(1, request("text/html", "gzip"), counting(articles(1)));
+
+            // Then
+            assertThat(response.isEmpty()).isTrue();
+            assertThat(encoded).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the cache")
+    class CacheTests {
+
+        @Test
+        @DisplayName("When the same version is read again, then should neither encode nor compress it again")
+        void shouldNotEncodeAgain_whenSameVersionRead() {
+            // Given
+            var articles = articles(100);
+            var first = precompressed.response(1, request(null, "gzip"), counting(articles)).get();
+
+            // When
+            var identity = precompressed.response(1, request(null, null), counting(articles)).get();
+            var compressed = precompressed.response(1, request(null, "gzip"), counting(articles)).get();
+
+            // Then
+            assertThat(encoded).hasValue(1);
+            assertThat(compressed.getBody()).isSameAs(first.getBody());
+            assertThat(identity.getBody()).isEqualTo(ApiJsonCodec.encode(articles).toByteArray());
+            assertThat(registry.get("articles.api.precompressed").tag("outcome", "hit").counter().count())
+                .isEqualTo(2.0);
+            assertThat(registry.get("articles.api.precompressed").tag("outcome", "miss").counter().count())
+                .isEqualTo(1.0);
+            assertThat(registry.get("articles.api.compression.cpu").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("When a newer version is read, then should encode it, and answer it to reads of older ones")
+        void shouldEncodeNewerVersion_andAnswerItToOlderReads() {
+            // Given
+            precompressed.response(1, request(null, null), counting(articles(1))).get();
+            var newer = articles(2);
+
+            // When
+            var second = precompressed.response(2, request(null, null), counting(newer)).get();
+            var older = precompressed.response(1, request(null, null), counting(articles(1))).get();
+
+            // Then
+            assertThat(encoded).hasValue(2);
+            assertThat(second.getBody()).isEqualTo(ApiJsonCodec.encode(newer).toByteArray());
+            assertThat(older.getBody()).isSameAs(second.getBody());
+        }
+
+        @Test
+        @DisplayName("When a version is read concurrently, then should keep a single variant of it")
+        void shouldKeepSingleVariant_whenVersionReadConcurrently() throws InterruptedException {
+            // Given
+            var articles = articles(100);
+            var bodies = new ConcurrentLinkedQueue<byte[]>();
+            var threads = new ArrayList<Thread>();
+
+            // When
+            for (int i = 0; i < 8; i++) {
+                threads.add(Thread.ofPlatform().start(() -> bodies.add(
+                    precompressed.response(1, request(null, "gzip"), counting(articles)).get().getBody())));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            var cached = precompressed.response(1, request(null, "gzip"), counting(articles)).get().getBody();
+
+            // Then
+            assertThat(bodies).hasSize(8);
+            assertThat(encoded.get()).isBetween(1, 8);
+            assertThat(bodies).anySatisfy(body -> assertThat(body).isSameAs(cached));
+        }
+
+        @Test
+        @DisplayName("When both representations are read, then should cache each of them")
+        void shouldCacheEachRepresentation_whenBothRead() {
+            // Given
+            var articles = articles(1);
+
+            // When
+            precompressed.response(1, request("application/json", null), counting(articles)).get();
+            precompressed.response(1, request("application/cbor", null), counting(articles)).get();
+            precompressed.response(1, request("application/json", null), counting(articles)).get();
+            precompressed.response(1, request("application/cbor", null), counting(articles)).get();
+
+            // Then
+            assertThat(encoded).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given negotiation")
+    class NegotiationTests {
+
+        @Test
+        @DisplayName("When negotiating the representation, then should prefer JSON unless CBOR weighs more")
+        void shouldPreferJsonUnlessCborWeighsMore_whenNegotiatingRepresentation() {
+            // When & Then
+            assertThat(ApiPrecompressedArticles.representationOf(null).get()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(ApiPrecompressedArticles.representationOf("*/*").get()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(ApiPrecompressedArticles.representationOf("application/cbor").get())
+                .isEqualTo(MediaType.APPLICATION_CBOR);
+            assertThat(ApiPrecompressedArticles.representationOf("application/json;q=0.5, application/cbor").get())
+                .isEqualTo(MediaType.APPLICATION_CBOR);
+            assertThat(ApiPrecompressedArticles.representationOf("application/json, application/cbor;q=0.9").get())
+                .isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(ApiPrecompressedArticles.representationOf("application/json;q=0, */*").get())
+                .isEqualTo(MediaType.APPLICATION_CBOR);
+        }
+
+        @Test
+        @DisplayName("When neither representation is acceptable, then should negotiate none")
+        void shouldNegotiateNone_whenNeitherRepresentationAcceptable() {
+            // When & Then
+            assertThat(ApiPrecompressedArticles.representationOf("text/html").isEmpty()).isTrue();
+            assertThat(ApiPrecompressedArticles.representationOf("application/json;q=0, application/cbor;q=0")
+                .isEmpty()).isTrue();
+            assertThat(ApiPrecompressedArticles.representationOf("not a media type").isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("When negotiating the encoding, then should accept gzip by name or wildcard with some quality")
+        void shouldAcceptGzipByNameOrWildcard_whenNegotiatingEncoding() {
+            // When & Then
+            assertThat(ApiPrecompressedArticles.acceptsGzip(null)).isFalse();
+            assertThat(ApiPrecompressedArticles.acceptsGzip("br")).isFalse();
+            assertThat(ApiPrecompressedArticles.acceptsGzip("gzip, deflate, br")).isTrue();
+            assertThat(ApiPrecompressedArticles.acceptsGzip("GZIP;q=0.5")).isTrue();
+            assertThat(ApiPrecompressedArticles.acceptsGzip("gzip;q=0")).isFalse();
+            assertThat(ApiPrecompressedArticles.acceptsGzip("*")).isTrue();
+            assertThat(ApiPrecompressedArticles.acceptsGzip("*;q=0.5, gzip;q=0")).isFalse();
+        }
+    }
+
+    private Supplier<List<ApiResponse>> counting(final List<ApiResponse> articles) {
+        return () -> {
+            encoded.incrementAndGet();
+            return articles;
+        };
+    }
+
+    private static HttpServletRequest request(final String accept, final String acceptEncoding) {
+        var request = mock(HttpServletRequest.class);
+        when(request.getHeader(HttpHeaders.ACCEPT)).thenReturn(accept);
+        when(request.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn(acceptEncoding);
+        return request;
+    }
+
+    private static List<ApiResponse> articles(final int count) {
+        var articles = new ArrayList<ApiResponse>();
+        for (int i = 0; i < count; i++) {
+            articles.add(new ApiResponse.Article("article-" + i, "Author " + i, "Title " + i,
+                "Content of article " + i));
+        }
+        return articles;
+    }
+
+    private static byte[] gunzip(final byte[] body) throws IOException {
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Unit tests for ApiProblemEncoder.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class ApiProblemEncoderTest {
+
+    private static final byte[] PREFIX = "Value [".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "]".getBytes(StandardCharsets.UTF_8);
+
+    @Nested
+    @DisplayName("Given encodeConstant method")
+    class EncodeConstantTests {
+
+        @Test
+        @DisplayName("When encoding a constant problem, then should render a single about:blank problem")
+        void shouldRenderSingleProblem_whenEncodingConstant() {
+            // When
+            byte[] result = ApiProblemEncoder.encodeConstant(HttpStatus.BAD_REQUEST, "Invalid request body");
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(
+                "{\"type\":\"about:blank\",\"title\":\"Bad Request\",\"status\":400,\"detail\":\"Invalid request body\"}");
+        }
+
+        @Test
+        @DisplayName("When creating a constant response, then should reuse the body with problem+json content type")
+        void shouldReuseBody_whenCreatingConstantResponse() {
+            // Given
+            byte[] body = ApiProblemEncoder.encodeConstant(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error");
+
+            // When
+            ResponseEntity<byte[]> result = ApiProblemEncoder.createConstantResponse(HttpStatus.INTERNAL_SERVER_ERROR, body);
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+            assertThat(result.getBody()).isSameAs(body);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given writer")
+    class WriterTests {
+
+        @Test
+        @DisplayName("When writing a single problem with instance, then should render an array with its status")
+        void shouldRenderArrayWithStatus_whenWritingSingleProblem() {
+            // When
+            ResponseEntity<byte[]> result = ApiProblemEncoder.writer("/api/articles")
+                .beginProblem(HttpStatus.NOT_FOUND)
+                .literal(PREFIX).value("123").literal(SUFFIX)
+                .endProblem(true)
+                .toResponse();
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+            assertThat(new String(result.getBody(), StandardCharsets.UTF_8)).isEqualTo(
+                "[{\"type\":\"/api/articles\",\"title\":\"Not Found\",\"status\":404,\"detail\":\"Value [123]\","
+                    + "\"instance\":\"/api/articles\"}]");
+        }
+
+        @Test
+        @DisplayName("When writing several problems, then should use I_AM_A_TEAPOT status")
+        void shouldUseTeapotStatus_whenWritingSeveralProblems() {
+            // When
+            ResponseEntity<byte[]> result = ApiProblemEncoder.writer("/api/articles")
+                .beginProblem(HttpStatus.BAD_REQUEST).value("a").endProblem(false)
+                .beginProblem(HttpStatus.NOT_FOUND).value("b").endProblem(false)
+                .toResponse();
+
+            // Then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+            assertThat(new String(result.getBody(), StandardCharsets.UTF_8))
+                .startsWith("[{")
+                .contains("},{")
+                .endsWith("}]");
+        }
+
+        @Test
+        @DisplayName("When writing values with special characters, then should escape them")
+        void shouldEscapeValues_whenWritingSpecialCharacters() {
+            // When
+            byte[] result = ApiProblemEncoder.encodeConstant(HttpStatus.BAD_REQUEST, "a\"b\\c\nd é €");
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"detail\":\"a\\\"b\\\\c\\u000ad é €\"");
+        }
+
+        @Test
+        @DisplayName("When writing a null value, then should render null")
+        void shouldRenderNull_whenWritingNullValue() {
+            // When
+            byte[] result = ApiProblemEncoder.writer("/api/articles")
+                .beginProblem(HttpStatus.BAD_REQUEST).literal(PREFIX).value(null).literal(SUFFIX).endProblem(false)
+                .toByteArray();
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8)).contains("\"detail\":\"Value [null]\"");
+        }
+
+        @Test
+        @DisplayName("When writing an oversized value, then should cap it with an ellipsis")
+        void shouldCapValue_whenWritingOversizedValue() {
+            // Given
+            String value = "x".repeat(ApiProblemEncoder.MAX_VALUE_LENGTH * 4);
+
+            // When
+            byte[] result = ApiProblemEncoder.encodeConstant(HttpStatus.BAD_REQUEST, value);
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8))
+                .contains("\"detail\":\"" + "x".repeat(ApiProblemEncoder.MAX_VALUE_LENGTH) + "…\"");
+        }
+
+        @Test
+        @DisplayName("When writing an oversized list, then should cap its elements")
+        void shouldCapList_whenWritingOversizedList() {
+            // Given
+            List<Integer> list = IntStream.range(0, ApiProblemEncoder.MAX_LIST_ELEMENTS + 3).boxed().toList();
+
+            // When
+            byte[] result = ApiProblemEncoder.writer("/api/articles")
+                .beginProblem(HttpStatus.BAD_REQUEST).value(list).endProblem(false)
+                .toByteArray();
+
+            // Then
+            assertThat(new String(result, StandardCharsets.UTF_8))
+                .contains("\"detail\":\"[0, 1, 2, 3, 4, 5, 6, 7, (+3 more)]\"");
+        }
+    }
+
+}
@@ -319,4 +319,20 @@ class ApiResponseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Given ApiResponse.Tombstone")
+    class ApiResponseTombstoneTests {
+
+        @Test
+        @DisplayName("When creating Tombstone, then should store the id of the deleted article")
+        void shouldCreateTombstone_whenIdProvided() {
+            // When
+            ApiResponse.Tombstone result = new ApiResponse.Tombstone("article-123");
+
+            // Then
+            assertThat(result.id()).isEqualTo("article-123");
+            assertThat(result).isInstanceOf(ApiResponse.class);
+        }
+    }
+
 }
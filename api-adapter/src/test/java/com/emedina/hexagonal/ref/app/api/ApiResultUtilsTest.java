@@ -2,14 +2,12 @@ package com.emedina.hexagonal.ref.app.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.net.URI;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 
 /**
@@ -131,85 +129,36 @@ class ApiResultUtilsTest {
     }
 
     @Nested
-    @DisplayName("Given createFailureResponse method")
-    class CreateFailureResponseTests {
+    @DisplayName("Given createSyncResponse method")
+    class CreateSyncResponseTests {
 
         @Test
-        @DisplayName("When creating failure response with single problem detail, then should return response with that problem's status")
-        void shouldReturnResponseWithProblemStatus_whenCreatingFailureResponseWithSingleProblem() {
+        @DisplayName("When creating a delta sync response, then should tell the high-water mark and the delta")
+        void shouldTellHighWaterMarkAndDelta_whenCreatingDeltaSyncResponse() {
             // Given
-            var problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-            problemDetail.setDetail("Test error detail");
-            var problemDetails = List.of(problemDetail);
-            var uri = URI.create("/api/test");
+            List<ApiResponse> response = List.of(new ApiResponse.Tombstone("article-1"));
 
             // When
-            ResponseEntity<List<ProblemDetail>> result = ApiResultUtils.createFailureResponse(problemDetails, uri);
+            ResponseEntity<List<ApiResponse>> result = ApiResultUtils.createSyncResponse(12, false, response);
 
             // Then
-            assertThat(result).isNotNull();
-            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-            assertThat(result.getBody()).hasSize(1);
-            assertThat(result.getBody().get(0).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
-            assertThat(result.getBody().get(0).getDetail()).isEqualTo("Test error detail");
-            assertThat(result.getBody().get(0).getType()).isEqualTo(uri);
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(result.getHeaders().getFirst(ApiConsistency.VERSION_HEADER)).isEqualTo("12");
+            assertThat(result.getHeaders().getFirst(ApiResultUtils.SYNC_HEADER)).isEqualTo("delta");
+            assertThat(result.getBody()).isInstanceOf(ApiResponseList.class).isEqualTo(response);
         }
 
         @Test
-        @DisplayName("When creating failure response with multiple problem details, then should return response with I_AM_A_TEAPOT status")
-        void shouldReturnResponseWithTeapotStatus_whenCreatingFailureResponseWithMultipleProblems() {
-            // Given
-            var problemDetail1 = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-            problemDetail1.setDetail("Error 1");
-            var problemDetail2 = ProblemDetail.forStatus(HttpStatus.NOT_FOUND.value());
-            problemDetail2.setDetail("Error 2");
-            var problemDetails = List.of(problemDetail1, problemDetail2);
-            var uri = URI.create("/api/test");
-
+        @DisplayName("When creating a full sync response, then should tell it is in full")
+        void shouldTellFull_whenCreatingFullSyncResponse() {
             // When
-            ResponseEntity<List<ProblemDetail>> result = ApiResultUtils.createFailureResponse(problemDetails, uri);
+            ResponseEntity<List<ApiResponse>> result = ApiResultUtils.createSyncResponse(-1, true, List.of());
 
             // Then
-            assertThat(result).isNotNull();
-            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
-            assertThat(result.getBody()).hasSize(2);
-            assertThat(result.getBody().get(0).getType()).isEqualTo(uri);
-            assertThat(result.getBody().get(1).getType()).isEqualTo(uri);
-        }
-
-        @Test
-        @DisplayName("When creating failure response with empty problem details list, then should return response with I_AM_A_TEAPOT status")
-        void shouldReturnResponseWithTeapotStatus_whenCreatingFailureResponseWithEmptyProblemsList() {
-            // Given
-            var problemDetails = List.<ProblemDetail>of();
-            var uri = URI.create("/api/test");
-
-            // When
-            ResponseEntity<List<ProblemDetail>> result = ApiResultUtils.createFailureResponse(problemDetails, uri);
-
-            // Then
-            assertThat(result).isNotNull();
-            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+            assertThat(result.getHeaders().getFirst(ApiConsistency.VERSION_HEADER)).isEqualTo("-1");
+            assertThat(result.getHeaders().getFirst(ApiResultUtils.SYNC_HEADER)).isEqualTo("full");
             assertThat(result.getBody()).isEmpty();
         }
-
-        @Test
-        @DisplayName("When creating failure response with null URI, then should handle null URI gracefully")
-        void shouldHandleNullUri_whenCreatingFailureResponseWithNullUri() {
-            // Given
-            var problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-            var problemDetails = List.of(problemDetail);
-            URI uri = URI.create("about:blank");
-
-            // When
-            ResponseEntity<List<ProblemDetail>> result = ApiResultUtils.createFailureResponse(problemDetails, uri);
-
-            // Then
-            assertThat(result).isNotNull();
-            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-            assertThat(result.getBody()).hasSize(1);
-            assertThat(result.getBody().get(0).getType()).isEqualTo(uri);
-        }
     }
 
 }
@@ -0,0 +1,233 @@
+package com.emedina.hexagonal.ref.app.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for ApiSchema, checking that neither the schema nor the hand-written codecs drift from the API records:
+ * every component of a record must have a field in the schema and make it through every codec.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ApiSchema Tests")
+class ApiSchemaTest {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    @Nested
+    @DisplayName("Given the schema fields")
+    class FieldsTests {
+
+        @Test
+        @DisplayName("When comparing the article request fields, then should match the record components in order")
+        void shouldMatchComponentsInOrder_whenComparingArticleRequestFields() {
+            // When
+            var fields = Arrays.stream(ApiSchema.ArticleRequest.values()).map(ApiSchema.ArticleRequest::fieldName);
+
+            // Then
+            assertThat(fields).containsExactlyElementsOf(componentNames(ApiRequest.Article.class));
+        }
+
+        @Test
+        @DisplayName("When comparing the article response fields, then should match the record components in order")
+        void shouldMatchComponentsInOrder_whenComparingArticleResponseFields() {
+            // When
+            var fields = Arrays.stream(ApiSchema.ArticleResponse.values()).map(ApiSchema.ArticleResponse::fieldName);
+
+            // Then
+            assertThat(fields).containsExactlyElementsOf(componentNames(ApiResponse.Article.class));
+        }
+
+        @Test
+        @DisplayName("When comparing the tombstone fields, then should cover the record components")
+        void shouldCoverComponents_whenComparingTombstoneFields() {
+            // When
+            var fields = Arrays.stream(ApiSchema.TombstoneResponse.values())
+                .map(ApiSchema.TombstoneResponse::fieldName);
+
+            // Then
+            assertThat(fields).containsAll(componentNames(ApiResponse.Tombstone.class));
+        }
+
+        @Test
+        @DisplayName("When comparing the keys, then should never reuse one for another field")
+        void shouldNeverReuseKeyForAnotherField_whenComparingKeys() {
+            // When
+            var requestKeys = Arrays.stream(ApiSchema.ArticleRequest.values()).map(ApiSchema.ArticleRequest::key);
+            var responseKeys = Arrays.stream(ApiSchema.ArticleResponse.values()).map(ApiSchema.ArticleResponse::key);
+
+            // Then
+            assertThat(requestKeys).doesNotHaveDuplicates();
+            assertThat(responseKeys).doesNotHaveDuplicates();
+            assertThat(ApiSchema.TombstoneResponse.values()).allSatisfy(field -> assertThat(
+                Arrays.stream(ApiSchema.ArticleResponse.values()).filter(article -> article.key() == field.key()))
+                .allSatisfy(article -> assertThat(article.fieldName()).isEqualTo(field.fieldName())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the JSON codec")
+    class JsonCodecTests {
+
+        @Test
+        @DisplayName("When encoding an article, then should write every record component")
+        void shouldWriteEveryComponent_whenEncodingArticle() {
+            // Given
+            var article = sample(ApiResponse.Article.class);
+
+            // When
+            var result = readJson(ApiJsonCodec.encode(article).toByteArray());
+
+            // Then
+            assertThat(result).isEqualTo(componentsOf(article));
+        }
+
+        @Test
+        @DisplayName("When encoding a tombstone, then should write every record component")
+        void shouldWriteEveryComponent_whenEncodingTombstone() {
+            // Given
+            var tombstone = sample(ApiResponse.Tombstone.class);
+
+            // When
+            var result = JSON_MAPPER.readValue(ApiJsonCodec.encode(List.of(tombstone)).toByteArray(),
+                new TypeReference<List<Map<String, Object>>>() {
+                });
+
+            // Then
+            assertThat(result).singleElement().satisfies(map -> assertThat(map).containsAllEntriesOf(
+                componentsOf(tombstone)));
+        }
+
+        @Test
+        @DisplayName("When decoding an article request, then should read every record component")
+        void shouldReadEveryComponent_whenDecodingArticleRequest() {
+            // Given
+            var request = sample(ApiRequest.Article.class);
+            var json = JSON_MAPPER.writeValueAsBytes(componentsOf(request));
+
+            // When
+            var result = ApiJsonCodec.decodeArticleRequest(json);
+
+            // Then
+            assertThat(result).isEqualTo(request);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the CBOR codec")
+    class CborCodecTests {
+
+        @Test
+        @DisplayName("When encoding an article, then should write every record component under its key")
+        void shouldWriteEveryComponentUnderItsKey_whenEncodingArticle() {
+            // Given
+            var article = sample(ApiResponse.Article.class);
+
+            // When
+            var result = HEX.formatHex(ApiCborCodec.encode(article).toByteArray());
+
+            // Then
+            assertThat(result).startsWith(HEX.toHexDigits((byte) (0xA0 + componentsOf(article).size())));
+            componentsOf(article).forEach((name, value) -> assertThat(result)
+                .contains(entry(ApiSchema.ArticleResponse.valueOf(constantOf(name)).key(), value)));
+        }
+
+        @Test
+        @DisplayName("When encoding a tombstone, then should write every record component under its key")
+        void shouldWriteEveryComponentUnderItsKey_whenEncodingTombstone() {
+            // Given
+            var tombstone = sample(ApiResponse.Tombstone.class);
+
+            // When
+            var result = HEX.formatHex(ApiCborCodec.encode(List.of(tombstone)).toByteArray());
+
+            // Then
+            componentsOf(tombstone).forEach((name, value) -> assertThat(result)
+                .contains(entry(ApiSchema.TombstoneResponse.valueOf(constantOf(name)).key(), value)));
+        }
+
+        @Test
+        @DisplayName("When decoding an article request, then should read every record component under its key")
+        void shouldReadEveryComponentUnderItsKey_whenDecodingArticleRequest() {
+            // Given
+            var request = sample(ApiRequest.Article.class);
+            var components = componentsOf(request);
+            var cbor = new StringBuilder(HEX.toHexDigits((byte) (0xA0 + components.size())));
+            components.forEach((name, value) -> cbor.append(
+                entry(ApiSchema.ArticleRequest.valueOf(constantOf(name)).key(), value)));
+
+            // When
+            var result = ApiCborCodec.decodeArticleRequest(HEX.parseHex(cbor));
+
+            // Then
+            assertThat(result).isEqualTo(request);
+        }
+    }
+
+    private static List<String> componentNames(final Class<? extends Record> type) {
+        return Arrays.stream(type.getRecordComponents()).map(RecordComponent::getName).toList();
+    }
+
+    /**
+     * Creates an instance of the given record whose every component holds a distinct value naming it.
+     */
+    private static <R extends Record> R sample(final Class<R> type) {
+        final RecordComponent[] components = type.getRecordComponents();
+        try {
+            return type.getDeclaredConstructor(Arrays.stream(components).map(RecordComponent::getType)
+                .toArray(Class<?>[]::new))
+                .newInstance(Arrays.stream(components).map(component -> "v-" + component.getName()).toArray());
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> componentsOf(final Record record) {
+        final Map<String, Object> components = new LinkedHashMap<>();
+        for (final RecordComponent component : record.getClass().getRecordComponents()) {
+            try {
+                components.put(component.getName(), component.getAccessor().invoke(record));
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return components;
+    }
+
+    private static Map<String, Object> readJson(final byte[] json) {
+        return JSON_MAPPER.readValue(json, new TypeReference<Map<String, Object>>() {
+        });
+    }
+
+    /**
+     * Name of the schema constant of a component, e.g. {@code AUTHOR_ID} for {@code authorId}.
+     */
+    private static String constantOf(final String componentName) {
+        return componentName.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Hex of a CBOR map entry with a small unsigned key and a short text value.
+     */
+    private static String entry(final int key, final Object value) {
+        final byte[] text = ((String) value).getBytes(StandardCharsets.UTF_8);
+        return HEX.toHexDigits((byte) key) + HEX.toHexDigits((byte) (0x60 + text.length)) + HEX.formatHex(text);
+    }
+
+}
@@ -3,9 +3,14 @@ package com.emedina.hexagonal.ref.app.api;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,21 +21,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ProblemDetail;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand;
 import com.emedina.hexagonal.ref.app.application.command.DeleteArticleCommand;
 import com.emedina.hexagonal.ref.app.application.command.UpdateArticleCommand;
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
 import com.emedina.hexagonal.ref.app.application.query.FindArticleQuery;
+import com.emedina.hexagonal.ref.app.application.query.GetArticleChangesQuery;
 import com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery;
+import com.emedina.hexagonal.ref.app.application.query.WatchArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
 import com.emedina.sharedkernel.command.core.CommandBus;
 import com.emedina.sharedkernel.query.core.QueryBus;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.control.Either;
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -60,7 +76,9 @@ class ArticleControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new ArticleController(commandBus, queryBus, apiErrorHandler);
+        controller = new ArticleController(commandBus, queryBus, apiErrorHandler,
+            new ApiConsistency(ApiConsistency.Mode.READ_YOUR_WRITES),
+            new ApiPrecompressedArticles(new SimpleMeterRegistry(), DataSize.ofKilobytes(2)));
         when(mockRequest.getRequestURI()).thenReturn("/api/articles");
     }
 
@@ -85,7 +103,7 @@ class ArticleControllerTest {
             );
 
             // When
-            ResponseEntity<?> response = controller.get(mockRequest);
+            ResponseEntity<?> response = controller.get(null, mockRequest);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -99,6 +117,48 @@ class ArticleControllerTest {
             verify(queryBus).query(any(GetAllArticlesQuery.class));
         }
 
+        @Test
+        @DisplayName("When all articles are served from the read model, then should answer their encoded body")
+        void shouldAnswerEncodedBody_whenServedFromReadModel() {
+            // Given
+            List<ArticleDTO> articles = List.of(new ArticleDTO("article-1", "Title 1", "Content 1", "Author 1"));
+
+            when(queryBus.query(any(GetAllArticlesQuery.class))).thenAnswer(invocation -> {
+                ConsistencyToken.recordRead(3);
+                return Either.right(articles);
+            });
+
+            // When
+            ResponseEntity<?> response = controller.get(null, mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat((byte[]) response.getBody()).isEqualTo(ApiJsonCodec.encode(
+                List.of(new ApiResponse.Article("article-1", "Author 1", "Title 1", "Content 1"))).toByteArray());
+        }
+
+        @Test
+        @DisplayName("When no precompressed representation is acceptable, then should leave the body to converters")
+        void shouldLeaveBodyToConverters_whenNoPrecompressedRepresentationAcceptable() {
+            // Given
+            List<ArticleDTO> articles = List.of(new ArticleDTO("article-1", "Title 1", "Content 1", "Author 1"));
+
+            when(mockRequest.getHeader(HttpHeaders.ACCEPT)).thenReturn("text/html");
+            when(queryBus.query(any(GetAllArticlesQuery.class))).thenAnswer(invocation -> {
+                ConsistencyToken.recordRead(3);
+                return Either.right(articles);
+            });
+
+            // When
+            ResponseEntity<?> response = controller.get(null, mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo(
+                List.of(new ApiResponse.Article("article-1", "Author 1", "Title 1", "Content 1")));
+        }
+
         @Test
         @DisplayName("When getting all articles returns empty list, then should return OK with empty list")
         void shouldReturnOkWithEmptyList_whenGettingAllArticlesReturnsEmptyList() {
@@ -108,7 +168,7 @@ class ArticleControllerTest {
             when(queryBus.query(any(GetAllArticlesQuery.class))).thenReturn(Either.right(emptyList));
 
             // When
-            ResponseEntity<?> response = controller.get(mockRequest);
+            ResponseEntity<?> response = controller.get(null, mockRequest);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -129,28 +189,22 @@ class ArticleControllerTest {
 
             when(queryBus.query(any(GetAllArticlesQuery.class))).thenReturn(Either.left(error));
 
-            ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            problemDetail.setDetail("Internal server error [Database connection failed]");
-            List<ProblemDetail> problemDetails = List.of(problemDetail);
+            ResponseEntity<byte[]> failureResponse = ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("[{\"detail\":\"Internal server error [Database connection failed]\"}]".getBytes(StandardCharsets.UTF_8));
 
-            when(apiErrorHandler.mapErrorToProblemDetail(eq(error), any(HttpServletRequest.class)))
-                .thenReturn(problemDetails);
+            when(apiErrorHandler.createFailureResponse(eq(error), any(HttpServletRequest.class)))
+                .thenReturn(failureResponse);
 
             // When
-            ResponseEntity<?> response = controller.get(mockRequest);
+            ResponseEntity<?> response = controller.get(null, mockRequest);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
-            assertThat(response.getBody()).isInstanceOf(List.class);
-
-            @SuppressWarnings("unchecked")
-            List<ProblemDetail> actualProblemDetails = (List<ProblemDetail>) response.getBody();
-
-            assertThat(actualProblemDetails).hasSize(1);
-            assertThat(actualProblemDetails.get(0).getDetail()).contains("Database connection failed");
+            assertThat(response).isSameAs(failureResponse);
+            assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).contains("Database connection failed");
 
             verify(queryBus).query(any(GetAllArticlesQuery.class));
-            verify(apiErrorHandler).mapErrorToProblemDetail(eq(error), any(HttpServletRequest.class));
+            verify(apiErrorHandler).createFailureResponse(eq(error), any(HttpServletRequest.class));
         }
 
         @Test
@@ -169,12 +223,11 @@ class ArticleControllerTest {
             // This is a simplified approach since we can't easily mock static methods
             // In a real test, you might use PowerMockito or refactor to make testing easier
 
-            ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-            problemDetail.setDetail("Invalid value provided [Invalid query parameter]");
-            List<ProblemDetail> problemDetails = List.of(problemDetail);
+            ResponseEntity<byte[]> failureResponse = ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("[{\"detail\":\"Invalid value provided [Invalid query parameter]\"}]".getBytes(StandardCharsets.UTF_8));
 
-            when(apiErrorHandler.mapErrorToProblemDetail(eq(validationError), any(HttpServletRequest.class)))
-                .thenReturn(problemDetails);
+            when(apiErrorHandler.createFailureResponse(eq(validationError), any(HttpServletRequest.class)))
+                .thenReturn(failureResponse);
 
             // When - This test is conceptual since we can't easily mock the static method
             // The actual implementation would need to handle this scenario
@@ -222,28 +275,22 @@ class ArticleControllerTest {
 
             when(queryBus.query(any(FindArticleQuery.class))).thenReturn(Either.left(error));
 
-            ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.NOT_FOUND.value());
-            problemDetail.setDetail("Article with id [non-existent-id] not found");
-            List<ProblemDetail> problemDetails = List.of(problemDetail);
+            ResponseEntity<byte[]> failureResponse = ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body("[{\"detail\":\"Article with id [non-existent-id] not found\"}]".getBytes(StandardCharsets.UTF_8));
 
-            when(apiErrorHandler.mapErrorToProblemDetail(eq(error), any(HttpServletRequest.class)))
-                .thenReturn(problemDetails);
+            when(apiErrorHandler.createFailureResponse(eq(error), any(HttpServletRequest.class)))
+                .thenReturn(failureResponse);
 
             // When
             ResponseEntity<?> response = controller.find(articleId, mockRequest);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
-            assertThat(response.getBody()).isInstanceOf(List.class);
-
-            @SuppressWarnings("unchecked")
-            List<ProblemDetail> actualProblemDetails = (List<ProblemDetail>) response.getBody();
-
-            assertThat(actualProblemDetails).hasSize(1);
-            assertThat(actualProblemDetails.get(0).getDetail()).contains("not found");
+            assertThat(response).isSameAs(failureResponse);
+            assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).contains("not found");
 
             verify(queryBus).query(any(FindArticleQuery.class));
-            verify(apiErrorHandler).mapErrorToProblemDetail(eq(error), any(HttpServletRequest.class));
+            verify(apiErrorHandler).createFailureResponse(eq(error), any(HttpServletRequest.class));
         }
 
         @Nested
@@ -278,27 +325,21 @@ class ArticleControllerTest {
                     "", "author-456", "", "New Article Content"
                 );
 
-                ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-                problemDetail.setDetail("Must have content [id], Must have content [title]");
-                List<ProblemDetail> problemDetails = List.of(problemDetail);
+                ResponseEntity<byte[]> failureResponse = ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("[{\"detail\":\"Must have content [id], Must have content [title]\"}]".getBytes(StandardCharsets.UTF_8));
 
-                when(apiErrorHandler.mapErrorToProblemDetail(any(Error.class), any(HttpServletRequest.class)))
-                    .thenReturn(problemDetails);
+                when(apiErrorHandler.createFailureResponse(any(Error.class), any(HttpServletRequest.class)))
+                    .thenReturn(failureResponse);
 
                 // When
                 ResponseEntity<?> response = controller.create(invalidArticleRequest, mockRequest);
 
                 // Then
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-                assertThat(response.getBody()).isInstanceOf(List.class);
+                assertThat(response).isSameAs(failureResponse);
+                assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).contains("Must have content");
 
-                @SuppressWarnings("unchecked")
-                List<ProblemDetail> actualProblemDetails = (List<ProblemDetail>) response.getBody();
-
-                assertThat(actualProblemDetails).hasSize(1);
-                assertThat(actualProblemDetails.get(0).getDetail()).contains("Must have content");
-
-                verify(apiErrorHandler).mapErrorToProblemDetail(any(Error.class), any(HttpServletRequest.class));
+                verify(apiErrorHandler).createFailureResponse(any(Error.class), any(HttpServletRequest.class));
             }
         }
 
@@ -334,27 +375,21 @@ class ArticleControllerTest {
                     "article-123", "", "", "Updated Content"
                 );
 
-                ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-                problemDetail.setDetail("Must have content [authorId], Must have content [title]");
-                List<ProblemDetail> problemDetails = List.of(problemDetail);
+                ResponseEntity<byte[]> failureResponse = ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("[{\"detail\":\"Must have content [authorId], Must have content [title]\"}]".getBytes(StandardCharsets.UTF_8));
 
-                when(apiErrorHandler.mapErrorToProblemDetail(any(Error.class), any(HttpServletRequest.class)))
-                    .thenReturn(problemDetails);
+                when(apiErrorHandler.createFailureResponse(any(Error.class), any(HttpServletRequest.class)))
+                    .thenReturn(failureResponse);
 
                 // When
                 ResponseEntity<?> response = controller.update(invalidArticleRequest, mockRequest);
 
                 // Then
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-                assertThat(response.getBody()).isInstanceOf(List.class);
-
-                @SuppressWarnings("unchecked")
-                List<ProblemDetail> actualProblemDetails = (List<ProblemDetail>) response.getBody();
+                assertThat(response).isSameAs(failureResponse);
+                assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).contains("Must have content");
 
-                assertThat(actualProblemDetails).hasSize(1);
-                assertThat(actualProblemDetails.get(0).getDetail()).contains("Must have content");
-
-                verify(apiErrorHandler).mapErrorToProblemDetail(any(Error.class), any(HttpServletRequest.class));
+                verify(apiErrorHandler).createFailureResponse(any(Error.class), any(HttpServletRequest.class));
             }
         }
     }
@@ -387,27 +422,204 @@ class ArticleControllerTest {
             // Given
             String invalidArticleId = "";
 
-            ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST.value());
-            problemDetail.setDetail("Must have content [articleId]");
-            List<ProblemDetail> problemDetails = List.of(problemDetail);
+            ResponseEntity<byte[]> failureResponse = ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("[{\"detail\":\"Must have content [articleId]\"}]".getBytes(StandardCharsets.UTF_8));
 
-            when(apiErrorHandler.mapErrorToProblemDetail(any(Error.class), any(HttpServletRequest.class)))
-                .thenReturn(problemDetails);
+            when(apiErrorHandler.createFailureResponse(any(Error.class), any(HttpServletRequest.class)))
+                .thenReturn(failureResponse);
 
             // When
             ResponseEntity<?> response = controller.delete(invalidArticleId, mockRequest);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-            assertThat(response.getBody()).isInstanceOf(List.class);
+            assertThat(response).isSameAs(failureResponse);
+            assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).contains("Must have content");
 
-            @SuppressWarnings("unchecked")
-            List<ProblemDetail> actualProblemDetails = (List<ProblemDetail>) response.getBody();
+            verify(apiErrorHandler).createFailureResponse(any(Error.class), any(HttpServletRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an expired request deadline")
+    class ExpiredDeadlineTests {
+
+        @Test
+        @DisplayName("When dispatching a query, then should shed it without reaching the bus")
+        void shouldShedQuery_whenDeadlineExpired() {
+            // Given
+            when(mockRequest.getAttribute(any())).thenReturn(Deadline.after(Duration.ZERO));
+            var expectedError = new Error.TechnicalError.DeadlineExceeded("dispatch");
+            when(apiErrorHandler.createFailureResponse(expectedError, mockRequest))
+                .thenReturn(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new byte[0]));
+
+            // When
+            ResponseEntity<?> response = controller.get(null, mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            verify(queryBus, never()).query(any(GetAllArticlesQuery.class));
+        }
 
-            assertThat(actualProblemDetails).hasSize(1);
-            assertThat(actualProblemDetails.get(0).getDetail()).contains("Must have content");
+        @Test
+        @DisplayName("When dispatching a command, then should shed it without reaching the bus")
+        void shouldShedCommand_whenDeadlineExpired() {
+            // Given
+            when(mockRequest.getAttribute(any())).thenReturn(Deadline.after(Duration.ZERO));
+            var expectedError = new Error.TechnicalError.DeadlineExceeded("dispatch");
+            when(apiErrorHandler.createFailureResponse(expectedError, mockRequest))
+                .thenReturn(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new byte[0]));
+
+            // When
+            ResponseEntity<?> response = controller.delete("article-1", mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            verify(commandBus, never()).execute(any(DeleteArticleCommand.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the consistency of the reads")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("When a command writes a version, then should answer with it")
+        void shouldAnswerWithVersion_whenCommandWrites() {
+            // Given
+            when(commandBus.execute(any(DeleteArticleCommand.class))).thenAnswer(invocation -> {
+                ConsistencyToken.recordWrite(7);
+                return Either.right(null);
+            });
+
+            // When
+            ResponseEntity<?> response = controller.delete("article-1", mockRequest);
 
-            verify(apiErrorHandler).mapErrorToProblemDetail(any(Error.class), any(HttpServletRequest.class));
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getFirst(ApiConsistency.VERSION_HEADER)).isEqualTo("7");
+        }
+
+        @Test
+        @DisplayName("When a query presents a version, then should dispatch it requiring that version")
+        void shouldRequireVersion_whenQueryPresentsIt() {
+            // Given
+            when(mockRequest.getHeader(ApiConsistency.VERSION_HEADER)).thenReturn("5");
+            when(queryBus.query(any(FindArticleQuery.class))).thenAnswer(invocation -> Either.right(
+                new ArticleDTO("article-1", "Title", "Content v" + ConsistencyToken.currentRequired(), "Author")));
+
+            // When
+            ResponseEntity<?> response = controller.find("article-1", mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(((ApiResponse.Article) response.getBody()).content()).isEqualTo("Content v5");
+        }
+
+        @Test
+        @DisplayName("When a query presents an invalid version, then should reject it without dispatching")
+        void shouldRejectQuery_whenVersionInvalid() {
+            // Given
+            when(mockRequest.getHeader(ApiConsistency.VERSION_HEADER)).thenReturn("-3");
+            Error error = new Error.ValidationErrors(List.of(new ValidationError.Invalid("-3")));
+            ResponseEntity<byte[]> failureResponse = ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            when(apiErrorHandler.createFailureResponse(eq(error), any(HttpServletRequest.class)))
+                .thenReturn(failureResponse);
+
+            // When
+            ResponseEntity<?> find = controller.find("article-1", mockRequest);
+            ResponseEntity<?> get = controller.get(null, mockRequest);
+            ResponseEntity<?> sync = controller.get("0", mockRequest);
+
+            // Then
+            assertThat(find).isSameAs(failureResponse);
+            assertThat(get).isSameAs(failureResponse);
+            assertThat(sync).isSameAs(failureResponse);
+            verify(queryBus, never()).query(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Given changes method")
+    class ChangesMethodTests {
+
+        @Test
+        @DisplayName("When subscribing to the changes, then should stream them as Server-Sent Events")
+        void shouldStreamEvents_whenSubscribingToChanges() {
+            // Given
+            ArticleChangeSubscription subscription = mock(ArticleChangeSubscription.class);
+            when(queryBus.query(any(WatchArticleChangesQuery.class))).thenReturn(Either.right(subscription));
+
+            // When
+            ResponseEntity<StreamingResponseBody> response = controller.changes("3", true, mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.TEXT_EVENT_STREAM);
+            assertThat(response.getBody()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("When the Last-Event-ID is invalid, then should return the error without subscribing")
+        void shouldReturnErrorResponse_whenLastEventIdIsInvalid() throws Exception {
+            // Given
+            byte[] problem = "{\"detail\":\"Invalid value provided [abc]\"}".getBytes(StandardCharsets.UTF_8);
+            when(apiErrorHandler.createFailureResponse(any(Error.ValidationErrors.class), eq(mockRequest)))
+                .thenReturn(ResponseEntity.badRequest().body(problem));
+
+            // When
+            ResponseEntity<StreamingResponseBody> response = controller.changes("abc", false, mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            response.getBody().writeTo(out);
+            assertThat(out.toByteArray()).isEqualTo(problem);
+            verify(queryBus, never()).query(any(WatchArticleChangesQuery.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given get method with a high-water mark")
+    class SyncTests {
+
+        @Test
+        @DisplayName("When synchronising after a high-water mark, then should return the changes and the new mark")
+        void shouldReturnChangesAndNewMark_whenSynchronising() {
+            // Given
+            ArticleChangesDTO changes = new ArticleChangesDTO(9, false, List.of(
+                new ArticleChangeDTO(8, ArticleChangeDTO.Type.UPDATED, "article-1",
+                    new ArticleDTO("article-1", "Title", "Content", "Author")),
+                new ArticleChangeDTO(9, ArticleChangeDTO.Type.DELETED, "article-2", null)));
+            when(queryBus.query(any(GetArticleChangesQuery.class))).thenReturn(Either.right(changes));
+
+            // When
+            ResponseEntity<?> response = controller.get("5", mockRequest);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getFirst(ApiConsistency.VERSION_HEADER)).isEqualTo("9");
+            assertThat(response.getHeaders().getFirst(ApiResultUtils.SYNC_HEADER)).isEqualTo("delta");
+            assertThat(response.getBody()).isEqualTo(List.of(
+                new ApiResponse.Article("article-1", "Author", "Title", "Content"),
+                new ApiResponse.Tombstone("article-2")));
+            verify(queryBus, never()).query(any(GetAllArticlesQuery.class));
+        }
+
+        @Test
+        @DisplayName("When the high-water mark is invalid, then should return the error without querying")
+        void shouldReturnErrorResponse_whenHighWaterMarkIsInvalid() {
+            // Given
+            ResponseEntity<byte[]> failureResponse = ResponseEntity.badRequest().build();
+            when(apiErrorHandler.createFailureResponse(any(Error.ValidationErrors.class), eq(mockRequest)))
+                .thenReturn(failureResponse);
+
+            // When
+            ResponseEntity<?> response = controller.get("latest", mockRequest);
+
+            // Then
+            assertThat(response).isSameAs(failureResponse);
+            verify(queryBus, never()).query(any(GetArticleChangesQuery.class));
         }
     }
 
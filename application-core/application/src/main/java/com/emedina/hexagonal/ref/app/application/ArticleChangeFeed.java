@@ -0,0 +1,173 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventSubscriber;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+import io.vavr.control.Option;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans the events of the articles out to the subscribers of their changes.
+ * <p>
+ * Every change is mapped once, at the version of its event, and offered to the bounded buffer of each subscription;
+ * a subscription whose buffer is full is dropped on the spot instead of holding up the event consumer or growing
+ * without bound. The most recent changes are also retained, so that a subscriber coming back after the version of
+ * the last change it took is replayed what it missed. When that is no longer possible, because the changes were
+ * evicted or would not fit in its buffer, it is sent a {@link ArticleChangeDTO.Type#RESET} instead.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ * @see ApplicationService
+ */
+@Slf4j
+@ApplicationService
+class ArticleChangeFeed implements ArticleEventSubscriber {
+
+    static final int HISTORY_SIZE = 4096;
+    static final int BUFFER_SIZE = 256;
+
+    private final int historySize;
+    private final int bufferSize;
+
+    // Guarded by this
+    private final ArrayDeque<ArticleChangeDTO> history;
+    private final Set<Subscription> subscriptions = new LinkedHashSet<>();
+    private long latestVersion = -1L;
+
+    ArticleChangeFeed() {
+        this(HISTORY_SIZE, BUFFER_SIZE);
+    }
+
+    ArticleChangeFeed(final int historySize, final int bufferSize) {
+        this.historySize = historySize;
+        this.bufferSize = bufferSize;
+        this.history = new ArrayDeque<>(historySize);
+    }
+
+    /**
+     * Retains the change carried by an event and offers it to every subscription.
+     *
+     * @param event      the event to apply
+     * @param sequence   the sequence number of the event, i.e. the version of the change
+     * @param endOfBatch whether the event is the last one of its batch
+     */
+    @Override
+    public void onEvent(final ArticleEvent event, final long sequence, final boolean endOfBatch) {
+        final ArticleChangeDTO change = toChange(event, sequence);
+        synchronized (this) {
+            if (this.history.size() == this.historySize) {
+                this.history.removeFirst();
+            }
+            this.history.addLast(change);
+            this.latestVersion = sequence;
+            this.subscriptions.removeIf(subscription -> !subscription.offer(change));
+        }
+    }
+
+    /**
+     * Subscribes to the changes, optionally replaying those after the given version first.
+     *
+     * @param lastVersion the version of the last change already seen, if any
+     * @return the subscription
+     */
+    synchronized ArticleChangeSubscription subscribe(final Option<Long> lastVersion) {
+        final Subscription subscription = new Subscription(this.bufferSize);
+        lastVersion.forEach(version -> this.replay(version, subscription));
+        this.subscriptions.add(subscription);
+        return subscription;
+    }
+
+    synchronized int subscribers() {
+        return this.subscriptions.size();
+    }
+
+    private void replay(final long lastVersion, final Subscription subscription) {
+        final long missed = this.latestVersion - lastVersion;
+        final long oldest = this.history.isEmpty() ? this.latestVersion + 1 : this.history.getFirst().version();
+        if (missed == 0) {
+            return;
+        }
+        // A version ahead of the feed comes from before a restart, as versions start over with the application
+        if (missed < 0 || missed > this.bufferSize || lastVersion + 1 < oldest) {
+            subscription.offer(ArticleChangeDTO.reset(this.latestVersion));
+            return;
+        }
+        for (final ArticleChangeDTO change : this.history) {
+            if (change.version() > lastVersion) {
+                subscription.offer(change);
+            }
+        }
+    }
+
+    private static ArticleChangeDTO toChange(final ArticleEvent event, final long version) {
+        return switch (event) {
+            case ArticleEvent.ArticleCreated created -> new ArticleChangeDTO(version, ArticleChangeDTO.Type.CREATED,
+                created.id().value(), ArticleMapper.INSTANCE.toArticleDto(created.article()));
+            case ArticleEvent.ArticleUpdated updated -> new ArticleChangeDTO(version, ArticleChangeDTO.Type.UPDATED,
+                updated.id().value(), ArticleMapper.INSTANCE.toArticleDto(updated.article()));
+            case ArticleEvent.ArticleDeleted deleted -> new ArticleChangeDTO(version, ArticleChangeDTO.Type.DELETED,
+                deleted.id().value(), null);
+        };
+    }
+
+    /**
+     * Subscription buffering its changes in a bounded queue, filled by the event consumer and drained by the
+     * subscriber.
+     */
+    private final class Subscription implements ArticleChangeSubscription {
+
+        private final BlockingQueue<ArticleChangeDTO> buffer;
+        private volatile boolean overflowed;
+
+        private Subscription(final int bufferSize) {
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        @Override
+        public Option<ArticleChangeDTO> next(final Duration timeout) throws InterruptedException {
+            if (this.overflowed) {
+                return Option.none();
+            }
+            return Option.of(this.buffer.poll(timeout.toNanos(), TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean isOverflowed() {
+            return this.overflowed;
+        }
+
+        @Override
+        public void close() {
+            synchronized (ArticleChangeFeed.this) {
+                ArticleChangeFeed.this.subscriptions.remove(this);
+            }
+        }
+
+        private boolean offer(final ArticleChangeDTO change) {
+            if (this.buffer.offer(change)) {
+                return true;
+            }
+            // Nothing more is delivered once overflowed, so the buffered changes are released right away
+            this.overflowed = true;
+            this.buffer.clear();
+            log.atInfo().setMessage("Subscriber to the article changes dropped, [{}] changes behind at version [{}]")
+                .addArgument(ArticleChangeFeed.this.bufferSize)
+                .addArgument(change::version)
+                .log();
+            return false;
+        }
+
+    }
+
+}
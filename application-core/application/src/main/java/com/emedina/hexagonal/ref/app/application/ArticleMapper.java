@@ -10,13 +10,12 @@ import com.emedina.hexagonal.ref.app.application.command.UpdateArticleCommand;
 import com.emedina.hexagonal.ref.app.domain.entities.Article;
 import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
 import com.emedina.hexagonal.ref.app.domain.entities.Author;
-import com.emedina.hexagonal.ref.app.domain.entities.AuthorId;
 import com.emedina.hexagonal.ref.app.domain.entities.Content;
-import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
 import com.emedina.hexagonal.ref.app.domain.entities.Title;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 
 import io.vavr.control.Validation;
 
@@ -36,22 +35,29 @@ interface ArticleMapper {
     @Mapping(target = "author", expression = "java(article.author().name().value())")
     ArticleDTO toArticleDto(final Article article);
 
+    /**
+     * Validates the fields of the author, coming from outside the application, exactly once and creates the
+     * author from them through the trusted route; every invalid field is reported in the single error returned.
+     */
     default Validation<Error, Author> toAuthor(final AuthorDTO author) {
-        return Validation.combine(AuthorId.validateThenCreate(author.id()), PersonName.validateThenCreate(author
-            .name()))
-            .ap((aid, aname) -> Author.validateThenCreate(aid, aname))
-            .map(Validation::get)
-            .mapError(e -> new Error.MultipleErrors(e.toJavaList()));
+        return ValidatedInput.Author.validateThenCreate(author.id(), author.name())
+            .map(Author::createFromValidated);
     }
 
+    /**
+     * Creates the article through the trusted route, as the fields of the command have already been validated.
+     */
     default Validation<Error, Article> toArticle(final CreateArticleCommand command, final AuthorDTO author) {
         return toAuthor(author)
-            .flatMap(a -> toArticle(command.id(), command.title(), command.content(), a));
+            .map(a -> Article.createFromValidated(command.input(), a));
     }
 
+    /**
+     * Creates the article through the trusted route, as the fields of the command have already been validated.
+     */
     default Validation<Error, Article> toArticle(final UpdateArticleCommand command, final AuthorDTO author) {
         return toAuthor(author)
-            .flatMap(a -> toArticle(command.id(), command.title(), command.content(), a));
+            .map(a -> Article.createFromValidated(command.input(), a));
     }
 
     default Validation<Error, Article> toArticle(final String id, final String title, final String content,
@@ -0,0 +1,47 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventSubscriber;
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintains the {@link ArticleReadModel} from the events of the articles.
+ * <p>
+ * Articles are mapped to their ready-to-serve form once, when they change, instead of on every query; every change
+ * is applied at the version of the event carrying it, so the version of the read model tells which writes it
+ * already reflects. Events are delivered in sequence order, which the repository makes the order the changes were
+ * stored in, and the read model rejects any change older than the latest one it applied to the same article.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ * @see ApplicationService
+ */
+@ApplicationService
+@RequiredArgsConstructor
+class ArticleReadModelProjection implements ArticleEventSubscriber {
+
+    private final ArticleReadModel articleReadModel;
+
+    /**
+     * Applies an event to the read model.
+     *
+     * @param event      the event to apply
+     * @param sequence   the sequence number of the event
+     * @param endOfBatch whether the event is the last one of its batch
+     */
+    @Override
+    public void onEvent(final ArticleEvent event, final long sequence, final boolean endOfBatch) {
+        switch (event) {
+            case ArticleEvent.ArticleCreated created ->
+                this.articleReadModel.put(ArticleMapper.INSTANCE.toArticleDto(created.article()), sequence);
+            case ArticleEvent.ArticleUpdated updated ->
+                this.articleReadModel.put(ArticleMapper.INSTANCE.toArticleDto(updated.article()), sequence);
+            case ArticleEvent.ArticleDeleted deleted ->
+                this.articleReadModel.remove(deleted.id().value(), sequence);
+        }
+    }
+
+}
@@ -1,22 +1,48 @@
 package com.emedina.hexagonal.ref.app.application;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand;
 import com.emedina.hexagonal.ref.app.application.ports.in.CreateArticleUseCase;
 import com.emedina.hexagonal.ref.app.application.ports.out.AuthorOutputPort;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.transactional.Transactional;
 
 import io.vavr.control.Either;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Orchestration logic for the use case to create an article.
+ * <p>
+ * The remote author lookup is started through {@link AuthorOutputPort#lookupAuthorAsync} as soon as the command
+ * arrives, so that it overlaps with the local check that no article with that id exists yet, and is only joined once
+ * that check passed; when it fails the lookup is cancelled right away instead of being waited for. No thread is held
+ * for the lookup meanwhile, and as it is started by the thread handling the command, it sees the deadline of its
+ * request. The id of the article is taken from the already validated fields of the command.
+ * </p>
+ * <p>
+ * The early uniqueness check only spares the lookup for articles that obviously exist: the article is stored through
+ * {@link ArticleRepository#create}, which checks again atomically, so that of concurrent creations of the same article
+ * only one succeeds and the others fail with {@link Error.BusinessError.DuplicateArticle}.
+ * </p>
+ * <p>
+ * The repository publishes an {@link ArticleEvent.ArticleCreated} event along with the article, whose version is
+ * recorded in the current {@link ConsistencyToken}.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  * @see ApplicationService
  */
+@Slf4j
 @ApplicationService
 @RequiredArgsConstructor
 class CreateArticleHandler implements CreateArticleUseCase {
@@ -33,9 +59,53 @@ class CreateArticleHandler implements CreateArticleUseCase {
     @Override
     @Transactional
     public Either<Error, Void> handle(final CreateArticleCommand command) {
-        return this.authorOutputPort.lookupAuthor(command.authorId())
-            .flatMap(author -> ArticleMapper.INSTANCE.toArticle(command, author).toEither())
-            .flatMap(this.articleRepository::save);
+        final long start = System.nanoTime();
+        final CompletableFuture<Either<Error, AuthorDTO>> author = this.authorOutputPort
+            .lookupAuthorAsync(command.authorId())
+            .toCompletableFuture();
+
+        final Either<Error, ArticleId> unique = this.checkUniqueness(ArticleId.createFromValidated(command.input()));
+        final long local = System.nanoTime() - start;
+        if (unique.isLeft()) {
+            author.cancel(true);
+            return Either.left(unique.getLeft());
+        }
+
+        final Either<Error, AuthorDTO> lookedUp = join(author);
+        final long lookup = System.nanoTime() - start;
+        log.atDebug().setMessage("Author lookup took [{}] us, local checks [{}] us, overlap saved [{}] us")
+            .addArgument(() -> lookup / 1_000)
+            .addArgument(() -> local / 1_000)
+            .addArgument(() -> Math.min(lookup, local) / 1_000)
+            .log();
+
+        return lookedUp
+            .flatMap(a -> ArticleMapper.INSTANCE.toArticle(command, a).toEither())
+            .flatMap(article -> this.articleRepository.create(article)
+                .peek(ConsistencyToken::recordWrite)
+                .<Void>map(version -> null));
+    }
+
+    private Either<Error, ArticleId> checkUniqueness(final ArticleId articleId) {
+        return this.articleRepository.findById(articleId)
+            .<Either<Error, ArticleId>>fold(error -> error instanceof Error.BusinessError.UnknownArticle
+                    ? Either.right(articleId)
+                    : Either.left(error),
+                existing -> Either.left(new Error.BusinessError.DuplicateArticle(articleId.value())));
+    }
+
+    private static Either<Error, AuthorDTO> join(final CompletableFuture<Either<Error, AuthorDTO>> author) {
+        try {
+            return author.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            author.cancel(true);
+            return Either.left(new Error.TechnicalError.SomethingWentWrong("Interrupted while looking up the author"));
+        } catch (final ExecutionException e) {
+            return Either.left(new Error.TechnicalError.SomethingWentWrong(e.getCause().getMessage()));
+        } catch (final CancellationException e) {
+            return Either.left(new Error.TechnicalError.SomethingWentWrong("The author lookup was cancelled"));
+        }
     }
 
 }
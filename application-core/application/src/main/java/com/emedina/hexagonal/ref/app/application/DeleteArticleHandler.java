@@ -3,7 +3,9 @@ package com.emedina.hexagonal.ref.app.application;
 import com.emedina.hexagonal.ref.app.application.command.DeleteArticleCommand;
 import com.emedina.hexagonal.ref.app.application.ports.in.DeleteArticleUseCase;
 import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.transactional.Transactional;
@@ -13,6 +15,10 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Orchestration logic for the use case to delete an article.
+ * <p>
+ * The repository publishes an {@link ArticleEvent.ArticleDeleted} event along with the removal, whose version is
+ * recorded in the current {@link ConsistencyToken}.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  * @see ApplicationService
@@ -34,7 +40,9 @@ class DeleteArticleHandler implements DeleteArticleUseCase {
     public Either<Error, Void> handle(final DeleteArticleCommand command) {
         return ArticleId.validateThenCreate(command.id())
             .toEither()
-            .flatMap(this.articleRepository::delete);
+            .flatMap(id -> this.articleRepository.delete(id)
+                .peek(ConsistencyToken::recordWrite)
+                .<Void>map(version -> null));
     }
 
 }
@@ -1,6 +1,7 @@
 package com.emedina.hexagonal.ref.app.application;
 
 import com.emedina.hexagonal.ref.app.application.ports.in.FindArticleUseCase;
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
 import com.emedina.hexagonal.ref.app.application.query.FindArticleQuery;
 import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
@@ -14,6 +15,11 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Orchestration logic for the use case to find an article by its identifier.
+ * <p>
+ * The article is served as is from the {@link ArticleReadModel}, unless the read model is not recent enough for the
+ * {@link com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken} of the request, in which case it is read
+ * from the write side; see {@link ReadModelConsistency}.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  * @see ApplicationService
@@ -22,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 class FindArticleHandler implements FindArticleUseCase {
 
+    private final ArticleReadModel articleReadModel;
     private final ArticleRepository articleRepository;
 
     /**
@@ -35,8 +42,9 @@ class FindArticleHandler implements FindArticleUseCase {
     public Either<Error, ArticleDTO> handle(final FindArticleQuery query) {
         return ArticleId.validateThenCreate(query.id())
             .toEither()
-            .flatMap(this.articleRepository::findById)
-            .map(ArticleMapper.INSTANCE::toArticleDto);
+            .flatMap(id -> ReadModelConsistency.isRecentEnough(this.articleReadModel, this.articleRepository)
+                ? this.articleReadModel.findById(id.value())
+                : this.articleRepository.findById(id).map(ArticleMapper.INSTANCE::toArticleDto));
     }
 
 }
@@ -3,8 +3,10 @@ package com.emedina.hexagonal.ref.app.application;
 import java.util.List;
 
 import com.emedina.hexagonal.ref.app.application.ports.in.GetAllArticlesUseCase;
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
 import com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
@@ -15,6 +17,13 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Orchestration logic for the use case to find all the available articles.
+ * <p>
+ * The articles are served as is from the {@link ArticleReadModel}, unless the read model is not recent enough for
+ * the {@link ConsistencyToken} of the request, in which case they are read from the write side; see
+ * {@link ReadModelConsistency}. Articles served from the read model are tagged with the version it was at through
+ * the token, which is what lets the API adapter reuse their encoded bodies until the read model moves on; those read
+ * from the write side are not, as they carry no version.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  * @see ApplicationService
@@ -23,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 class GetAllArticlesHandler implements GetAllArticlesUseCase {
 
+    private final ArticleReadModel articleReadModel;
     private final ArticleRepository articleRepository;
 
     /**
@@ -34,6 +44,10 @@ class GetAllArticlesHandler implements GetAllArticlesUseCase {
     @Override
     @Transactional(readOnly = true)
     public Either<Error, List<ArticleDTO>> handle(final GetAllArticlesQuery query) {
+        if (ReadModelConsistency.isRecentEnough(this.articleReadModel, this.articleRepository)) {
+            final long version = this.articleReadModel.version();
+            return this.articleReadModel.findAll().peek(articles -> ConsistencyToken.recordRead(version));
+        }
         return this.articleRepository.findAll()
             .map(la -> la.stream().map(ArticleMapper.INSTANCE::toArticleDto).toList());
     }
@@ -0,0 +1,41 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import com.emedina.hexagonal.ref.app.application.ports.in.GetArticleChangesUseCase;
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
+import com.emedina.hexagonal.ref.app.application.query.GetArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Orchestration logic for the use case to get the changes of the articles after a given version.
+ * <p>
+ * The changes are served from the change index of the {@link ArticleReadModel}, so their cost is proportional to
+ * the number of articles changed, not to the size of the catalogue. As the read model lags behind the write side,
+ * the latest writes may only show up in the next synchronisation, which starts from the high-water mark returned.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ * @see ApplicationService
+ */
+@ApplicationService
+@RequiredArgsConstructor
+class GetArticleChangesHandler implements GetArticleChangesUseCase {
+
+    private final ArticleReadModel articleReadModel;
+
+    /**
+     * Handles the query.
+     *
+     * @param query query to handle
+     * @return either the changes or an error
+     */
+    @Override
+    public Either<Error, ArticleChangesDTO> handle(final GetArticleChangesQuery query) {
+        return this.articleReadModel.changesSince(query.since());
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import java.time.Duration;
+
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
+import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Decides whether the read model can serve a query under the {@link ConsistencyToken} of the current request.
+ * <p>
+ * Without a token, or when the read model already reached the version the token requires, it can. Otherwise the
+ * query waits for the read model to catch up, for at most {@link #MAX_WAIT} and never beyond the deadline of the
+ * request; if it does not, the query is served from the write side instead, so that a client always reads its own
+ * writes.
+ * </p>
+ * <p>
+ * A token requiring a version above the one of the write side was not handed out by any write, typically because the
+ * client kept it across a restart that started the versions over. Neither side will ever reach it within the wait,
+ * so rather than parking the query for nothing, the read model serves it right away, as it does when the client
+ * synchronises from such a version.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ReadModelConsistency {
+
+    static final Duration MAX_WAIT = Duration.ofMillis(50);
+
+    /**
+     * Checks whether the read model is recent enough for the current request.
+     *
+     * @param readModel  the read model
+     * @param repository the repository of the write side
+     * @return {@code true} if the read model can serve the query
+     */
+    static boolean isRecentEnough(final ArticleReadModel readModel, final ArticleRepository repository) {
+        final long required = ConsistencyToken.currentRequired();
+        if (required <= readModel.version() || required > repository.version()) {
+            return true;
+        }
+        final Duration wait = Deadline.current()
+            .map(Deadline::remaining)
+            .filter(remaining -> remaining.compareTo(MAX_WAIT) < 0)
+            .getOrElse(MAX_WAIT);
+        return readModel.awaitVersion(required, wait);
+    }
+
+}
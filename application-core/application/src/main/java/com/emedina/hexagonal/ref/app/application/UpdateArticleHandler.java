@@ -3,7 +3,9 @@ package com.emedina.hexagonal.ref.app.application;
 import com.emedina.hexagonal.ref.app.application.command.UpdateArticleCommand;
 import com.emedina.hexagonal.ref.app.application.ports.in.UpdateArticleUseCase;
 import com.emedina.hexagonal.ref.app.application.ports.out.AuthorOutputPort;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.sharedkernel.application.annotation.ApplicationService;
 import com.emedina.sharedkernel.transactional.Transactional;
@@ -13,6 +15,10 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Orchestration logic for the use case to update an article.
+ * <p>
+ * The repository publishes an {@link ArticleEvent.ArticleUpdated} event along with the article, whose version is
+ * recorded in the current {@link ConsistencyToken}.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  * @see ApplicationService
@@ -35,7 +41,9 @@ class UpdateArticleHandler implements UpdateArticleUseCase {
     public Either<Error, Void> handle(final UpdateArticleCommand command) {
         return this.authorOutputPort.lookupAuthor(command.authorId())
             .flatMap(author -> ArticleMapper.INSTANCE.toArticle(command, author).toEither())
-            .flatMap(this.articleRepository::update);
+            .flatMap(article -> this.articleRepository.update(article)
+                .peek(ConsistencyToken::recordWrite)
+                .<Void>map(version -> null));
     }
 
 }
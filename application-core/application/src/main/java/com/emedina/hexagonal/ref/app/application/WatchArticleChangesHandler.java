@@ -0,0 +1,39 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
+import com.emedina.hexagonal.ref.app.application.ports.in.WatchArticleChangesUseCase;
+import com.emedina.hexagonal.ref.app.application.query.WatchArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+
+import io.vavr.control.Either;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Orchestration logic for the use case to watch the changes of the articles.
+ * <p>
+ * Subscriptions are served by the {@link ArticleChangeFeed}, which replays the changes after the last version seen
+ * by the subscriber, if any, before the live ones.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ * @see ApplicationService
+ */
+@ApplicationService
+@RequiredArgsConstructor
+class WatchArticleChangesHandler implements WatchArticleChangesUseCase {
+
+    private final ArticleChangeFeed articleChangeFeed;
+
+    /**
+     * Handles the query.
+     *
+     * @param query query to handle
+     * @return either the subscription to the changes or an error
+     */
+    @Override
+    public Either<Error, ArticleChangeSubscription> handle(final WatchArticleChangesQuery query) {
+        return Either.right(this.articleChangeFeed.subscribe(query.lastVersion()));
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
+import com.emedina.hexagonal.ref.app.domain.entities.Article;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.entities.Author;
+import com.emedina.hexagonal.ref.app.domain.entities.AuthorId;
+import com.emedina.hexagonal.ref.app.domain.entities.Content;
+import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
+import com.emedina.hexagonal.ref.app.domain.entities.Title;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+
+import io.vavr.control.Option;
+
+/**
+ * Unit tests for ArticleChangeFeed.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class ArticleChangeFeedTest {
+
+    private ArticleChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new ArticleChangeFeed(4, 3);
+    }
+
+    @Test
+    void shouldDeliverEveryKindOfChange_whenSubscribedFromNow() throws InterruptedException {
+        // given
+        ArticleChangeSubscription subscription = feed.subscribe(Option.none());
+
+        // when
+        feed.onEvent(new ArticleEvent.ArticleCreated(createValidArticle("Title"), Instant.now()), 0, false);
+        feed.onEvent(new ArticleEvent.ArticleUpdated(createValidArticle("Updated"), Instant.now()), 1, false);
+        feed.onEvent(new ArticleEvent.ArticleDeleted(articleId(), Instant.now()), 2, true);
+
+        // then
+        assertThat(drain(subscription)).containsExactly(
+            new ArticleChangeDTO(0, ArticleChangeDTO.Type.CREATED, "article-123",
+                new ArticleDTO("article-123", "Title", "Test content", "John Doe")),
+            new ArticleChangeDTO(1, ArticleChangeDTO.Type.UPDATED, "article-123",
+                new ArticleDTO("article-123", "Updated", "Test content", "John Doe")),
+            new ArticleChangeDTO(2, ArticleChangeDTO.Type.DELETED, "article-123", null));
+    }
+
+    @Test
+    void shouldReplayMissedChanges_whenResumingAfterRetainedVersion() throws InterruptedException {
+        // given
+        deleteTimes(3);
+
+        // when
+        ArticleChangeSubscription subscription = feed.subscribe(Option.some(0L));
+        feed.onEvent(new ArticleEvent.ArticleDeleted(articleId(), Instant.now()), 3, true);
+
+        // then
+        assertThat(drain(subscription)).extracting(ArticleChangeDTO::version).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void shouldReplayNothing_whenResumingAfterLatestVersion() throws InterruptedException {
+        // given
+        deleteTimes(2);
+
+        // when
+        ArticleChangeSubscription subscription = feed.subscribe(Option.some(1L));
+
+        // then
+        assertThat(drain(subscription)).isEmpty();
+    }
+
+    @Test
+    void shouldSendReset_whenMissedChangesWereEvicted() throws InterruptedException {
+        // given
+        feed = new ArticleChangeFeed(2, 3);
+        deleteTimes(4);
+
+        // when
+        ArticleChangeSubscription subscription = feed.subscribe(Option.some(0L));
+
+        // then
+        assertThat(drain(subscription)).containsExactly(ArticleChangeDTO.reset(3));
+    }
+
+    @Test
+    void shouldSendReset_whenMissedChangesExceedBuffer() throws InterruptedException {
+        // given
+        feed = new ArticleChangeFeed(8, 3);
+        deleteTimes(5);
+
+        // when
+        ArticleChangeSubscription subscription = feed.subscribe(Option.some(0L));
+
+        // then
+        assertThat(drain(subscription)).containsExactly(ArticleChangeDTO.reset(4));
+    }
+
+    @Test
+    void shouldSendReset_whenResumingAfterVersionAheadOfFeed() throws InterruptedException {
+        // when
+        ArticleChangeSubscription subscription = feed.subscribe(Option.some(10L));
+
+        // then
+        assertThat(drain(subscription)).containsExactly(ArticleChangeDTO.reset(-1));
+    }
+
+    @Test
+    void shouldDropSubscription_whenItsBufferOverflows() throws InterruptedException {
+        // given
+        ArticleChangeSubscription slow = feed.subscribe(Option.none());
+        ArticleChangeSubscription fast = feed.subscribe(Option.none());
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            feed.onEvent(new ArticleEvent.ArticleDeleted(articleId(), Instant.now()), i, true);
+            fast.next(Duration.ZERO);
+        }
+
+        // then
+        assertThat(slow.isOverflowed()).isTrue();
+        assertThat(slow.next(Duration.ZERO)).isEmpty();
+        assertThat(fast.isOverflowed()).isFalse();
+        assertThat(feed.subscribers()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStopDelivering_whenSubscriptionClosed() throws InterruptedException {
+        // given
+        ArticleChangeSubscription subscription = feed.subscribe(Option.none());
+
+        // when
+        subscription.close();
+        feed.onEvent(new ArticleEvent.ArticleDeleted(articleId(), Instant.now()), 0, true);
+
+        // then
+        assertThat(feed.subscribers()).isZero();
+        assertThat(subscription.next(Duration.ZERO)).isEmpty();
+    }
+
+    private void deleteTimes(final int times) {
+        for (int i = 0; i < times; i++) {
+            feed.onEvent(new ArticleEvent.ArticleDeleted(articleId(), Instant.now()), i, i == times - 1);
+        }
+    }
+
+    private static List<ArticleChangeDTO> drain(final ArticleChangeSubscription subscription)
+            throws InterruptedException {
+        List<ArticleChangeDTO> changes = new ArrayList<>();
+        for (var change = subscription.next(Duration.ZERO); change.isDefined();
+                change = subscription.next(Duration.ZERO)) {
+            changes.add(change.get());
+        }
+        return changes;
+    }
+
+    private static ArticleId articleId() {
+        return ArticleId.validateThenCreate("article-123").get();
+    }
+
+    private static Article createValidArticle(final String title) {
+        return Article.validateThenCreate(
+            articleId(),
+            Title.validateThenCreate(title).get(),
+            Content.validateThenCreate("Test content").get(),
+            Author.validateThenCreate(AuthorId.validateThenCreate("author-456").get(),
+                PersonName.validateThenCreate("John Doe").get()).get()).get();
+    }
+
+}
@@ -135,7 +135,7 @@ class ArticleMapperTest {
 
             // Then
             assertThat(result.isInvalid()).isTrue();
-            assertThat(result.getError()).isInstanceOf(Error.MultipleErrors.class);
+            assertThat(result.getError()).isInstanceOf(Error.ValidationErrors.class);
         }
 
         @Test
@@ -149,7 +149,7 @@ class ArticleMapperTest {
 
             // Then
             assertThat(result.isInvalid()).isTrue();
-            assertThat(result.getError()).isInstanceOf(Error.MultipleErrors.class);
+            assertThat(result.getError()).isInstanceOf(Error.ValidationErrors.class);
         }
 
         @Test
@@ -163,7 +163,8 @@ class ArticleMapperTest {
 
             // Then
             assertThat(result.isInvalid()).isTrue();
-            assertThat(result.getError()).isInstanceOf(Error.MultipleErrors.class);
+            assertThat(result.getError()).isInstanceOfSatisfying(Error.ValidationErrors.class,
+                errors -> assertThat(errors.errors()).hasSize(2));
         }
 
         @Test
@@ -234,7 +235,7 @@ class ArticleMapperTest {
 
             // Then
             assertThat(result.isInvalid()).isTrue();
-            assertThat(result.getError()).isInstanceOf(Error.MultipleErrors.class);
+            assertThat(result.getError()).isInstanceOf(Error.ValidationErrors.class);
         }
 
         @Test
@@ -309,7 +310,7 @@ class ArticleMapperTest {
 
             // Then
             assertThat(result.isInvalid()).isTrue();
-            assertThat(result.getError()).isInstanceOf(Error.MultipleErrors.class);
+            assertThat(result.getError()).isInstanceOf(Error.ValidationErrors.class);
         }
     }
 
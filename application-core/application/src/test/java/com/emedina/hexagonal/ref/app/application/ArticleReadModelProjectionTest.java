@@ -0,0 +1,87 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
+import com.emedina.hexagonal.ref.app.domain.entities.Article;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.entities.Author;
+import com.emedina.hexagonal.ref.app.domain.entities.AuthorId;
+import com.emedina.hexagonal.ref.app.domain.entities.Content;
+import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
+import com.emedina.hexagonal.ref.app.domain.entities.Title;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+
+/**
+ * Unit tests for ArticleReadModelProjection.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@ExtendWith(MockitoExtension.class)
+class ArticleReadModelProjectionTest {
+
+    @Mock
+    private ArticleReadModel articleReadModel;
+
+    private ArticleReadModelProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        projection = new ArticleReadModelProjection(articleReadModel);
+    }
+
+    @Test
+    void shouldPutArticle_whenArticleCreated() {
+        // given
+        Article article = createValidArticle("Test Title");
+
+        // when
+        projection.onEvent(new ArticleEvent.ArticleCreated(article, Instant.now()), 3, true);
+
+        // then
+        verify(articleReadModel).put(new ArticleDTO("article-123", "Test Title", "Test content", "John Doe"), 3);
+    }
+
+    @Test
+    void shouldPutArticle_whenArticleUpdated() {
+        // given
+        Article article = createValidArticle("Updated Title");
+
+        // when
+        projection.onEvent(new ArticleEvent.ArticleUpdated(article, Instant.now()), 4, false);
+
+        // then
+        verify(articleReadModel).put(new ArticleDTO("article-123", "Updated Title", "Test content", "John Doe"), 4);
+    }
+
+    @Test
+    void shouldRemoveArticle_whenArticleDeleted() {
+        // given
+        ArticleId id = ArticleId.validateThenCreate("article-123").get();
+
+        // when
+        projection.onEvent(new ArticleEvent.ArticleDeleted(id, Instant.now()), 5, true);
+
+        // then
+        verify(articleReadModel).remove("article-123", 5);
+    }
+
+    private Article createValidArticle(final String title) {
+        return Article.validateThenCreate(
+            ArticleId.validateThenCreate("article-123").get(),
+            Title.validateThenCreate(title).get(),
+            Content.validateThenCreate("Test content").get(),
+            Author.validateThenCreate(AuthorId.validateThenCreate("author-456").get(),
+                PersonName.validateThenCreate("John Doe").get()).get()).get();
+    }
+
+}
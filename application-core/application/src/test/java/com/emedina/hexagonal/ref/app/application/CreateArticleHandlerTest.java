@@ -2,9 +2,16 @@ package com.emedina.hexagonal.ref.app.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +21,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand;
 import com.emedina.hexagonal.ref.app.application.ports.out.AuthorOutputPort;
 import com.emedina.hexagonal.ref.app.domain.entities.Article;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
 import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 
@@ -34,11 +44,15 @@ class CreateArticleHandlerTest {
     @Mock
     private ArticleRepository articleRepository;
 
+
     private CreateArticleHandler handler;
 
     @BeforeEach
     void setUp() {
         handler = new CreateArticleHandler(authorOutputPort, articleRepository);
+        lenient().when(articleRepository.findById(any(ArticleId.class)))
+            .thenAnswer(invocation -> Either.left(
+                new Error.BusinessError.UnknownArticle(invocation.<ArticleId>getArgument(0).value())));
     }
 
     @Test
@@ -49,16 +63,35 @@ class CreateArticleHandlerTest {
 
         AuthorDTO authorDTO = createValidAuthorDTO();
 
-        when(authorOutputPort.lookupAuthor("author-456")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.save(any(Article.class))).thenReturn(Either.right(null));
+        when(authorOutputPort.lookupAuthorAsync("author-456")).thenReturn(completed(Either.right(authorDTO)));
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
 
         // then
         assertThat(result.isRight()).isTrue();
-        verify(authorOutputPort).lookupAuthor("author-456");
-        verify(articleRepository).save(any(Article.class));
+        verify(authorOutputPort).lookupAuthorAsync("author-456");
+        verify(articleRepository).create(any(Article.class));
+    }
+
+    @Test
+    void shouldRecordVersionWritten_whenArticleCreated() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+        ConsistencyToken token = ConsistencyToken.none();
+
+        when(authorOutputPort.lookupAuthorAsync("author-456"))
+            .thenReturn(completed(Either.right(createValidAuthorDTO())));
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(7L));
+
+        // when
+        Either<Error, Void> result = ConsistencyToken.callWithin(token, () -> handler.handle(command));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(token.written()).isEqualTo(7);
     }
 
     @Test
@@ -69,7 +102,7 @@ class CreateArticleHandlerTest {
 
         Error expectedError = new Error.MultipleErrors(java.util.List.of());
 
-        when(authorOutputPort.lookupAuthor("author-456")).thenReturn(Either.left(expectedError));
+        when(authorOutputPort.lookupAuthorAsync("author-456")).thenReturn(completed(Either.left(expectedError)));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -77,8 +110,8 @@ class CreateArticleHandlerTest {
         // then
         assertThat(result.isLeft()).isTrue();
         assertThat(result.getLeft()).isEqualTo(expectedError);
-        verify(authorOutputPort).lookupAuthor("author-456");
-        verify(articleRepository, org.mockito.Mockito.never()).save(any());
+        verify(authorOutputPort).lookupAuthorAsync("author-456");
+        verify(articleRepository, org.mockito.Mockito.never()).create(any());
     }
 
     @Test
@@ -90,8 +123,8 @@ class CreateArticleHandlerTest {
         AuthorDTO authorDTO = createValidAuthorDTO();
         Error expectedError = new Error.MultipleErrors(java.util.List.of());
 
-        when(authorOutputPort.lookupAuthor("author-456")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.save(any(Article.class))).thenReturn(Either.left(expectedError));
+        when(authorOutputPort.lookupAuthorAsync("author-456")).thenReturn(completed(Either.right(authorDTO)));
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.left(expectedError));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -99,8 +132,8 @@ class CreateArticleHandlerTest {
         // then
         assertThat(result.isLeft()).isTrue();
         assertThat(result.getLeft()).isEqualTo(expectedError);
-        verify(authorOutputPort).lookupAuthor("author-456");
-        verify(articleRepository).save(any(Article.class));
+        verify(authorOutputPort).lookupAuthorAsync("author-456");
+        verify(articleRepository).create(any(Article.class));
     }
 
     @Test
@@ -115,16 +148,16 @@ class CreateArticleHandlerTest {
 
         AuthorDTO authorDTO = new AuthorDTO("author-complex-456", "Jane Smith");
 
-        when(authorOutputPort.lookupAuthor("author-complex-456")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.save(any(Article.class))).thenReturn(Either.right(null));
+        when(authorOutputPort.lookupAuthorAsync("author-complex-456")).thenReturn(completed(Either.right(authorDTO)));
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(complexCommand);
 
         // then
         assertThat(result.isRight()).isTrue();
-        verify(authorOutputPort).lookupAuthor("author-complex-456");
-        verify(articleRepository).save(any(Article.class));
+        verify(authorOutputPort).lookupAuthorAsync("author-complex-456");
+        verify(articleRepository).create(any(Article.class));
     }
 
     @Test
@@ -135,8 +168,8 @@ class CreateArticleHandlerTest {
 
         AuthorDTO authorDTO = createValidAuthorDTO();
 
-        when(authorOutputPort.lookupAuthor("author-order")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.save(any(Article.class))).thenReturn(Either.right(null));
+        when(authorOutputPort.lookupAuthorAsync("author-order")).thenReturn(completed(Either.right(authorDTO)));
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -146,8 +179,8 @@ class CreateArticleHandlerTest {
 
         // Verify the order of interactions
         var inOrder = org.mockito.Mockito.inOrder(authorOutputPort, articleRepository);
-        inOrder.verify(authorOutputPort).lookupAuthor("author-order");
-        inOrder.verify(articleRepository).save(any(Article.class));
+        inOrder.verify(authorOutputPort).lookupAuthorAsync("author-order");
+        inOrder.verify(articleRepository).create(any(Article.class));
     }
 
     @Test
@@ -158,15 +191,15 @@ class CreateArticleHandlerTest {
 
         Error authorError = new Error.MultipleErrors(java.util.List.of());
 
-        when(authorOutputPort.lookupAuthor("author-fail")).thenReturn(Either.left(authorError));
+        when(authorOutputPort.lookupAuthorAsync("author-fail")).thenReturn(completed(Either.left(authorError)));
 
         // when
         Either<Error, Void> result = handler.handle(command);
 
         // then
         assertThat(result.isLeft()).isTrue();
-        verify(authorOutputPort).lookupAuthor("author-fail");
-        verify(articleRepository, org.mockito.Mockito.never()).save(any());
+        verify(authorOutputPort).lookupAuthorAsync("author-fail");
+        verify(articleRepository, org.mockito.Mockito.never()).create(any());
     }
 
     @Test
@@ -177,16 +210,16 @@ class CreateArticleHandlerTest {
 
         AuthorDTO specialAuthor = new AuthorDTO("author-special", "José María García-López");
 
-        when(authorOutputPort.lookupAuthor("author-special")).thenReturn(Either.right(specialAuthor));
-        when(articleRepository.save(any(Article.class))).thenReturn(Either.right(null));
+        when(authorOutputPort.lookupAuthorAsync("author-special")).thenReturn(completed(Either.right(specialAuthor)));
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
 
         // then
         assertThat(result.isRight()).isTrue();
-        verify(authorOutputPort).lookupAuthor("author-special");
-        verify(articleRepository).save(any(Article.class));
+        verify(authorOutputPort).lookupAuthorAsync("author-special");
+        verify(articleRepository).create(any(Article.class));
     }
 
     @Test
@@ -197,16 +230,165 @@ class CreateArticleHandlerTest {
 
         AuthorDTO authorDTO = createValidAuthorDTO();
 
-        when(authorOutputPort.lookupAuthor("author-unicode")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.save(any(Article.class))).thenReturn(Either.right(null));
+        when(authorOutputPort.lookupAuthorAsync("author-unicode")).thenReturn(completed(Either.right(authorDTO)));
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(unicodeCommand);
 
         // then
         assertThat(result.isRight()).isTrue();
-        verify(authorOutputPort).lookupAuthor("author-unicode");
-        verify(articleRepository).save(any(Article.class));
+        verify(authorOutputPort).lookupAuthorAsync("author-unicode");
+        verify(articleRepository).create(any(Article.class));
+    }
+
+    @Test
+    void shouldReturnDuplicateArticle_whenArticleAlreadyExists() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+
+        Article existing = org.mockito.Mockito.mock(Article.class);
+
+        lenient().when(authorOutputPort.lookupAuthorAsync("author-456"))
+            .thenReturn(completed(Either.right(createValidAuthorDTO())));
+        when(articleRepository.findById(any(ArticleId.class))).thenReturn(Either.right(existing));
+
+        // when
+        Either<Error, Void> result = handler.handle(command);
+
+        // then
+        assertThat(result.getLeft()).isEqualTo(new Error.BusinessError.DuplicateArticle("article-123"));
+        verify(articleRepository, org.mockito.Mockito.never()).create(any());
+    }
+
+    @Test
+    void shouldReturnDuplicateArticle_whenArticleCreatedConcurrently() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+
+        when(authorOutputPort.lookupAuthorAsync("author-456"))
+            .thenReturn(completed(Either.right(createValidAuthorDTO())));
+        when(articleRepository.create(any(Article.class)))
+            .thenReturn(Either.left(new Error.BusinessError.DuplicateArticle("article-123")));
+
+        // when
+        Either<Error, Void> result = handler.handle(command);
+
+        // then
+        assertThat(result.getLeft()).isEqualTo(new Error.BusinessError.DuplicateArticle("article-123"));
+    }
+
+    @Test
+    void shouldReturnError_whenExistenceCheckFails() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+
+        Error expectedError = new Error.TechnicalError.SomethingWentWrong("Repository down");
+
+        lenient().when(authorOutputPort.lookupAuthorAsync("author-456"))
+            .thenReturn(completed(Either.right(createValidAuthorDTO())));
+        when(articleRepository.findById(any(ArticleId.class))).thenReturn(Either.left(expectedError));
+
+        // when
+        Either<Error, Void> result = handler.handle(command);
+
+        // then
+        assertThat(result.getLeft()).isEqualTo(expectedError);
+        verify(articleRepository, org.mockito.Mockito.never()).create(any());
+    }
+
+    @Test
+    void shouldCancelAuthorLookup_whenLocalChecksFail() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+
+        CompletableFuture<Either<Error, AuthorDTO>> lookup = new CompletableFuture<>();
+
+        when(authorOutputPort.lookupAuthorAsync("author-456")).thenReturn(lookup);
+        when(articleRepository.findById(any(ArticleId.class)))
+            .thenReturn(Either.right(org.mockito.Mockito.mock(Article.class)));
+
+        // when
+        Either<Error, Void> result = handler.handle(command);
+
+        // then
+        assertThat(result.getLeft()).isInstanceOf(Error.BusinessError.DuplicateArticle.class);
+        assertThat(lookup).isCancelled();
+    }
+
+    @Test
+    void shouldOverlapAuthorLookupWithLocalChecks_whenBothAreSlow() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+
+        Duration delay = Duration.ofMillis(300);
+
+        when(authorOutputPort.lookupAuthorAsync("author-456")).thenAnswer(invocation ->
+            new CompletableFuture<Either<Error, AuthorDTO>>()
+                .completeOnTimeout(Either.right(createValidAuthorDTO()), delay.toMillis(), TimeUnit.MILLISECONDS));
+        when(articleRepository.findById(any(ArticleId.class))).thenAnswer(invocation -> {
+            Thread.sleep(delay);
+            return Either.left(new Error.BusinessError.UnknownArticle("article-123"));
+        });
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(1L));
+
+        // when
+        long start = System.nanoTime();
+        Either<Error, Void> result = handler.handle(command);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(elapsed).isLessThan(delay.multipliedBy(2));
+    }
+
+    @Test
+    void shouldLookUpAuthorWithinRequestDeadline_whenDeadlineBound() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+        AtomicBoolean deadlineSeen = new AtomicBoolean();
+
+        when(authorOutputPort.lookupAuthorAsync("author-456")).thenAnswer(invocation -> {
+            deadlineSeen.set(Deadline.current().contains(deadline));
+            return completed(Either.right(createValidAuthorDTO()));
+        });
+        when(articleRepository.create(any(Article.class))).thenReturn(Either.right(1L));
+
+        // when
+        Either<Error, Void> result = Deadline.callWithin(deadline, () -> handler.handle(command));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(deadlineSeen).isTrue();
+    }
+
+    @Test
+    void shouldReturnError_whenAuthorLookupFailsExceptionally() {
+        // given
+        CreateArticleCommand command = CreateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Test Title", "Test content").get();
+
+        when(authorOutputPort.lookupAuthorAsync("author-456"))
+            .thenReturn(CompletableFuture.failedStage(new IllegalStateException("Author API down")));
+
+        // when
+        Either<Error, Void> result = handler.handle(command);
+
+        // then
+        assertThat(result.getLeft()).isEqualTo(new Error.TechnicalError.SomethingWentWrong("Author API down"));
+        verify(articleRepository, org.mockito.Mockito.never()).create(any());
+    }
+
+    private static CompletionStage<Either<Error, AuthorDTO>> completed(final Either<Error, AuthorDTO> author) {
+        return CompletableFuture.completedStage(author);
     }
 
     private AuthorDTO createValidAuthorDTO() {
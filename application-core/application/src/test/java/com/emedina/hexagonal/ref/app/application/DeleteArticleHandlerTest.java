@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.emedina.hexagonal.ref.app.application.command.DeleteArticleCommand;
 import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 
 import io.vavr.control.Either;
@@ -28,6 +29,7 @@ class DeleteArticleHandlerTest {
     @Mock
     private ArticleRepository articleRepository;
 
+
     private DeleteArticleHandler handler;
 
     @BeforeEach
@@ -41,7 +43,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate("article-123").get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate("article-123").get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -51,6 +53,23 @@ class DeleteArticleHandlerTest {
         verify(articleRepository).delete(expectedArticleId);
     }
 
+    @Test
+    void shouldRecordVersionWritten_whenArticleDeleted() {
+        // given
+        DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate("article-123").get();
+        ConsistencyToken token = ConsistencyToken.none();
+
+        when(articleRepository.delete(ArticleId.validateThenCreate("article-123").get()))
+            .thenReturn(Either.right(7L));
+
+        // when
+        Either<Error, Void> result = ConsistencyToken.callWithin(token, () -> handler.handle(command));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(token.written()).isEqualTo(7);
+    }
+
     @Test
     void shouldReturnError_whenDeleteOperationFails() {
         // given
@@ -76,7 +95,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(uuidId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(uuidId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -93,7 +112,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(specialId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(specialId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -110,7 +129,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(longId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(longId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -127,7 +146,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(unicodeId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(unicodeId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -144,7 +163,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(numericId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(numericId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -161,7 +180,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(slugId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(slugId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -178,7 +197,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(versionedId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(versionedId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -195,7 +214,7 @@ class DeleteArticleHandlerTest {
         DeleteArticleCommand command = DeleteArticleCommand.validateThenCreate(urlLikeId).get();
         ArticleId expectedArticleId = ArticleId.validateThenCreate(urlLikeId).get();
 
-        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(null));
+        when(articleRepository.delete(expectedArticleId)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -231,8 +250,8 @@ class DeleteArticleHandlerTest {
         ArticleId articleId1 = ArticleId.validateThenCreate("article-1").get();
         ArticleId articleId2 = ArticleId.validateThenCreate("article-2").get();
 
-        when(articleRepository.delete(articleId1)).thenReturn(Either.right(null));
-        when(articleRepository.delete(articleId2)).thenReturn(Either.right(null));
+        when(articleRepository.delete(articleId1)).thenReturn(Either.right(1L));
+        when(articleRepository.delete(articleId2)).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result1 = handler.handle(command1);
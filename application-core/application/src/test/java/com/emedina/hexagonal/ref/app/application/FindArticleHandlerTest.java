@@ -1,15 +1,24 @@
 package com.emedina.hexagonal.ref.app.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
 import com.emedina.hexagonal.ref.app.application.query.FindArticleQuery;
 import com.emedina.hexagonal.ref.app.domain.entities.Article;
 import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
@@ -19,6 +28,8 @@ import com.emedina.hexagonal.ref.app.domain.entities.Content;
 import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
 import com.emedina.hexagonal.ref.app.domain.entities.Title;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 
@@ -32,6 +43,9 @@ import io.vavr.control.Either;
 @ExtendWith(MockitoExtension.class)
 class FindArticleHandlerTest {
 
+    @Mock
+    private ArticleReadModel articleReadModel;
+
     @Mock
     private ArticleRepository articleRepository;
 
@@ -39,7 +53,10 @@ class FindArticleHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new FindArticleHandler(articleRepository);
+        handler = new FindArticleHandler(articleReadModel, articleRepository);
+        lenient().when(articleReadModel.version()).thenReturn(ConsistencyToken.NONE);
+        lenient().when(articleReadModel.awaitVersion(anyLong(), any(Duration.class))).thenReturn(false);
+        lenient().when(articleRepository.version()).thenReturn(100L);
     }
 
     @Test
@@ -52,7 +69,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -74,7 +91,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.left(notFoundError));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isLeft()).isTrue();
@@ -92,7 +109,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.left(repositoryError));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isLeft()).isTrue();
@@ -110,7 +127,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -128,7 +145,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -146,7 +163,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -164,7 +181,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -182,7 +199,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -200,7 +217,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -217,7 +234,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(complexArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -238,7 +255,7 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -256,13 +273,92 @@ class FindArticleHandlerTest {
         when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(foundArticle));
 
         // when
-        Either<Error, ArticleDTO> result = handler.handle(query);
+        Either<Error, ArticleDTO> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
         verify(articleRepository).findById(expectedArticleId);
     }
 
+    @Test
+    void shouldServeFromReadModel_whenNoVersionRequired() {
+        // given
+        FindArticleQuery query = FindArticleQuery.validateThenCreate("article-123").get();
+        ArticleDTO article = new ArticleDTO("article-123", "Test Title", "Test content", "John Doe");
+
+        when(articleReadModel.findById("article-123")).thenReturn(Either.right(article));
+
+        // when
+        Either<Error, ArticleDTO> result = handler.handle(query);
+
+        // then
+        assertThat(result.get()).isSameAs(article);
+        verify(articleRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldServeFromReadModel_whenItCatchesUpWithRequiredVersion() {
+        // given
+        FindArticleQuery query = FindArticleQuery.validateThenCreate("article-123").get();
+        ArticleDTO article = new ArticleDTO("article-123", "Test Title", "Test content", "John Doe");
+
+        when(articleReadModel.awaitVersion(eq(5L), any(Duration.class))).thenReturn(true);
+        when(articleReadModel.findById("article-123")).thenReturn(Either.right(article));
+
+        // when
+        Either<Error, ArticleDTO> result = ConsistencyToken.callWithin(ConsistencyToken.requiring(5),
+            () -> handler.handle(query));
+
+        // then
+        assertThat(result.get()).isSameAs(article);
+        verify(articleReadModel).awaitVersion(eq(5L), any(Duration.class));
+        verify(articleRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldServeFromReadModelWithoutWaiting_whenRequiredVersionAheadOfWriteSide() {
+        // given
+        FindArticleQuery query = FindArticleQuery.validateThenCreate("article-123").get();
+        ArticleDTO article = new ArticleDTO("article-123", "Test Title", "Test content", "John Doe");
+
+        when(articleReadModel.findById("article-123")).thenReturn(Either.right(article));
+
+        // when
+        Either<Error, ArticleDTO> result = ConsistencyToken.callWithin(ConsistencyToken.requiring(101),
+            () -> handler.handle(query));
+
+        // then
+        assertThat(result.get()).isSameAs(article);
+        verify(articleReadModel, never()).awaitVersion(anyLong(), any(Duration.class));
+        verify(articleRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldWaitNoLongerThanDeadline_whenReadModelLags() {
+        // given
+        FindArticleQuery query = FindArticleQuery.validateThenCreate("article-123").get();
+        ArticleId expectedArticleId = ArticleId.validateThenCreate("article-123").get();
+
+        when(articleRepository.findById(expectedArticleId)).thenReturn(Either.right(createValidArticle()));
+
+        // when
+        Either<Error, ArticleDTO> result = Deadline.callWithin(Deadline.after(Duration.ofMillis(10)),
+            () -> readYourWrites(query));
+
+        // then
+        assertThat(result.get().id()).isEqualTo("article-123");
+        verify(articleReadModel).awaitVersion(eq(0L),
+            argThat(wait -> wait.compareTo(ReadModelConsistency.MAX_WAIT) < 0));
+    }
+
+    /**
+     * Handles the query for a client that wrote a version the read model has not reached yet, so that it is served
+     * from the write side.
+     */
+    private Either<Error, ArticleDTO> readYourWrites(final FindArticleQuery query) {
+        return ConsistencyToken.callWithin(ConsistencyToken.requiring(0), () -> handler.handle(query));
+    }
+
     private Article createValidArticle() {
         ArticleId id = ArticleId.validateThenCreate("article-123").get();
         Title title = Title.validateThenCreate("Test Title").get();
@@ -1,9 +1,14 @@
 package com.emedina.hexagonal.ref.app.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -14,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
 import com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery;
 import com.emedina.hexagonal.ref.app.domain.entities.Article;
 import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
@@ -23,6 +29,7 @@ import com.emedina.hexagonal.ref.app.domain.entities.Content;
 import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
 import com.emedina.hexagonal.ref.app.domain.entities.Title;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
 import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 
@@ -36,6 +43,9 @@ import io.vavr.control.Either;
 @ExtendWith(MockitoExtension.class)
 class GetAllArticlesHandlerTest {
 
+    @Mock
+    private ArticleReadModel articleReadModel;
+
     @Mock
     private ArticleRepository articleRepository;
 
@@ -43,7 +53,10 @@ class GetAllArticlesHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new GetAllArticlesHandler(articleRepository);
+        handler = new GetAllArticlesHandler(articleReadModel, articleRepository);
+        lenient().when(articleReadModel.version()).thenReturn(ConsistencyToken.NONE);
+        lenient().when(articleReadModel.awaitVersion(anyLong(), any(Duration.class))).thenReturn(false);
+        lenient().when(articleRepository.version()).thenReturn(100L);
     }
 
     @Test
@@ -59,7 +72,7 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.right(articles));
 
         // when
-        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+        Either<Error, List<ArticleDTO>> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -89,7 +102,7 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.right(emptyList));
 
         // when
-        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+        Either<Error, List<ArticleDTO>> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -107,7 +120,7 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.left(repositoryError));
 
         // when
-        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+        Either<Error, List<ArticleDTO>> result = readYourWrites(query);
 
         // then
         assertThat(result.isLeft()).isTrue();
@@ -126,7 +139,7 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.right(singleArticle));
 
         // when
-        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+        Either<Error, List<ArticleDTO>> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -157,7 +170,7 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.right(manyArticles));
 
         // when
-        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+        Either<Error, List<ArticleDTO>> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -182,7 +195,7 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.right(complexArticles));
 
         // when
-        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+        Either<Error, List<ArticleDTO>> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -210,7 +223,7 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.right(unicodeArticles));
 
         // when
-        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+        Either<Error, List<ArticleDTO>> result = readYourWrites(query);
 
         // then
         assertThat(result.isRight()).isTrue();
@@ -235,8 +248,8 @@ class GetAllArticlesHandlerTest {
         when(articleRepository.findAll()).thenReturn(Either.right(articles));
 
         // when
-        Either<Error, List<ArticleDTO>> result1 = handler.handle(query1);
-        Either<Error, List<ArticleDTO>> result2 = handler.handle(query2);
+        Either<Error, List<ArticleDTO>> result1 = readYourWrites(query1);
+        Either<Error, List<ArticleDTO>> result2 = readYourWrites(query2);
 
         // then
         assertThat(result1.isRight()).isTrue();
@@ -246,6 +259,61 @@ class GetAllArticlesHandlerTest {
         verify(articleRepository, org.mockito.Mockito.times(2)).findAll();
     }
 
+    @Test
+    void shouldServeFromReadModel_whenNoVersionRequired() {
+        // given
+        GetAllArticlesQuery query = GetAllArticlesQuery.validateThenCreate().get();
+        List<ArticleDTO> articles = List.of(new ArticleDTO("article-123", "Test Title", "Test content", "John Doe"));
+
+        when(articleReadModel.findAll()).thenReturn(Either.right(articles));
+
+        // when
+        Either<Error, List<ArticleDTO>> result = handler.handle(query);
+
+        // then
+        assertThat(result.get()).isSameAs(articles);
+        verify(articleRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldRecordVersionRead_whenServedFromReadModel() {
+        // given
+        GetAllArticlesQuery query = GetAllArticlesQuery.validateThenCreate().get();
+        ConsistencyToken token = ConsistencyToken.none();
+
+        when(articleReadModel.version()).thenReturn(12L);
+        when(articleReadModel.findAll()).thenReturn(Either.right(List.of()));
+
+        // when
+        ConsistencyToken.callWithin(token, () -> handler.handle(query));
+
+        // then
+        assertThat(token.read()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldRecordNoVersionRead_whenServedFromWriteSide() {
+        // given
+        GetAllArticlesQuery query = GetAllArticlesQuery.validateThenCreate().get();
+        ConsistencyToken token = ConsistencyToken.requiring(0);
+
+        when(articleRepository.findAll()).thenReturn(Either.right(List.of()));
+
+        // when
+        ConsistencyToken.callWithin(token, () -> handler.handle(query));
+
+        // then
+        assertThat(token.read()).isEqualTo(ConsistencyToken.NONE);
+    }
+
+    /**
+     * Handles the query for a client that wrote a version the read model has not reached yet, so that it is served
+     * from the write side.
+     */
+    private Either<Error, List<ArticleDTO>> readYourWrites(final GetAllArticlesQuery query) {
+        return ConsistencyToken.callWithin(ConsistencyToken.requiring(0), () -> handler.handle(query));
+    }
+
     private Article createArticle(String id, String title, String content, String authorName) {
         ArticleId articleId = ArticleId.validateThenCreate(id).get();
         Title articleTitle = Title.validateThenCreate(title).get();
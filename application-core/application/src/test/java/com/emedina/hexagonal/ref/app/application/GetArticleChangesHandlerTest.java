@@ -0,0 +1,69 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
+import com.emedina.hexagonal.ref.app.application.query.GetArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Either;
+
+/**
+ * Unit tests for GetArticleChangesHandler.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@ExtendWith(MockitoExtension.class)
+class GetArticleChangesHandlerTest {
+
+    @Mock
+    private ArticleReadModel articleReadModel;
+
+    private GetArticleChangesHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetArticleChangesHandler(articleReadModel);
+    }
+
+    @Test
+    void shouldReturnChangesFromReadModel_whenQueryIsValid() {
+        // given
+        GetArticleChangesQuery query = GetArticleChangesQuery.validateThenCreate("4").get();
+        ArticleChangesDTO changes = new ArticleChangesDTO(6, false,
+            List.of(new ArticleChangeDTO(6, ArticleChangeDTO.Type.DELETED, "article-1", null)));
+        when(articleReadModel.changesSince(4)).thenReturn(Either.right(changes));
+
+        // when
+        Either<Error, ArticleChangesDTO> result = handler.handle(query);
+
+        // then
+        assertThat(result.get()).isSameAs(changes);
+    }
+
+    @Test
+    void shouldReturnError_whenReadModelFails() {
+        // given
+        GetArticleChangesQuery query = GetArticleChangesQuery.validateThenCreate("-1").get();
+        Error error = new Error.TechnicalError.SomethingWentWrong("Read model unavailable");
+        when(articleReadModel.changesSince(-1)).thenReturn(Either.left(error));
+
+        // when
+        Either<Error, ArticleChangesDTO> result = handler.handle(query);
+
+        // then
+        assertThat(result.getLeft()).isEqualTo(error);
+    }
+
+}
@@ -15,6 +15,7 @@ import com.emedina.hexagonal.ref.app.application.command.UpdateArticleCommand;
 import com.emedina.hexagonal.ref.app.application.ports.out.AuthorOutputPort;
 import com.emedina.hexagonal.ref.app.domain.entities.Article;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
 import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 
@@ -34,6 +35,7 @@ class UpdateArticleHandlerTest {
     @Mock
     private ArticleRepository articleRepository;
 
+
     private UpdateArticleHandler handler;
 
     @BeforeEach
@@ -50,7 +52,7 @@ class UpdateArticleHandlerTest {
         AuthorDTO authorDTO = createValidAuthorDTO();
 
         when(authorOutputPort.lookupAuthor("author-456")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(null));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -61,6 +63,24 @@ class UpdateArticleHandlerTest {
         verify(articleRepository).update(any(Article.class));
     }
 
+    @Test
+    void shouldRecordVersionWritten_whenArticleUpdated() {
+        // given
+        UpdateArticleCommand command = UpdateArticleCommand.validateThenCreate(
+            "article-123", "author-456", "Updated Title", "Updated content").get();
+        ConsistencyToken token = ConsistencyToken.none();
+
+        when(authorOutputPort.lookupAuthor("author-456")).thenReturn(Either.right(createValidAuthorDTO()));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(7L));
+
+        // when
+        Either<Error, Void> result = ConsistencyToken.callWithin(token, () -> handler.handle(command));
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(token.written()).isEqualTo(7);
+    }
+
     @Test
     void shouldReturnError_whenAuthorLookupFails() {
         // given
@@ -125,7 +145,7 @@ class UpdateArticleHandlerTest {
         AuthorDTO authorDTO = new AuthorDTO("author-complex-456", "Jane Smith");
 
         when(authorOutputPort.lookupAuthor("author-complex-456")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(null));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(complexCommand);
@@ -145,7 +165,7 @@ class UpdateArticleHandlerTest {
         AuthorDTO authorDTO = createValidAuthorDTO();
 
         when(authorOutputPort.lookupAuthor("author-order")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(null));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -187,7 +207,7 @@ class UpdateArticleHandlerTest {
         AuthorDTO specialAuthor = new AuthorDTO("author-special", "José María García-López");
 
         when(authorOutputPort.lookupAuthor("author-special")).thenReturn(Either.right(specialAuthor));
-        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(null));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(command);
@@ -208,7 +228,7 @@ class UpdateArticleHandlerTest {
         AuthorDTO authorDTO = createValidAuthorDTO();
 
         when(authorOutputPort.lookupAuthor("author-unicode")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(null));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(unicodeCommand);
@@ -229,7 +249,7 @@ class UpdateArticleHandlerTest {
         AuthorDTO authorDTO = createValidAuthorDTO();
 
         when(authorOutputPort.lookupAuthor("author-minor")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(null));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(minorCommand);
@@ -260,7 +280,7 @@ class UpdateArticleHandlerTest {
         AuthorDTO authorDTO = createValidAuthorDTO();
 
         when(authorOutputPort.lookupAuthor("author-major")).thenReturn(Either.right(authorDTO));
-        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(null));
+        when(articleRepository.update(any(Article.class))).thenReturn(Either.right(1L));
 
         // when
         Either<Error, Void> result = handler.handle(majorCommand);
@@ -0,0 +1,67 @@
+package com.emedina.hexagonal.ref.app.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.emedina.hexagonal.ref.app.application.ports.in.ArticleChangeSubscription;
+import com.emedina.hexagonal.ref.app.application.query.WatchArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+
+/**
+ * Unit tests for WatchArticleChangesHandler.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@ExtendWith(MockitoExtension.class)
+class WatchArticleChangesHandlerTest {
+
+    @Mock
+    private ArticleChangeFeed articleChangeFeed;
+
+    private WatchArticleChangesHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new WatchArticleChangesHandler(articleChangeFeed);
+    }
+
+    @Test
+    void shouldSubscribeAfterLastVersion_whenQueryHasLastVersion() {
+        // given
+        WatchArticleChangesQuery query = WatchArticleChangesQuery.validateThenCreate("12").get();
+        ArticleChangeSubscription subscription = mock(ArticleChangeSubscription.class);
+        when(articleChangeFeed.subscribe(Option.some(12L))).thenReturn(subscription);
+
+        // when
+        Either<Error, ArticleChangeSubscription> result = handler.handle(query);
+
+        // then
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).isSameAs(subscription);
+    }
+
+    @Test
+    void shouldSubscribeFromNow_whenQueryHasNoLastVersion() {
+        // given
+        WatchArticleChangesQuery query = WatchArticleChangesQuery.validateThenCreate(null).get();
+        ArticleChangeSubscription subscription = mock(ArticleChangeSubscription.class);
+        when(articleChangeFeed.subscribe(Option.none())).thenReturn(subscription);
+
+        // when
+        Either<Error, ArticleChangeSubscription> result = handler.handle(query);
+
+        // then
+        assertThat(result.get()).isSameAs(subscription);
+    }
+
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 
 import static com.emedina.hexagonal.ref.app.shared.validation.Validations.validateMandatory;
 
@@ -44,6 +45,18 @@ public class Article {
                 .mapError(e -> new Error.ValidationErrors(e.toJavaList()));
     }
 
+    /**
+     * Creates a new instance of an article from fields that have already been validated, hence skipping any
+     * further validation.
+     *
+     * @param input  the already-validated fields of the article
+     * @param author the author of the article, created through a trusted route as well
+     * @return a new instance of an article
+     */
+    public static Article createFromValidated(final ValidatedInput.Article input, final Author author) {
+        return new Article(ArticleId.createFromValidated(input), new Title(input.title()), new Content(input.content()), author);
+    }
+
     public Boolean enforceEligibilityForPublication() {
         this.verifyForPlagiarism();
         this.validateTitleLength();
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 import com.emedina.hexagonal.ref.app.shared.validation.Validations;
 
 import java.util.List;
@@ -19,7 +20,7 @@ import java.util.List;
 @Getter
 @Accessors(fluent = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class ArticleId {
 
     @EqualsAndHashCode.Include
@@ -31,4 +32,14 @@ public class ArticleId {
                 .mapError(e -> new Error.ValidationErrors(List.of(e)));
     }
 
+    /**
+     * Creates the identifier of an article through the trusted route, without validating it again.
+     *
+     * @param input the already-validated fields of the article
+     * @return the identifier of the article
+     */
+    public static ArticleId createFromValidated(final ValidatedInput.Article input) {
+        return new ArticleId(input.id());
+    }
+
 }
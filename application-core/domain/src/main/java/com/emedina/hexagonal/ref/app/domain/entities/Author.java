@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 
 import static com.emedina.hexagonal.ref.app.shared.validation.Validations.validateMandatory;
 
@@ -32,4 +33,15 @@ public class Author {
                 .mapError(e -> new Error.ValidationErrors(e.toJavaList()));
     }
 
+    /**
+     * Creates a new instance of an author from fields that have already been validated, hence skipping any
+     * further validation.
+     *
+     * @param input the already-validated fields of the author
+     * @return a new instance of an author
+     */
+    public static Author createFromValidated(final ValidatedInput.Author input) {
+        return new Author(new AuthorId(input.id()), new PersonName(input.name()));
+    }
+
 }
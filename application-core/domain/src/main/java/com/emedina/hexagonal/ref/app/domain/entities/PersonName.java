@@ -20,7 +20,7 @@ import lombok.experimental.Accessors;
 @Getter
 @Accessors(fluent = true)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class PersonName {
 
     @EqualsAndHashCode.Include
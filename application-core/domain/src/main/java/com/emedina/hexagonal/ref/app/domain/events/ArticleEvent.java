@@ -0,0 +1,46 @@
+package com.emedina.hexagonal.ref.app.domain.events;
+
+import java.time.Instant;
+
+import com.emedina.hexagonal.ref.app.domain.entities.Article;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+
+/**
+ * Represents something that happened to an article in our Domain Model, once it has been stored.
+ *
+ * @author Enrique Medina Montenegro
+ */
+public sealed interface ArticleEvent {
+
+    /**
+     * The identifier of the article the event is about.
+     */
+    ArticleId id();
+
+    /**
+     * The instant the event happened at.
+     */
+    Instant occurredAt();
+
+    record ArticleCreated(Article article, Instant occurredAt) implements ArticleEvent {
+
+        @Override
+        public ArticleId id() {
+            return this.article.id();
+        }
+
+    }
+
+    record ArticleUpdated(Article article, Instant occurredAt) implements ArticleEvent {
+
+        @Override
+        public ArticleId id() {
+            return this.article.id();
+        }
+
+    }
+
+    record ArticleDeleted(ArticleId id, Instant occurredAt) implements ArticleEvent {
+    }
+
+}
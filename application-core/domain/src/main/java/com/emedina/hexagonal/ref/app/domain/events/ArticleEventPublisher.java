@@ -0,0 +1,22 @@
+package com.emedina.hexagonal.ref.app.domain.events;
+
+/**
+ * Publishes the events of the articles to whoever subscribed to them.
+ * <p>
+ * Publishing is fire-and-forget: the subscribers react to the events asynchronously, so that they add no latency to
+ * the command that caused them.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+public interface ArticleEventPublisher {
+
+    /**
+     * Publishes an event.
+     *
+     * @param event the event to publish
+     * @return the sequence number of the event, i.e. the version of the articles it brings them to
+     */
+    long publish(final ArticleEvent event);
+
+}
@@ -0,0 +1,23 @@
+package com.emedina.hexagonal.ref.app.domain.events;
+
+/**
+ * Reacts to the events of the articles, e.g. to keep a projection, a cache or an index up to date.
+ * <p>
+ * Events are delivered in the order they were published, one subscriber at a time and in batches, so that a
+ * subscriber may defer any expensive work, e.g. a flush, to the end of the batch.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+public interface ArticleEventSubscriber {
+
+    /**
+     * Handles an event.
+     *
+     * @param event      the event to handle
+     * @param sequence   the sequence number of the event, increasing by one with every published event
+     * @param endOfBatch whether the event is the last one of the batch being delivered
+     */
+    void onEvent(final ArticleEvent event, final long sequence, final boolean endOfBatch);
+
+}
@@ -10,6 +10,12 @@ import java.util.List;
 
 /**
  * A repository for articles.
+ * <p>
+ * Every change publishes the {@link com.emedina.hexagonal.ref.app.domain.events.ArticleEvent} telling about it within
+ * the same critical section as the change itself, so that the sequence numbers of the events follow the order the
+ * changes were stored in, and answers that sequence number, i.e. the version of the articles the change brought them
+ * to.
+ * </p>
  *
  * @autor Enrique Medina Montenegro
  */
@@ -26,19 +32,34 @@ public interface ArticleRepository {
      */
     Either<Error, Article> findById(final ArticleId id);
 
+    /**
+     * Gets the version of the articles, i.e. the sequence number of the event of the last change stored, or {@code -1}
+     * if nothing was changed yet; no change answered a version above it.
+     */
+    long version();
+
+    /**
+     * Creates an article, unless one with the same identifier already exists.
+     * <p>
+     * The check and the insertion are atomic, so that of concurrent creations of the same article only one succeeds,
+     * the others failing with {@link Error.BusinessError.DuplicateArticle}.
+     * </p>
+     */
+    Either<Error, Long> create(final Article article);
+
     /**
      * Saves an article.
      */
-    Either<Error, Void> save(final Article article);
+    Either<Error, Long> save(final Article article);
 
     /**
      * Updates an article.
      */
-    Either<Error, Void> update(final Article article);
+    Either<Error, Long> update(final Article article);
 
     /**
      * Deletes an article.
      */
-    Either<Error, Void> delete(final ArticleId id);
+    Either<Error, Long> delete(final ArticleId id);
 
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
 
 import io.vavr.control.Validation;
@@ -169,4 +170,17 @@ class ArticleIdTest {
         // then
         assertThat(actualValue).isEqualTo(expectedValue);
     }
+
+    @Test
+    void shouldCreateArticleIdWithoutFurtherValidation_whenValidatedInputProvided() {
+        // given
+        ValidatedInput.Article input = ValidatedInput.Article.validateThenCreate("article-trusted", "author-123",
+            "Trusted Title", "Trusted content").get();
+
+        // when
+        ArticleId articleId = ArticleId.createFromValidated(input);
+
+        // then
+        assertThat(articleId).isEqualTo(ArticleId.validateThenCreate("article-trusted").get());
+    }
 }
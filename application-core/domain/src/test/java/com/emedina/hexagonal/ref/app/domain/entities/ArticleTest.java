@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
 
 import io.vavr.control.Validation;
@@ -344,6 +345,23 @@ class ArticleTest {
         assertThat(actualAuthor).isEqualTo(expectedAuthor);
     }
 
+    @Test
+    void shouldCreateArticleWithoutFurtherValidation_whenValidatedInputProvided() {
+        // given
+        ValidatedInput.Article input = ValidatedInput.Article.validateThenCreate("article-trusted", "author-123",
+            "Trusted Title", "Trusted content").get();
+        Author author = createValidAuthor();
+
+        // when
+        Article article = Article.createFromValidated(input, author);
+
+        // then
+        assertThat(article.id()).isEqualTo(ArticleId.validateThenCreate("article-trusted").get());
+        assertThat(article.title()).isEqualTo(Title.validateThenCreate("Trusted Title").get());
+        assertThat(article.content()).isEqualTo(Content.validateThenCreate("Trusted content").get());
+        assertThat(article.author()).isEqualTo(author);
+    }
+
     private Author createValidAuthor() {
         AuthorId authorId = AuthorId.validateThenCreate("author-123").get();
         PersonName authorName = PersonName.validateThenCreate("John Doe").get();
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
 
 import io.vavr.control.Validation;
@@ -245,4 +246,17 @@ class AuthorTest {
         assertThat(author.id()).isEqualTo(id);
         assertThat(author.name()).isEqualTo(longName);
     }
+
+    @Test
+    void shouldCreateAuthorWithoutFurtherValidation_whenValidatedInputProvided() {
+        // given
+        ValidatedInput.Author input = ValidatedInput.Author.validateThenCreate("author-trusted", "Jane Austen").get();
+
+        // when
+        Author author = Author.createFromValidated(input);
+
+        // then
+        assertThat(author.id()).isEqualTo(AuthorId.validateThenCreate("author-trusted").get());
+        assertThat(author.name()).isEqualTo(PersonName.validateThenCreate("Jane Austen").get());
+    }
 }
@@ -0,0 +1,74 @@
+package com.emedina.hexagonal.ref.app.domain.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.domain.entities.Article;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.entities.Author;
+import com.emedina.hexagonal.ref.app.domain.entities.AuthorId;
+import com.emedina.hexagonal.ref.app.domain.entities.Content;
+import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
+import com.emedina.hexagonal.ref.app.domain.entities.Title;
+
+/**
+ * Unit tests for ArticleEvent.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class ArticleEventTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void shouldExposeArticleId_whenArticleCreated() {
+        // given
+        Article article = createArticle("article-123");
+
+        // when
+        ArticleEvent event = new ArticleEvent.ArticleCreated(article, NOW);
+
+        // then
+        assertThat(event.id()).isEqualTo(article.id());
+        assertThat(event.occurredAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void shouldExposeArticleId_whenArticleUpdated() {
+        // given
+        Article article = createArticle("article-456");
+
+        // when
+        ArticleEvent event = new ArticleEvent.ArticleUpdated(article, NOW);
+
+        // then
+        assertThat(event.id()).isEqualTo(article.id());
+        assertThat(event.occurredAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void shouldExposeArticleId_whenArticleDeleted() {
+        // given
+        ArticleId id = ArticleId.validateThenCreate("article-789").get();
+
+        // when
+        ArticleEvent event = new ArticleEvent.ArticleDeleted(id, NOW);
+
+        // then
+        assertThat(event.id()).isEqualTo(id);
+        assertThat(event.occurredAt()).isEqualTo(NOW);
+    }
+
+    private static Article createArticle(final String id) {
+        return Article.validateThenCreate(
+            ArticleId.validateThenCreate(id).get(),
+            Title.validateThenCreate("Test Title").get(),
+            Content.validateThenCreate("Test content").get(),
+            Author.validateThenCreate(AuthorId.validateThenCreate("author-1").get(),
+                PersonName.validateThenCreate("John Doe").get()).get()).get();
+    }
+
+}
@@ -6,10 +6,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidatedInput;
 import com.emedina.sharedkernel.command.Command;
 
-import static com.emedina.hexagonal.ref.app.shared.validation.Validations.validateText;
-
 /**
  * Command to encapsulate a request to create an article.
  *
@@ -20,16 +19,31 @@ import static com.emedina.hexagonal.ref.app.shared.validation.Validations.valida
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class CreateArticleCommand implements Command {
 
-    private final String id;
-    private final String authorId;
-    private final String title;
-    private final String content;
+    /**
+     * The already-validated fields, which can be handed over to the Domain Model without validating them again.
+     */
+    private final ValidatedInput.Article input;
 
     public static Validation<Error, CreateArticleCommand> validateThenCreate(final String id, final String authorId,
                                                                              final String title, final String content) {
-        return Validation.combine(validateText(id), validateText(authorId), validateText(title), validateText(content))
-                .ap(CreateArticleCommand::new)
-                .mapError(e -> new Error.ValidationErrors(e.toJavaList()));
+        return ValidatedInput.Article.validateThenCreate(id, authorId, title, content)
+                .map(CreateArticleCommand::new);
+    }
+
+    public String id() {
+        return this.input.id();
+    }
+
+    public String authorId() {
+        return this.input.authorId();
+    }
+
+    public String title() {
+        return this.input.title();
+    }
+
+    public String content() {
+        return this.input.content();
     }
 
 }
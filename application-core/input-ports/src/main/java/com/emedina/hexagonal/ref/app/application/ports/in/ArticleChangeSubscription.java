@@ -0,0 +1,43 @@
+package com.emedina.hexagonal.ref.app.application.ports.in;
+
+import java.time.Duration;
+
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+
+import io.vavr.control.Option;
+
+/**
+ * Subscription to the changes of the articles, delivered in version order.
+ * <p>
+ * Changes are buffered per subscription up to a fixed bound. A subscriber that falls that far behind is dropped:
+ * its subscription becomes {@link #isOverflowed() overflowed} and receives nothing more, and it is expected to
+ * subscribe again after the version of the last change it took.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+public interface ArticleChangeSubscription extends AutoCloseable {
+
+    /**
+     * Takes the next change, waiting for it up to the given timeout.
+     *
+     * @param timeout how long to wait for a change
+     * @return the next change, or nothing if none arrived in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Option<ArticleChangeDTO> next(Duration timeout) throws InterruptedException;
+
+    /**
+     * Tells whether the subscription was dropped for falling too far behind.
+     *
+     * @return {@code true} if no more changes will be delivered
+     */
+    boolean isOverflowed();
+
+    /**
+     * Cancels the subscription.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,18 @@
+package com.emedina.hexagonal.ref.app.application.ports.in;
+
+import com.emedina.hexagonal.ref.app.application.query.GetArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.sharedkernel.application.annotation.UseCase;
+import com.emedina.sharedkernel.query.core.QueryHandler;
+
+/**
+ * Use case to get the changes of the articles after a given version, for incremental synchronisation.
+ *
+ * @author Enrique Medina Montenegro
+ * @see UseCase
+ */
+@UseCase
+public interface GetArticleChangesUseCase
+        extends QueryHandler<Error, ArticleChangesDTO, GetArticleChangesQuery> {
+}
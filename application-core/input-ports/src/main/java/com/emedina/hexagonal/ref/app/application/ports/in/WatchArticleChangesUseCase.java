@@ -0,0 +1,17 @@
+package com.emedina.hexagonal.ref.app.application.ports.in;
+
+import com.emedina.hexagonal.ref.app.application.query.WatchArticleChangesQuery;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.sharedkernel.application.annotation.UseCase;
+import com.emedina.sharedkernel.query.core.QueryHandler;
+
+/**
+ * Use case to watch the changes of the articles.
+ *
+ * @author Enrique Medina Montenegro
+ * @see UseCase
+ */
+@UseCase
+public interface WatchArticleChangesUseCase
+        extends QueryHandler<Error, ArticleChangeSubscription, WatchArticleChangesQuery> {
+}
@@ -0,0 +1,45 @@
+package com.emedina.hexagonal.ref.app.application.query;
+
+import java.util.List;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
+import com.emedina.sharedkernel.query.Query;
+
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Query to encapsulate a request to get the changes of the articles after a given version, i.e. the high-water mark
+ * of the previous synchronisation, or {@code -1} to synchronise from scratch.
+ *
+ * @author Enrique Medina Montenegro
+ * @see Query
+ */
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetArticleChangesQuery implements Query {
+
+    private final long since;
+
+    /**
+     * Validates the version to get the changes after, then creates the query.
+     *
+     * @param since the version to get the changes after
+     * @return the query, or an error if the version is not a number of at least {@code -1}
+     */
+    public static Validation<Error, GetArticleChangesQuery> validateThenCreate(final String since) {
+        return Try.of(() -> Long.parseLong(since.strip()))
+            .filter(version -> version >= -1L)
+            .<Validation<ValidationError, Long>>map(Validation::valid)
+            .getOrElse(() -> Validation.invalid(new ValidationError.Invalid(since)))
+            .map(GetArticleChangesQuery::new)
+            .mapError(e -> new Error.ValidationErrors(List.of(e)));
+    }
+
+}
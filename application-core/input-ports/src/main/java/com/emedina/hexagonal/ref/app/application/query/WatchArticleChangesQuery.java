@@ -0,0 +1,49 @@
+package com.emedina.hexagonal.ref.app.application.query;
+
+import java.util.List;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
+import com.emedina.sharedkernel.query.Query;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Query to encapsulate a request to watch the changes of the articles, optionally resuming after the version of the
+ * last change already seen.
+ *
+ * @author Enrique Medina Montenegro
+ * @see Query
+ */
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class WatchArticleChangesQuery implements Query {
+
+    private final Option<Long> lastVersion;
+
+    /**
+     * Validates the version to resume after, if any, then creates the query.
+     *
+     * @param lastVersion the version of the last change already seen, blank to only watch the changes from now on
+     * @return the query, or an error if the version is not a non-negative number
+     */
+    public static Validation<Error, WatchArticleChangesQuery> validateThenCreate(final String lastVersion) {
+        if (lastVersion == null || lastVersion.isBlank()) {
+            return Validation.valid(new WatchArticleChangesQuery(Option.none()));
+        }
+        return Try.of(() -> Long.parseLong(lastVersion.strip()))
+            .filter(version -> version >= 0L)
+            .<Validation<ValidationError, Long>>map(Validation::valid)
+            .getOrElse(() -> Validation.invalid(new ValidationError.Invalid(lastVersion)))
+            .map(version -> new WatchArticleChangesQuery(Option.some(version)))
+            .mapError(e -> new Error.ValidationErrors(List.of(e)));
+    }
+
+}
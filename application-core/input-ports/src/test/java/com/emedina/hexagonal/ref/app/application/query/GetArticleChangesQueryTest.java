@@ -0,0 +1,78 @@
+package com.emedina.hexagonal.ref.app.application.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
+
+import io.vavr.control.Validation;
+
+/**
+ * Unit tests for GetArticleChangesQuery.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class GetArticleChangesQueryTest {
+
+    @Test
+    void shouldCreateValidQuery_whenValidVersionProvided() {
+        // when
+        Validation<Error, GetArticleChangesQuery> result = GetArticleChangesQuery.validateThenCreate(" 17 ");
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.get().since()).isEqualTo(17L);
+    }
+
+    @Test
+    void shouldCreateValidQuery_whenSynchronisingFromScratch() {
+        // when
+        Validation<Error, GetArticleChangesQuery> result = GetArticleChangesQuery.validateThenCreate("-1");
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.get().since()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldReturnValidationError_whenVersionBelowMinusOneProvided() {
+        // given
+        String since = "-2";
+
+        // when
+        Validation<Error, GetArticleChangesQuery> result = GetArticleChangesQuery.validateThenCreate(since);
+
+        // then
+        assertThat(result.isInvalid()).isTrue();
+        Error.ValidationErrors validationErrors = (Error.ValidationErrors) result.getError();
+        assertThat(validationErrors.errors()).containsExactly(new ValidationError.Invalid(since));
+    }
+
+    @Test
+    void shouldReturnValidationError_whenNonNumericVersionProvided() {
+        // given
+        String since = "yesterday";
+
+        // when
+        Validation<Error, GetArticleChangesQuery> result = GetArticleChangesQuery.validateThenCreate(since);
+
+        // then
+        assertThat(result.isInvalid()).isTrue();
+        Error.ValidationErrors validationErrors = (Error.ValidationErrors) result.getError();
+        assertThat(validationErrors.errors()).containsExactly(new ValidationError.Invalid(since));
+    }
+
+    @Test
+    void shouldReturnValidationError_whenNullVersionProvided() {
+        // when
+        Validation<Error, GetArticleChangesQuery> result = GetArticleChangesQuery.validateThenCreate(null);
+
+        // then
+        assertThat(result.isInvalid()).isTrue();
+        Error.ValidationErrors validationErrors = (Error.ValidationErrors) result.getError();
+        assertThat(validationErrors.errors()).containsExactly(new ValidationError.Invalid(null));
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.emedina.hexagonal.ref.app.application.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.hexagonal.ref.app.shared.validation.ValidationError;
+
+import io.vavr.control.Option;
+import io.vavr.control.Validation;
+
+/**
+ * Unit tests for WatchArticleChangesQuery.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class WatchArticleChangesQueryTest {
+
+    @Test
+    void shouldWatchFromNow_whenNullLastVersionProvided() {
+        // when
+        Validation<Error, WatchArticleChangesQuery> result = WatchArticleChangesQuery.validateThenCreate(null);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.get().lastVersion()).isEqualTo(Option.none());
+    }
+
+    @Test
+    void shouldWatchFromNow_whenBlankLastVersionProvided() {
+        // when
+        Validation<Error, WatchArticleChangesQuery> result = WatchArticleChangesQuery.validateThenCreate("  ");
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.get().lastVersion()).isEqualTo(Option.none());
+    }
+
+    @Test
+    void shouldResumeAfterLastVersion_whenValidLastVersionProvided() {
+        // given
+        String lastVersion = " 42 ";
+
+        // when
+        Validation<Error, WatchArticleChangesQuery> result = WatchArticleChangesQuery.validateThenCreate(lastVersion);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.get().lastVersion()).isEqualTo(Option.some(42L));
+    }
+
+    @Test
+    void shouldReturnValidationError_whenNegativeLastVersionProvided() {
+        // given
+        String lastVersion = "-1";
+
+        // when
+        Validation<Error, WatchArticleChangesQuery> result = WatchArticleChangesQuery.validateThenCreate(lastVersion);
+
+        // then
+        assertThat(result.isInvalid()).isTrue();
+        Error.ValidationErrors validationErrors = (Error.ValidationErrors) result.getError();
+        assertThat(validationErrors.errors()).containsExactly(new ValidationError.Invalid(lastVersion));
+    }
+
+    @Test
+    void shouldReturnValidationError_whenNonNumericLastVersionProvided() {
+        // given
+        String lastVersion = "abc";
+
+        // when
+        Validation<Error, WatchArticleChangesQuery> result = WatchArticleChangesQuery.validateThenCreate(lastVersion);
+
+        // then
+        assertThat(result.isInvalid()).isTrue();
+        Error.ValidationErrors validationErrors = (Error.ValidationErrors) result.getError();
+        assertThat(validationErrors.errors()).containsExactly(new ValidationError.Invalid(lastVersion));
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.emedina.hexagonal.ref.app.application.ports.out;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.sharedkernel.application.annotation.OutputPort;
+
+import io.vavr.control.Either;
+
+/**
+ * This port abstracts away the storage of the read model of the articles, i.e. the articles ready to be served by
+ * the queries, kept apart from the aggregates of the write side.
+ * <p>
+ * The read model is maintained asynchronously from the events of the articles, so it lags behind the write side;
+ * its {@link #version()} tells how far it got, as the sequence number of the last event applied to it.
+ * </p>
+ * <p>
+ * Every change is indexed by its version too, so that consumers synchronise incrementally through
+ * {@link #changesSince(long)}.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@OutputPort
+public interface ArticleReadModel {
+
+    /**
+     * Finds an article by its identifier.
+     *
+     * @param id the identifier of the article
+     * @return either the article or an error
+     */
+    Either<Error, ArticleDTO> findById(final String id);
+
+    /**
+     * Gets all the articles.
+     *
+     * @return either the list of articles or an error
+     */
+    Either<Error, List<ArticleDTO>> findAll();
+
+    /**
+     * Gets the latest change of every article changed after the given version, in version order.
+     *
+     * @param version the version to get the changes after, {@code -1} for all of them
+     * @return either the changes, up to the version of the read model, or an error
+     */
+    Either<Error, ArticleChangesDTO> changesSince(final long version);
+
+    /**
+     * Stores an article, as of the given version, unless a change of the article at a later version was already
+     * applied.
+     *
+     * @param article the article
+     * @param version the version the article was changed at
+     */
+    void put(final ArticleDTO article, final long version);
+
+    /**
+     * Removes an article, as of the given version, unless a change of the article at a later version was already
+     * applied.
+     *
+     * @param id      the identifier of the article
+     * @param version the version the article was removed at
+     */
+    void remove(final String id, final long version);
+
+    /**
+     * Gets the version of the read model.
+     *
+     * @return the version of the last change applied, or {@code -1} if none was applied yet
+     */
+    long version();
+
+    /**
+     * Waits for the read model to reach the given version.
+     *
+     * @param version the version to wait for
+     * @param timeout the maximum time to wait
+     * @return whether the read model reached the version in time
+     */
+    boolean awaitVersion(final long version, final Duration timeout);
+
+}
@@ -1,5 +1,8 @@
 package com.emedina.hexagonal.ref.app.application.ports.out;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import io.vavr.control.Either;
 import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
@@ -16,4 +19,19 @@ public interface AuthorOutputPort {
 
     Either<Error, AuthorDTO> lookupAuthor(final String id);
 
+    /**
+     * Asynchronous counterpart of {@link #lookupAuthor(String)}, letting callers overlap many lookups without
+     * holding a thread per outstanding one.
+     * <p>
+     * The default implementation simply completes with the result of the synchronous lookup, so adapters are
+     * expected to override it on top of a non-blocking client.
+     * </p>
+     *
+     * @param id the id of the author to lookup
+     * @return a stage completed with either an error or the author with the given id
+     */
+    default CompletionStage<Either<Error, AuthorDTO>> lookupAuthorAsync(final String id) {
+        return CompletableFuture.completedStage(this.lookupAuthor(id));
+    }
+
 }
@@ -0,0 +1,60 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Non-blocking client of the author API on top of the JDK {@link HttpClient}.
+ * <p>
+ * Requests are sent with {@link HttpClient#sendAsync}, so no thread waits for an outstanding lookup: responses are
+ * read by the selector of the client and decoded on its executor.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@RequiredArgsConstructor
+final class AuthorApiAsyncClient {
+
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper;
+    private final URI baseUrl;
+    private final Duration readTimeout;
+
+    /**
+     * Fetches the author with the given id.
+     *
+     * @param id the id of the author
+     * @return a future completed with the author, or exceptionally if the request failed or was not answered with
+     *         {@code 200 OK}, with an {@link AuthorApiStatusException} in the latter case
+     */
+    CompletableFuture<AuthorDTO> fetchAuthor(final String id) {
+        final HttpRequest request = HttpRequest.newBuilder(UriComponentsBuilder.fromUri(this.baseUrl)
+                .path(AuthorExternalAPIAdapter.AUTHOR_URI)
+                .buildAndExpand(id)
+                .encode()
+                .toUri())
+            .header("Accept", "application/json")
+            .timeout(this.readTimeout)
+            .GET()
+            .build();
+        return this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> {
+                if (response.statusCode() != 200) {
+                    throw new AuthorApiStatusException(response.statusCode());
+                }
+                return this.jsonMapper.readValue(response.body(), AuthorDTO.class);
+            });
+    }
+
+}
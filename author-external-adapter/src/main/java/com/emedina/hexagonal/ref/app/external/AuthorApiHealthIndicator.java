@@ -0,0 +1,37 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Health of the author API as seen through the resilience mechanisms of the {@link AuthorExternalAPIAdapter}.
+ * <p>
+ * An open circuit is reported as {@link #DEGRADED} rather than down: articles can still be written with the last
+ * known authors, so the application must not be taken out of rotation because of it.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Component
+@RequiredArgsConstructor
+final class AuthorApiHealthIndicator implements HealthIndicator {
+
+    static final String DEGRADED = "DEGRADED";
+
+    private final AuthorExternalAPIAdapter adapter;
+
+    @Override
+    public Health health() {
+        final AuthorLookupResilience resilience = this.adapter.resilience();
+        final AuthorCircuitBreaker.State state = resilience.circuitState();
+        final Health.Builder builder = state == AuthorCircuitBreaker.State.OPEN ? Health.status(DEGRADED) : Health.up();
+        return builder.withDetail("circuit", state)
+            .withDetail("availableCalls", resilience.availableCalls())
+            .withDetail("staleEntries", resilience.staleEntries())
+            .build();
+    }
+
+}
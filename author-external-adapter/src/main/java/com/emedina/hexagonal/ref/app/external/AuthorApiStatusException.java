@@ -0,0 +1,52 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import java.io.Serial;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Option;
+
+/**
+ * Failure of a call to the author API that was answered with an error status.
+ * <p>
+ * A client error, other than a timeout or throttling, is a rejection of the lookup itself: the author API is healthy
+ * and asking again would get the same answer, so it is neither retried nor counted against the API, and it is
+ * reported as the business error it stands for.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class AuthorApiStatusException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    AuthorApiStatusException(final int status) {
+        super("Author API answered [" + status + "]");
+        this.status = status;
+    }
+
+    int status() {
+        return this.status;
+    }
+
+    /**
+     * Gets the business error the given failure stands for, if it is a rejection of the lookup.
+     *
+     * @param id      the id of the author looked up
+     * @param failure the failure of the call
+     * @return the business error, or none if the failure is a technical one
+     */
+    static Option<Error> rejectionOf(final String id, final Throwable failure) {
+        if (!(failure instanceof AuthorApiStatusException e) || e.status < 400 || e.status >= 500
+                || e.status == 408 || e.status == 429) {
+            return Option.none();
+        }
+        return Option.of(e.status == 404 || e.status == 410
+            ? new Error.BusinessError.UnknownAuthor(id)
+            : new Error.BusinessError.InvalidAuthorId(id));
+    }
+
+}
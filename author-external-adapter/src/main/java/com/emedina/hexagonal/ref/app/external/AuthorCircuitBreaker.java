@@ -0,0 +1,160 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker guarding the calls to the author API.
+ * <p>
+ * The outcome of the last {@link #WINDOW} calls is kept, and the circuit opens when at least {@link #MIN_CALLS} of
+ * them were recorded and either the failure rate or the slow-call rate reaches {@link #FAILURE_RATE_THRESHOLD}.
+ * While open, calls are rejected without reaching the author API; once the open duration elapses the circuit turns
+ * half-open and lets {@link #HALF_OPEN_CALLS} trial calls through, closing again if all of them are healthy and
+ * reopening as soon as one is not.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+final class AuthorCircuitBreaker {
+
+    static final int WINDOW = 50;
+    static final int MIN_CALLS = 20;
+    static final double FAILURE_RATE_THRESHOLD = 0.5;
+    static final int HALF_OPEN_CALLS = 5;
+
+    /**
+     * States of the circuit.
+     */
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] failed = new boolean[WINDOW];
+    private final boolean[] slow = new boolean[WINDOW];
+    private int calls;
+    private int next;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    AuthorCircuitBreaker(final Duration slowCallThreshold, final Duration openDuration, final LongSupplier nanoClock) {
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Tries to get permission for a call.
+     *
+     * @return {@code true} if the call may proceed, in which case its outcome must be recorded through
+     *         {@link #onResult(boolean, long)} or the permission given back through {@link #release()}; {@code false}
+     *         if the circuit rejects it
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (this.state == State.OPEN) {
+            if (this.nanoClock.getAsLong() - this.openedAt < this.openNanos) {
+                return false;
+            }
+            this.transitionTo(State.HALF_OPEN);
+            this.halfOpenPermits = HALF_OPEN_CALLS;
+            this.halfOpenSuccesses = 0;
+        }
+        if (this.state == State.HALF_OPEN) {
+            if (this.halfOpenPermits == 0) {
+                return false;
+            }
+            this.halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param failure       whether the call failed
+     * @param durationNanos the duration of the call
+     */
+    synchronized void onResult(final boolean failure, final long durationNanos) {
+        final boolean slowCall = durationNanos >= this.slowCallNanos;
+        switch (this.state) {
+            case HALF_OPEN -> {
+                if (failure || slowCall) {
+                    this.open();
+                } else if (++this.halfOpenSuccesses == HALF_OPEN_CALLS) {
+                    this.close();
+                }
+            }
+            case CLOSED -> {
+                this.record(failure, slowCall);
+                if (this.calls >= MIN_CALLS && (this.failures >= this.calls * FAILURE_RATE_THRESHOLD
+                        || this.slowCalls >= this.calls * FAILURE_RATE_THRESHOLD)) {
+                    this.open();
+                }
+            }
+            case OPEN -> {
+                // late outcome of a call permitted before the circuit opened
+            }
+        }
+    }
+
+    /**
+     * Gives back the permission for a call whose outcome says nothing about the health of the author API, such as a
+     * call abandoned by its caller or one the author API rejected as invalid; nothing is recorded.
+     */
+    synchronized void release() {
+        if (this.state == State.HALF_OPEN && this.halfOpenPermits + this.halfOpenSuccesses < HALF_OPEN_CALLS) {
+            this.halfOpenPermits++;
+        }
+    }
+
+    synchronized State state() {
+        return this.state;
+    }
+
+    private void record(final boolean failure, final boolean slowCall) {
+        if (this.calls == WINDOW) {
+            this.failures -= this.failed[this.next] ? 1 : 0;
+            this.slowCalls -= this.slow[this.next] ? 1 : 0;
+        } else {
+            this.calls++;
+        }
+        this.failed[this.next] = failure;
+        this.slow[this.next] = slowCall;
+        this.failures += failure ? 1 : 0;
+        this.slowCalls += slowCall ? 1 : 0;
+        this.next = (this.next + 1) % WINDOW;
+    }
+
+    private void open() {
+        this.openedAt = this.nanoClock.getAsLong();
+        this.transitionTo(State.OPEN);
+    }
+
+    private void close() {
+        this.calls = 0;
+        this.next = 0;
+        this.failures = 0;
+        this.slowCalls = 0;
+        this.transitionTo(State.CLOSED);
+    }
+
+    private void transitionTo(final State newState) {
+        log.atInfo().setMessage("Author API circuit transitioning from [{}] to [{}]")
+            .addArgument(this.state)
+            .addArgument(newState)
+            .log();
+        this.state = newState;
+    }
+
+}
@@ -1,37 +1,160 @@
 package com.emedina.hexagonal.ref.app.external;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.web.client.RestClient;
 
 import com.emedina.hexagonal.ref.app.application.ports.out.AuthorOutputPort;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
 import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.sharedkernel.application.annotation.Adapter;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vavr.control.Either;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Implementation of {@link AuthorOutputPort} that uses an external API to fetch information about authors.
+ * <p>
+ * Lookups are hedged by an {@link AuthorLookupHedger}, whose budget is configured through the
+ * {@code author.api.hedging.budget} property, zero disabling hedging altogether.
+ * </p>
+ * <p>
+ * They are also guarded by an {@link AuthorLookupResilience}, which serves the last known version of an author when
+ * the author API is failing, too slow or saturated.
+ * </p>
+ * <p>
+ * Unless the {@code author.api.remote} property is set, the author API is only simulated and no request leaves the
+ * application. Asynchronous lookups use an {@link AuthorApiAsyncClient} instead of the blocking {@link RestClient}.
+ * </p>
+ * <p>
+ * The requests outstanding on the author API, synchronous or not, hedges included, are exposed in the
+ * {@code author.api.client.in-flight} gauge; as HTTP/2 multiplexes them over one connection, it is also the number of
+ * streams open on it. The JDK {@link HttpClient} exposes no statistics of its connection pool, so the number of open
+ * or idle connections is not measured.
+ * </p>
+ * <p>
+ * Closing the adapter, as the container does on shutdown, closes its {@link AuthorLookupHedger}.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
 @Adapter
 @RequiredArgsConstructor
-class AuthorExternalAPIAdapter implements AuthorOutputPort {
+class AuthorExternalAPIAdapter implements AuthorOutputPort, AutoCloseable {
+
+    static final String AUTHOR_URI = "/authors/{id}";
 
     private final RestClient restClient;
+    private final AuthorApiAsyncClient asyncClient;
+    private final AuthorLookupHedger hedger;
+    @Getter(AccessLevel.PACKAGE)
+    private final AuthorLookupResilience resilience;
+    private final boolean remote;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Autowired
+    AuthorExternalAPIAdapter(final RestClient restClient, final HttpClient httpClient, final JsonMapper jsonMapper,
+            final MeterRegistry registry,
+            @Value("${author.api.base-url:http://localhost:8086}") final URI baseUrl,
+            @Value("${author.api.read-timeout:2s}") final Duration readTimeout,
+            @Value("${author.api.hedging.budget:" + AuthorLookupHedger.DEFAULT_BUDGET + "}") final double budget,
+            @Value("${author.api.remote:false}") final boolean remote) {
+        this(restClient, new AuthorApiAsyncClient(httpClient, jsonMapper, baseUrl, readTimeout), registry, budget,
+                remote);
+    }
+
+    AuthorExternalAPIAdapter(final RestClient restClient, final AuthorApiAsyncClient asyncClient,
+            final MeterRegistry registry, final double budget, final boolean remote) {
+        this(restClient, asyncClient, new AuthorLookupHedger(registry, budget),
+                new AuthorLookupResilience(registry, AuthorLookupResilience.Settings.DEFAULTS), remote);
+        Gauge.builder("author.api.client.in-flight", this.inFlight, AtomicInteger::get)
+            .description("Requests outstanding on the author API, i.e. HTTP/2 streams open")
+            .register(registry);
+    }
 
     /**
      * Lookup the author with the given id.
      *
      * @param id the id of the author to lookup
-     * @return either an error or the author with the given id
+     * @return either an error or the author with the given id, possibly its last known version if the author API is
+     *         unavailable; an error also if the deadline of the current request expired
      */
     @Override
     public Either<Error, AuthorDTO> lookupAuthor(String id) {
+        return Deadline.check(Deadline.Stage.AUTHOR_LOOKUP)
+            .flatMap(v -> this.resilience.lookup(id, () -> this.hedger.call(() -> this.fetchAuthor(id))));
+    }
+
+    /**
+     * Lookup the author with the given id without blocking the calling thread.
+     * <p>
+     * Asynchronous lookups are not hedged, as hedging relies on a thread waiting for the first request.
+     * </p>
+     *
+     * @param id the id of the author to lookup
+     * @return a stage completed with either an error or the author with the given id, possibly its last known version
+     *         if the author API is unavailable; an error also if the deadline of the current request expired
+     */
+    @Override
+    public CompletionStage<Either<Error, AuthorDTO>> lookupAuthorAsync(final String id) {
+        return Deadline.check(Deadline.Stage.AUTHOR_LOOKUP)
+            .fold(error -> CompletableFuture.completedStage(Either.<Error, AuthorDTO>left(error)),
+                v -> this.resilience.lookupAsync(id, () -> this.remote
+                    ? this.fetchAuthorAsync(id)
+                    : CompletableFuture.completedStage(this.simulatedAuthor(id))));
+    }
+
+    /**
+     * Closes the hedger of the lookups, waiting for the requests it still runs.
+     */
+    @Override
+    public void close() {
+        this.hedger.close();
+    }
+
+    private AuthorDTO fetchAuthor(final String id) {
+        if (this.remote) {
+            this.inFlight.incrementAndGet();
+            try {
+                return this.restClient.get().uri(AUTHOR_URI, id).retrieve()
+                    .onStatus(HttpStatusCode::isError, (request, response) -> {
+                        throw new AuthorApiStatusException(response.getStatusCode().value());
+                    })
+                    .body(AuthorDTO.class);
+            } finally {
+                this.inFlight.decrementAndGet();
+            }
+        }
+        return this.simulatedAuthor(id);
+    }
+
+    private CompletionStage<AuthorDTO> fetchAuthorAsync(final String id) {
+        this.inFlight.incrementAndGet();
+        try {
+            return this.asyncClient.fetchAuthor(id).whenComplete((author, failure) -> this.inFlight.decrementAndGet());
+        } catch (final RuntimeException e) {
+            this.inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private AuthorDTO simulatedAuthor(final String id) {
         // Pretend we are calling an external API...
-        // this.restClient.get().uri("https://api.example.com/authors/{id}", id).retrieve().toEntity(AuthorDTO.class);
-        return Either.right(new AuthorDTO(id, "William Shakespeare"));
+        return new AuthorDTO(id, "William Shakespeare");
     }
 
 }
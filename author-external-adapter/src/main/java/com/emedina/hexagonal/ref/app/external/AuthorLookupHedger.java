@@ -0,0 +1,192 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hedges author lookups to cut their tail latency.
+ * <p>
+ * When a lookup has not completed after the p95 of the recently observed latencies, a second identical request is
+ * issued and whichever succeeds first wins, the other one being cancelled. Hedges are paid from a budget that is
+ * refilled by a fraction of every lookup, so they never add more than that fraction of extra load upstream, even
+ * when the whole upstream service slows down.
+ * </p>
+ * <p>
+ * Requests run with the {@link Deadline} of the caller bound, and none of them outlives the call: when the caller is
+ * interrupted while waiting, both are cancelled. Closing the hedger waits for the requests still running to end, then
+ * releases the threads they run on.
+ * </p>
+ * <p>
+ * Lookups are counted in the {@code author.lookup.requests} metric, and hedges in {@code author.lookup.hedges}
+ * tagged with whether they {@code won}, {@code lost} or were {@code throttled} by the budget.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+final class AuthorLookupHedger implements AutoCloseable {
+
+    static final double DEFAULT_BUDGET = 0.05;
+    static final int MIN_SAMPLES = 20;
+
+    private static final int WINDOW = 256;
+    private static final int REFRESH_EVERY = 32;
+    private static final double MAX_TOKENS = 10;
+
+    private final double budget;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final long[] samples = new long[WINDOW];
+    private int sampleCount;
+    private int nextSample;
+    private int sinceRefresh;
+    private long p95Nanos = Long.MAX_VALUE;
+    private double tokens;
+
+    private final Counter requests;
+    private final Counter won;
+    private final Counter lost;
+    private final Counter throttled;
+
+    /**
+     * Creates a hedger.
+     *
+     * @param registry the registry of the metrics
+     * @param budget   the maximum fraction of extra requests that hedges may add, e.g. {@code 0.05} for 5%, or
+     *                 zero to disable hedging
+     */
+    AuthorLookupHedger(final MeterRegistry registry, final double budget) {
+        this.budget = budget;
+        this.requests = registry.counter("author.lookup.requests");
+        this.won = registry.counter("author.lookup.hedges", "outcome", "won");
+        this.lost = registry.counter("author.lookup.hedges", "outcome", "lost");
+        this.throttled = registry.counter("author.lookup.hedges", "outcome", "throttled");
+    }
+
+    /**
+     * Runs the given request, hedging it if it is slower than usual.
+     *
+     * @param request the request, which must be idempotent
+     * @param <T>     the type of the result
+     * @return the result of the first request to succeed
+     * @throws Exception the failure of the last request if all of them failed
+     */
+    <T> T call(final Callable<T> request) throws Exception {
+        this.requests.increment();
+        final long hedgeAfter = this.onRequest();
+        if (hedgeAfter == Long.MAX_VALUE) {
+            return this.timed(request).call();
+        }
+
+        final ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(this.executor);
+        final Future<T> primary = completion.submit(this.timed(request));
+        Future<T> hedge = null;
+        try {
+            Future<T> done = completion.poll(hedgeAfter, TimeUnit.NANOSECONDS);
+            if (done == null) {
+                if (this.tryAcquireHedge()) {
+                    log.atDebug().setMessage("Hedging author lookup after [{}] ms")
+                        .addArgument(() -> TimeUnit.NANOSECONDS.toMillis(hedgeAfter))
+                        .log();
+                    hedge = completion.submit(this.timed(request));
+                } else {
+                    this.throttled.increment();
+                }
+                done = completion.take();
+            }
+
+            int pending = hedge == null ? 1 : 2;
+            while (true) {
+                pending--;
+                try {
+                    final T result = done.get();
+                    this.onCompletion(done, primary, hedge);
+                    return result;
+                } catch (final ExecutionException e) {
+                    if (pending == 0) {
+                        throw e.getCause() instanceof Exception cause ? cause : e;
+                    }
+                    done = completion.take();
+                }
+            }
+        } finally {
+            // Nothing outlives the call, even when the caller is interrupted while waiting
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Waits for the requests still running to end, then shuts down their executor; calls that would hedge are
+     * rejected from then on.
+     */
+    @Override
+    public void close() {
+        this.executor.close();
+    }
+
+    private <T> void onCompletion(final Future<T> winner, final Future<T> primary, final Future<T> hedge) {
+        if (hedge != null) {
+            (winner == hedge ? this.won : this.lost).increment();
+            (winner == hedge ? primary : hedge).cancel(true);
+        }
+    }
+
+    private <T> Callable<T> timed(final Callable<T> request) {
+        // The requests run on other threads, which must see the deadline of the caller
+        final Option<Deadline> deadline = Deadline.current();
+        return () -> {
+            final long start = System.nanoTime();
+            final T result = deadline.isEmpty()
+                ? request.call()
+                : Deadline.callWithin(deadline.get(), () -> Try.of(request::call)).get();
+            this.onSample(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    private synchronized long onRequest() {
+        this.tokens = Math.min(MAX_TOKENS, this.tokens + this.budget);
+        return this.budget <= 0 || this.sampleCount < MIN_SAMPLES ? Long.MAX_VALUE : this.p95Nanos;
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (this.tokens < 1) {
+            return false;
+        }
+        this.tokens--;
+        return true;
+    }
+
+    private synchronized void onSample(final long latencyNanos) {
+        this.samples[this.nextSample] = latencyNanos;
+        this.nextSample = (this.nextSample + 1) % WINDOW;
+        this.sampleCount = Math.min(WINDOW, this.sampleCount + 1);
+        if (this.sampleCount < MIN_SAMPLES) {
+            return;
+        }
+        if (++this.sinceRefresh >= REFRESH_EVERY || this.sampleCount == MIN_SAMPLES) {
+            final long[] sorted = Arrays.copyOf(this.samples, this.sampleCount);
+            Arrays.sort(sorted);
+            this.p95Nanos = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+            this.sinceRefresh = 0;
+        }
+    }
+
+}
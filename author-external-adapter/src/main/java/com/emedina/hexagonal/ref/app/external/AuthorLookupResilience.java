@@ -0,0 +1,307 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps author lookups flowing while the author API degrades.
+ * <p>
+ * Every lookup goes through an {@link AuthorCircuitBreaker} and a bulkhead bounding the number of concurrent calls,
+ * so that a slow author API can neither pin every writing thread nor be hammered while it recovers. Failed calls are
+ * retried with exponential backoff and full jitter, but only while the retry budget, refilled by a fraction of every
+ * lookup, allows it and the deadline of the current request leaves time for it; this way retries cannot amplify
+ * the load of an already struggling upstream.
+ * </p>
+ * <p>
+ * Only failures telling something about the health of the author API count: a lookup the author API rejects, such
+ * as one for an unknown author, is reported right away as the business error it stands for, without being retried
+ * nor recorded by the circuit breaker, and a lookup abandoned by its caller gives its permission back.
+ * </p>
+ * <p>
+ * When the lookup cannot be completed the last known version of the author is served instead, so that articles can
+ * still be written; only authors never seen before fail. Rejections, retries and fallbacks are counted in the
+ * {@code author.lookup.rejected}, {@code author.lookup.retries} and {@code author.lookup.fallbacks} metrics, and the
+ * state of the circuit and the free slots of the bulkhead are published as gauges.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+final class AuthorLookupResilience {
+
+    /**
+     * Tuning of the resilience mechanisms.
+     *
+     * @param maxConcurrentCalls the size of the bulkhead
+     * @param maxRetries         the maximum number of retries of a single lookup
+     * @param retryBudget        the maximum fraction of extra calls that retries may add
+     * @param slowCallThreshold  the duration from which a call counts as slow for the circuit breaker
+     * @param openDuration       the time the circuit stays open before letting trial calls through
+     * @param backoffBase        the base of the exponential backoff between retries
+     * @param backoffCap         the maximum backoff between retries
+     * @param staleEntries       the maximum number of last known authors kept for the fallback
+     */
+    record Settings(int maxConcurrentCalls, int maxRetries, double retryBudget, Duration slowCallThreshold,
+            Duration openDuration, Duration backoffBase, Duration backoffCap, int staleEntries) {
+
+        static final Settings DEFAULTS = new Settings(32, 2, 0.1, Duration.ofSeconds(1), Duration.ofSeconds(10),
+                Duration.ofMillis(50), Duration.ofMillis(500), 10_000);
+
+    }
+
+    private static final double MAX_RETRY_TOKENS = 10;
+
+    private final Settings settings;
+    private final AuthorCircuitBreaker breaker;
+    private final Semaphore bulkhead;
+    private final Map<String, AuthorDTO> lastKnown;
+    private double retryTokens;
+
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+    private final Counter retriesAttempted;
+    private final Counter retriesThrottled;
+    private final Counter staleFallbacks;
+    private final Counter unavailableFallbacks;
+
+    AuthorLookupResilience(final MeterRegistry registry, final Settings settings) {
+        this.settings = settings;
+        this.breaker = new AuthorCircuitBreaker(settings.slowCallThreshold(), settings.openDuration(),
+                System::nanoTime);
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.lastKnown = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, AuthorDTO> eldest) {
+                return this.size() > settings.staleEntries();
+            }
+        });
+
+        Gauge.builder("author.lookup.circuit.state", this.breaker, b -> b.state().ordinal())
+            .description("0 closed, 1 open, 2 half-open")
+            .register(registry);
+        Gauge.builder("author.lookup.bulkhead.available", this.bulkhead, Semaphore::availablePermits)
+            .register(registry);
+        this.circuitOpenRejections = registry.counter("author.lookup.rejected", "reason", "circuit-open");
+        this.bulkheadFullRejections = registry.counter("author.lookup.rejected", "reason", "bulkhead-full");
+        this.retriesAttempted = registry.counter("author.lookup.retries", "outcome", "attempted");
+        this.retriesThrottled = registry.counter("author.lookup.retries", "outcome", "throttled");
+        this.staleFallbacks = registry.counter("author.lookup.fallbacks", "outcome", "stale");
+        this.unavailableFallbacks = registry.counter("author.lookup.fallbacks", "outcome", "unavailable");
+    }
+
+    /**
+     * Looks up an author through the given call, falling back to its last known version if the call cannot be
+     * completed.
+     *
+     * @param id   the id of the author
+     * @param call the call to the author API, which must be idempotent
+     * @return either an error if the author could neither be looked up nor served stale, or the author
+     */
+    Either<Error, AuthorDTO> lookup(final String id, final Callable<AuthorDTO> call) {
+        this.depositRetryToken();
+        if (!this.bulkhead.tryAcquire()) {
+            this.bulkheadFullRejections.increment();
+            return this.fallback(id, "bulkhead full");
+        }
+        try {
+            return this.callWithRetries(id, call);
+        } finally {
+            this.bulkhead.release();
+        }
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #lookup(String, Callable)}: the bulkhead slot is held until the returned
+     * stage completes, and retries are scheduled after their backoff instead of sleeping.
+     *
+     * @param id   the id of the author
+     * @param call the non-blocking call to the author API, which must be idempotent
+     * @return a stage completed with either an error if the author could neither be looked up nor served stale, or
+     *         the author
+     */
+    CompletionStage<Either<Error, AuthorDTO>> lookupAsync(final String id,
+            final Supplier<CompletionStage<AuthorDTO>> call) {
+        this.depositRetryToken();
+        if (!this.bulkhead.tryAcquire()) {
+            this.bulkheadFullRejections.increment();
+            return CompletableFuture.completedStage(this.fallback(id, "bulkhead full"));
+        }
+        return this.attemptAsync(id, call, 0, Deadline.current())
+            .whenComplete((result, failure) -> this.bulkhead.release());
+    }
+
+    AuthorCircuitBreaker.State circuitState() {
+        return this.breaker.state();
+    }
+
+    int availableCalls() {
+        return this.bulkhead.availablePermits();
+    }
+
+    int staleEntries() {
+        return this.lastKnown.size();
+    }
+
+    private Either<Error, AuthorDTO> callWithRetries(final String id, final Callable<AuthorDTO> call) {
+        for (int attempt = 0;; attempt++) {
+            if (!this.breaker.tryAcquirePermission()) {
+                this.circuitOpenRejections.increment();
+                return this.fallback(id, "circuit open");
+            }
+
+            final long start = System.nanoTime();
+            try {
+                final AuthorDTO author = call.call();
+                this.breaker.onResult(false, System.nanoTime() - start);
+                if (id != null) {
+                    this.lastKnown.put(id, author);
+                }
+                return Either.right(author);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.breaker.release();
+                return this.fallback(id, "interrupted");
+            } catch (final Exception e) {
+                final Option<Error> rejection = AuthorApiStatusException.rejectionOf(id, e);
+                if (rejection.isDefined()) {
+                    this.breaker.release();
+                    return Either.left(rejection.get());
+                }
+                this.breaker.onResult(true, System.nanoTime() - start);
+                log.atDebug().setMessage("Author lookup attempt [{}] failed: [{}]")
+                    .addArgument(attempt + 1)
+                    .addArgument(e::getMessage)
+                    .log();
+                if (!this.backOffBeforeRetry(attempt)) {
+                    return this.fallback(id, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private CompletionStage<Either<Error, AuthorDTO>> attemptAsync(final String id,
+            final Supplier<CompletionStage<AuthorDTO>> call, final int attempt, final Option<Deadline> deadline) {
+        if (!this.breaker.tryAcquirePermission()) {
+            this.circuitOpenRejections.increment();
+            return CompletableFuture.completedStage(this.fallback(id, "circuit open"));
+        }
+
+        final long start = System.nanoTime();
+        return Try.of(call::get)
+            .getOrElseGet(CompletableFuture::failedStage)
+            .<CompletionStage<Either<Error, AuthorDTO>>>handle((author, error) -> {
+                if (error == null) {
+                    this.breaker.onResult(false, System.nanoTime() - start);
+                    if (id != null) {
+                        this.lastKnown.put(id, author);
+                    }
+                    return CompletableFuture.completedStage(Either.right(author));
+                }
+                final Throwable failure = error instanceof CompletionException e && e.getCause() != null
+                    ? e.getCause()
+                    : error;
+                if (failure instanceof CancellationException) {
+                    this.breaker.release();
+                    return CompletableFuture.completedStage(this.fallback(id, "cancelled"));
+                }
+                final Option<Error> rejection = AuthorApiStatusException.rejectionOf(id, failure);
+                if (rejection.isDefined()) {
+                    this.breaker.release();
+                    return CompletableFuture.completedStage(Either.left(rejection.get()));
+                }
+                this.breaker.onResult(true, System.nanoTime() - start);
+                log.atDebug().setMessage("Author lookup attempt [{}] failed: [{}]")
+                    .addArgument(attempt + 1)
+                    .addArgument(failure::getMessage)
+                    .log();
+                final long backoff = this.retryDelayNanos(attempt, deadline);
+                if (backoff < 0) {
+                    return CompletableFuture.completedStage(this.fallback(id, failure.getMessage()));
+                }
+                return CompletableFuture.supplyAsync(() -> this.attemptAsync(id, call, attempt + 1, deadline),
+                        CompletableFuture.delayedExecutor(backoff, TimeUnit.NANOSECONDS))
+                    .thenCompose(Function.identity());
+            })
+            .thenCompose(Function.identity());
+    }
+
+    private boolean backOffBeforeRetry(final int attempt) {
+        final long backoff = this.retryDelayNanos(attempt, Deadline.current());
+        if (backoff < 0) {
+            return false;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(backoff));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private long retryDelayNanos(final int attempt, final Option<Deadline> deadline) {
+        if (attempt >= this.settings.maxRetries()) {
+            return -1;
+        }
+        final long ceiling = Math.min(this.settings.backoffCap().toNanos(),
+                this.settings.backoffBase().toNanos() << attempt);
+        final long backoff = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (deadline.exists(d -> d.remaining().toNanos() <= backoff) || !this.tryAcquireRetryToken()) {
+            this.retriesThrottled.increment();
+            return -1;
+        }
+        this.retriesAttempted.increment();
+        return backoff;
+    }
+
+    private Either<Error, AuthorDTO> fallback(final String id, final String reason) {
+        final Option<AuthorDTO> stale = Option.of(id).flatMap(key -> Option.of(this.lastKnown.get(key)));
+        if (stale.isDefined()) {
+            this.staleFallbacks.increment();
+            log.atDebug().setMessage("Serving last known author [{}] because of [{}]")
+                .addArgument(id)
+                .addArgument(reason)
+                .log();
+            return Either.right(stale.get());
+        }
+        this.unavailableFallbacks.increment();
+        return Either.left(new Error.TechnicalError.SomethingWentWrong("Author API unavailable: " + reason));
+    }
+
+    private synchronized void depositRetryToken() {
+        this.retryTokens = Math.min(MAX_RETRY_TOKENS, this.retryTokens + this.settings.retryBudget());
+    }
+
+    private synchronized boolean tryAcquireRetryToken() {
+        if (this.retryTokens < 1) {
+            return false;
+        }
+        this.retryTokens--;
+        return true;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for AuthorApiAsyncClient.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("AuthorApiAsyncClient Tests")
+class AuthorApiAsyncClientTest {
+
+    @Nested
+    @DisplayName("Given fetchAuthor method")
+    class FetchAuthorTests {
+
+        @Test
+        @DisplayName("When the author API answers, then should complete with the decoded author")
+        void shouldCompleteWithAuthor_whenAuthorApiAnswers() throws Exception {
+            try (var stub = StubAuthorServer.start()) {
+                // Given
+                var client = client(stub, Duration.ofSeconds(2));
+
+                // When
+                AuthorDTO result = client.fetchAuthor("author-123").join();
+
+                // Then
+                assertThat(result).isEqualTo(new AuthorDTO("author-123", StubAuthorServer.AUTHOR_NAME));
+            }
+        }
+
+        @Test
+        @DisplayName("When the author API answers with an error status, then should complete exceptionally")
+        void shouldCompleteExceptionally_whenAuthorApiAnswersError() throws Exception {
+            try (var stub = StubAuthorServer.start().errorRate(1.0)) {
+                // Given
+                var client = client(stub, Duration.ofSeconds(2));
+
+                // When & Then
+                assertThatThrownBy(() -> client.fetchAuthor("author-123").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(AuthorApiStatusException.class)
+                    .hasMessageContaining("503");
+            }
+        }
+
+        @Test
+        @DisplayName("When the author API is slower than the read timeout, then should complete exceptionally")
+        void shouldCompleteExceptionally_whenAuthorApiSlowerThanReadTimeout() throws Exception {
+            try (var stub = StubAuthorServer.start()
+                .latency(StubAuthorServer.Latency.fixed(Duration.ofSeconds(1)))) {
+                // Given
+                var client = client(stub, Duration.ofMillis(100));
+
+                // When & Then
+                assertThatThrownBy(() -> client.fetchAuthor("author-123").join())
+                    .hasCauseInstanceOf(HttpTimeoutException.class);
+            }
+        }
+    }
+
+    private static AuthorApiAsyncClient client(final StubAuthorServer stub, final Duration readTimeout) {
+        return new AuthorApiAsyncClient(HttpClient.newHttpClient(), JsonMapper.builder().build(), stub.baseUrl(),
+            readTimeout);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+
+/**
+ * Unit tests for AuthorApiHealthIndicator.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("AuthorApiHealthIndicator Tests")
+class AuthorApiHealthIndicatorTest {
+
+    private AuthorLookupResilience resilience;
+    private AuthorApiHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        var adapter = mock(AuthorExternalAPIAdapter.class);
+        resilience = mock(AuthorLookupResilience.class);
+        when(adapter.resilience()).thenReturn(resilience);
+        when(resilience.availableCalls()).thenReturn(32);
+        when(resilience.staleEntries()).thenReturn(7);
+        indicator = new AuthorApiHealthIndicator(adapter);
+    }
+
+    @Test
+    @DisplayName("When the circuit is closed, then should report up with the resilience details")
+    void shouldReportUp_whenCircuitClosed() {
+        // Given
+        when(resilience.circuitState()).thenReturn(AuthorCircuitBreaker.State.CLOSED);
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+            .containsEntry("circuit", AuthorCircuitBreaker.State.CLOSED)
+            .containsEntry("availableCalls", 32)
+            .containsEntry("staleEntries", 7);
+    }
+
+    @Test
+    @DisplayName("When the circuit is open, then should report degraded")
+    void shouldReportDegraded_whenCircuitOpen() {
+        // Given
+        when(resilience.circuitState()).thenReturn(AuthorCircuitBreaker.State.OPEN);
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus().getCode()).isEqualTo(AuthorApiHealthIndicator.DEGRADED);
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AuthorCircuitBreaker.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("AuthorCircuitBreaker Tests")
+class AuthorCircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private AtomicLong clock;
+    private AuthorCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        breaker = new AuthorCircuitBreaker(Duration.ofSeconds(1), Duration.ofSeconds(10), clock::get);
+    }
+
+    @Nested
+    @DisplayName("Given a closed circuit")
+    class ClosedTests {
+
+        @Test
+        @DisplayName("When too few calls were recorded, then should stay closed whatever their outcome")
+        void shouldStayClosed_whenTooFewCalls() {
+            // When
+            record(AuthorCircuitBreaker.MIN_CALLS - 1, true, FAST);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.CLOSED);
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+        }
+
+        @Test
+        @DisplayName("When the failure rate reaches the threshold, then should open and reject calls")
+        void shouldOpen_whenFailureRateReachesThreshold() {
+            // When
+            record(AuthorCircuitBreaker.MIN_CALLS / 2, false, FAST);
+            record(AuthorCircuitBreaker.MIN_CALLS / 2, true, FAST);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+
+        @Test
+        @DisplayName("When the slow-call rate reaches the threshold, then should open")
+        void shouldOpen_whenSlowCallRateReachesThreshold() {
+            // When
+            record(AuthorCircuitBreaker.MIN_CALLS / 2, false, FAST);
+            record(AuthorCircuitBreaker.MIN_CALLS / 2, false, SLOW);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("When old failures slide out of the window, then should only account for the recent calls")
+        void shouldForgetOldFailures_whenWindowSlides() {
+            // When
+            record(AuthorCircuitBreaker.MIN_CALLS / 2 - 1, true, FAST);
+            record(AuthorCircuitBreaker.WINDOW * 2, false, FAST);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an open circuit")
+    class OpenTests {
+
+        @BeforeEach
+        void open() {
+            record(AuthorCircuitBreaker.MIN_CALLS, true, FAST);
+        }
+
+        @Test
+        @DisplayName("When the open duration elapses, then should let only the trial calls through")
+        void shouldLetTrialCallsThrough_whenOpenDurationElapses() {
+            // Given
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // When
+            int permitted = 0;
+            for (int i = 0; i < AuthorCircuitBreaker.HALF_OPEN_CALLS * 2; i++) {
+                permitted += breaker.tryAcquirePermission() ? 1 : 0;
+            }
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.HALF_OPEN);
+            assertThat(permitted).isEqualTo(AuthorCircuitBreaker.HALF_OPEN_CALLS);
+        }
+
+        @Test
+        @DisplayName("When all the trial calls succeed, then should close")
+        void shouldClose_whenTrialCallsSucceed() {
+            // Given
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // When
+            record(AuthorCircuitBreaker.HALF_OPEN_CALLS, false, FAST);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.CLOSED);
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+        }
+
+        @Test
+        @DisplayName("When a trial call fails, then should reopen")
+        void shouldReopen_whenTrialCallFails() {
+            // Given
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // When
+            record(1, false, FAST);
+            record(1, false, SLOW);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+
+        @Test
+        @DisplayName("When a trial call is released, then should give its permission back without recording it")
+        void shouldGivePermissionBack_whenTrialCallReleased() {
+            // Given
+            clock.addAndGet(Duration.ofSeconds(10).toNanos());
+            for (int i = 0; i < AuthorCircuitBreaker.HALF_OPEN_CALLS; i++) {
+                assertThat(breaker.tryAcquirePermission()).isTrue();
+            }
+
+            // When
+            breaker.release();
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(AuthorCircuitBreaker.State.HALF_OPEN);
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+    }
+
+    private void record(final int calls, final boolean failure, final long durationNanos) {
+        for (int i = 0; i < calls; i++) {
+            if (breaker.tryAcquirePermission()) {
+                breaker.onResult(failure, durationNanos);
+            }
+        }
+    }
+
+}
@@ -2,17 +2,26 @@ package com.emedina.hexagonal.ref.app.external;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
 import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vavr.control.Either;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Unit tests for AuthorExternalAPIAdapter.
@@ -28,7 +37,8 @@ class AuthorExternalAPIAdapterTest {
     @BeforeEach
     void setUp() {
         restClient = mock(RestClient.class);
-        adapter = new AuthorExternalAPIAdapter(restClient);
+        adapter = new AuthorExternalAPIAdapter(restClient, mock(AuthorApiAsyncClient.class), new SimpleMeterRegistry(),
+            0, false);
     }
 
     @Nested
@@ -169,7 +179,8 @@ class AuthorExternalAPIAdapterTest {
             RestClient mockRestClient = mock(RestClient.class);
 
             // When
-            AuthorExternalAPIAdapter newAdapter = new AuthorExternalAPIAdapter(mockRestClient);
+            AuthorExternalAPIAdapter newAdapter = new AuthorExternalAPIAdapter(mockRestClient,
+                mock(AuthorApiAsyncClient.class), new SimpleMeterRegistry(), 0, false);
 
             // Then
             assertThat(newAdapter).isNotNull();
@@ -182,7 +193,8 @@ class AuthorExternalAPIAdapterTest {
             RestClient nullRestClient = null;
 
             // When
-            AuthorExternalAPIAdapter newAdapter = new AuthorExternalAPIAdapter(nullRestClient);
+            AuthorExternalAPIAdapter newAdapter = new AuthorExternalAPIAdapter(nullRestClient,
+                mock(AuthorApiAsyncClient.class), new SimpleMeterRegistry(), 0, false);
 
             // Then
             assertThat(newAdapter).isNotNull();
@@ -190,6 +202,21 @@ class AuthorExternalAPIAdapterTest {
             Either<Error, AuthorDTO> result = newAdapter.lookupAuthor("test-id");
             assertThat(result.isRight()).isTrue();
         }
+
+        @Test
+        @DisplayName("When closing adapter, then should close its hedger")
+        void shouldCloseHedger_whenClosingAdapter() {
+            // Given
+            AuthorLookupHedger hedger = mock(AuthorLookupHedger.class);
+            AuthorExternalAPIAdapter newAdapter = new AuthorExternalAPIAdapter(restClient,
+                mock(AuthorApiAsyncClient.class), hedger, mock(AuthorLookupResilience.class), false);
+
+            // When
+            newAdapter.close();
+
+            // Then
+            verify(hedger).close();
+        }
     }
 
     @Nested
@@ -251,4 +278,200 @@ class AuthorExternalAPIAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Given an expired deadline")
+    class ExpiredDeadlineTests {
+
+        @Test
+        @DisplayName("When the deadline of the current request expired, then should shed the lookup")
+        void shouldShedLookup_whenDeadlineExpired() {
+            // Given
+            var deadline = Deadline.after(Duration.ZERO);
+
+            // When
+            Either<Error, AuthorDTO> result = Deadline.callWithin(deadline, () -> adapter.lookupAuthor("author-123"));
+
+            // Then
+            assertThat(result.getLeft()).isEqualTo(new Error.TechnicalError.DeadlineExceeded("author-lookup"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the remote mode")
+    class RemoteModeTests {
+
+        @Test
+        @DisplayName("When the author API answers, then should return the author it sent")
+        void shouldReturnAuthor_whenAuthorApiAnswers() throws Exception {
+            try (var stub = StubAuthorServer.start()) {
+                // Given
+                var remoteAdapter = remoteAdapter(stub, Duration.ofSeconds(2));
+
+                // When
+                Either<Error, AuthorDTO> result = remoteAdapter.lookupAuthor("author-123");
+
+                // Then
+                assertThat(result.get()).isEqualTo(new AuthorDTO("author-123", StubAuthorServer.AUTHOR_NAME));
+                assertThat(stub.requests()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("When the author API drips its response, then should still return the author")
+        void shouldReturnAuthor_whenAuthorApiDripsResponse() throws Exception {
+            try (var stub = StubAuthorServer.start().dripInterval(Duration.ofMillis(1))) {
+                // Given
+                var remoteAdapter = remoteAdapter(stub, Duration.ofSeconds(2));
+
+                // When
+                Either<Error, AuthorDTO> result = remoteAdapter.lookupAuthor("author-123");
+
+                // Then
+                assertThat(result.get().name()).isEqualTo(StubAuthorServer.AUTHOR_NAME);
+            }
+        }
+
+        @Test
+        @DisplayName("When the author API fails, then should return an error for an unknown author")
+        void shouldReturnError_whenAuthorApiFails() throws Exception {
+            try (var stub = StubAuthorServer.start().errorRate(1.0)) {
+                // Given
+                var remoteAdapter = remoteAdapter(stub, Duration.ofSeconds(2));
+
+                // When
+                Either<Error, AuthorDTO> result = remoteAdapter.lookupAuthor("author-123");
+
+                // Then
+                assertThat(result.getLeft()).isInstanceOf(Error.TechnicalError.SomethingWentWrong.class);
+            }
+        }
+
+        @Test
+        @DisplayName("When the author API does not know the author, then should return an unknown author error once")
+        void shouldReturnUnknownAuthorOnce_whenAuthorApiDoesNotKnowAuthor() throws Exception {
+            try (var stub = StubAuthorServer.start().errorRate(1.0).errorStatus(404)) {
+                // Given
+                var remoteAdapter = remoteAdapter(stub, Duration.ofSeconds(2));
+
+                // When
+                Either<Error, AuthorDTO> result = remoteAdapter.lookupAuthor("author-123");
+
+                // Then
+                assertThat(result.getLeft()).isEqualTo(new Error.BusinessError.UnknownAuthor("author-123"));
+                assertThat(stub.requests()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("When the author API is slower than the read timeout, then should return an error")
+        void shouldReturnError_whenAuthorApiSlowerThanReadTimeout() throws Exception {
+            try (var stub = StubAuthorServer.start()
+                .latency(StubAuthorServer.Latency.fixed(Duration.ofSeconds(1)))) {
+                // Given
+                var remoteAdapter = remoteAdapter(stub, Duration.ofMillis(100));
+
+                // When
+                Either<Error, AuthorDTO> result = remoteAdapter.lookupAuthor("author-123");
+
+                // Then
+                assertThat(result.isLeft()).isTrue();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Given lookupAuthorAsync method")
+    class LookupAuthorAsyncTests {
+
+        @Test
+        @DisplayName("When looking up an author asynchronously, then should complete with the simulated author")
+        void shouldCompleteWithAuthor_whenLookingUpAsynchronously() {
+            // When
+            Either<Error, AuthorDTO> result = adapter.lookupAuthorAsync("author-123").toCompletableFuture().join();
+
+            // Then
+            assertThat(result.get()).isEqualTo(new AuthorDTO("author-123", "William Shakespeare"));
+        }
+
+        @Test
+        @DisplayName("When the deadline of the current request expired, then should complete with the error")
+        void shouldCompleteWithError_whenDeadlineExpired() {
+            // When
+            Either<Error, AuthorDTO> result = Deadline.callWithin(Deadline.after(Duration.ZERO),
+                () -> adapter.lookupAuthorAsync("author-123")).toCompletableFuture().join();
+
+            // Then
+            assertThat(result.getLeft()).isEqualTo(new Error.TechnicalError.DeadlineExceeded("author-lookup"));
+        }
+
+        @Test
+        @DisplayName("When the author API answers, then should complete with the author it sent")
+        void shouldCompleteWithAuthor_whenAuthorApiAnswers() throws Exception {
+            try (var stub = StubAuthorServer.start()) {
+                // Given
+                var remoteAdapter = remoteAdapter(stub, Duration.ofSeconds(2));
+
+                // When
+                Either<Error, AuthorDTO> result = remoteAdapter.lookupAuthorAsync("author 123")
+                    .toCompletableFuture().join();
+
+                // Then
+                assertThat(result.get()).isEqualTo(new AuthorDTO("author 123", StubAuthorServer.AUTHOR_NAME));
+            }
+        }
+
+        @Test
+        @DisplayName("When a lookup is outstanding, then should count it in flight until it completes")
+        void shouldCountLookupInFlight_untilItCompletes() throws Exception {
+            try (var stub = StubAuthorServer.start().latency(StubAuthorServer.Latency.fixed(Duration.ofMillis(300)))) {
+                // Given
+                var registry = new SimpleMeterRegistry();
+                var remoteAdapter = remoteAdapter(stub, Duration.ofSeconds(2), registry);
+                var inFlight = registry.get("author.api.client.in-flight").gauge();
+
+                // When
+                var lookup = remoteAdapter.lookupAuthorAsync("author-123").toCompletableFuture();
+                double outstanding = inFlight.value();
+                lookup.join();
+
+                // Then
+                assertThat(outstanding).isEqualTo(1.0);
+                assertThat(inFlight.value()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("When the author API fails, then should complete with an error for an unknown author")
+        void shouldCompleteWithError_whenAuthorApiFails() throws Exception {
+            try (var stub = StubAuthorServer.start().errorRate(1.0)) {
+                // Given
+                var remoteAdapter = remoteAdapter(stub, Duration.ofSeconds(2));
+
+                // When
+                Either<Error, AuthorDTO> result = remoteAdapter.lookupAuthorAsync("author-123")
+                    .toCompletableFuture().join();
+
+                // Then
+                assertThat(result.getLeft()).isInstanceOf(Error.TechnicalError.SomethingWentWrong.class);
+            }
+        }
+    }
+
+    static AuthorExternalAPIAdapter remoteAdapter(final StubAuthorServer stub, final Duration readTimeout) {
+        return remoteAdapter(stub, readTimeout, new SimpleMeterRegistry());
+    }
+
+    static AuthorExternalAPIAdapter remoteAdapter(final StubAuthorServer stub, final Duration readTimeout,
+            final MeterRegistry registry) {
+        var requestFactory = new JdkClientHttpRequestFactory();
+        requestFactory.setReadTimeout(readTimeout);
+        var remoteClient = RestClient.builder()
+            .baseUrl(stub.baseUrl().toString())
+            .requestFactory(requestFactory)
+            .build();
+        var asyncClient = new AuthorApiAsyncClient(HttpClient.newHttpClient(), JsonMapper.builder().build(),
+            stub.baseUrl(), readTimeout);
+        return new AuthorExternalAPIAdapter(remoteClient, asyncClient, registry, 0, true);
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Latency of the author lookups over real HTTP against the {@link StubAuthorServer}, with and without hedging.
+ * <p>
+ * Only enabled on demand: {@code mvn -pl author-external-adapter test -Dtest=AuthorLookupBenchmarkTest
+ * -Dbenchmark=true}.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("Author lookup Benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AuthorLookupBenchmarkTest {
+
+    private static final int CONCURRENCY = 32;
+    private static final int LOOKUPS = 4_000;
+
+    @Test
+    @DisplayName("Lookup latency against a long-tailed author API")
+    void lookupLatency() throws Exception {
+        try (var stub = StubAuthorServer.start()
+            .latency(StubAuthorServer.Latency.logNormal(Duration.ofMillis(5), Duration.ofMillis(80)));
+             var httpClient = HttpClient.newBuilder()
+                 .version(HttpClient.Version.HTTP_2)
+                 .connectTimeout(Duration.ofSeconds(1))
+                 .executor(Executors.newVirtualThreadPerTaskExecutor())
+                 .build()) {
+            final var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(Duration.ofSeconds(2));
+            final RestClient restClient = RestClient.builder()
+                .baseUrl(stub.baseUrl().toString())
+                .requestFactory(requestFactory)
+                .build();
+
+            final var asyncClient = new AuthorApiAsyncClient(httpClient, JsonMapper.builder().build(), stub.baseUrl(),
+                Duration.ofSeconds(2));
+
+            report("no hedging", new AuthorExternalAPIAdapter(restClient, asyncClient, new SimpleMeterRegistry(), 0,
+                true));
+            report("hedging 5%", new AuthorExternalAPIAdapter(restClient, asyncClient, new SimpleMeterRegistry(),
+                AuthorLookupHedger.DEFAULT_BUDGET, true));
+        }
+    }
+
+    private static void report(final String scenario, final AuthorExternalAPIAdapter adapter) throws Exception {
+        measure(adapter, LOOKUPS / 4);
+        final long[] latencies = measure(adapter, LOOKUPS);
+        System.out.printf("%s: p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.1f ms%n", scenario,
+            percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+            latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static long[] measure(final AuthorExternalAPIAdapter adapter, final int lookups) throws Exception {
+        final List<Future<Long>> futures = new ArrayList<>(lookups);
+        try (var executor = Executors.newFixedThreadPool(CONCURRENCY, Thread.ofVirtual().factory())) {
+            for (int i = 0; i < lookups; i++) {
+                final String id = "author-" + (i % 100);
+                futures.add(executor.submit(() -> {
+                    final long start = System.nanoTime();
+                    assertThat(adapter.lookupAuthor(id).isRight()).isTrue();
+                    return System.nanoTime() - start;
+                }));
+            }
+        }
+        final long[] latencies = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            latencies[i] = futures.get(i).get();
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double percentile(final long[] sorted, final double percentile) {
+        return sorted[(int) Math.ceil(sorted.length * percentile) - 1] / 1e6;
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Try;
+
+/**
+ * Unit tests for AuthorLookupHedger.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("AuthorLookupHedger Tests")
+class AuthorLookupHedgerTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    @DisplayName("Given call method")
+    class CallTests {
+
+        @Test
+        @DisplayName("When hedging is disabled, then should run the request only once")
+        void shouldRunOnce_whenHedgingDisabled() throws Exception {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 0);
+            var attempts = new AtomicInteger();
+            warmUp(hedger);
+
+            // When
+            String result = hedger.call(slowFirstAttempt(attempts));
+
+            // Then
+            assertThat(result).isEqualTo("slow");
+            assertThat(attempts).hasValue(1);
+            assertThat(registry.get("author.lookup.requests").counter().count())
+                .isEqualTo(AuthorLookupHedger.MIN_SAMPLES + 1.0);
+            assertThat(hedges("won") + hedges("lost") + hedges("throttled")).isZero();
+        }
+
+        @Test
+        @DisplayName("When the latency is not known yet, then should not hedge")
+        void shouldNotHedge_whenLatencyNotKnownYet() throws Exception {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 1.0);
+            var attempts = new AtomicInteger();
+
+            // When
+            String result = hedger.call(slowFirstAttempt(attempts));
+
+            // Then
+            assertThat(result).isEqualTo("slow");
+            assertThat(attempts).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("When the request is slower than the p95, then should hedge it and take the first to succeed")
+        void shouldHedge_whenRequestSlowerThanP95() throws Exception {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 1.0);
+            var attempts = new AtomicInteger();
+            warmUp(hedger);
+
+            // When
+            String result = hedger.call(slowFirstAttempt(attempts));
+
+            // Then
+            assertThat(result).isEqualTo("fast");
+            assertThat(attempts).hasValue(2);
+            assertThat(hedges("won")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("When the hedge budget is exhausted, then should wait for the first request")
+        void shouldWaitForFirstRequest_whenBudgetExhausted() throws Exception {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 0.01);
+            var attempts = new AtomicInteger();
+            warmUp(hedger);
+
+            // When
+            String result = hedger.call(slowFirstAttempt(attempts));
+
+            // Then
+            assertThat(result).isEqualTo("slow");
+            assertThat(attempts).hasValue(1);
+            assertThat(hedges("throttled")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("When every request fails, then should throw the failure")
+        void shouldThrowFailure_whenEveryRequestFails() throws Exception {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 1.0);
+            warmUp(hedger);
+
+            // When & Then
+            assertThatThrownBy(() -> hedger.call(() -> {
+                Thread.sleep(50);
+                throw new IllegalStateException("Author API down");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("Author API down");
+        }
+    }
+
+    @Nested
+    @DisplayName("Given a hedged request in flight")
+    class InFlightTests {
+
+        @Test
+        @DisplayName("When the caller is interrupted, then should cancel every request")
+        void shouldCancelEveryRequest_whenCallerInterrupted() throws Exception {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 1.0);
+            warmUp(hedger);
+            var started = new CountDownLatch(2);
+            var cancelled = new CountDownLatch(2);
+            Callable<String> hanging = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(60_000);
+                    return "late";
+                } catch (final InterruptedException e) {
+                    cancelled.countDown();
+                    throw e;
+                }
+            };
+            var failure = new AtomicReference<Throwable>();
+            var caller = Thread.ofVirtual().start(() -> {
+                try {
+                    hedger.call(hanging);
+                } catch (final Exception e) {
+                    failure.set(e);
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            caller.interrupt();
+            caller.join(5_000);
+
+            // Then
+            assertThat(failure.get()).isInstanceOf(InterruptedException.class);
+            assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("When the caller has a deadline, then should run the requests within it")
+        void shouldRunRequestsWithinDeadline_whenCallerHasDeadline() {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 1.0);
+            var deadline = Deadline.after(Duration.ofMinutes(1));
+            var seen = new AtomicReference<Deadline>();
+
+            // When
+            String result = Deadline.callWithin(deadline, () -> Try.of(() -> {
+                warmUp(hedger);
+                return hedger.call(() -> {
+                    seen.set(Deadline.current().getOrNull());
+                    return "author";
+                });
+            }).get());
+
+            // Then
+            assertThat(result).isEqualTo("author");
+            assertThat(seen.get()).isSameAs(deadline);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given close method")
+    class CloseTests {
+
+        @Test
+        @DisplayName("When closed, then should wait for the running requests and reject calls that would hedge")
+        void shouldWaitForRunningRequestsAndRejectHedgedCalls_whenClosed() throws Exception {
+            // Given
+            var hedger = new AuthorLookupHedger(registry, 1.0);
+            var attempts = new AtomicInteger();
+            warmUp(hedger);
+            var running = Thread.ofVirtual().start(() -> Try.of(() -> hedger.call(slowFirstAttempt(attempts))));
+            while (attempts.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // When
+            hedger.close();
+
+            // Then
+            assertThat(running.join(Duration.ofSeconds(5))).isTrue();
+            assertThatThrownBy(() -> hedger.call(() -> "author")).isInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
+    private double hedges(final String outcome) {
+        return registry.get("author.lookup.hedges").tag("outcome", outcome).counter().count();
+    }
+
+    private static void warmUp(final AuthorLookupHedger hedger) throws Exception {
+        for (int i = 0; i < AuthorLookupHedger.MIN_SAMPLES; i++) {
+            hedger.call(() -> "warm-up");
+        }
+    }
+
+    private static Callable<String> slowFirstAttempt(final AtomicInteger attempts) {
+        return () -> {
+            if (attempts.incrementAndGet() == 1) {
+                Thread.sleep(200);
+                return "slow";
+            }
+            return "fast";
+        };
+    }
+
+}
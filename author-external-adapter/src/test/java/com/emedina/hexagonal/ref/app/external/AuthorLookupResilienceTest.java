@@ -0,0 +1,375 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+
+/**
+ * Unit tests for AuthorLookupResilience.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("AuthorLookupResilience Tests")
+class AuthorLookupResilienceTest {
+
+    private static final AuthorDTO AUTHOR = new AuthorDTO("author-1", "William Shakespeare");
+
+    private SimpleMeterRegistry registry;
+    private AuthorLookupResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        resilience = new AuthorLookupResilience(registry, new AuthorLookupResilience.Settings(1, 2, 2.0,
+                Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofMillis(1), Duration.ofMillis(2), 2));
+    }
+
+    @Nested
+    @DisplayName("Given lookup method")
+    class LookupTests {
+
+        @Test
+        @DisplayName("When the call succeeds, then should return the author")
+        void shouldReturnAuthor_whenCallSucceeds() {
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookup("author-1", () -> AUTHOR);
+
+            // Then
+            assertThat(result.get()).isEqualTo(AUTHOR);
+            assertThat(resilience.staleEntries()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("When the call fails transiently, then should retry it")
+        void shouldRetry_whenCallFailsTransiently() {
+            // Given
+            var attempts = new AtomicInteger();
+
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookup("author-1", () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new IllegalStateException("Connection reset");
+                }
+                return AUTHOR;
+            });
+
+            // Then
+            assertThat(result.get()).isEqualTo(AUTHOR);
+            assertThat(attempts).hasValue(3);
+            assertThat(counter("author.lookup.retries", "attempted")).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("When the retry budget is exhausted, then should not retry")
+        void shouldNotRetry_whenRetryBudgetExhausted() {
+            // Given
+            var throttled = new AuthorLookupResilience(registry, new AuthorLookupResilience.Settings(1, 2, 0.1,
+                    Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofMillis(1), Duration.ofMillis(2), 2));
+            var attempts = new AtomicInteger();
+
+            // When
+            Either<Error, AuthorDTO> result = throttled.lookup("author-1", () -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("Connection reset");
+            });
+
+            // Then
+            assertThat(result.isLeft()).isTrue();
+            assertThat(attempts).hasValue(1);
+            assertThat(counter("author.lookup.retries", "throttled")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("When the deadline leaves no time for a retry, then should not retry")
+        void shouldNotRetry_whenDeadlineLeavesNoTime() {
+            // Given
+            var attempts = new AtomicInteger();
+
+            // When
+            Either<Error, AuthorDTO> result = Deadline.callWithin(Deadline.after(Duration.ZERO),
+                    () -> resilience.lookup("author-1", () -> {
+                        attempts.incrementAndGet();
+                        throw new IllegalStateException("Connection reset");
+                    }));
+
+            // Then
+            assertThat(result.isLeft()).isTrue();
+            assertThat(attempts).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("When the call keeps failing for a known author, then should serve its last known version")
+        void shouldServeStaleAuthor_whenCallKeepsFailing() {
+            // Given
+            resilience.lookup("author-1", () -> AUTHOR);
+
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookup("author-1", () -> {
+                throw new IllegalStateException("Connection reset");
+            });
+
+            // Then
+            assertThat(result.get()).isEqualTo(AUTHOR);
+            assertThat(counter("author.lookup.fallbacks", "stale")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("When the call keeps failing for an unknown author, then should return an error")
+        void shouldReturnError_whenCallKeepsFailingForUnknownAuthor() {
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookup("author-2", () -> {
+                throw new IllegalStateException("Connection reset");
+            });
+
+            // Then
+            assertThat(result.getLeft()).isInstanceOf(Error.TechnicalError.SomethingWentWrong.class);
+            assertThat(counter("author.lookup.fallbacks", "unavailable")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("When the author API rejects the lookup, then should neither retry it nor count it as a failure")
+        void shouldNeitherRetryNorCountFailure_whenAuthorApiRejectsLookup() {
+            // Given
+            resilience.lookup("author-1", () -> AUTHOR);
+            var attempts = new AtomicInteger();
+
+            // When
+            for (int i = 0; i < AuthorCircuitBreaker.MIN_CALLS; i++) {
+                resilience.lookup("author-1", () -> {
+                    attempts.incrementAndGet();
+                    throw new AuthorApiStatusException(404);
+                });
+            }
+            Either<Error, AuthorDTO> invalid = resilience.lookup("author-1", () -> {
+                throw new AuthorApiStatusException(400);
+            });
+
+            // Then
+            assertThat(resilience.lookup("author-1", () -> {
+                throw new AuthorApiStatusException(404);
+            }).getLeft()).isEqualTo(new Error.BusinessError.UnknownAuthor("author-1"));
+            assertThat(invalid.getLeft()).isEqualTo(new Error.BusinessError.InvalidAuthorId("author-1"));
+            assertThat(attempts).hasValue(AuthorCircuitBreaker.MIN_CALLS);
+            assertThat(resilience.circuitState()).isEqualTo(AuthorCircuitBreaker.State.CLOSED);
+            assertThat(counter("author.lookup.retries", "attempted")).isZero();
+            assertThat(counter("author.lookup.fallbacks", "stale")).isZero();
+        }
+
+        @Test
+        @DisplayName("When the author API is throttling, then should retry the lookup")
+        void shouldRetry_whenAuthorApiThrottling() {
+            // Given
+            var attempts = new AtomicInteger();
+
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookup("author-1", () -> {
+                if (attempts.incrementAndGet() < 2) {
+                    throw new AuthorApiStatusException(429);
+                }
+                return AUTHOR;
+            });
+
+            // Then
+            assertThat(result.get()).isEqualTo(AUTHOR);
+            assertThat(attempts).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("When the caller is interrupted, then should not count it as a failure")
+        void shouldNotCountFailure_whenCallerInterrupted() {
+            // When
+            for (int i = 0; i < AuthorCircuitBreaker.MIN_CALLS; i++) {
+                resilience.lookup("author-1", () -> {
+                    throw new InterruptedException();
+                });
+                Thread.interrupted();
+            }
+
+            // Then
+            assertThat(resilience.circuitState()).isEqualTo(AuthorCircuitBreaker.State.CLOSED);
+            assertThat(resilience.lookup("author-1", () -> AUTHOR).get()).isEqualTo(AUTHOR);
+        }
+
+        @Test
+        @DisplayName("When the circuit is open, then should not call the author API")
+        void shouldNotCall_whenCircuitOpen() {
+            // Given
+            for (int i = 0; i < AuthorCircuitBreaker.MIN_CALLS; i++) {
+                resilience.lookup("author-1", () -> {
+                    throw new IllegalStateException("Connection reset");
+                });
+            }
+            var attempts = new AtomicInteger();
+
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookup("author-1", () -> {
+                attempts.incrementAndGet();
+                return AUTHOR;
+            });
+
+            // Then
+            assertThat(resilience.circuitState()).isEqualTo(AuthorCircuitBreaker.State.OPEN);
+            assertThat(result.isLeft()).isTrue();
+            assertThat(attempts).hasValue(0);
+            assertThat(counter("author.lookup.rejected", "circuit-open")).isPositive();
+        }
+
+        @Test
+        @DisplayName("When the bulkhead is full, then should reject the lookup")
+        void shouldReject_whenBulkheadFull() throws Exception {
+            // Given
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<Either<Error, AuthorDTO>> blocked = executor.submit(() -> resilience.lookup("author-1", () -> {
+                    started.countDown();
+                    release.await();
+                    return AUTHOR;
+                }));
+                started.await();
+
+                // When
+                Either<Error, AuthorDTO> result = resilience.lookup("author-3", () -> AUTHOR);
+
+                // Then
+                assertThat(result.isLeft()).isTrue();
+                assertThat(resilience.availableCalls()).isZero();
+                assertThat(counter("author.lookup.rejected", "bulkhead-full")).isEqualTo(1.0);
+                release.countDown();
+                assertThat(blocked.get().get()).isEqualTo(AUTHOR);
+            }
+        }
+
+        @Test
+        @DisplayName("When more authors than the stale entries are looked up, then should evict the least recent")
+        void shouldEvictLeastRecentAuthor_whenStaleEntriesExceeded() {
+            // When
+            resilience.lookup("author-1", () -> AUTHOR);
+            resilience.lookup("author-2", () -> new AuthorDTO("author-2", "Charles Dickens"));
+            resilience.lookup("author-3", () -> new AuthorDTO("author-3", "Jane Austen"));
+
+            // Then
+            assertThat(resilience.staleEntries()).isEqualTo(2);
+            assertThat(resilience.lookup("author-1", () -> {
+                throw new IllegalStateException("Connection reset");
+            }).isLeft()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Given lookupAsync method")
+    class LookupAsyncTests {
+
+        @Test
+        @DisplayName("When the call fails transiently, then should retry it after a backoff")
+        void shouldRetry_whenCallFailsTransiently() {
+            // Given
+            var attempts = new AtomicInteger();
+
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookupAsync("author-1", () -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(new IllegalStateException("Connection reset"))
+                : CompletableFuture.completedFuture(AUTHOR)).toCompletableFuture().join();
+
+            // Then
+            assertThat(result.get()).isEqualTo(AUTHOR);
+            assertThat(attempts).hasValue(3);
+            assertThat(resilience.availableCalls()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("When the call keeps failing for a known author, then should serve its last known version")
+        void shouldServeStaleAuthor_whenCallKeepsFailing() {
+            // Given
+            resilience.lookupAsync("author-1", () -> CompletableFuture.completedFuture(AUTHOR))
+                .toCompletableFuture().join();
+
+            // When
+            Either<Error, AuthorDTO> result = resilience.lookupAsync("author-1", () -> {
+                throw new IllegalStateException("Connection reset");
+            }).toCompletableFuture().join();
+
+            // Then
+            assertThat(result.get()).isEqualTo(AUTHOR);
+            assertThat(counter("author.lookup.fallbacks", "stale")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("When the author API rejects the lookup, then should neither retry it nor count it as a failure")
+        void shouldNeitherRetryNorCountFailure_whenAuthorApiRejectsLookup() {
+            // Given
+            var attempts = new AtomicInteger();
+
+            // When
+            Either<Error, AuthorDTO> result = null;
+            for (int i = 0; i < AuthorCircuitBreaker.MIN_CALLS; i++) {
+                result = resilience.lookupAsync("author-2", () -> {
+                    attempts.incrementAndGet();
+                    return CompletableFuture.failedFuture(new AuthorApiStatusException(410));
+                }).toCompletableFuture().join();
+            }
+
+            // Then
+            assertThat(result.getLeft()).isEqualTo(new Error.BusinessError.UnknownAuthor("author-2"));
+            assertThat(attempts).hasValue(AuthorCircuitBreaker.MIN_CALLS);
+            assertThat(resilience.circuitState()).isEqualTo(AuthorCircuitBreaker.State.CLOSED);
+            assertThat(resilience.availableCalls()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("When the call is cancelled, then should not count it as a failure")
+        void shouldNotCountFailure_whenCallCancelled() {
+            // When
+            for (int i = 0; i < AuthorCircuitBreaker.MIN_CALLS; i++) {
+                var call = new CompletableFuture<AuthorDTO>();
+                var result = resilience.lookupAsync("author-1", () -> call);
+                call.cancel(true);
+                assertThat(result.toCompletableFuture().join().isLeft()).isTrue();
+            }
+
+            // Then
+            assertThat(resilience.circuitState()).isEqualTo(AuthorCircuitBreaker.State.CLOSED);
+            assertThat(counter("author.lookup.retries", "attempted")).isZero();
+        }
+
+        @Test
+        @DisplayName("When the bulkhead is full, then should reject the lookup until the pending one completes")
+        void shouldReject_whenBulkheadFull() {
+            // Given
+            var pending = new CompletableFuture<AuthorDTO>();
+            var first = resilience.lookupAsync("author-1", () -> pending);
+
+            // When
+            Either<Error, AuthorDTO> rejected = resilience.lookupAsync("author-2", () -> pending)
+                .toCompletableFuture().join();
+            pending.complete(AUTHOR);
+
+            // Then
+            assertThat(rejected.isLeft()).isTrue();
+            assertThat(first.toCompletableFuture().join().get()).isEqualTo(AUTHOR);
+            assertThat(resilience.availableCalls()).isEqualTo(1);
+        }
+    }
+
+    private double counter(final String name, final String outcome) {
+        return registry.get(name).tags(name.endsWith("rejected") ? "reason" : "outcome", outcome).counter().count();
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.emedina.hexagonal.ref.app.external;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stub of the author API listening on localhost, to exercise the real HTTP path of the
+ * {@link AuthorExternalAPIAdapter} offline.
+ * <p>
+ * It answers {@code GET /authors/{id}} after a delay drawn from the configured {@link Latency}, fails the configured
+ * fraction of requests with the configured error status, {@code 503 Service Unavailable} by default, and can drip the body of its responses byte by byte
+ * to reproduce a server that is slow to respond rather than slow to accept.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class StubAuthorServer implements AutoCloseable {
+
+    static final String AUTHOR_NAME = "William Shakespeare";
+    private static final String PATH = "/authors/";
+    private static final String LOOPBACK = "127.0.0.1";
+
+    /**
+     * Distribution of the delay before the stub answers.
+     */
+    @FunctionalInterface
+    interface Latency {
+
+        Duration next();
+
+        static Latency none() {
+            return () -> Duration.ZERO;
+        }
+
+        static Latency fixed(final Duration delay) {
+            return () -> delay;
+        }
+
+        /**
+         * Log-normal distribution, the usual shape of service latencies: most requests close to the median and a
+         * long tail reaching the given p99.
+         *
+         * @param median the median delay
+         * @param p99    the 99th percentile of the delay
+         * @return the distribution
+         */
+        static Latency logNormal(final Duration median, final Duration p99) {
+            final double mu = Math.log(median.toNanos());
+            final double sigma = (Math.log(p99.toNanos()) - mu) / 2.326;
+            return () -> Duration.ofNanos((long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+
+    }
+
+    private final HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile Latency latency = Latency.none();
+    private volatile double errorRate;
+    private volatile int errorStatus = 503;
+    private volatile Duration dripInterval = Duration.ZERO;
+
+    private StubAuthorServer(final HttpServer server) {
+        this.server = server;
+        this.server.createContext(PATH, this::handle);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.start();
+    }
+
+    static StubAuthorServer start() throws IOException {
+        return new StubAuthorServer(HttpServer.create(new InetSocketAddress(LOOPBACK, 0), 0));
+    }
+
+    StubAuthorServer latency(final Latency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    StubAuthorServer errorRate(final double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    StubAuthorServer errorStatus(final int errorStatus) {
+        this.errorStatus = errorStatus;
+        return this;
+    }
+
+    StubAuthorServer dripInterval(final Duration dripInterval) {
+        this.dripInterval = dripInterval;
+        return this;
+    }
+
+    URI baseUrl() {
+        return URI.create("http://" + LOOPBACK + ":" + this.server.getAddress().getPort());
+    }
+
+    int requests() {
+        return this.requests.get();
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        this.requests.incrementAndGet();
+        try {
+            Thread.sleep(this.latency.next());
+            if (ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+                exchange.sendResponseHeaders(this.errorStatus, -1);
+                return;
+            }
+
+            final String id = exchange.getRequestURI().getPath().substring(PATH.length());
+            final byte[] body = ("{\"id\":\"" + id + "\",\"name\":\"" + AUTHOR_NAME + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            final OutputStream out = exchange.getResponseBody();
+            if (this.dripInterval.isZero()) {
+                out.write(body);
+                return;
+            }
+            for (final byte b : body) {
+                out.write(b);
+                out.flush();
+                Thread.sleep(this.dripInterval);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+}
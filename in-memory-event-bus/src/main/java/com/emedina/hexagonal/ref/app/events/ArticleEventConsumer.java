@@ -0,0 +1,96 @@
+package com.emedina.hexagonal.ref.app.events;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventSubscriber;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers the events of a ring to a single subscriber, on its own thread.
+ * <p>
+ * Every time it wakes up the consumer takes every event published since the last batch, hands them over to the
+ * subscriber in order, and only then moves its sequence forward, releasing the slots of the whole batch to the
+ * producers at once. A subscriber failing on an event is logged and skipped, so that it can never stall the ring.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+final class ArticleEventConsumer implements Runnable {
+
+    private final ArticleEventRing ring;
+    private final ArticleEventSubscriber subscriber;
+    private final AtomicLong sequence = new AtomicLong(-1);
+    private volatile boolean running = true;
+
+    ArticleEventConsumer(final ArticleEventRing ring, final ArticleEventSubscriber subscriber) {
+        this.ring = ring;
+        this.subscriber = subscriber;
+        this.ring.addGatingSequence(this.sequence);
+    }
+
+    /**
+     * The last sequence delivered to the subscriber.
+     */
+    long sequence() {
+        return this.sequence.get();
+    }
+
+    @Override
+    public void run() {
+        int attempt = 0;
+        while (this.running) {
+            if (this.consumeBatch() > 0) {
+                attempt = 0;
+            } else {
+                ArticleEventRing.idle(attempt++);
+            }
+        }
+        // Whatever was published before halting is still delivered
+        while (this.consumeBatch() > 0) {
+            Thread.onSpinWait();
+        }
+        this.ring.removeGatingSequence(this.sequence);
+    }
+
+    /**
+     * Asks the consumer to stop once it has delivered the events published so far.
+     */
+    void halt() {
+        this.running = false;
+    }
+
+    /**
+     * Delivers the events published since the last batch.
+     *
+     * @return the number of events delivered
+     */
+    int consumeBatch() {
+        final long next = this.sequence.get() + 1;
+        final long available = this.ring.highestPublished(next);
+        if (available < next) {
+            return 0;
+        }
+        for (long s = next; s <= available; s++) {
+            this.deliver(this.ring.get(s), s, s == available);
+        }
+        this.sequence.setRelease(available);
+        return (int) (available - next + 1);
+    }
+
+    private void deliver(final ArticleEvent event, final long sequence, final boolean endOfBatch) {
+        try {
+            this.subscriber.onEvent(event, sequence, endOfBatch);
+        } catch (final RuntimeException e) {
+            log.atWarn().setMessage("Subscriber [{}] failed on article event [{}] with sequence [{}]")
+                .addArgument(() -> this.subscriber.getClass().getSimpleName())
+                .addArgument(event)
+                .addArgument(sequence)
+                .setCause(e)
+                .log();
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.emedina.hexagonal.ref.app.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+
+/**
+ * Pre-allocated ring of article events, published to and consumed from without locks.
+ * <p>
+ * Every published event gets the next sequence number, which also gives the slot of the ring it is written to. Each
+ * producer claims its own sequence with a single atomic increment, so that it is the only writer of its slot, and
+ * then marks the slot as published with a release store of that sequence; consumers acquire that mark before
+ * reading the slot. A producer only ever waits when the slot it claimed has not been consumed yet by the slowest
+ * consumer, i.e. when that consumer lags a whole ring behind.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class ArticleEventRing {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private final int capacity;
+    private final int mask;
+    private final ArticleEvent[] events;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<AtomicLong> gatingSequences = new CopyOnWriteArrayList<>();
+    private volatile long cachedGatingSequence = -1;
+
+    /**
+     * Creates a ring.
+     *
+     * @param capacity the number of slots of the ring, which must be a power of two
+     */
+    ArticleEventRing(final int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity of the ring must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.events = new ArticleEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.published.set(i, -1);
+        }
+    }
+
+    int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Registers the sequence of a consumer, i.e. the last sequence it consumed, which producers may not overtake by a
+     * whole ring.
+     *
+     * @param sequence the sequence of the consumer
+     */
+    void addGatingSequence(final AtomicLong sequence) {
+        this.gatingSequences.add(sequence);
+    }
+
+    void removeGatingSequence(final AtomicLong sequence) {
+        this.gatingSequences.remove(sequence);
+    }
+
+    /**
+     * Publishes an event.
+     *
+     * @param event the event to publish
+     * @return the sequence of the event
+     */
+    long publish(final ArticleEvent event) {
+        final long sequence = this.claimed.incrementAndGet();
+        final long wrapPoint = sequence - this.capacity;
+        if (wrapPoint > this.cachedGatingSequence) {
+            int attempt = 0;
+            long gating;
+            while (wrapPoint > (gating = this.minimumGatingSequence(sequence))) {
+                idle(attempt++);
+            }
+            this.cachedGatingSequence = gating;
+        }
+
+        final int index = this.index(sequence);
+        this.events[index] = event;
+        this.published.setRelease(index, sequence);
+        return sequence;
+    }
+
+    /**
+     * Finds the highest sequence published without gaps from the given one.
+     *
+     * @param from the first sequence to look for
+     * @return the highest sequence published, or {@code from - 1} if {@code from} itself is not published yet
+     */
+    long highestPublished(final long from) {
+        long sequence = from;
+        while (this.published.getAcquire(this.index(sequence)) == sequence) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    /**
+     * Gets the event of a published sequence, which must not have been overtaken by a producer yet.
+     */
+    ArticleEvent get(final long sequence) {
+        return this.events[this.index(sequence)];
+    }
+
+    /**
+     * The highest sequence claimed by producers so far, published or not.
+     */
+    long claimed() {
+        return this.claimed.get();
+    }
+
+    /**
+     * Backs off progressively while waiting: first spinning, then yielding and finally parking, for up to one
+     * millisecond at a time.
+     *
+     * @param attempt the number of times waited so far
+     */
+    static void idle(final int attempt) {
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempt < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << Math.min(attempt - YIELD_TRIES, 10)));
+        }
+    }
+
+    private long minimumGatingSequence(final long sequence) {
+        long minimum = sequence;
+        for (final AtomicLong gating : this.gatingSequences) {
+            minimum = Math.min(minimum, gating.getAcquire());
+        }
+        return minimum;
+    }
+
+    private int index(final long sequence) {
+        return (int) (sequence & this.mask);
+    }
+
+}
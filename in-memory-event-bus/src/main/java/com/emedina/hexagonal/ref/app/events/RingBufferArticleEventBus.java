@@ -0,0 +1,96 @@
+package com.emedina.hexagonal.ref.app.events;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventPublisher;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventSubscriber;
+import com.emedina.sharedkernel.application.annotation.Adapter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the {@link ArticleEventPublisher} interface that dispatches the events to the subscribers in
+ * process, through a pre-allocated ring buffer.
+ * <p>
+ * Publishing an event only claims a slot of the ring, writes the event into it and marks it as published, so the
+ * command publishing it neither takes a lock nor waits for any subscriber. Every subscriber is fed by a consumer of
+ * its own, running on a dedicated thread that delivers the events in batches; a slow subscriber only slows down the
+ * producers once it lags a whole ring behind.
+ * </p>
+ * <p>
+ * Consumers wait for new events by spinning, then yielding and finally parking, rather than being signalled by the
+ * producers, which would put a system call back on the command path; the price is that an idle subscriber may take
+ * up to a millisecond to see a new event.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Adapter
+class RingBufferArticleEventBus implements ArticleEventPublisher, AutoCloseable {
+
+    static final int CAPACITY = 1024;
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ArticleEventRing ring;
+    private final List<ArticleEventConsumer> consumers = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    /**
+     * Creates the bus and starts delivering to the given subscribers.
+     *
+     * @param subscribers the subscribers to the events of the articles
+     */
+    RingBufferArticleEventBus(final List<ArticleEventSubscriber> subscribers) {
+        this.ring = new ArticleEventRing(CAPACITY);
+        for (final ArticleEventSubscriber subscriber : subscribers) {
+            final ArticleEventConsumer consumer = new ArticleEventConsumer(this.ring, subscriber);
+            this.consumers.add(consumer);
+            this.threads.add(Thread.ofPlatform()
+                .name("article-events-" + subscriber.getClass().getSimpleName())
+                .daemon()
+                .start(consumer));
+        }
+        log.atInfo().setMessage("Article events dispatched to [{}] subscribers through a ring of [{}] slots")
+            .addArgument(subscribers.size())
+            .addArgument(CAPACITY)
+            .log();
+    }
+
+    /**
+     * Publishes an event to every subscriber.
+     *
+     * @param event the event to publish
+     * @return the sequence number of the event
+     */
+    @Override
+    public long publish(final ArticleEvent event) {
+        return this.ring.publish(event);
+    }
+
+    /**
+     * Stops the consumers once they have delivered the events published so far.
+     */
+    @Override
+    public void close() {
+        this.consumers.forEach(ArticleEventConsumer::halt);
+        for (final Thread thread : this.threads) {
+            try {
+                if (!thread.join(SHUTDOWN_TIMEOUT)) {
+                    log.atWarn().setMessage("Consumer [{}] did not stop within [{}]")
+                        .addArgument(thread.getName())
+                        .addArgument(SHUTDOWN_TIMEOUT)
+                        .log();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.emedina.hexagonal.ref.app.events;
+
+import static com.emedina.hexagonal.ref.app.events.ArticleEventRingTest.deleted;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventSubscriber;
+
+/**
+ * Unit tests for ArticleEventConsumer.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ArticleEventConsumer Tests")
+class ArticleEventConsumerTest {
+
+    private ArticleEventRing ring;
+    private RecordingSubscriber subscriber;
+    private ArticleEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        ring = new ArticleEventRing(8);
+        subscriber = new RecordingSubscriber();
+        consumer = new ArticleEventConsumer(ring, subscriber);
+    }
+
+    @Test
+    @DisplayName("When nothing was published, then should deliver nothing")
+    void shouldDeliverNothing_whenNothingPublished() {
+        // When
+        int delivered = consumer.consumeBatch();
+
+        // Then
+        assertThat(delivered).isZero();
+        assertThat(consumer.sequence()).isEqualTo(-1);
+        assertThat(subscriber.ids).isEmpty();
+    }
+
+    @Test
+    @DisplayName("When several events were published, then should deliver them in one batch")
+    void shouldDeliverBatch_whenSeveralPublished() {
+        // Given
+        ring.publish(deleted("a"));
+        ring.publish(deleted("b"));
+        ring.publish(deleted("c"));
+
+        // When
+        int delivered = consumer.consumeBatch();
+
+        // Then
+        assertThat(delivered).isEqualTo(3);
+        assertThat(consumer.sequence()).isEqualTo(2);
+        assertThat(subscriber.ids).containsExactly("a", "b", "c");
+        assertThat(subscriber.sequences).containsExactly(0L, 1L, 2L);
+        assertThat(subscriber.endsOfBatch).containsExactly(false, false, true);
+    }
+
+    @Test
+    @DisplayName("When the subscriber fails on an event, then should skip it and go on")
+    void shouldSkipEvent_whenSubscriberFails() {
+        // Given
+        ring.publish(deleted("a"));
+        ring.publish(deleted("boom"));
+        ring.publish(deleted("c"));
+
+        // When
+        int delivered = consumer.consumeBatch();
+
+        // Then
+        assertThat(delivered).isEqualTo(3);
+        assertThat(subscriber.ids).containsExactly("a", "c");
+        assertThat(consumer.sequence()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("When halted, then should deliver what was published and stop gating the ring")
+    void shouldDrainAndStop_whenHalted() {
+        // Given
+        ring.publish(deleted("a"));
+        consumer.halt();
+
+        // When
+        consumer.run();
+
+        // Then
+        assertThat(subscriber.ids).containsExactly("a");
+        for (int i = 0; i < 16; i++) {
+            ring.publish(deleted("after-" + i));
+        }
+        assertThat(ring.claimed()).isEqualTo(16);
+    }
+
+    static final class RecordingSubscriber implements ArticleEventSubscriber {
+
+        final List<String> ids = new ArrayList<>();
+        final List<Long> sequences = new ArrayList<>();
+        final List<Boolean> endsOfBatch = new ArrayList<>();
+
+        @Override
+        public void onEvent(final ArticleEvent event, final long sequence, final boolean endOfBatch) {
+            if ("boom".equals(event.id().value())) {
+                throw new IllegalStateException("boom");
+            }
+            this.ids.add(event.id().value());
+            this.sequences.add(sequence);
+            this.endsOfBatch.add(endOfBatch);
+        }
+
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.emedina.hexagonal.ref.app.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+
+/**
+ * Unit tests for ArticleEventRing.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ArticleEventRing Tests")
+class ArticleEventRingTest {
+
+    @Test
+    @DisplayName("When the capacity is not a power of two, then should be rejected")
+    void shouldRejectCapacity_whenNotPowerOfTwo() {
+        // When & Then
+        assertThatThrownBy(() -> new ArticleEventRing(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ArticleEventRing(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new ArticleEventRing(8).capacity()).isEqualTo(8);
+    }
+
+    @Nested
+    @DisplayName("Given publish method")
+    class PublishTests {
+
+        @Test
+        @DisplayName("When publishing events, then should assign consecutive sequences")
+        void shouldAssignConsecutiveSequences_whenPublishing() {
+            // Given
+            var ring = new ArticleEventRing(8);
+
+            // When
+            long first = ring.publish(deleted("a"));
+            long second = ring.publish(deleted("b"));
+
+            // Then
+            assertThat(first).isZero();
+            assertThat(second).isEqualTo(1);
+            assertThat(ring.claimed()).isEqualTo(1);
+            assertThat(ring.get(0).id().value()).isEqualTo("a");
+            assertThat(ring.get(1).id().value()).isEqualTo("b");
+        }
+
+        @Test
+        @DisplayName("When nothing consumes the ring, then should overwrite the oldest slots")
+        void shouldWrapAround_whenNoConsumerIsGating() {
+            // Given
+            var ring = new ArticleEventRing(4);
+
+            // When
+            for (int i = 0; i < 6; i++) {
+                ring.publish(deleted("article-" + i));
+            }
+
+            // Then
+            assertThat(ring.get(4).id().value()).isEqualTo("article-4");
+            assertThat(ring.get(0).id().value()).isEqualTo("article-4");
+            assertThat(ring.highestPublished(4)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("When the slowest consumer lags a whole ring behind, then should wait for it")
+        void shouldWaitForSlowestConsumer_whenRingIsFull() throws Exception {
+            // Given
+            var ring = new ArticleEventRing(2);
+            var consumer = new AtomicLong(-1);
+            ring.addGatingSequence(consumer);
+            ring.publish(deleted("a"));
+            ring.publish(deleted("b"));
+
+            // When
+            var blocked = CompletableFuture.supplyAsync(() -> ring.publish(deleted("c")));
+
+            // Then
+            TimeUnit.MILLISECONDS.sleep(50);
+            assertThat(blocked).isNotDone();
+            consumer.set(0);
+            assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+            assertThat(ring.get(2).id().value()).isEqualTo("c");
+        }
+
+        @Test
+        @DisplayName("When a consumer is removed, then should no longer wait for it")
+        void shouldNotWaitForConsumer_whenRemoved() {
+            // Given
+            var ring = new ArticleEventRing(2);
+            var consumer = new AtomicLong(-1);
+            ring.addGatingSequence(consumer);
+            ring.publish(deleted("a"));
+            ring.publish(deleted("b"));
+
+            // When
+            ring.removeGatingSequence(consumer);
+
+            // Then
+            assertThat(ring.publish(deleted("c"))).isEqualTo(2);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Given highestPublished method")
+    class HighestPublishedTests {
+
+        @Test
+        @DisplayName("When nothing was published, then should return the sequence before")
+        void shouldReturnPreviousSequence_whenNothingPublished() {
+            // Given
+            var ring = new ArticleEventRing(4);
+
+            // When & Then
+            assertThat(ring.highestPublished(0)).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("When several events were published, then should return the last of them")
+        void shouldReturnLastSequence_whenSeveralPublished() {
+            // Given
+            var ring = new ArticleEventRing(4);
+            ring.publish(deleted("a"));
+            ring.publish(deleted("b"));
+            ring.publish(deleted("c"));
+
+            // When & Then
+            assertThat(ring.highestPublished(0)).isEqualTo(2);
+            assertThat(ring.highestPublished(2)).isEqualTo(2);
+            assertThat(ring.highestPublished(3)).isEqualTo(2);
+        }
+
+    }
+
+    @Test
+    @DisplayName("When idling for long, then should end up parking")
+    void shouldBackOff_whenIdling() {
+        // When
+        long start = System.nanoTime();
+        for (int attempt = 0; attempt < 210; attempt++) {
+            ArticleEventRing.idle(attempt);
+        }
+
+        // Then
+        assertThat(System.nanoTime() - start).isPositive();
+    }
+
+    static ArticleEvent deleted(final String id) {
+        return new ArticleEvent.ArticleDeleted(ArticleId.validateThenCreate(id).get(), Instant.now());
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.emedina.hexagonal.ref.app.events;
+
+import static com.emedina.hexagonal.ref.app.events.ArticleEventRingTest.deleted;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventSubscriber;
+
+/**
+ * Unit tests for RingBufferArticleEventBus.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("RingBufferArticleEventBus Tests")
+class RingBufferArticleEventBusTest {
+
+    @Test
+    @DisplayName("When publishing events, then every subscriber should receive all of them in order")
+    void shouldDeliverToEverySubscriberInOrder_whenPublishing() throws Exception {
+        // Given
+        int events = RingBufferArticleEventBus.CAPACITY * 3;
+        var first = new CollectingSubscriber(events);
+        var second = new CollectingSubscriber(events);
+
+        // When
+        try (var bus = new RingBufferArticleEventBus(List.of(first, second))) {
+            for (int i = 0; i < events; i++) {
+                bus.publish(deleted("article-" + i));
+            }
+
+            // Then
+            assertThat(first.received.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(second.received.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        for (var subscriber : List.of(first, second)) {
+            assertThat(subscriber.ids).hasSize(events);
+            for (int i = 0; i < events; i++) {
+                assertThat(subscriber.ids.get(i)).isEqualTo("article-" + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("When many producers publish concurrently, then no event should be lost")
+    void shouldLoseNoEvent_whenProducersPublishConcurrently() throws Exception {
+        // Given
+        int producers = 8;
+        int perProducer = 1_000;
+        var subscriber = new CollectingSubscriber(producers * perProducer);
+
+        // When
+        try (var bus = new RingBufferArticleEventBus(List.of(subscriber));
+             var executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        bus.publish(deleted(producer + "-" + i));
+                    }
+                });
+            }
+
+            // Then
+            assertThat(subscriber.received.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+        Set<String> distinct = ConcurrentHashMap.newKeySet();
+        distinct.addAll(subscriber.ids);
+        assertThat(distinct).hasSize(producers * perProducer);
+    }
+
+    @Test
+    @DisplayName("When closing, then should deliver the events published before")
+    void shouldDeliverPendingEvents_whenClosing() {
+        // Given
+        var subscriber = new CollectingSubscriber(1);
+        var bus = new RingBufferArticleEventBus(List.of(subscriber));
+        bus.publish(deleted("last"));
+
+        // When
+        bus.close();
+
+        // Then
+        assertThat(subscriber.ids).containsExactly("last");
+    }
+
+    @Test
+    @DisplayName("When nobody subscribed, then publishing should still succeed")
+    void shouldPublish_whenNoSubscribers() {
+        // Given
+        try (var bus = new RingBufferArticleEventBus(List.of())) {
+            // When & Then
+            for (int i = 0; i < RingBufferArticleEventBus.CAPACITY * 2; i++) {
+                bus.publish(deleted("article-" + i));
+            }
+        }
+    }
+
+    static final class CollectingSubscriber implements ArticleEventSubscriber {
+
+        final List<String> ids = new CopyOnWriteArrayList<>();
+        final CountDownLatch received;
+
+        CollectingSubscriber(final int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvent(final ArticleEvent event, final long sequence, final boolean endOfBatch) {
+            this.ids.add(event.id().value());
+            this.received.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import java.util.List;
+
+/**
+ * Broker the notifications of the changes made to the articles are dispatched to by the {@link ArticleOutboxRelay}.
+ * <p>
+ * Dispatch is at least once: a batch whose publication failed is published again, so the broker is expected to drop
+ * the messages whose key it already took.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+interface ArticleNotificationBroker {
+
+    /**
+     * Publishes a batch of messages, in order.
+     *
+     * @param batch the messages to publish
+     * @throws RuntimeException if the batch could not be published, in which case it is published again later
+     */
+    void publish(List<ArticleOutbox.Message> batch);
+
+}
@@ -0,0 +1,131 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import io.vavr.control.Option;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+import com.emedina.sharedkernel.application.annotation.Adapter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox of the notifications of the changes made to the articles, pending to be dispatched to the broker.
+ * <p>
+ * Messages are only appended by the {@link InMemoryArticleRepository}, within the same unit of work as the change they
+ * notify, so that a change is never stored without its notification nor notified without being stored. They are then
+ * read, in order, by the {@link ArticleOutboxRelay}, which only acknowledges them once the broker took them.
+ * </p>
+ * <p>
+ * The outbox is bounded by {@link #CAPACITY}; once full, the repository refuses further changes until the relay
+ * catches up, rather than losing their notifications.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Adapter
+class ArticleOutbox {
+
+    static final int CAPACITY = 100_000;
+
+    private final int capacity;
+    private final ArrayDeque<Message> pending = new ArrayDeque<>();
+    private long nextSequence;
+
+    ArticleOutbox() {
+        this(CAPACITY);
+    }
+
+    ArticleOutbox(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * A notification of a change made to an article.
+     * <p>
+     * The key is unique to the change and stays the same however many times the message is dispatched, so that the
+     * broker can drop the duplicates of a dispatch retried after a failure.
+     * </p>
+     *
+     * @param sequence   the position of the message in the outbox
+     * @param key        the deduplication key of the message
+     * @param type       the type of the change
+     * @param id         the identifier of the article
+     * @param article    the article, unless it was deleted
+     * @param recordedAt the {@link System#nanoTime()} the change was made at
+     */
+    record Message(long sequence, String key, ArticleChangeDTO.Type type, String id, ArticleDTO article,
+            long recordedAt) {
+    }
+
+    /**
+     * Tells whether another message can be appended.
+     *
+     * @return {@code true} unless the outbox is full
+     */
+    synchronized boolean hasRoom() {
+        return this.pending.size() < this.capacity;
+    }
+
+    /**
+     * Appends the notification of a change.
+     *
+     * @param type    the type of the change
+     * @param id      the identifier of the article
+     * @param article the article, {@code null} if it was deleted
+     * @return the message appended
+     */
+    synchronized Message append(final ArticleChangeDTO.Type type, final String id, final ArticleDTO article) {
+        final long sequence = this.nextSequence++;
+        final Message message = new Message(sequence, id + "@" + sequence, type, id, article, System.nanoTime());
+        this.pending.addLast(message);
+        return message;
+    }
+
+    /**
+     * Gets the oldest messages not acknowledged yet, leaving them in the outbox.
+     *
+     * @param max the maximum number of messages to get
+     * @return the messages, oldest first
+     */
+    synchronized List<Message> peek(final int max) {
+        final List<Message> batch = new ArrayList<>(Math.min(max, this.pending.size()));
+        for (final Message message : this.pending) {
+            if (batch.size() == max) {
+                break;
+            }
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    /**
+     * Removes every message up to the given one, once dispatched.
+     *
+     * @param sequence the sequence of the last message dispatched
+     */
+    synchronized void acknowledge(final long sequence) {
+        while (!this.pending.isEmpty() && this.pending.peekFirst().sequence() <= sequence) {
+            this.pending.pollFirst();
+        }
+    }
+
+    /**
+     * Gets the number of messages pending.
+     *
+     * @return the number of messages not acknowledged yet
+     */
+    synchronized int pending() {
+        return this.pending.size();
+    }
+
+    /**
+     * Gets when the oldest message pending was recorded.
+     *
+     * @return the {@link System#nanoTime()} of the oldest message pending, if any
+     */
+    synchronized Option<Long> oldestRecordedAt() {
+        return Option.of(this.pending.peekFirst()).map(Message::recordedAt);
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import com.emedina.sharedkernel.application.annotation.Adapter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Relays the messages of the {@link ArticleOutbox} to the {@link ArticleNotificationBroker}, in batches, from a
+ * dedicated thread.
+ * <p>
+ * A batch is published as soon as it is full, or once its oldest message waited for the linger, so that the broker is
+ * called once per batch under load and a lone change is not held back for longer than the linger when idle. The batch
+ * size and linger are configured through the {@code articles.outbox.batch-size} and {@code articles.outbox.linger}
+ * properties.
+ * </p>
+ * <p>
+ * Messages are only acknowledged once the broker took their batch. A failed batch is published again after the retry
+ * backoff, with the same deduplication keys, so the broker gets every message at least once and can drop those it
+ * already took.
+ * </p>
+ * <p>
+ * The throughput is recorded in the {@code articles.outbox.dispatched} and {@code articles.outbox.batch.size}
+ * metrics, and failures in {@code articles.outbox.failures}. The lag is recorded in {@code articles.outbox.lag}, from
+ * the change to its dispatch, while {@code articles.outbox.pending} and {@code articles.outbox.oldest.age} show how far
+ * behind the relay is right now.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Adapter
+class ArticleOutboxRelay implements AutoCloseable {
+
+    static final int DEFAULT_BATCH_SIZE = 100;
+
+    private static final long POLL_NANOS = 1_000_000;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ArticleOutbox outbox;
+    private final ArticleNotificationBroker broker;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long retryBackoffNanos;
+
+    private final Counter dispatched;
+    private final DistributionSummary batches;
+    private final Counter failures;
+    private final Timer lag;
+
+    private volatile boolean running = true;
+    private Thread thread;
+
+    @Autowired
+    ArticleOutboxRelay(final ArticleOutbox outbox, final ArticleNotificationBroker broker,
+            final MeterRegistry registry,
+            @Value("${articles.outbox.batch-size:" + DEFAULT_BATCH_SIZE + "}") final int batchSize,
+            @Value("${articles.outbox.linger:5ms}") final Duration linger,
+            @Value("${articles.outbox.retry-backoff:500ms}") final Duration retryBackoff) {
+        this(outbox, broker, registry, batchSize, linger, retryBackoff);
+        this.start();
+    }
+
+    ArticleOutboxRelay(final ArticleOutbox outbox, final ArticleNotificationBroker broker,
+            final MeterRegistry registry, final int batchSize, final Duration linger, final Duration retryBackoff) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        this.outbox = outbox;
+        this.broker = broker;
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.retryBackoffNanos = retryBackoff.toNanos();
+
+        this.dispatched = registry.counter("articles.outbox.dispatched");
+        this.batches = registry.summary("articles.outbox.batch.size");
+        this.failures = registry.counter("articles.outbox.failures");
+        this.lag = registry.timer("articles.outbox.lag");
+        Gauge.builder("articles.outbox.pending", outbox, ArticleOutbox::pending).register(registry);
+        TimeGauge.builder("articles.outbox.oldest.age", outbox, TimeUnit.NANOSECONDS,
+                o -> o.oldestRecordedAt().map(at -> System.nanoTime() - at).getOrElse(0L))
+            .register(registry);
+    }
+
+    /**
+     * Starts relaying the messages of the outbox.
+     */
+    void start() {
+        this.thread = Thread.ofPlatform()
+            .name("article-outbox-relay")
+            .daemon()
+            .start(this::run);
+        log.atInfo().setMessage("Article outbox relayed in batches of up to [{}] messages, lingering [{}] us")
+            .addArgument(this.batchSize)
+            .addArgument(this.lingerNanos / 1_000)
+            .log();
+    }
+
+    /**
+     * Publishes the next batch of messages, if it is full or its oldest message lingered enough.
+     *
+     * @param force whether to publish the batch however small and recent it is
+     * @return the number of messages dispatched, {@code -1} if the broker failed
+     */
+    int dispatch(final boolean force) {
+        final int pending = this.outbox.pending();
+        if (pending == 0) {
+            return 0;
+        }
+        if (!force && pending < this.batchSize && this.outbox.oldestRecordedAt()
+            .map(at -> System.nanoTime() - at < this.lingerNanos)
+            .getOrElse(true)) {
+            return 0;
+        }
+
+        final List<ArticleOutbox.Message> batch = this.outbox.peek(this.batchSize);
+        try {
+            this.broker.publish(batch);
+        } catch (final RuntimeException e) {
+            this.failures.increment();
+            log.atWarn().setMessage("Dispatch of [{}] article notifications failed, retrying in [{}] ms: {}")
+                .addArgument(batch.size())
+                .addArgument(this.retryBackoffNanos / 1_000_000)
+                .addArgument(e.getMessage())
+                .log();
+            return -1;
+        }
+        this.outbox.acknowledge(batch.getLast().sequence());
+
+        final long now = System.nanoTime();
+        for (final ArticleOutbox.Message message : batch) {
+            this.lag.record(now - message.recordedAt(), TimeUnit.NANOSECONDS);
+        }
+        this.dispatched.increment(batch.size());
+        this.batches.record(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Stops relaying once the messages pending were dispatched, unless the broker fails.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        if (this.thread == null) {
+            return;
+        }
+        LockSupport.unpark(this.thread);
+        try {
+            if (!this.thread.join(SHUTDOWN_TIMEOUT)) {
+                log.atWarn().setMessage("Article outbox relay did not stop within [{}], [{}] messages pending")
+                    .addArgument(SHUTDOWN_TIMEOUT)
+                    .addArgument(this.outbox::pending)
+                    .log();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (this.running) {
+            final int dispatched = this.dispatch(false);
+            if (dispatched < 0) {
+                LockSupport.parkNanos(this.retryBackoffNanos);
+            } else if (dispatched < this.batchSize) {
+                LockSupport.parkNanos(Math.min(POLL_NANOS, Math.max(this.lingerNanos, 1)));
+            }
+        }
+        // Whatever was appended before closing is still dispatched, short of a failing broker
+        int dispatched;
+        do {
+            dispatched = this.dispatch(true);
+        } while (dispatched > 0);
+    }
+
+}
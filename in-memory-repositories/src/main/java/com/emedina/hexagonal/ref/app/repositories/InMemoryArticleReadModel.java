@@ -0,0 +1,227 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import com.emedina.hexagonal.ref.app.application.ports.out.ArticleReadModel;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.sharedkernel.application.annotation.Adapter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the {@link ArticleReadModel} interface that keeps the ready-to-serve articles in memory.
+ * <p>
+ * The list of all the articles is kept as an immutable snapshot tagged with the version it was taken at, and only
+ * rebuilt by the first query after a change, so that queries in between share it without copying anything. Like the repository, every query is
+ * shed if the deadline of the current request already expired.
+ * </p>
+ * <p>
+ * Changes are also indexed by version, in order, keeping only the latest change of every article; that of a deleted
+ * article is kept as a tombstone. Synchronising after a version thus walks only the changes made since. Tombstones
+ * beyond {@link #MAX_TOMBSTONES} are compacted, oldest first, after which a synchronisation from before them gets
+ * every live article in full instead.
+ * </p>
+ * <p>
+ * Events reach the read model in the order the changes were stored, as the repository publishes them under its
+ * lock. A change at a version no newer than the latest one applied to its article is nonetheless rejected as stale, so
+ * that an update can never be applied over a later one, nor an article deleted since be stored again; once the
+ * tombstone of an article is compacted, any change at a version up to the compacted ones is rejected.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Adapter
+class InMemoryArticleReadModel implements ArticleReadModel {
+
+    static final int MAX_TOMBSTONES = 10_000;
+
+    private static final long POLL_NANOS = 50_000;
+
+    final Map<String, ArticleDTO> articles = new ConcurrentHashMap<>();
+
+    private final ConcurrentNavigableMap<Long, ArticleChangeDTO> changes = new ConcurrentSkipListMap<>();
+    private volatile long compactedUpTo = -1;
+
+    // Only touched by the writer, under the lock of the read model
+    private final Map<String, Long> changedAt = new HashMap<>();
+    private final ArrayDeque<Long> tombstones = new ArrayDeque<>();
+
+    private final AtomicLong version = new AtomicLong(-1);
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of());
+
+    private record Snapshot(long version, List<ArticleDTO> articles) {
+    }
+
+    /**
+     * Finds an article by its identifier.
+     *
+     * @param id the identifier of the article
+     * @return either the article or an error
+     */
+    @Override
+    public Either<Error, ArticleDTO> findById(final String id) {
+        return this.withinDeadline(() -> Option.of(this.articles.get(id))
+            .toEither(() -> new Error.BusinessError.UnknownArticle(id)));
+    }
+
+    /**
+     * Gets all the articles.
+     *
+     * @return either the list of articles or an error
+     */
+    @Override
+    public Either<Error, List<ArticleDTO>> findAll() {
+        return this.withinDeadline(() -> {
+            final long current = this.version.get();
+            Snapshot all = this.snapshot;
+            if (all.version() != current) {
+                // Changes are stored before the version moves, so the copy reflects at least the current version
+                all = new Snapshot(current, List.copyOf(this.articles.values()));
+                this.snapshot = all;
+            }
+            return Either.right(all.articles());
+        });
+    }
+
+    /**
+     * Gets the latest change of every article changed after the given version, in version order.
+     * <p>
+     * The high-water mark is read first: every change up to it is already indexed, and one compacted in the meantime
+     * was superseded by a later change, which the next synchronisation gets.
+     * </p>
+     * <p>
+     * A version ahead of the one of the read model was not handed out by it, typically because the client kept it
+     * across a restart that started the versions over; no delta relative to it can be trusted, so a full
+     * synchronisation is answered instead, as for a version older than the compacted changes.
+     * </p>
+     *
+     * @param version the version to get the changes after, {@code -1} for all of them
+     * @return either the changes, up to the version of the read model, or an error
+     */
+    @Override
+    public Either<Error, ArticleChangesDTO> changesSince(final long version) {
+        return this.withinDeadline(() -> {
+            final long current = this.version.get();
+            if (version <= current && version >= this.compactedUpTo) {
+                final List<ArticleChangeDTO> delta = List.copyOf(this.changes.tailMap(version, false).values());
+                // A tombstone compacted while walking the index may have been missed
+                if (version >= this.compactedUpTo) {
+                    return Either.right(new ArticleChangesDTO(current, false, delta));
+                }
+            }
+            return Either.right(new ArticleChangesDTO(current, true, this.changes.values().stream()
+                .filter(change -> change.type() != ArticleChangeDTO.Type.DELETED)
+                .toList()));
+        });
+    }
+
+    /**
+     * Stores an article, as of the given version.
+     *
+     * @param article the article
+     * @param version the version the article was changed at
+     */
+    @Override
+    public synchronized void put(final ArticleDTO article, final long version) {
+        if (this.isStale(article.id(), version)) {
+            return;
+        }
+        final ArticleChangeDTO.Type type = this.articles.put(article.id(), article) == null
+            ? ArticleChangeDTO.Type.CREATED
+            : ArticleChangeDTO.Type.UPDATED;
+        this.indexed(new ArticleChangeDTO(version, type, article.id(), article));
+        this.changed(version);
+    }
+
+    /**
+     * Removes an article, as of the given version, leaving a tombstone in the change index.
+     *
+     * @param id      the identifier of the article
+     * @param version the version the article was removed at
+     */
+    @Override
+    public synchronized void remove(final String id, final long version) {
+        if (this.isStale(id, version)) {
+            return;
+        }
+        this.articles.remove(id);
+        this.indexed(new ArticleChangeDTO(version, ArticleChangeDTO.Type.DELETED, id, null));
+        this.tombstones.addLast(version);
+        this.compactTombstones();
+        this.changed(version);
+    }
+
+    @Override
+    public long version() {
+        return this.version.get();
+    }
+
+    /**
+     * Waits for the read model to reach the given version, polling it.
+     *
+     * @param version the version to wait for
+     * @param timeout the maximum time to wait
+     * @return whether the read model reached the version in time
+     */
+    @Override
+    public boolean awaitVersion(final long version, final Duration timeout) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        while (this.version.get() < version) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(POLL_NANOS);
+        }
+        return true;
+    }
+
+    private boolean isStale(final String id, final long version) {
+        final Long latest = this.changedAt.get(id);
+        return version <= (latest != null ? latest : this.compactedUpTo);
+    }
+
+    private void indexed(final ArticleChangeDTO change) {
+        // The new change is indexed before the one it supersedes is dropped, so readers walking the index see either
+        final Long previous = this.changedAt.put(change.id(), change.version());
+        this.changes.put(change.version(), change);
+        if (previous != null && previous != change.version()) {
+            this.changes.remove(previous);
+        }
+    }
+
+    private void compactTombstones() {
+        while (this.tombstones.size() > MAX_TOMBSTONES) {
+            final long oldest = this.tombstones.removeFirst();
+            final ArticleChangeDTO change = this.changes.get(oldest);
+            // Tombstones of articles created again since were superseded already
+            if (change != null && change.type() == ArticleChangeDTO.Type.DELETED) {
+                this.changes.remove(oldest);
+                this.changedAt.remove(change.id(), oldest);
+                this.compactedUpTo = Math.max(this.compactedUpTo, oldest);
+            }
+        }
+    }
+
+    private void changed(final long version) {
+        this.version.accumulateAndGet(version, Math::max);
+    }
+
+    private <T> Either<Error, T> withinDeadline(final Supplier<Either<Error, T>> work) {
+        return Deadline.check(Deadline.Stage.REPOSITORY).flatMap(v -> work.get());
+    }
+
+}
@@ -2,27 +2,90 @@ package com.emedina.hexagonal.ref.app.repositories;
 
 import io.vavr.control.Either;
 import io.vavr.control.Try;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import com.emedina.hexagonal.ref.app.domain.entities.Article;
 import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventPublisher;
 import com.emedina.hexagonal.ref.app.domain.repositories.ArticleRepository;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 import com.emedina.sharedkernel.application.annotation.Adapter;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the {@link ArticleRepository} interface that uses an in-memory collection to store the articles.
+ * <p>
+ * Every operation is shed if the deadline of the current request already expired.
+ * </p>
+ * <p>
+ * Every change is notified through the {@link ArticleOutbox}, within the same unit of work: the article is stored and
+ * the notification appended under the lock of the repository, which is to this in-memory store what a transaction
+ * covering the table of the articles and that of the outbox is to a database. Handlers thus need no distributed
+ * transaction, nor to publish anything themselves, for the changes they make within {@code @Transactional} to be
+ * notified reliably. A change is refused as temporarily unavailable while the outbox is full, until the relay drains
+ * it.
+ * </p>
+ * <p>
+ * The {@link ArticleEvent} of every change is published under that lock too, so that its sequence number, which
+ * the read model is projected and the changes are indexed by, follows the order the changes were stored in: two
+ * writers of the same article cannot claim their sequences in the reverse order of their changes.
+ * </p>
+ * <p>
+ * That lock makes the repository single-writer: changes of different articles are serialised too, so that the
+ * notifications are appended in the order the changes were stored, and the write throughput is bounded by one core.
+ * The critical section only holds a map update, an append and the claim of a slot of the event ring, which keeps the
+ * cost well below that of handling the request around it; reads take no lock at all.
+ * </p>
+ * <p>
+ * The articles are kept in a {@link ConcurrentHashMap} by default, of which getting all the articles copies every
+ * value, as it offers no consistent snapshot. With {@code articles.repository.store=persistent} they are kept in a
+ * {@link PersistentArticleMap} instead, of which a consistent snapshot is taken in constant time and iterated without
+ * copying, without ever blocking the writers nor being blocked by them; each write then allocates the path of the
+ * trie it changes. Writes stay serialised by the lock of the repository either way.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
 @Adapter
-@RequiredArgsConstructor
 class InMemoryArticleRepository implements ArticleRepository {
 
-    final Map<ArticleId, Article> articles = new ConcurrentHashMap<>();
+    /**
+     * Stores of the articles.
+     */
+    enum Store {
+
+        CONCURRENT,
+        PERSISTENT
+
+    }
+
+    final Map<ArticleId, Article> articles;
+
+    private final ArticleOutbox outbox;
+    private final ArticleEventPublisher eventPublisher;
+
+    private volatile long version = -1;
+
+    @Autowired
+    InMemoryArticleRepository(final ArticleOutbox outbox, final ArticleEventPublisher eventPublisher,
+            @Value("${articles.repository.store:concurrent}") final Store store) {
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.articles = store == Store.PERSISTENT ? new PersistentArticleMap() : new ConcurrentHashMap<>();
+    }
+
+    InMemoryArticleRepository(final ArticleOutbox outbox, final ArticleEventPublisher eventPublisher) {
+        this(outbox, eventPublisher, Store.CONCURRENT);
+    }
 
     /**
      * Gets all the articles.
@@ -31,10 +94,9 @@ class InMemoryArticleRepository implements ArticleRepository {
      */
     @Override
     public Either<Error, List<Article>> findAll() {
-        return Try.of(() -> this.articles.values())
-                .toEither()
-                .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                .map(List::copyOf);
+        return this.withinDeadline(() -> Try.of(this::snapshot)
+                    .toEither()
+                    .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage())));
     }
 
     /**
@@ -45,60 +107,131 @@ class InMemoryArticleRepository implements ArticleRepository {
      */
     @Override
     public Either<Error, Article> findById(final ArticleId id) {
-        return Try.of(() -> this.articles.containsKey(id))
-                .toEither()
-                .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                .flatMap(exists -> exists ? Try.of(() -> this.articles.get(id)).toEither()
-                        .mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                        : Either.left(new Error.BusinessError.UnknownArticle(id.value())));
+        return this.withinDeadline(() -> Try.of(() -> this.articles.containsKey(id))
+                    .toEither()
+                    .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                    .flatMap(exists -> exists ? Try.of(() -> this.articles.get(id)).toEither()
+                            .mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                            : Either.left(new Error.BusinessError.UnknownArticle(id.value()))));
+    }
+
+    /**
+     * Gets the version of the articles, as the sequence number of the event of the last change stored.
+     *
+     * @return the version, or {@code -1} if nothing was changed yet
+     */
+    @Override
+    public long version() {
+        return this.version;
+    }
+
+    /**
+     * Creates an article, unless one with the same identifier already exists.
+     *
+     * @param article the article to create
+     * @return either the version of the creation, or an error if the article already exists or could not be created
+     */
+    @Override
+    public Either<Error, Long> create(final Article article) {
+        return this.withinDeadline(() -> this.notified(() -> Try.of(
+                        () -> this.articles.putIfAbsent(article.id(), article))
+                    .toEither()
+                    .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                    .flatMap(existing -> existing == null
+                            ? Either.right(Change.created(article))
+                            : Either.left(new Error.BusinessError.DuplicateArticle(article.id().value())))));
     }
 
     /**
      * Saves an article.
      *
      * @param article the article to save
-     * @return an error if the article could not be saved
+     * @return either the version of the change, or an error if the article could not be saved
      */
     @Override
-    public Either<Error, Void> save(final Article article) {
-        return Try.of(() -> this.articles.put(article.id(), article))
-                .toEither()
-                .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                .map(a -> null);
+    public Either<Error, Long> save(final Article article) {
+        return this.withinDeadline(() -> this.notified(() -> Try.of(() -> this.articles.put(article.id(), article))
+                    .toEither()
+                    .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                    .map(previous -> previous == null ? Change.created(article) : Change.updated(article))));
     }
 
     /**
      * Updates an article.
      *
      * @param article the article to update
-     * @return an error if the article could not be updated
+     * @return either the version of the update, or an error if the article could not be updated
      */
     @Override
-    public Either<Error, Void> update(final Article article) {
-        return Try.of(() -> this.articles.containsKey(article.id()))
-                .toEither()
-                .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                .flatMap(exists -> exists ? Try.of(() -> this.articles.put(article.id(), article)).toEither()
-                        .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                        .map(a -> null)
-                        : Either.left(new Error.BusinessError.UnknownArticle(article.id().value())));
+    public Either<Error, Long> update(final Article article) {
+        return this.withinDeadline(() -> this.notified(() -> Try.of(() -> this.articles.containsKey(article.id()))
+                    .toEither()
+                    .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                    .flatMap(exists -> exists ? Try.of(() -> this.articles.put(article.id(), article)).toEither()
+                            .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                            .map(a -> Change.updated(article))
+                            : Either.left(new Error.BusinessError.UnknownArticle(article.id().value())))));
     }
 
     /**
      * Deletes an article
      *
      * @param id the article to delete
-     * @return an error if the article could not be deleted
+     * @return either the version of the deletion, or an error if the article could not be deleted
      */
     @Override
-    public Either<Error, Void> delete(final ArticleId id) {
-        return Try.of(() -> this.articles.containsKey(id))
-                .toEither()
-                .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                .flatMap(exists -> exists ? Try.of(() -> this.articles.remove(id)).toEither()
-                        .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
-                        .map(a -> null)
-                        : Either.left(new Error.BusinessError.UnknownArticle(id.value())));
+    public Either<Error, Long> delete(final ArticleId id) {
+        return this.withinDeadline(() -> this.notified(() -> Try.of(() -> this.articles.containsKey(id))
+                    .toEither()
+                    .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                    .flatMap(exists -> exists ? Try.of(() -> this.articles.remove(id)).toEither()
+                            .<Error>mapLeft(t -> new Error.TechnicalError.SomethingWentWrong(t.getMessage()))
+                            .map(a -> Change.deleted(id))
+                            : Either.left(new Error.BusinessError.UnknownArticle(id.value())))));
+    }
+
+    private synchronized Either<Error, Long> notified(final Supplier<Either<Error, Change>> mutation) {
+        if (!this.outbox.hasRoom()) {
+            return Either.left(new Error.TechnicalError.Unavailable("The article outbox is full"));
+        }
+        return mutation.get()
+                .peek(change -> this.outbox.append(change.type(), change.id(), change.article()))
+                .map(change -> {
+                    this.version = this.eventPublisher.publish(change.event());
+                    return this.version;
+                });
+    }
+
+    private List<Article> snapshot() {
+        return this.articles instanceof PersistentArticleMap persistent
+                ? persistent.snapshot()
+                : List.copyOf(this.articles.values());
+    }
+
+    private <T> Either<Error, T> withinDeadline(final Supplier<Either<Error, T>> work) {
+        return Deadline.check(Deadline.Stage.REPOSITORY).flatMap(v -> work.get());
+    }
+
+    private record Change(ArticleChangeDTO.Type type, String id, ArticleDTO article, ArticleEvent event) {
+
+        static Change created(final Article article) {
+            return of(ArticleChangeDTO.Type.CREATED, article, new ArticleEvent.ArticleCreated(article, Instant.now()));
+        }
+
+        static Change updated(final Article article) {
+            return of(ArticleChangeDTO.Type.UPDATED, article, new ArticleEvent.ArticleUpdated(article, Instant.now()));
+        }
+
+        static Change deleted(final ArticleId id) {
+            return new Change(ArticleChangeDTO.Type.DELETED, id.value(), null,
+                    new ArticleEvent.ArticleDeleted(id, Instant.now()));
+        }
+
+        private static Change of(final ArticleChangeDTO.Type type, final Article article, final ArticleEvent event) {
+            return new Change(type, article.id().value(), new ArticleDTO(article.id().value(),
+                    article.title().value(), article.content().value(), article.author().name().value()), event);
+        }
+
     }
 
 }
@@ -0,0 +1,81 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import com.emedina.sharedkernel.application.annotation.Adapter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SequencedSet;
+
+/**
+ * In-process stand-in for the broker the notifications of the changes made to the articles are dispatched to.
+ * <p>
+ * Nothing leaves the application: every message is only logged and counted in the
+ * {@code articles.notifications.delivered} metric. The keys of the last {@link #DEDUP_WINDOW} messages delivered are
+ * remembered, like a broker with idempotent producers would, so that redelivered messages are dropped and counted in
+ * {@code articles.notifications.duplicates} instead.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Adapter
+class InProcessArticleNotificationBroker implements ArticleNotificationBroker {
+
+    static final int DEDUP_WINDOW = 65_536;
+
+    private final int window;
+    private final SequencedSet<String> keys = new LinkedHashSet<>();
+
+    private final Counter delivered;
+    private final Counter duplicates;
+
+    @Autowired
+    InProcessArticleNotificationBroker(final MeterRegistry registry) {
+        this(registry, DEDUP_WINDOW);
+    }
+
+    InProcessArticleNotificationBroker(final MeterRegistry registry, final int window) {
+        this.window = window;
+        this.delivered = registry.counter("articles.notifications.delivered");
+        this.duplicates = registry.counter("articles.notifications.duplicates");
+    }
+
+    /**
+     * Delivers a batch of messages, dropping those already delivered.
+     *
+     * @param batch the messages to publish
+     */
+    @Override
+    public synchronized void publish(final List<ArticleOutbox.Message> batch) {
+        for (final ArticleOutbox.Message message : batch) {
+            if (!this.keys.add(message.key())) {
+                this.duplicates.increment();
+                continue;
+            }
+            if (this.keys.size() > this.window) {
+                this.keys.removeFirst();
+            }
+            this.delivered.increment();
+            log.atDebug().setMessage("Article [{}] {} notified with key [{}]")
+                .addArgument(message.id())
+                .addArgument(() -> message.type().name().toLowerCase())
+                .addArgument(message.key())
+                .log();
+        }
+    }
+
+    /**
+     * Tells whether the message with the given key was delivered, as far as the deduplication window remembers.
+     *
+     * @param key the deduplication key of the message
+     * @return {@code true} if it was delivered
+     */
+    synchronized boolean delivered(final String key) {
+        return this.keys.contains(key);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import com.emedina.hexagonal.ref.app.domain.entities.Article;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Map of the articles backed by an immutable hash array mapped trie, Vavr's {@link HashMap}, behind an atomic root.
+ * <p>
+ * Every write swaps the root for a new version of the trie, which shares everything but the path to the changed entry
+ * with the previous one; writers racing each other retry their compare-and-set rather than lock, although within the
+ * {@link InMemoryArticleRepository} they are already serialised by its unit-of-work lock and never race. Readers only
+ * load the root, so they never block writers nor are blocked by them, and a {@link #snapshot()} of all the articles is
+ * taken in constant time, consistent however many writes follow.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class PersistentArticleMap extends AbstractMap<ArticleId, Article> {
+
+    private final AtomicReference<HashMap<ArticleId, Article>> root = new AtomicReference<>(HashMap.empty());
+
+    /**
+     * Takes a snapshot of all the articles, in constant time.
+     * <p>
+     * Iterating or streaming the snapshot walks the trie it was taken from, without copying it; only the first
+     * positional access copies its articles into an index.
+     * </p>
+     *
+     * @return the articles as of now, unaffected by later writes
+     */
+    List<Article> snapshot() {
+        return new Snapshot(this.root.get());
+    }
+
+    @Override
+    public int size() {
+        return this.root.get().size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof ArticleId id && this.root.get().containsKey(id);
+    }
+
+    @Override
+    public Article get(final Object key) {
+        return key instanceof ArticleId id ? this.root.get().get(id).getOrNull() : null;
+    }
+
+    @Override
+    public Article put(final ArticleId id, final Article article) {
+        return this.root.getAndUpdate(trie -> trie.put(id, article)).get(id).getOrNull();
+    }
+
+    @Override
+    public Article remove(final Object key) {
+        if (!(key instanceof ArticleId id)) {
+            return null;
+        }
+        return this.root.getAndUpdate(trie -> trie.remove(id)).get(id).getOrNull();
+    }
+
+    @Override
+    public void clear() {
+        this.root.set(HashMap.empty());
+    }
+
+    @Override
+    public Set<Map.Entry<ArticleId, Article>> entrySet() {
+        final HashMap<ArticleId, Article> trie = this.root.get();
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Map.Entry<ArticleId, Article>> iterator() {
+                return trie.iterator().map(entry -> Map.entry(entry._1(), entry._2()));
+            }
+
+            @Override
+            public int size() {
+                return trie.size();
+            }
+
+        };
+    }
+
+    /**
+     * Read-only list of the articles of one version of the trie.
+     */
+    private static final class Snapshot extends AbstractList<Article> {
+
+        private final HashMap<ArticleId, Article> trie;
+        private volatile List<Article> index;
+
+        Snapshot(final HashMap<ArticleId, Article> trie) {
+            this.trie = trie;
+        }
+
+        @Override
+        public Iterator<Article> iterator() {
+            return this.trie.iterator().map(Tuple2::_2);
+        }
+
+        @Override
+        public int size() {
+            return this.trie.size();
+        }
+
+        @Override
+        public Article get(final int position) {
+            List<Article> articles = this.index;
+            if (articles == null) {
+                articles = this.trie.iterator().map(Tuple2::_2).toJavaList();
+                this.index = articles;
+            }
+            return articles.get(position);
+        }
+
+    }
+
+}
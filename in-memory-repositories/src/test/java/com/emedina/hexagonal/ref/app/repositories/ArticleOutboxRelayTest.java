@@ -0,0 +1,254 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ArticleOutboxRelay.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ArticleOutboxRelay Tests")
+class ArticleOutboxRelayTest {
+
+    private static final Duration LONG_LINGER = Duration.ofHours(1);
+    private static final Duration NO_BACKOFF = Duration.ZERO;
+
+    private SimpleMeterRegistry registry;
+    private ArticleOutbox outbox;
+    private InProcessArticleNotificationBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        outbox = new ArticleOutbox();
+        broker = new InProcessArticleNotificationBroker(registry);
+    }
+
+    @Nested
+    @DisplayName("Given dispatch method")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("When the batch is neither full nor lingered enough, then should hold it back")
+        void shouldHoldBack_whenBatchNeitherFullNorLingered() {
+            // Given
+            var relay = new ArticleOutboxRelay(outbox, broker, registry, 3, LONG_LINGER, NO_BACKOFF);
+            var message = append("article-1");
+
+            // When
+            int dispatched = relay.dispatch(false);
+
+            // Then
+            assertThat(dispatched).isZero();
+            assertThat(broker.delivered(message.key())).isFalse();
+            assertThat(outbox.pending()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("When the batch is full, then should dispatch it right away and leave the rest")
+        void shouldDispatchRightAway_whenBatchFull() {
+            // Given
+            var relay = new ArticleOutboxRelay(outbox, broker, registry, 2, LONG_LINGER, NO_BACKOFF);
+            var first = append("article-1");
+            var second = append("article-2");
+            var third = append("article-3");
+
+            // When
+            int dispatched = relay.dispatch(false);
+
+            // Then
+            assertThat(dispatched).isEqualTo(2);
+            assertThat(broker.delivered(first.key())).isTrue();
+            assertThat(broker.delivered(second.key())).isTrue();
+            assertThat(broker.delivered(third.key())).isFalse();
+            assertThat(outbox.peek(10)).containsExactly(third);
+        }
+
+        @Test
+        @DisplayName("When the oldest message lingered enough, then should dispatch a partial batch")
+        void shouldDispatchPartialBatch_whenOldestMessageLingered() {
+            // Given
+            var relay = new ArticleOutboxRelay(outbox, broker, registry, 10, Duration.ZERO, NO_BACKOFF);
+            var message = append("article-1");
+
+            // When
+            int dispatched = relay.dispatch(false);
+
+            // Then
+            assertThat(dispatched).isEqualTo(1);
+            assertThat(broker.delivered(message.key())).isTrue();
+            assertThat(outbox.pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("When forced, then should dispatch a partial batch however recent")
+        void shouldDispatchPartialBatch_whenForced() {
+            // Given
+            var relay = new ArticleOutboxRelay(outbox, broker, registry, 10, LONG_LINGER, NO_BACKOFF);
+            append("article-1");
+
+            // When & Then
+            assertThat(relay.dispatch(true)).isEqualTo(1);
+            assertThat(relay.dispatch(true)).isZero();
+        }
+
+        @Test
+        @DisplayName("When batches are dispatched, then should record the throughput and the lag")
+        void shouldRecordThroughputAndLag_whenBatchesDispatched() {
+            // Given
+            var relay = new ArticleOutboxRelay(outbox, broker, registry, 2, LONG_LINGER, NO_BACKOFF);
+            append("article-1");
+            append("article-2");
+            append("article-3");
+            assertThat(registry.get("articles.outbox.pending").gauge().value()).isEqualTo(3.0);
+
+            // When
+            relay.dispatch(false);
+            relay.dispatch(true);
+
+            // Then
+            assertThat(registry.get("articles.outbox.dispatched").counter().count()).isEqualTo(3.0);
+            assertThat(registry.get("articles.outbox.batch.size").summary().count()).isEqualTo(2);
+            assertThat(registry.get("articles.outbox.batch.size").summary().max()).isEqualTo(2.0);
+            assertThat(registry.get("articles.outbox.lag").timer().count()).isEqualTo(3);
+            assertThat(registry.get("articles.outbox.pending").gauge().value()).isZero();
+            assertThat(registry.get("articles.outbox.oldest.age").timeGauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("When the broker fails, then should keep the batch and publish it again with the same keys")
+        void shouldKeepBatchAndRetry_whenBrokerFails() {
+            // Given
+            var flaky = new FlakyBroker(broker, 1);
+            var relay = new ArticleOutboxRelay(outbox, flaky, registry, 2, LONG_LINGER, NO_BACKOFF);
+            append("article-1");
+            append("article-2");
+
+            // When
+            int failed = relay.dispatch(false);
+            int retried = relay.dispatch(false);
+
+            // Then
+            assertThat(failed).isEqualTo(-1);
+            assertThat(retried).isEqualTo(2);
+            assertThat(outbox.pending()).isZero();
+            assertThat(registry.get("articles.outbox.failures").counter().count()).isEqualTo(1.0);
+            assertThat(registry.get("articles.outbox.dispatched").counter().count()).isEqualTo(2.0);
+            // The broker took the first attempt before failing, so the retry only brings duplicates
+            assertThat(registry.get("articles.notifications.delivered").counter().count()).isEqualTo(2.0);
+            assertThat(registry.get("articles.notifications.duplicates").counter().count()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("When the batch size is not positive, then should be rejected")
+        void shouldBeRejected_whenBatchSizeNotPositive() {
+            // When & Then
+            assertThatThrownBy(() -> new ArticleOutboxRelay(outbox, broker, registry, 0, LONG_LINGER, NO_BACKOFF))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the relay thread")
+    class RelayThreadTests {
+
+        @Test
+        @DisplayName("When messages are appended, then should dispatch them once they lingered")
+        void shouldDispatch_whenMessagesAppended() throws Exception {
+            // Given
+            var counting = new CountingBroker(broker, 3);
+            var relay = new ArticleOutboxRelay(outbox, counting, registry, 100, Duration.ofMillis(1), NO_BACKOFF);
+            relay.start();
+
+            try {
+                // When
+                append("article-1");
+                append("article-2");
+                append("article-3");
+
+                // Then
+                assertThat(counting.received.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                relay.close();
+            }
+            assertThat(outbox.pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("When closing, then should dispatch the messages still lingering")
+        void shouldDispatchLingeringMessages_whenClosing() {
+            // Given
+            var relay = new ArticleOutboxRelay(outbox, broker, registry, 100, LONG_LINGER, NO_BACKOFF);
+            relay.start();
+            var message = append("article-1");
+
+            // When
+            relay.close();
+
+            // Then
+            assertThat(broker.delivered(message.key())).isTrue();
+            assertThat(outbox.pending()).isZero();
+        }
+    }
+
+    private ArticleOutbox.Message append(final String id) {
+        return outbox.append(ArticleChangeDTO.Type.DELETED, id, null);
+    }
+
+    /**
+     * Broker that takes the first batches but fails to confirm them, as when the connection drops.
+     */
+    private static final class FlakyBroker implements ArticleNotificationBroker {
+
+        private final ArticleNotificationBroker delegate;
+        private int failures;
+
+        FlakyBroker(final ArticleNotificationBroker delegate, final int failures) {
+            this.delegate = delegate;
+            this.failures = failures;
+        }
+
+        @Override
+        public void publish(final List<ArticleOutbox.Message> batch) {
+            this.delegate.publish(batch);
+            if (this.failures-- > 0) {
+                throw new IllegalStateException("Connection reset");
+            }
+        }
+
+    }
+
+    private static final class CountingBroker implements ArticleNotificationBroker {
+
+        private final ArticleNotificationBroker delegate;
+        final CountDownLatch received;
+
+        CountingBroker(final ArticleNotificationBroker delegate, final int expected) {
+            this.delegate = delegate;
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void publish(final List<ArticleOutbox.Message> batch) {
+            this.delegate.publish(batch);
+            batch.forEach(message -> this.received.countDown());
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+
+/**
+ * Unit tests for ArticleOutbox.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ArticleOutbox Tests")
+class ArticleOutboxTest {
+
+    private ArticleOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new ArticleOutbox(3);
+    }
+
+    @Nested
+    @DisplayName("Given append method")
+    class AppendTests {
+
+        @Test
+        @DisplayName("When appending changes, then should sequence them with a unique key each")
+        void shouldSequenceWithUniqueKeys_whenAppendingChanges() {
+            // Given
+            var article = new ArticleDTO("article-1", "Title", "Content", "Author");
+
+            // When
+            var created = outbox.append(ArticleChangeDTO.Type.CREATED, "article-1", article);
+            var deleted = outbox.append(ArticleChangeDTO.Type.DELETED, "article-1", null);
+
+            // Then
+            assertThat(created.sequence()).isZero();
+            assertThat(deleted.sequence()).isEqualTo(1);
+            assertThat(created.key()).isEqualTo("article-1@0");
+            assertThat(deleted.key()).isEqualTo("article-1@1");
+            assertThat(created.article()).isEqualTo(article);
+            assertThat(deleted.article()).isNull();
+            assertThat(outbox.pending()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("When the capacity is reached, then should have no room left")
+        void shouldHaveNoRoom_whenCapacityReached() {
+            // Given
+            for (int i = 0; i < 3; i++) {
+                assertThat(outbox.hasRoom()).isTrue();
+                outbox.append(ArticleChangeDTO.Type.DELETED, "article-" + i, null);
+            }
+
+            // When & Then
+            assertThat(outbox.hasRoom()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Given peek and acknowledge methods")
+    class PeekAndAcknowledgeTests {
+
+        @Test
+        @DisplayName("When peeking, then should get the oldest messages and leave them in the outbox")
+        void shouldGetOldestAndLeaveThem_whenPeeking() {
+            // Given
+            outbox.append(ArticleChangeDTO.Type.DELETED, "article-1", null);
+            outbox.append(ArticleChangeDTO.Type.DELETED, "article-2", null);
+            outbox.append(ArticleChangeDTO.Type.DELETED, "article-3", null);
+
+            // When
+            var batch = outbox.peek(2);
+
+            // Then
+            assertThat(batch).extracting(ArticleOutbox.Message::id).containsExactly("article-1", "article-2");
+            assertThat(outbox.pending()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("When acknowledging, then should remove every message up to the given one")
+        void shouldRemoveUpToMessage_whenAcknowledging() {
+            // Given
+            outbox.append(ArticleChangeDTO.Type.DELETED, "article-1", null);
+            var second = outbox.append(ArticleChangeDTO.Type.DELETED, "article-2", null);
+            var third = outbox.append(ArticleChangeDTO.Type.DELETED, "article-3", null);
+
+            // When
+            outbox.acknowledge(second.sequence());
+
+            // Then
+            assertThat(outbox.peek(3)).containsExactly(third);
+            assertThat(outbox.hasRoom()).isTrue();
+            assertThat(outbox.oldestRecordedAt().get()).isEqualTo(third.recordedAt());
+        }
+
+        @Test
+        @DisplayName("When the outbox is empty, then should have no oldest message")
+        void shouldHaveNoOldest_whenEmpty() {
+            // When & Then
+            assertThat(outbox.peek(10)).isEmpty();
+            assertThat(outbox.oldestRecordedAt().isEmpty()).isTrue();
+        }
+    }
+
+}
@@ -0,0 +1,353 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangesDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Either;
+
+/**
+ * Unit tests for InMemoryArticleReadModel.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("InMemoryArticleReadModel Tests")
+class InMemoryArticleReadModelTest {
+
+    private InMemoryArticleReadModel readModel;
+    private ArticleDTO article;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new InMemoryArticleReadModel();
+        article = new ArticleDTO("article-1", "Title", "Content", "Author");
+    }
+
+    @Nested
+    @DisplayName("Given findById method")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("When the article was put, then should return it as is")
+        void shouldReturnArticle_whenPut() {
+            // Given
+            readModel.put(article, 0);
+
+            // When
+            Either<Error, ArticleDTO> result = readModel.findById("article-1");
+
+            // Then
+            assertThat(result.get()).isSameAs(article);
+        }
+
+        @Test
+        @DisplayName("When the article was removed, then should return an unknown article error")
+        void shouldReturnUnknownArticle_whenRemoved() {
+            // Given
+            readModel.put(article, 0);
+            readModel.remove("article-1", 1);
+
+            // When
+            Either<Error, ArticleDTO> result = readModel.findById("article-1");
+
+            // Then
+            assertThat(result.getLeft()).isEqualTo(new Error.BusinessError.UnknownArticle("article-1"));
+        }
+
+        @Test
+        @DisplayName("When the deadline expired, then should shed the query")
+        void shouldShedQuery_whenDeadlineExpired() {
+            // When
+            Either<Error, ArticleDTO> result = Deadline.callWithin(Deadline.after(Duration.ZERO),
+                () -> readModel.findById("article-1"));
+
+            // Then
+            assertThat(result.getLeft()).isInstanceOf(Error.TechnicalError.DeadlineExceeded.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Given findAll method")
+    class FindAllTests {
+
+        @Test
+        @DisplayName("When nothing changed in between, then should share the same snapshot")
+        void shouldShareSnapshot_whenNothingChanged() {
+            // Given
+            readModel.put(article, 0);
+
+            // When
+            List<ArticleDTO> first = readModel.findAll().get();
+            List<ArticleDTO> second = readModel.findAll().get();
+
+            // Then
+            assertThat(first).containsExactly(article);
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("When an article changed, then should rebuild the snapshot")
+        void shouldRebuildSnapshot_whenChanged() {
+            // Given
+            readModel.put(article, 0);
+            List<ArticleDTO> before = readModel.findAll().get();
+            var other = new ArticleDTO("article-2", "Other", "Content", "Author");
+
+            // When
+            readModel.put(other, 1);
+            List<ArticleDTO> after = readModel.findAll().get();
+
+            // Then
+            assertThat(before).containsExactly(article);
+            assertThat(after).containsExactlyInAnyOrder(article, other);
+        }
+
+        @Test
+        @DisplayName("When nothing was put, then should return an empty list")
+        void shouldReturnEmptyList_whenNothingPut() {
+            // When & Then
+            assertThat(readModel.findAll().get()).isEmpty();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Given changesSince method")
+    class ChangesSinceTests {
+
+        @Test
+        @DisplayName("When articles changed after the version, then should return only their latest changes")
+        void shouldReturnLatestChanges_whenArticlesChangedAfterVersion() {
+            // Given
+            var updated = new ArticleDTO("article-1", "Updated", "Content", "Author");
+            var other = new ArticleDTO("article-2", "Other", "Content", "Author");
+            readModel.put(article, 0);
+            readModel.put(other, 1);
+            readModel.put(updated, 2);
+            readModel.remove("article-2", 3);
+
+            // When
+            ArticleChangesDTO result = readModel.changesSince(0).get();
+
+            // Then
+            assertThat(result.version()).isEqualTo(3);
+            assertThat(result.full()).isFalse();
+            assertThat(result.changes()).containsExactly(
+                new ArticleChangeDTO(2, ArticleChangeDTO.Type.UPDATED, "article-1", updated),
+                new ArticleChangeDTO(3, ArticleChangeDTO.Type.DELETED, "article-2", null));
+        }
+
+        @Test
+        @DisplayName("When synchronising from scratch, then should return every change including tombstones")
+        void shouldReturnEveryChange_whenSynchronisingFromScratch() {
+            // Given
+            readModel.put(article, 0);
+            readModel.remove("article-1", 1);
+            readModel.put(article, 2);
+
+            // When
+            ArticleChangesDTO result = readModel.changesSince(-1).get();
+
+            // Then
+            assertThat(result.changes()).containsExactly(
+                new ArticleChangeDTO(2, ArticleChangeDTO.Type.CREATED, "article-1", article));
+        }
+
+        @Test
+        @DisplayName("When nothing changed after the version, then should return no change")
+        void shouldReturnNoChange_whenNothingChangedAfterVersion() {
+            // Given
+            readModel.put(article, 0);
+
+            // When
+            ArticleChangesDTO result = readModel.changesSince(0).get();
+
+            // Then
+            assertThat(result).isEqualTo(new ArticleChangesDTO(0, false, List.of()));
+        }
+
+        @Test
+        @DisplayName("When tombstones after the version were compacted, then should return every live article")
+        void shouldReturnLiveArticles_whenTombstonesCompacted() {
+            // Given
+            readModel.put(article, 0);
+            for (int i = 1; i <= InMemoryArticleReadModel.MAX_TOMBSTONES + 1; i++) {
+                readModel.remove("deleted-" + i, i);
+            }
+
+            // When
+            ArticleChangesDTO before = readModel.changesSince(0).get();
+            ArticleChangesDTO after = readModel.changesSince(1).get();
+
+            // Then
+            assertThat(before.full()).isTrue();
+            assertThat(before.changes()).containsExactly(
+                new ArticleChangeDTO(0, ArticleChangeDTO.Type.CREATED, "article-1", article));
+            assertThat(after.full()).isFalse();
+            assertThat(after.changes()).hasSize(InMemoryArticleReadModel.MAX_TOMBSTONES);
+        }
+
+        @Test
+        @DisplayName("When the version is ahead of the read model, then should return every live article")
+        void shouldReturnLiveArticles_whenVersionAheadOfReadModel() {
+            // Given a client that synchronised with the application before it restarted
+            var other = new ArticleDTO("article-2", "Other", "Content", "Author");
+            readModel.put(article, 0);
+            readModel.put(other, 1);
+            readModel.remove("article-2", 2);
+
+            // When
+            ArticleChangesDTO result = readModel.changesSince(41).get();
+
+            // Then
+            assertThat(result.version()).isEqualTo(2);
+            assertThat(result.full()).isTrue();
+            assertThat(result.changes()).containsExactly(
+                new ArticleChangeDTO(0, ArticleChangeDTO.Type.CREATED, "article-1", article));
+        }
+
+        @Test
+        @DisplayName("When the deadline expired, then should shed the query")
+        void shouldShedQuery_whenDeadlineExpired() {
+            // When
+            Either<Error, ArticleChangesDTO> result = Deadline.callWithin(Deadline.after(Duration.ZERO),
+                () -> readModel.changesSince(-1));
+
+            // Then
+            assertThat(result.getLeft()).isInstanceOf(Error.TechnicalError.DeadlineExceeded.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Given stale changes")
+    class StaleChangeTests {
+
+        @Test
+        @DisplayName("When an update older than the stored one arrives, then should keep the stored one")
+        void shouldKeepStoredArticle_whenOlderUpdateArrives() {
+            // Given
+            var updated = new ArticleDTO("article-1", "Updated", "Content", "Author");
+            readModel.put(article, 0);
+            readModel.put(updated, 2);
+
+            // When
+            readModel.put(article, 1);
+
+            // Then
+            assertThat(readModel.findById("article-1").get()).isSameAs(updated);
+            assertThat(readModel.changesSince(-1).get().changes()).containsExactly(
+                new ArticleChangeDTO(2, ArticleChangeDTO.Type.UPDATED, "article-1", updated));
+        }
+
+        @Test
+        @DisplayName("When a change older than the deletion arrives, then should not store the article again")
+        void shouldNotStoreAgain_whenChangeOlderThanDeletionArrives() {
+            // Given
+            readModel.put(article, 0);
+            readModel.remove("article-1", 2);
+
+            // When
+            readModel.put(article, 1);
+
+            // Then
+            assertThat(readModel.findById("article-1").isLeft()).isTrue();
+            assertThat(readModel.findAll().get()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("When a deletion older than the stored article arrives, then should keep the article")
+        void shouldKeepArticle_whenOlderDeletionArrives() {
+            // Given
+            readModel.put(article, 2);
+
+            // When
+            readModel.remove("article-1", 1);
+
+            // Then
+            assertThat(readModel.findById("article-1").get()).isSameAs(article);
+        }
+
+        @Test
+        @DisplayName("When a change older than the compacted tombstones arrives, then should reject it")
+        void shouldReject_whenChangeOlderThanCompactedTombstonesArrives() {
+            // Given
+            for (int i = 1; i <= InMemoryArticleReadModel.MAX_TOMBSTONES + 1; i++) {
+                readModel.remove("deleted-" + i, i);
+            }
+
+            // When
+            readModel.put(new ArticleDTO("deleted-1", "Title", "Content", "Author"), 0);
+
+            // Then
+            assertThat(readModel.findById("deleted-1").isLeft()).isTrue();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Given the version")
+    class VersionTests {
+
+        @Test
+        @DisplayName("When changes are applied, then should move to the highest of their versions")
+        void shouldMoveToHighestVersion_whenChangesApplied() {
+            // Given
+            assertThat(readModel.version()).isEqualTo(-1);
+
+            // When
+            readModel.put(article, 4);
+            readModel.remove("article-1", 2);
+
+            // Then
+            assertThat(readModel.version()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("When the version is already reached, then should not wait")
+        void shouldNotWait_whenVersionReached() {
+            // Given
+            readModel.put(article, 3);
+
+            // When & Then
+            assertThat(readModel.awaitVersion(3, Duration.ZERO)).isTrue();
+        }
+
+        @Test
+        @DisplayName("When the version is not reached in time, then should give up")
+        void shouldGiveUp_whenVersionNotReachedInTime() {
+            // When & Then
+            assertThat(readModel.awaitVersion(0, Duration.ofMillis(5))).isFalse();
+        }
+
+        @Test
+        @DisplayName("When the version is reached while waiting, then should stop waiting")
+        void shouldStopWaiting_whenVersionReachedWhileWaiting() throws Exception {
+            // Given
+            var waiting = CompletableFuture.supplyAsync(() -> readModel.awaitVersion(1, Duration.ofSeconds(5)));
+
+            // When
+            readModel.put(article, 1);
+
+            // Then
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+    }
+
+}
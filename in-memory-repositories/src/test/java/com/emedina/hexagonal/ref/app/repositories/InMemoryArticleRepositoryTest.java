@@ -2,7 +2,15 @@ package com.emedina.hexagonal.ref.app.repositories;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +24,11 @@ import com.emedina.hexagonal.ref.app.domain.entities.AuthorId;
 import com.emedina.hexagonal.ref.app.domain.entities.Content;
 import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
 import com.emedina.hexagonal.ref.app.domain.entities.Title;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEvent;
+import com.emedina.hexagonal.ref.app.domain.events.ArticleEventPublisher;
+import com.emedina.hexagonal.ref.app.shared.deadline.Deadline;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
 import com.emedina.hexagonal.ref.app.shared.error.Error;
 
 import io.vavr.control.Either;
@@ -28,13 +41,17 @@ import io.vavr.control.Either;
 @DisplayName("InMemoryArticleRepository Tests")
 class InMemoryArticleRepositoryTest {
 
+    private ArticleOutbox outbox;
+    private RecordingPublisher publisher;
     private InMemoryArticleRepository repository;
     private Article testArticle;
     private ArticleId testArticleId;
 
     @BeforeEach
     void setUp() {
-        repository = new InMemoryArticleRepository();
+        outbox = new ArticleOutbox();
+        publisher = new RecordingPublisher();
+        repository = new InMemoryArticleRepository(outbox, publisher);
 
         // Create test data
         testArticleId = ArticleId.validateThenCreate("test-article-123").get();
@@ -203,6 +220,73 @@ class InMemoryArticleRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Given create method")
+    class CreateTests {
+
+        @Test
+        @DisplayName("When article does not exist, then should create it and notify its creation")
+        void shouldCreateAndNotify_whenArticleDoesNotExist() {
+            // When
+            Either<Error, Long> result = repository.create(testArticle);
+
+            // Then
+            assertThat(result.isRight()).isTrue();
+            assertThat(repository.findById(testArticleId).get()).isEqualTo(testArticle);
+            assertThat(outbox.peek(10)).extracting(ArticleOutbox.Message::type)
+                .containsExactly(ArticleChangeDTO.Type.CREATED);
+        }
+
+        @Test
+        @DisplayName("When article already exists, then should return duplicate article error and keep the existing one")
+        void shouldReturnDuplicateArticle_whenArticleAlreadyExists() {
+            // Given
+            repository.create(testArticle);
+            var other = Article.validateThenCreate(testArticleId, Title.validateThenCreate("Other Title").get(),
+                testArticle.content(), testArticle.author()).get();
+
+            // When
+            Either<Error, Long> result = repository.create(other);
+
+            // Then
+            assertThat(result.getLeft()).isEqualTo(new Error.BusinessError.DuplicateArticle(testArticleId.value()));
+            assertThat(repository.findById(testArticleId).get()).isEqualTo(testArticle);
+            assertThat(outbox.pending()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("When the same article is created concurrently, then should create it only once")
+        void shouldCreateOnlyOnce_whenSameArticleCreatedConcurrently() throws Exception {
+            // Given
+            var threads = 16;
+            var start = new CountDownLatch(1);
+            var results = new ArrayList<Future<Either<Error, Long>>>();
+
+            // When
+            try (var executor = Executors.newFixedThreadPool(threads)) {
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return repository.create(testArticle);
+                    }));
+                }
+                start.countDown();
+            }
+
+            // Then
+            var created = 0;
+            for (var result : results) {
+                if (result.get().isRight()) {
+                    created++;
+                } else {
+                    assertThat(result.get().getLeft()).isInstanceOf(Error.BusinessError.DuplicateArticle.class);
+                }
+            }
+            assertThat(created).isEqualTo(1);
+            assertThat(outbox.pending()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("Given save method")
     class SaveTests {
@@ -211,7 +295,7 @@ class InMemoryArticleRepositoryTest {
         @DisplayName("When saving new article, then should save successfully")
         void shouldSaveSuccessfully_whenSavingNewArticle() {
             // When
-            Either<Error, Void> result = repository.save(testArticle);
+            Either<Error, Long> result = repository.save(testArticle);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -233,7 +317,7 @@ class InMemoryArticleRepositoryTest {
             var updatedArticle = Article.validateThenCreate(testArticleId, updatedTitle, updatedContent, author).get();
 
             // When
-            Either<Error, Void> result = repository.save(updatedArticle);
+            Either<Error, Long> result = repository.save(updatedArticle);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -254,8 +338,8 @@ class InMemoryArticleRepositoryTest {
             var testArticle2 = Article.validateThenCreate(article2Id, title2, content2, author2).get();
 
             // When
-            Either<Error, Void> result1 = repository.save(testArticle);
-            Either<Error, Void> result2 = repository.save(testArticle2);
+            Either<Error, Long> result1 = repository.save(testArticle);
+            Either<Error, Long> result2 = repository.save(testArticle2);
 
             // Then
             assertThat(result1.isRight()).isTrue();
@@ -277,7 +361,7 @@ class InMemoryArticleRepositoryTest {
             var unicodeArticle = Article.validateThenCreate(unicodeId, unicodeTitle, unicodeContent, author).get();
 
             // When
-            Either<Error, Void> result = repository.save(unicodeArticle);
+            Either<Error, Long> result = repository.save(unicodeArticle);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -303,7 +387,7 @@ class InMemoryArticleRepositoryTest {
             var updatedArticle = Article.validateThenCreate(testArticleId, updatedTitle, updatedContent, author).get();
 
             // When
-            Either<Error, Void> result = repository.update(updatedArticle);
+            Either<Error, Long> result = repository.update(updatedArticle);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -324,7 +408,7 @@ class InMemoryArticleRepositoryTest {
             var nonExistentArticle = Article.validateThenCreate(nonExistentId, title, content, author).get();
 
             // When
-            Either<Error, Void> result = repository.update(nonExistentArticle);
+            Either<Error, Long> result = repository.update(nonExistentArticle);
 
             // Then
             assertThat(result.isLeft()).isTrue();
@@ -347,7 +431,7 @@ class InMemoryArticleRepositoryTest {
             var updatedArticle = Article.validateThenCreate(testArticleId, unicodeTitle, unicodeContent, author).get();
 
             // When
-            Either<Error, Void> result = repository.update(updatedArticle);
+            Either<Error, Long> result = repository.update(updatedArticle);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -379,7 +463,7 @@ class InMemoryArticleRepositoryTest {
             var updatedArticle = Article.validateThenCreate(testArticleId, updatedTitle, updatedContent, author).get();
 
             // When
-            Either<Error, Void> result = repository.update(updatedArticle);
+            Either<Error, Long> result = repository.update(updatedArticle);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -400,7 +484,7 @@ class InMemoryArticleRepositoryTest {
             assertThat(repository.articles).containsKey(testArticleId);
 
             // When
-            Either<Error, Void> result = repository.delete(testArticleId);
+            Either<Error, Long> result = repository.delete(testArticleId);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -415,7 +499,7 @@ class InMemoryArticleRepositoryTest {
             var nonExistentId = ArticleId.validateThenCreate("non-existent").get();
 
             // When
-            Either<Error, Void> result = repository.delete(nonExistentId);
+            Either<Error, Long> result = repository.delete(nonExistentId);
 
             // Then
             assertThat(result.isLeft()).isTrue();
@@ -440,7 +524,7 @@ class InMemoryArticleRepositoryTest {
             repository.save(testArticle2);
 
             // When
-            Either<Error, Void> result = repository.delete(testArticleId);
+            Either<Error, Long> result = repository.delete(testArticleId);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -463,7 +547,7 @@ class InMemoryArticleRepositoryTest {
             repository.save(unicodeArticle);
 
             // When
-            Either<Error, Void> result = repository.delete(unicodeId);
+            Either<Error, Long> result = repository.delete(unicodeId);
 
             // Then
             assertThat(result.isRight()).isTrue();
@@ -486,8 +570,8 @@ class InMemoryArticleRepositoryTest {
             repository.save(testArticle2);
 
             // When
-            Either<Error, Void> result1 = repository.delete(testArticleId);
-            Either<Error, Void> result2 = repository.delete(article2Id);
+            Either<Error, Long> result1 = repository.delete(testArticleId);
+            Either<Error, Long> result2 = repository.delete(article2Id);
 
             // Then
             assertThat(result1.isRight()).isTrue();
@@ -505,7 +589,7 @@ class InMemoryArticleRepositoryTest {
         void shouldMaintainConsistentState_whenPerformingMultipleOperations() {
             // Given & When & Then
             // Save article
-            Either<Error, Void> saveResult = repository.save(testArticle);
+            Either<Error, Long> saveResult = repository.save(testArticle);
             assertThat(saveResult.isRight()).isTrue();
             assertThat(repository.articles).hasSize(1);
 
@@ -522,7 +606,7 @@ class InMemoryArticleRepositoryTest {
             var author = Author.validateThenCreate(authorId, personName).get();
             var updatedArticle = Article.validateThenCreate(testArticleId, updatedTitle, updatedContent, author).get();
 
-            Either<Error, Void> updateResult = repository.update(updatedArticle);
+            Either<Error, Long> updateResult = repository.update(updatedArticle);
             assertThat(updateResult.isRight()).isTrue();
             assertThat(repository.articles).hasSize(1);
 
@@ -532,7 +616,7 @@ class InMemoryArticleRepositoryTest {
             assertThat(findUpdatedResult.get().title().value()).isEqualTo("Updated Title");
 
             // Delete article
-            Either<Error, Void> deleteResult = repository.delete(testArticleId);
+            Either<Error, Long> deleteResult = repository.delete(testArticleId);
             assertThat(deleteResult.isRight()).isTrue();
             assertThat(repository.articles).isEmpty();
 
@@ -568,4 +652,283 @@ class InMemoryArticleRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Given the persistent store")
+    class PersistentStoreTests {
+
+        private InMemoryArticleRepository persistentRepository;
+
+        @BeforeEach
+        void setUpPersistentRepository() {
+            persistentRepository = new InMemoryArticleRepository(new ArticleOutbox(), new RecordingPublisher(),
+                InMemoryArticleRepository.Store.PERSISTENT);
+        }
+
+        @Test
+        @DisplayName("When selected, then should keep the articles in a persistent map")
+        void shouldKeepArticlesInPersistentMap_whenSelected() {
+            // When & Then
+            assertThat(persistentRepository.articles).isInstanceOf(PersistentArticleMap.class);
+            assertThat(repository.articles).isNotInstanceOf(PersistentArticleMap.class);
+        }
+
+        @Test
+        @DisplayName("When saving, updating and deleting, then should behave as the concurrent store")
+        void shouldBehaveAsConcurrentStore_whenSavingUpdatingAndDeleting() {
+            // When
+            Either<Error, Long> saved = persistentRepository.save(testArticle);
+            Either<Error, Long> updated = persistentRepository.update(testArticle);
+            Either<Error, Article> found = persistentRepository.findById(testArticleId);
+            Either<Error, Long> deleted = persistentRepository.delete(testArticleId);
+            Either<Error, Long> deletedAgain = persistentRepository.delete(testArticleId);
+
+            // Then
+            assertThat(saved.isRight()).isTrue();
+            assertThat(updated.isRight()).isTrue();
+            assertThat(found.get()).isEqualTo(testArticle);
+            assertThat(deleted.isRight()).isTrue();
+            assertThat(deletedAgain.getLeft()).isInstanceOf(Error.BusinessError.UnknownArticle.class);
+            assertThat(persistentRepository.articles).isEmpty();
+        }
+
+        @Test
+        @DisplayName("When getting all the articles, then should return a snapshot unaffected by later writes")
+        void shouldReturnSnapshot_whenGettingAllArticles() {
+            // Given
+            persistentRepository.save(testArticle);
+
+            // When
+            Either<Error, List<Article>> result = persistentRepository.findAll();
+            persistentRepository.delete(testArticleId);
+
+            // Then
+            assertThat(result.get()).containsExactly(testArticle);
+            assertThat(persistentRepository.findAll().get()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the outbox")
+    class OutboxTests {
+
+        @Test
+        @DisplayName("When saving a new article, then should append its creation to the outbox")
+        void shouldAppendCreation_whenSavingNewArticle() {
+            // When
+            repository.save(testArticle);
+
+            // Then
+            var messages = outbox.peek(10);
+            assertThat(messages).hasSize(1);
+            assertThat(messages.getFirst().type()).isEqualTo(ArticleChangeDTO.Type.CREATED);
+            assertThat(messages.getFirst().id()).isEqualTo("test-article-123");
+            assertThat(messages.getFirst().article()).isEqualTo(new ArticleDTO("test-article-123",
+                "Test Article Title", "This is test content for the article", "Test Author"));
+        }
+
+        @Test
+        @DisplayName("When saving, updating and deleting an article, then should append every change in order")
+        void shouldAppendEveryChangeInOrder_whenSavingUpdatingAndDeleting() {
+            // When
+            repository.save(testArticle);
+            repository.save(testArticle);
+            repository.update(testArticle);
+            repository.delete(testArticleId);
+
+            // Then
+            var messages = outbox.peek(10);
+            assertThat(messages).extracting(ArticleOutbox.Message::type).containsExactly(
+                ArticleChangeDTO.Type.CREATED, ArticleChangeDTO.Type.UPDATED, ArticleChangeDTO.Type.UPDATED,
+                ArticleChangeDTO.Type.DELETED);
+            assertThat(messages.getLast().article()).isNull();
+            assertThat(messages).extracting(ArticleOutbox.Message::key).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("When a change fails, then should append nothing to the outbox")
+        void shouldAppendNothing_whenChangeFails() {
+            // When
+            repository.update(testArticle);
+            repository.delete(testArticleId);
+
+            // Then
+            assertThat(outbox.pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("When the outbox is full, then should refuse the change as temporarily unavailable")
+        void shouldRefuseChange_whenOutboxFull() {
+            // Given
+            var fullOutbox = new ArticleOutbox(1);
+            var fullRepository = new InMemoryArticleRepository(fullOutbox, publisher);
+            fullOutbox.append(ArticleChangeDTO.Type.DELETED, "other-article", null);
+
+            // When
+            Either<Error, Long> result = fullRepository.save(testArticle);
+
+            // Then
+            assertThat(result.getLeft()).isInstanceOf(Error.TechnicalError.Unavailable.class);
+            assertThat(fullRepository.articles).isEmpty();
+            assertThat(fullOutbox.pending()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given the events")
+    class EventTests {
+
+        @Test
+        @DisplayName("When changing an article, then should publish its event and answer the sequence of it")
+        void shouldPublishEventAndAnswerSequence_whenChangingArticle() {
+            // When
+            Either<Error, Long> created = repository.create(testArticle);
+            Either<Error, Long> updated = repository.update(testArticle);
+            Either<Error, Long> deleted = repository.delete(testArticleId);
+            Either<Error, Long> failed = repository.delete(testArticleId);
+
+            // Then
+            assertThat(created.get()).isEqualTo(1);
+            assertThat(updated.get()).isEqualTo(2);
+            assertThat(deleted.get()).isEqualTo(3);
+            assertThat(failed.isLeft()).isTrue();
+            assertThat(publisher.events.values()).extracting(InMemoryArticleRepositoryTest::typeOf).containsExactly(
+                ArticleChangeDTO.Type.CREATED, ArticleChangeDTO.Type.UPDATED, ArticleChangeDTO.Type.DELETED);
+        }
+
+        @Test
+        @DisplayName("When changing an article, then should move its version to the sequence of the last change")
+        void shouldMoveVersionToLastSequence_whenChangingArticle() {
+            // Given
+            long initial = repository.version();
+
+            // When
+            repository.create(testArticle);
+            repository.update(testArticle);
+            repository.create(testArticle);
+
+            // Then
+            assertThat(initial).isEqualTo(-1);
+            assertThat(repository.version()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("When the same article is created and deleted concurrently, then events should follow the store")
+        void shouldFollowStoreOrder_whenSameArticleCreatedAndDeletedConcurrently() {
+            // When
+            concurrently(8, 200, i -> {
+                repository.create(testArticle);
+                repository.delete(testArticleId);
+            });
+
+            // Then
+            var types = publisher.events.values().stream().map(InMemoryArticleRepositoryTest::typeOf).toList();
+            assertThat(types).isEqualTo(outbox.peek(Integer.MAX_VALUE).stream()
+                .map(ArticleOutbox.Message::type).toList());
+            for (int i = 0; i < types.size(); i++) {
+                assertThat(types.get(i)).isEqualTo(i % 2 == 0
+                    ? ArticleChangeDTO.Type.CREATED
+                    : ArticleChangeDTO.Type.DELETED);
+            }
+            assertThat(repository.articles.containsKey(testArticleId))
+                .isEqualTo(types.getLast() == ArticleChangeDTO.Type.CREATED);
+        }
+
+        @Test
+        @DisplayName("When the same article is updated concurrently, then events should follow the store")
+        void shouldFollowStoreOrder_whenSameArticleUpdatedConcurrently() {
+            // Given
+            repository.create(testArticle);
+
+            // When
+            concurrently(8, 200, i -> repository.update(Article.validateThenCreate(testArticleId,
+                Title.validateThenCreate("Title " + i).get(), testArticle.content(), testArticle.author()).get()));
+
+            // Then
+            var titles = publisher.events.values().stream()
+                .map(event -> event instanceof ArticleEvent.ArticleUpdated updated
+                    ? updated.article().title().value()
+                    : testArticle.title().value())
+                .toList();
+            assertThat(titles).isEqualTo(outbox.peek(Integer.MAX_VALUE).stream()
+                .map(message -> message.article().title()).toList());
+            assertThat(repository.articles.get(testArticleId).title().value()).isEqualTo(titles.getLast());
+        }
+
+        private static void concurrently(final int threads, final int iterations, final IntConsumer work) {
+            var start = new CountDownLatch(1);
+            try (var executor = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    final int thread = t;
+                    executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < iterations; i++) {
+                            work.accept(thread * iterations + i);
+                        }
+                        return null;
+                    });
+                }
+                start.countDown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Given an expired deadline")
+    class ExpiredDeadlineTests {
+
+        @Test
+        @DisplayName("When the deadline of the current request expired, then should shed the operation")
+        void shouldShedOperation_whenDeadlineExpired() {
+            // Given
+            var deadline = Deadline.after(Duration.ZERO);
+
+            // When
+            Either<Error, Long> result = Deadline.callWithin(deadline, () -> repository.save(testArticle));
+
+            // Then
+            assertThat(result.getLeft()).isEqualTo(new Error.TechnicalError.DeadlineExceeded("repository"));
+            assertThat(repository.articles).isEmpty();
+            assertThat(outbox.pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("When the deadline of the current request did not expire, then should proceed")
+        void shouldProceed_whenDeadlineNotExpired() {
+            // Given
+            var deadline = Deadline.after(Duration.ofMinutes(1));
+            repository.save(testArticle);
+
+            // When
+            Either<Error, List<Article>> result = Deadline.callWithin(deadline, () -> repository.findAll());
+
+            // Then
+            assertThat(result.get()).containsExactly(testArticle);
+        }
+    }
+
+    private static ArticleChangeDTO.Type typeOf(final ArticleEvent event) {
+        return switch (event) {
+            case ArticleEvent.ArticleCreated created -> ArticleChangeDTO.Type.CREATED;
+            case ArticleEvent.ArticleUpdated updated -> ArticleChangeDTO.Type.UPDATED;
+            case ArticleEvent.ArticleDeleted deleted -> ArticleChangeDTO.Type.DELETED;
+        };
+    }
+
+    /**
+     * Publisher handing out sequences as the event bus does, keeping the events by sequence.
+     */
+    private static final class RecordingPublisher implements ArticleEventPublisher {
+
+        final ConcurrentSkipListMap<Long, ArticleEvent> events = new ConcurrentSkipListMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Override
+        public long publish(final ArticleEvent event) {
+            final long published = this.sequence.incrementAndGet();
+            this.events.put(published, event);
+            return published;
+        }
+
+    }
+
 }
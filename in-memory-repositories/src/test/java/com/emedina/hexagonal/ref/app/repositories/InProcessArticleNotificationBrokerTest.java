@@ -0,0 +1,85 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleChangeDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for InProcessArticleNotificationBroker.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("InProcessArticleNotificationBroker Tests")
+class InProcessArticleNotificationBrokerTest {
+
+    private SimpleMeterRegistry registry;
+    private ArticleOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        outbox = new ArticleOutbox();
+    }
+
+    @Test
+    @DisplayName("When publishing a batch, then should deliver every message")
+    void shouldDeliverEveryMessage_whenPublishingBatch() {
+        // Given
+        var broker = new InProcessArticleNotificationBroker(registry);
+        var first = outbox.append(ArticleChangeDTO.Type.DELETED, "article-1", null);
+        var second = outbox.append(ArticleChangeDTO.Type.DELETED, "article-2", null);
+
+        // When
+        broker.publish(List.of(first, second));
+
+        // Then
+        assertThat(broker.delivered(first.key())).isTrue();
+        assertThat(broker.delivered(second.key())).isTrue();
+        assertThat(registry.get("articles.notifications.delivered").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("articles.notifications.duplicates").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("When a batch is published again, then should drop the messages already delivered")
+    void shouldDropDuplicates_whenBatchPublishedAgain() {
+        // Given
+        var broker = new InProcessArticleNotificationBroker(registry);
+        var first = outbox.append(ArticleChangeDTO.Type.DELETED, "article-1", null);
+        var second = outbox.append(ArticleChangeDTO.Type.DELETED, "article-2", null);
+        broker.publish(List.of(first));
+
+        // When
+        broker.publish(List.of(first, second));
+
+        // Then
+        assertThat(registry.get("articles.notifications.delivered").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("articles.notifications.duplicates").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("When more messages than the window are delivered, then should forget the oldest keys")
+    void shouldForgetOldestKeys_whenWindowExceeded() {
+        // Given
+        var broker = new InProcessArticleNotificationBroker(registry, 2);
+        var first = outbox.append(ArticleChangeDTO.Type.DELETED, "article-1", null);
+        var second = outbox.append(ArticleChangeDTO.Type.DELETED, "article-2", null);
+        var third = outbox.append(ArticleChangeDTO.Type.DELETED, "article-3", null);
+
+        // When
+        broker.publish(List.of(first, second, third));
+
+        // Then
+        assertThat(broker.delivered(first.key())).isFalse();
+        assertThat(broker.delivered(second.key())).isTrue();
+        assertThat(broker.delivered(third.key())).isTrue();
+    }
+
+}
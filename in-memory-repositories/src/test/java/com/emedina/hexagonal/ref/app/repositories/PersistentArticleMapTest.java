@@ -0,0 +1,170 @@
+package com.emedina.hexagonal.ref.app.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.domain.entities.Article;
+import com.emedina.hexagonal.ref.app.domain.entities.ArticleId;
+import com.emedina.hexagonal.ref.app.domain.entities.Author;
+import com.emedina.hexagonal.ref.app.domain.entities.AuthorId;
+import com.emedina.hexagonal.ref.app.domain.entities.Content;
+import com.emedina.hexagonal.ref.app.domain.entities.PersonName;
+import com.emedina.hexagonal.ref.app.domain.entities.Title;
+
+/**
+ * Unit tests for PersistentArticleMap.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("PersistentArticleMap Tests")
+class PersistentArticleMapTest {
+
+    private PersistentArticleMap articles;
+
+    @BeforeEach
+    void setUp() {
+        articles = new PersistentArticleMap();
+    }
+
+    @Nested
+    @DisplayName("Given map operations")
+    class MapOperationsTests {
+
+        @Test
+        @DisplayName("When putting an article, then should get it back and return the one it replaced")
+        void shouldGetBackAndReturnReplaced_whenPuttingArticle() {
+            // Given
+            var original = article("article-1", "Original");
+            var updated = article("article-1", "Updated");
+
+            // When
+            var first = articles.put(original.id(), original);
+            var second = articles.put(updated.id(), updated);
+
+            // Then
+            assertThat(first).isNull();
+            assertThat(second).isEqualTo(original);
+            assertThat(articles.get(original.id())).isEqualTo(updated);
+            assertThat(articles.containsKey(original.id())).isTrue();
+            assertThat(articles).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("When removing an article, then should return it and forget it")
+        void shouldReturnAndForget_whenRemovingArticle() {
+            // Given
+            var article = article("article-1", "Title");
+            articles.put(article.id(), article);
+
+            // When
+            var removed = articles.remove(article.id());
+
+            // Then
+            assertThat(removed).isEqualTo(article);
+            assertThat(articles.containsKey(article.id())).isFalse();
+            assertThat(articles.remove(article.id())).isNull();
+            assertThat(articles).isEmpty();
+        }
+
+        @Test
+        @DisplayName("When the key is not an article id, then should find nothing")
+        void shouldFindNothing_whenKeyNotArticleId() {
+            // When & Then
+            assertThat(articles.get("article-1")).isNull();
+            assertThat(articles.containsKey("article-1")).isFalse();
+            assertThat(articles.remove("article-1")).isNull();
+        }
+
+        @Test
+        @DisplayName("When articles are put from many threads, then should keep every one of them")
+        void shouldKeepEveryArticle_whenPutFromManyThreads() {
+            // Given
+            var all = new ArrayList<Article>();
+            for (int i = 0; i < 1_000; i++) {
+                all.add(article("article-" + i, "Title " + i));
+            }
+
+            // When
+            try (var executor = Executors.newFixedThreadPool(8)) {
+                all.forEach(article -> executor.submit(() -> articles.put(article.id(), article)));
+            }
+
+            // Then
+            assertThat(articles).hasSize(1_000);
+            assertThat(articles.values()).containsExactlyInAnyOrderElementsOf(all);
+        }
+    }
+
+    @Nested
+    @DisplayName("Given snapshot method")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("When writing after taking a snapshot, then the snapshot should not change")
+        void shouldNotChange_whenWritingAfterSnapshot() {
+            // Given
+            var first = article("article-1", "First");
+            var second = article("article-2", "Second");
+            articles.put(first.id(), first);
+
+            // When
+            List<Article> snapshot = articles.snapshot();
+            articles.put(second.id(), second);
+            articles.remove(first.id());
+
+            // Then
+            assertThat(snapshot).containsExactly(first);
+            assertThat(articles.snapshot()).containsExactly(second);
+        }
+
+        @Test
+        @DisplayName("When iterating or indexing a snapshot, then should see the same articles")
+        void shouldSeeSameArticles_whenIteratingOrIndexing() {
+            // Given
+            for (int i = 0; i < 100; i++) {
+                var article = article("article-" + i, "Title " + i);
+                articles.put(article.id(), article);
+            }
+            List<Article> snapshot = articles.snapshot();
+
+            // When
+            var iterated = snapshot.stream().toList();
+            var indexed = new ArrayList<Article>();
+            for (int i = 0; i < snapshot.size(); i++) {
+                indexed.add(snapshot.get(i));
+            }
+
+            // Then
+            assertThat(iterated).hasSize(100).isEqualTo(indexed);
+        }
+
+        @Test
+        @DisplayName("When modifying a snapshot, then should be rejected")
+        void shouldBeRejected_whenModifyingSnapshot() {
+            // Given
+            var article = article("article-1", "Title");
+            List<Article> snapshot = articles.snapshot();
+
+            // When & Then
+            assertThatThrownBy(() -> snapshot.add(article)).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    private static Article article(final String id, final String title) {
+        var authorId = AuthorId.validateThenCreate("author-1").get();
+        var personName = PersonName.validateThenCreate("Test Author").get();
+        var author = Author.validateThenCreate(authorId, personName).get();
+        return Article.validateThenCreate(ArticleId.validateThenCreate(id).get(),
+            Title.validateThenCreate(title).get(), Content.validateThenCreate("Content of " + id).get(), author).get();
+    }
+
+}
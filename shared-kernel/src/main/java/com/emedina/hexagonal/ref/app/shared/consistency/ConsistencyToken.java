@@ -0,0 +1,140 @@
+package com.emedina.hexagonal.ref.app.shared.consistency;
+
+import java.util.function.Supplier;
+
+import io.vavr.control.Option;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Version token letting a client read its own writes from a read model that is maintained asynchronously.
+ * <p>
+ * Versions are the sequence numbers of the events that changed the articles. Commands record the version of the
+ * changes they made with {@link #recordWrite(long)}, which is handed back to the client; the client presents it
+ * again on later queries, which must then see a read model at least {@link #required() as recent}. Queries served
+ * from the read model record in turn the version it was at with {@link #recordRead(long)}, so that what they answer
+ * can be told apart from one version to the next. The token of the request being processed is bound to the current
+ * thread through a {@link ScopedValue}, as the {@code Deadline} is.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConsistencyToken {
+
+    /**
+     * Version meaning that nothing was written, or that no particular version is required.
+     */
+    public static final long NONE = -1;
+
+    private static final ScopedValue<ConsistencyToken> CURRENT = ScopedValue.newInstance();
+
+    private final long required;
+    private volatile long written = NONE;
+    private volatile long read = NONE;
+
+    /**
+     * Creates a token requiring no particular version, i.e. for eventually consistent reads.
+     *
+     * @return the token
+     */
+    public static ConsistencyToken none() {
+        return new ConsistencyToken(NONE);
+    }
+
+    /**
+     * Creates a token requiring reads to see at least the given version.
+     *
+     * @param version the version that reads must see
+     * @return the token
+     */
+    public static ConsistencyToken requiring(final long version) {
+        return new ConsistencyToken(Math.max(NONE, version));
+    }
+
+    /**
+     * Runs the given supplier with the token bound as the current one.
+     *
+     * @param token    the token
+     * @param supplier the work to run
+     * @param <T>      the type of the result
+     * @return the result of the supplier
+     */
+    public static <T> T callWithin(final ConsistencyToken token, final Supplier<T> supplier) {
+        return ScopedValue.where(CURRENT, token).call(supplier::get);
+    }
+
+    /**
+     * Gets the current token, if any.
+     *
+     * @return the current token, or none if no token is bound
+     */
+    public static Option<ConsistencyToken> current() {
+        return CURRENT.isBound() ? Option.of(CURRENT.get()) : Option.none();
+    }
+
+    /**
+     * Gets the version that reads must see under the current token.
+     *
+     * @return the required version, or {@link #NONE} if no token is bound
+     */
+    public static long currentRequired() {
+        return current().map(ConsistencyToken::required).getOrElse(NONE);
+    }
+
+    /**
+     * Records a version written under the current token, if any.
+     *
+     * @param version the version written
+     */
+    public static void recordWrite(final long version) {
+        current().forEach(token -> token.wrote(version));
+    }
+
+    /**
+     * Records the version of the read model a query was served from under the current token, if any.
+     * <p>
+     * The version is that of the read model before the query, so what the query answered reflects at least that
+     * version.
+     * </p>
+     *
+     * @param version the version read
+     */
+    public static void recordRead(final long version) {
+        current().forEach(token -> token.read = Math.max(NONE, version));
+    }
+
+    /**
+     * Gets the version that reads must see.
+     *
+     * @return the required version, or {@link #NONE}
+     */
+    public long required() {
+        return this.required;
+    }
+
+    /**
+     * Gets the highest version written under this token.
+     *
+     * @return the written version, or {@link #NONE} if nothing was written
+     */
+    public long written() {
+        return this.written;
+    }
+
+    /**
+     * Gets the version of the read model the last query under this token was served from.
+     *
+     * @return the read version, or {@link #NONE} if nothing was served from the read model
+     */
+    public long read() {
+        return this.read;
+    }
+
+    private synchronized void wrote(final long version) {
+        if (version > this.written) {
+            this.written = version;
+        }
+    }
+
+}
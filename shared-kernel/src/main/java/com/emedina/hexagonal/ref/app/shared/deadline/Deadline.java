@@ -0,0 +1,109 @@
+package com.emedina.hexagonal.ref.app.shared.deadline;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Point in time after which the client has given up on a request, so any work still pending for it is wasted.
+ * <p>
+ * The deadline of the request being processed is bound to the current thread through a {@link ScopedValue}, so
+ * that every stage can check it without threading it through the signatures of the buses and ports; stages are
+ * expected to call {@link #check(Stage)} before starting their work and shed it if the deadline already expired.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Deadline {
+
+    private static final ScopedValue<Deadline> CURRENT = ScopedValue.newInstance();
+
+    private final long expiresAtNanos;
+
+    /**
+     * Stages at which work can be shed.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    @RequiredArgsConstructor
+    public enum Stage {
+
+        DISPATCH("dispatch"),
+        AUTHOR_LOOKUP("author-lookup"),
+        REPOSITORY("repository");
+
+        private final String label;
+
+    }
+
+    /**
+     * Creates a deadline expiring after the given budget from now.
+     *
+     * @param budget the time budget
+     * @return the deadline
+     */
+    public static Deadline after(final Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Runs the given supplier with the deadline bound as the current one.
+     *
+     * @param deadline the deadline
+     * @param supplier the work to run
+     * @param <T>      the type of the result
+     * @return the result of the supplier
+     */
+    public static <T> T callWithin(final Deadline deadline, final Supplier<T> supplier) {
+        return ScopedValue.where(CURRENT, deadline).call(supplier::get);
+    }
+
+    /**
+     * Gets the current deadline, if any.
+     *
+     * @return the current deadline, or none if no deadline is bound
+     */
+    public static Option<Deadline> current() {
+        return CURRENT.isBound() ? Option.of(CURRENT.get()) : Option.none();
+    }
+
+    /**
+     * Checks the current deadline before starting the work of the given stage.
+     *
+     * @param stage the stage about to start
+     * @return an error if the current deadline already expired, otherwise nothing
+     */
+    public static Either<Error, Void> check(final Stage stage) {
+        return current().exists(Deadline::isExpired)
+            ? Either.left(new Error.TechnicalError.DeadlineExceeded(stage.label()))
+            : Either.right(null);
+    }
+
+    /**
+     * Checks whether the deadline has expired.
+     *
+     * @return {@code true} if it has expired
+     */
+    public boolean isExpired() {
+        return System.nanoTime() - this.expiresAtNanos >= 0;
+    }
+
+    /**
+     * Gets the time remaining until the deadline.
+     *
+     * @return the remaining time, never negative
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, this.expiresAtNanos - System.nanoTime()));
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.emedina.hexagonal.ref.app.shared.dto;
+
+import java.io.Serializable;
+
+/**
+ * Represents a change of an article, at the version of the write that made it.
+ * <p>
+ * The article is only present when it was created or updated. A {@link Type#RESET} carries neither id nor article:
+ * it tells the consumer that the changes it missed can no longer be replayed, so it must fetch the whole catalogue
+ * again and carry on from the given version.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+public record ArticleChangeDTO(long version, Type type, String id, ArticleDTO article) implements Serializable {
+
+    /**
+     * Kinds of change.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RESET
+    }
+
+    /**
+     * Creates a reset at the given version.
+     *
+     * @param version the version the consumer resumes from once it has fetched the catalogue again
+     * @return the reset
+     */
+    public static ArticleChangeDTO reset(final long version) {
+        return new ArticleChangeDTO(version, Type.RESET, null, null);
+    }
+
+}
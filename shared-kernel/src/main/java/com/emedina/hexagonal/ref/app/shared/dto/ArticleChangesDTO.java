@@ -0,0 +1,22 @@
+package com.emedina.hexagonal.ref.app.shared.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Represents the changes of the articles after a given version, up to a high-water mark.
+ * <p>
+ * Only the latest change of every article is included, deletions as tombstones. When the changes could not be
+ * told apart any more, because tombstones after the given version were compacted, the changes are {@code full}
+ * instead: they hold every live article, and replace whatever the consumer synchronised before.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+public record ArticleChangesDTO(long version, boolean full, List<ArticleChangeDTO> changes) implements Serializable {
+
+    public ArticleChangesDTO {
+        changes = List.copyOf(changes);
+    }
+
+}
@@ -26,6 +26,15 @@ public sealed interface Error extends Serializable {
         record InvalidId(String id) implements BusinessError {
         }
 
+        record DuplicateArticle(String id) implements BusinessError {
+        }
+
+        record UnknownAuthor(String id) implements BusinessError {
+        }
+
+        record InvalidAuthorId(String id) implements BusinessError {
+        }
+
     }
 
     sealed interface TechnicalError extends Error {
@@ -33,6 +42,12 @@ public sealed interface Error extends Serializable {
         record SomethingWentWrong(String message) implements TechnicalError {
         }
 
+        record DeadlineExceeded(String stage) implements TechnicalError {
+        }
+
+        record Unavailable(String reason) implements TechnicalError {
+        }
+
     }
 
 }
@@ -0,0 +1,66 @@
+package com.emedina.hexagonal.ref.app.shared.validation;
+
+import static com.emedina.hexagonal.ref.app.shared.validation.Validations.validateText;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Validation;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Hierarchy of inputs whose fields have already been validated.
+ * <p>
+ * Instances can only be obtained through their {@code validateThenCreate} factories, so holding one is the proof
+ * that every field was checked exactly once. This allows the Domain Model to build its entities from them without
+ * validating the same values again.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+public sealed interface ValidatedInput {
+
+    /**
+     * Already-validated fields of an article.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class Article implements ValidatedInput {
+
+        private final String id;
+        private final String authorId;
+        private final String title;
+        private final String content;
+
+        public static Validation<Error, Article> validateThenCreate(final String id, final String authorId,
+                                                                    final String title, final String content) {
+            return Validation.combine(validateText(id), validateText(authorId), validateText(title), validateText(content))
+                    .ap(Article::new)
+                    .mapError(e -> new Error.ValidationErrors(e.toJavaList()));
+        }
+
+    }
+
+    /**
+     * Already-validated fields of an author.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    final class Author implements ValidatedInput {
+
+        private final String id;
+        private final String name;
+
+        public static Validation<Error, Author> validateThenCreate(final String id, final String name) {
+            return Validation.combine(validateText(id), validateText(name))
+                    .ap(Author::new)
+                    .mapError(e -> new Error.ValidationErrors(e.toJavaList()));
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.emedina.hexagonal.ref.app.shared.consistency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ConsistencyToken.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ConsistencyToken Tests")
+class ConsistencyTokenTest {
+
+    @Nested
+    @DisplayName("Given creation methods")
+    class CreationTests {
+
+        @Test
+        @DisplayName("When requiring no version, then should require none and have written none")
+        void shouldRequireNone_whenCreatedWithNone() {
+            // When
+            var token = ConsistencyToken.none();
+
+            // Then
+            assertThat(token.required()).isEqualTo(ConsistencyToken.NONE);
+            assertThat(token.written()).isEqualTo(ConsistencyToken.NONE);
+        }
+
+        @Test
+        @DisplayName("When requiring a version, then should require it, never below none")
+        void shouldRequireVersion_whenCreatedRequiringIt() {
+            // When & Then
+            assertThat(ConsistencyToken.requiring(42).required()).isEqualTo(42);
+            assertThat(ConsistencyToken.requiring(-7).required()).isEqualTo(ConsistencyToken.NONE);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Given scoped binding")
+    class ScopedTests {
+
+        @Test
+        @DisplayName("When no token is bound, then should have no current token")
+        void shouldHaveNoCurrentToken_whenNotBound() {
+            // When
+            ConsistencyToken.recordWrite(5);
+
+            // Then
+            assertThat(ConsistencyToken.current()).isEmpty();
+            assertThat(ConsistencyToken.currentRequired()).isEqualTo(ConsistencyToken.NONE);
+        }
+
+        @Test
+        @DisplayName("When a token is bound, then should expose it and record the highest version written")
+        void shouldRecordHighestWrite_whenBound() {
+            // Given
+            var token = ConsistencyToken.requiring(3);
+
+            // When
+            long required = ConsistencyToken.callWithin(token, () -> {
+                ConsistencyToken.recordWrite(10);
+                ConsistencyToken.recordWrite(7);
+                return ConsistencyToken.currentRequired();
+            });
+
+            // Then
+            assertThat(required).isEqualTo(3);
+            assertThat(token.written()).isEqualTo(10);
+            assertThat(ConsistencyToken.current()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("When a query is served under a token, then should record the version it read")
+        void shouldRecordReadVersion_whenBound() {
+            // Given
+            var token = ConsistencyToken.none();
+
+            // When
+            ConsistencyToken.callWithin(token, () -> {
+                ConsistencyToken.recordRead(4);
+                return null;
+            });
+            ConsistencyToken.recordRead(8);
+
+            // Then
+            assertThat(token.read()).isEqualTo(4);
+            assertThat(token.written()).isEqualTo(ConsistencyToken.NONE);
+        }
+
+    }
+
+}
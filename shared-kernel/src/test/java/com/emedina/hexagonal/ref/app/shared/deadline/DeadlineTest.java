@@ -0,0 +1,107 @@
+package com.emedina.hexagonal.ref.app.shared.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Either;
+
+/**
+ * Unit tests for Deadline.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("Deadline Tests")
+class DeadlineTest {
+
+    @Nested
+    @DisplayName("Given a deadline")
+    class DeadlineStateTests {
+
+        @Test
+        @DisplayName("When the budget is not consumed, then should not be expired")
+        void shouldNotBeExpired_whenBudgetNotConsumed() {
+            // When
+            Deadline result = Deadline.after(Duration.ofMinutes(1));
+
+            // Then
+            assertThat(result.isExpired()).isFalse();
+            assertThat(result.remaining()).isPositive();
+        }
+
+        @Test
+        @DisplayName("When the budget is consumed, then should be expired with no remaining time")
+        void shouldBeExpired_whenBudgetConsumed() {
+            // When
+            Deadline result = Deadline.after(Duration.ofMillis(-1));
+
+            // Then
+            assertThat(result.isExpired()).isTrue();
+            assertThat(result.remaining()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Given check method")
+    class CheckTests {
+
+        @Test
+        @DisplayName("When no deadline is bound, then should pass")
+        void shouldPass_whenNoDeadlineBound() {
+            // When
+            Either<Error, Void> result = Deadline.check(Deadline.Stage.REPOSITORY);
+
+            // Then
+            assertThat(result.isRight()).isTrue();
+            assertThat(Deadline.current().isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("When the bound deadline is not expired, then should pass")
+        void shouldPass_whenBoundDeadlineNotExpired() {
+            // Given
+            Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+            // When
+            Either<Error, Void> result = Deadline.callWithin(deadline, () -> Deadline.check(Deadline.Stage.DISPATCH));
+
+            // Then
+            assertThat(result.isRight()).isTrue();
+        }
+
+        @Test
+        @DisplayName("When the bound deadline is expired, then should fail with DeadlineExceeded for the stage")
+        void shouldFail_whenBoundDeadlineExpired() {
+            // Given
+            Deadline deadline = Deadline.after(Duration.ZERO);
+
+            // When
+            Either<Error, Void> result = Deadline.callWithin(deadline,
+                () -> Deadline.check(Deadline.Stage.AUTHOR_LOOKUP));
+
+            // Then
+            assertThat(result.getLeft()).isEqualTo(new Error.TechnicalError.DeadlineExceeded("author-lookup"));
+        }
+
+        @Test
+        @DisplayName("When running within a deadline, then should expose it as the current one only meanwhile")
+        void shouldExposeCurrentDeadline_whenRunningWithin() {
+            // Given
+            Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+            // When
+            Deadline result = Deadline.callWithin(deadline, () -> Deadline.current().get());
+
+            // Then
+            assertThat(result).isSameAs(deadline);
+            assertThat(Deadline.current().isEmpty()).isTrue();
+        }
+    }
+
+}
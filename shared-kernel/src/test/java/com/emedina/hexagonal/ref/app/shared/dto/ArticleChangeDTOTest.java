@@ -0,0 +1,42 @@
+package com.emedina.hexagonal.ref.app.shared.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ArticleChangeDTO.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ArticleChangeDTO Tests")
+class ArticleChangeDTOTest {
+
+    @Test
+    @DisplayName("When creating a change, then should store all fields correctly")
+    void shouldCreateChange_whenValidDataProvided() {
+        // Given
+        ArticleDTO article = new ArticleDTO("article-1", "Title", "Content", "Author");
+
+        // When
+        ArticleChangeDTO result = new ArticleChangeDTO(7L, ArticleChangeDTO.Type.UPDATED, "article-1", article);
+
+        // Then
+        assertThat(result.version()).isEqualTo(7L);
+        assertThat(result.type()).isEqualTo(ArticleChangeDTO.Type.UPDATED);
+        assertThat(result.id()).isEqualTo("article-1");
+        assertThat(result.article()).isEqualTo(article);
+    }
+
+    @Test
+    @DisplayName("When creating a reset, then should carry only its version")
+    void shouldCarryOnlyVersion_whenCreatingReset() {
+        // When
+        ArticleChangeDTO result = ArticleChangeDTO.reset(42L);
+
+        // Then
+        assertThat(result).isEqualTo(new ArticleChangeDTO(42L, ArticleChangeDTO.Type.RESET, null, null));
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.emedina.hexagonal.ref.app.shared.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ArticleChangesDTO.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("ArticleChangesDTO Tests")
+class ArticleChangesDTOTest {
+
+    @Test
+    @DisplayName("When creating the changes, then should store all fields correctly")
+    void shouldCreateChanges_whenValidDataProvided() {
+        // Given
+        ArticleChangeDTO deleted = new ArticleChangeDTO(3L, ArticleChangeDTO.Type.DELETED, "article-1", null);
+
+        // When
+        ArticleChangesDTO result = new ArticleChangesDTO(5L, false, List.of(deleted));
+
+        // Then
+        assertThat(result.version()).isEqualTo(5L);
+        assertThat(result.full()).isFalse();
+        assertThat(result.changes()).containsExactly(deleted);
+    }
+
+    @Test
+    @DisplayName("When the given list changes afterwards, then should keep its own unmodifiable copy")
+    void shouldKeepUnmodifiableCopy_whenGivenListChanges() {
+        // Given
+        List<ArticleChangeDTO> changes = new ArrayList<>();
+        ArticleChangesDTO result = new ArticleChangesDTO(-1L, true, changes);
+
+        // When
+        changes.add(ArticleChangeDTO.reset(0L));
+
+        // Then
+        assertThat(result.changes()).isEmpty();
+        assertThatThrownBy(() -> result.changes().add(ArticleChangeDTO.reset(0L)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+}
@@ -215,6 +215,17 @@ class ErrorTest {
             // Then
             assertThat(result.message()).isEqualTo(errorMessage);
         }
+
+        @Test
+        @DisplayName("When creating DeadlineExceeded error, then should store stage correctly")
+        void shouldCreateDeadlineExceededError_whenStageProvided() {
+            // When
+            Error.TechnicalError.DeadlineExceeded result = new Error.TechnicalError.DeadlineExceeded("repository");
+
+            // Then
+            assertThat(result.stage()).isEqualTo("repository");
+            assertThat(result).isInstanceOf(Error.TechnicalError.class);
+        }
     }
 
     @Nested
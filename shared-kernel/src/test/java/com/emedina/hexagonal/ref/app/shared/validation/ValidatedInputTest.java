@@ -0,0 +1,89 @@
+package com.emedina.hexagonal.ref.app.shared.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Validation;
+
+/**
+ * Unit tests for ValidatedInput.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class ValidatedInputTest {
+
+    @Test
+    void shouldCreateValidatedArticle_whenAllFieldsAreValid() {
+        // given
+        String id = "article-123";
+        String authorId = "author-456";
+        String title = "Test Title";
+        String content = "Test content";
+
+        // when
+        Validation<Error, ValidatedInput.Article> result = ValidatedInput.Article.validateThenCreate(id, authorId,
+            title, content);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        ValidatedInput.Article article = result.get();
+        assertThat(article.id()).isEqualTo(id);
+        assertThat(article.authorId()).isEqualTo(authorId);
+        assertThat(article.title()).isEqualTo(title);
+        assertThat(article.content()).isEqualTo(content);
+    }
+
+    @Test
+    void shouldAccumulateAllValidationErrors_whenArticleFieldsAreInvalid() {
+        // given
+        String emptyId = "";
+        String nullAuthorId = null;
+        String emptyTitle = "";
+        String validContent = "Test content";
+
+        // when
+        Validation<Error, ValidatedInput.Article> result = ValidatedInput.Article.validateThenCreate(emptyId,
+            nullAuthorId, emptyTitle, validContent);
+
+        // then
+        assertThat(result.isInvalid()).isTrue();
+        assertThat(result.getError()).isInstanceOf(Error.ValidationErrors.class);
+        Error.ValidationErrors validationErrors = (Error.ValidationErrors) result.getError();
+        assertThat(validationErrors.errors()).hasSize(3);
+        assertThat(validationErrors.errors()).allMatch(e -> e instanceof ValidationError.Invalid);
+    }
+
+    @Test
+    void shouldCreateValidatedAuthor_whenAllFieldsAreValid() {
+        // given
+        String id = "author-123";
+        String name = "John Doe";
+
+        // when
+        Validation<Error, ValidatedInput.Author> result = ValidatedInput.Author.validateThenCreate(id, name);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.get().id()).isEqualTo(id);
+        assertThat(result.get().name()).isEqualTo(name);
+    }
+
+    @Test
+    void shouldAccumulateAllValidationErrors_whenAuthorFieldsAreInvalid() {
+        // given
+        String nullId = null;
+        String emptyName = "";
+
+        // when
+        Validation<Error, ValidatedInput.Author> result = ValidatedInput.Author.validateThenCreate(nullId, emptyName);
+
+        // then
+        assertThat(result.isInvalid()).isTrue();
+        assertThat(result.getError()).isInstanceOf(Error.ValidationErrors.class);
+        assertThat(((Error.ValidationErrors) result.getError()).errors()).hasSize(2);
+    }
+
+}
@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+#
+# Startup time and memory footprint of the assembly: JVM build, JVM build with its AOT cache and native executable.
+#
+# Every run starts the application on a free port, measures the time until the first successful
+# GET /api/articles and the latency of the first request for the OpenAPI document, drives a few article writes and
+# reads, and then reports the resident set size. Extra arguments for the application can be passed in APP_ARGS, e.g.
+# APP_ARGS=--springdoc.api-docs.enabled=true DOCS_PATH=/v3/api-docs to compare against the runtime scanner. The JIT
+# warm-up is always disabled, so that it is not mistaken for startup time.
+#
+# Usage: scripts/startup-benchmark.sh [jvm|extracted|aot-cache|native|all] [runs]
+#   jvm        target/hexagonal-spring-ref-app-spring-boot-assembly-<version>.jar (mvn package)
+#   extracted  the same jar extracted into target/aot-cache, without the cache (mvn -Paot-cache package)
+#   aot-cache  the extracted jar with target/aot-cache/app.aot (mvn -Paot-cache package)
+#   native     target/hexagonal-spring-ref-app (mvn -Pnative package)
+#
+# Author: Enrique Medina Montenegro
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+MODE="${1:-all}"
+RUNS="${2:-5}"
+PORT="${PORT:-18085}"
+BASE_URL="http://localhost:${PORT}"
+DOCS_PATH="${DOCS_PATH:-/openapi/articles.json}"
+APP_ARGS="${APP_ARGS:-}"
+JAR="$(ls target/hexagonal-spring-ref-app-spring-boot-assembly-*.jar 2>/dev/null | grep -v original | head -n 1 || true)"
+NATIVE="target/hexagonal-spring-ref-app"
+EXTRACTED="target/aot-cache/$(basename "${JAR:-none.jar}")"
+AOT_CACHE="target/aot-cache/app.aot"
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$1/status"
+}
+
+command_of() {
+    case "$1" in
+        jvm) echo "java -jar ${JAR}" ;;
+        extracted) echo "java -jar ${EXTRACTED}" ;;
+        aot-cache) echo "java -XX:AOTCache=${AOT_CACHE} -jar ${EXTRACTED}" ;;
+        native) echo "${NATIVE}" ;;
+    esac
+}
+
+run_once() {
+    local mode="$1"
+    local start pid ready docs
+    start="$(now_ms)"
+    # shellcheck disable=SC2086
+    $(command_of "${mode}") --server.port="${PORT}" --logging.level.root=WARN --jit.warm-up.enabled=false ${APP_ARGS} > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "${BASE_URL}/api/articles"; do
+        sleep 0.01
+    done
+    ready="$(now_ms)"
+    docs="$(curl -s -o /dev/null -w '%{time_total}' "${BASE_URL}${DOCS_PATH}")"
+
+    for i in $(seq 1 50); do
+        curl -sf -o /dev/null -X POST -H 'Content-Type: application/json' \
+            -d "{\"id\":\"article-${i}\",\"authorId\":\"author-1\",\"title\":\"Title ${i}\",\"content\":\"Content ${i}\"}" \
+            "${BASE_URL}/api/articles" || true
+        curl -sf -o /dev/null "${BASE_URL}/api/articles/article-${i}" || true
+    done
+
+    echo "$((ready - start)) $(rss_mb "${pid}") ${docs}"
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+}
+
+report() {
+    local mode="$1"
+    local total_ms=0 total_rss=0 total_docs=0 ms rss docs
+    for run in $(seq 1 "${RUNS}"); do
+        read -r ms rss docs <<< "$(run_once "${mode}")"
+        total_ms=$((total_ms + ms))
+        total_rss="$(echo "${total_rss} + ${rss}" | bc)"
+        total_docs="$(echo "${total_docs} + ${docs}" | bc)"
+    done
+    printf "%-10s first request after %6d ms, first API docs hit %7.1f ms, RSS %8.1f MB (mean of %d runs)\n" \
+        "${mode}" $((total_ms / RUNS)) "$(echo "${total_docs} * 1000 / ${RUNS}" | bc -l)" \
+        "$(echo "${total_rss} / ${RUNS}" | bc -l)" "${RUNS}"
+}
+
+case "${MODE}" in
+    jvm | extracted | aot-cache | native) report "${MODE}" ;;
+    all)
+        report jvm
+        report extracted
+        report aot-cache
+        report native
+        ;;
+    *)
+        echo "Unknown mode [${MODE}]" >&2
+        exit 1
+        ;;
+esac
@@ -2,17 +2,30 @@ package com.emedina.hexagonal.ref.app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * Main bootstrap class for the Spring Boot application.
+ * <p>
+ * Only the configuration of the assembly is scanned from here; the scanning of the adapters and handlers depends on
+ * the startup mode, see {@code StartupAssembler}. Launched with {@code -Dstartup.trace=true}, the startup steps are
+ * recorded and published by the {@code /actuator/startup} endpoint, including the time taken to instantiate every
+ * bean.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
-@SpringBootApplication(proxyBeanMethods = false, scanBasePackages = "com.emedina")
+@SpringBootApplication(proxyBeanMethods = false, scanBasePackages = "com.emedina.hexagonal.ref.app.assembly")
 public class Application {
 
+    static final int STARTUP_TRACE_CAPACITY = 8192;
+
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        final SpringApplication application = new SpringApplication(Application.class);
+        if (Boolean.getBoolean("startup.trace")) {
+            application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_TRACE_CAPACITY));
+        }
+        application.run(args);
     }
 
 }
@@ -0,0 +1,96 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Training run of the application, producing the JDK AOT cache shipped alongside the jar by the {@code aot-cache}
+ * build profile.
+ * <p>
+ * Only active with the {@code training} profile: once the application is up, every endpoint of the article API is
+ * exercised over HTTP, in JSON and CBOR, for the configured number of iterations, so that the classes loaded and
+ * linked and the method profiles collected along the way cover the paths of real traffic. The application then
+ * exits, which is when the JVM writes the cache.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Component
+@Profile(AotTrainingRun.PROFILE)
+class AotTrainingRun implements ApplicationRunner {
+
+    static final String PROFILE = "training";
+
+    private static final List<String> MEDIA_TYPES = List.of("application/json", "application/cbor");
+
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+    private final int iterations;
+
+    AotTrainingRun(final ConfigurableApplicationContext context, final Environment environment,
+            @Value("${training.iterations:200}") final int iterations) {
+        this.context = context;
+        this.environment = environment;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) throws Exception {
+        final URI articles = URI.create("http://localhost:"
+            + this.environment.getRequiredProperty("local.server.port") + "/api/articles");
+        final long start = System.nanoTime();
+        try (var client = HttpClient.newHttpClient()) {
+            for (int i = 0; i < this.iterations; i++) {
+                this.exercise(client, articles, "training-" + i, MEDIA_TYPES.get(i % MEDIA_TYPES.size()));
+            }
+        }
+        log.atInfo().setMessage("Training run exercised the article API [{}] times in [{}] ms")
+            .addArgument(this.iterations)
+            .addArgument(() -> (System.nanoTime() - start) / 1_000_000)
+            .log();
+        this.exit();
+    }
+
+    void exit() {
+        System.exit(SpringApplication.exit(this.context));
+    }
+
+    private void exercise(final HttpClient client, final URI articles, final String id, final String mediaType)
+            throws Exception {
+        final URI article = URI.create(articles + "/" + id);
+        final String body = "{\"id\":\"" + id + "\",\"authorId\":\"author-1\",\"title\":\"Training\","
+            + "\"content\":\"Training run of the article API\"}";
+
+        send(client, HttpRequest.newBuilder(articles).POST(HttpRequest.BodyPublishers.ofString(body)), mediaType);
+        send(client, HttpRequest.newBuilder(article).GET(), mediaType);
+        send(client, HttpRequest.newBuilder(articles).GET(), mediaType);
+        send(client, HttpRequest.newBuilder(article).PUT(HttpRequest.BodyPublishers.ofString(body)), mediaType);
+        send(client, HttpRequest.newBuilder(article).DELETE(), mediaType);
+        // Error paths are part of real traffic too
+        send(client, HttpRequest.newBuilder(article).GET(), mediaType);
+    }
+
+    private static void send(final HttpClient client, final HttpRequest.Builder request, final String mediaType)
+            throws Exception {
+        client.send(request
+            .header("Content-Type", "application/json")
+            .header("Accept", mediaType)
+            .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+}
@@ -1,31 +1,64 @@
 package com.emedina.hexagonal.ref.app.assembly;
 
-import com.emedina.sharedkernel.application.annotation.Adapter;
-import com.emedina.sharedkernel.application.annotation.ApplicationService;
-import com.emedina.sharedkernel.domain.service.annotation.DomainService;
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.web.client.RestClient;
 
 /**
  * Assembles the application creating the necessary beans.
+ * <p>
+ * The author API is called through a JDK {@link HttpClient} negotiating HTTP/2, so that concurrent lookups are
+ * multiplexed over a single kept-alive connection instead of opening one per request; the client is tuned through
+ * the {@link AuthorApiProperties}, and the {@link RestClient} is built from the auto-configured builder so that
+ * every call is recorded in the {@code http.client.requests} metric. The connection pool, keep-alive and DNS cache of
+ * the JDK are settings of the whole JVM, read once, so they are left to the launch flags documented in the README
+ * rather than set here. The client and its executor are closed with the context.
+ * </p>
+ * <p>
+ * Component scanning is assembled by the {@link StartupAssembler}. The {@link NativeImageHints} complete the
+ * reachability metadata inferred by Spring AOT for the native image.
+ * </p>
  *
  * @author Enrique Medina Montenegro
  */
 @EnableTransactionManagement
+@EnableConfigurationProperties({AuthorApiProperties.class, JitWarmUpProperties.class})
+@ImportRuntimeHints(NativeImageHints.class)
 @Configuration(proxyBeanMethods = false)
-@ComponentScan(basePackages = "com.emedina", includeFilters = @ComponentScan.Filter(
-        type = FilterType.ANNOTATION,
-        classes = {ApplicationService.class, Adapter.class, DomainService.class}
-))
 class ApplicationAssembler {
 
+    @Bean(destroyMethod = "close")
+    ExecutorService authorHttpExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean(destroyMethod = "close")
+    HttpClient authorHttpClient(final AuthorApiProperties properties, final ExecutorService authorHttpExecutor) {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.connectTimeout())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .executor(authorHttpExecutor)
+            .build();
+    }
+
     @Bean
-    RestClient restClient() {
-        return RestClient.builder().build();
+    RestClient restClient(final RestClient.Builder builder, final HttpClient authorHttpClient,
+            final AuthorApiProperties properties) {
+        final JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(authorHttpClient);
+        requestFactory.setReadTimeout(properties.readTimeout());
+        return builder
+            .baseUrl(properties.baseUrl().toString())
+            .requestFactory(requestFactory)
+            .build();
     }
 
 }
@@ -0,0 +1,28 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the HTTP client used to call the author API.
+ * <p>
+ * The connection pool, the keep-alive of idle connections and the DNS cache are settings of the whole JVM, given as
+ * launch flags; see the README.
+ * </p>
+ *
+ * @param baseUrl        the base URL of the author API
+ * @param connectTimeout the maximum time to establish a connection
+ * @param readTimeout    the maximum time to wait for a response
+ * @param warmUp         whether connections are established at startup instead of on the first lookup
+ * @author Enrique Medina Montenegro
+ */
+@ConfigurationProperties("author.api")
+record AuthorApiProperties(
+        @DefaultValue("http://localhost:8086") URI baseUrl,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("2s") Duration readTimeout,
+        @DefaultValue("false") boolean warmUp) {
+}
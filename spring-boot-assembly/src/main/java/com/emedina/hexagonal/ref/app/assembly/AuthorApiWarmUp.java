@@ -0,0 +1,52 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import io.vavr.control.Try;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Establishes the connection to the author API at startup, when enabled through the {@link AuthorApiProperties},
+ * so that the first lookups do not pay for the DNS resolution and the TCP, TLS and HTTP/2 handshakes.
+ * <p>
+ * A failed warm-up is only logged: the connection will be established on the first lookup instead.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class AuthorApiWarmUp implements ApplicationRunner {
+
+    private final HttpClient authorHttpClient;
+    private final AuthorApiProperties properties;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (!this.properties.warmUp()) {
+            return;
+        }
+        final HttpRequest request = HttpRequest.newBuilder(this.properties.baseUrl())
+            .method("OPTIONS", HttpRequest.BodyPublishers.noBody())
+            .timeout(this.properties.readTimeout())
+            .build();
+        final long start = System.nanoTime();
+        Try.of(() -> this.authorHttpClient.send(request, HttpResponse.BodyHandlers.discarding()))
+            .onSuccess(response -> log.atInfo().setMessage("Author API connection warmed up over [{}] in [{}] ms")
+                .addArgument(response::version)
+                .addArgument(() -> (System.nanoTime() - start) / 1_000_000)
+                .log())
+            .onFailure(e -> log.atWarn().setMessage("Author API connection warm-up failed: [{}]")
+                .addArgument(e::getMessage)
+                .log());
+    }
+
+}
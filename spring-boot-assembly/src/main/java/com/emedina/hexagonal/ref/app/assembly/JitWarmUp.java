@@ -0,0 +1,145 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.stereotype.Component;
+
+import com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand;
+import com.emedina.hexagonal.ref.app.application.command.DeleteArticleCommand;
+import com.emedina.hexagonal.ref.app.application.command.UpdateArticleCommand;
+import com.emedina.hexagonal.ref.app.application.query.FindArticleQuery;
+import com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+import com.emedina.sharedkernel.command.core.CommandBus;
+import com.emedina.sharedkernel.query.core.QueryBus;
+
+import io.vavr.control.Option;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms up the JIT compiler before the application reports itself ready, so that the first requests after a rollout
+ * do not run interpreted or C1-compiled code.
+ * <p>
+ * Synthetic create, find, update, get-all and delete traffic, the failure of finding a deleted article included, is
+ * driven through the {@link CommandBus} and {@link QueryBus} in rounds, until the JIT compilation time spent in a
+ * round falls under the configured threshold or the iteration or time limits are reached. Readiness is refused
+ * meanwhile, and Spring Boot only accepts traffic once every runner has completed.
+ * </p>
+ * <p>
+ * The buses are those of a {@link JitWarmUpScratch}, wiring the same handlers and adapters as the application over
+ * scratch instances, so the traffic never reaches the articles, events, notifications and metrics of the application
+ * nor the author API; the scratch wiring is discarded at the end, scratch articles included.
+ * </p>
+ * <p>
+ * Without JIT compilation monitoring, as in a native image, there is nothing to warm up and the warm-up is skipped.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Slf4j
+@Component
+class JitWarmUp implements ApplicationRunner {
+
+    static final String SCRATCH_PREFIX = "warm-up-";
+
+    private static final int SCRATCH_ARTICLES = 64;
+    private static final String SCRATCH_AUTHOR = SCRATCH_PREFIX + "author";
+
+    private final Supplier<JitWarmUpScratch> scratch;
+    private final JitWarmUpProperties properties;
+    private final ApplicationEventPublisher publisher;
+    private final Option<LongSupplier> compilationTimeMillis;
+
+    @Autowired
+    JitWarmUp(final ConfigurableEnvironment environment, final JitWarmUpProperties properties,
+            final ApplicationEventPublisher publisher) {
+        this(() -> JitWarmUpScratch.open(environment), properties, publisher,
+            compilationTime(ManagementFactory.getCompilationMXBean()));
+    }
+
+    JitWarmUp(final Supplier<JitWarmUpScratch> scratch, final JitWarmUpProperties properties,
+            final ApplicationEventPublisher publisher, final Option<LongSupplier> compilationTimeMillis) {
+        this.scratch = scratch;
+        this.properties = properties;
+        this.publisher = publisher;
+        this.compilationTimeMillis = compilationTimeMillis;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (!this.properties.enabled()) {
+            return;
+        }
+        if (this.compilationTimeMillis.isEmpty()) {
+            log.atInfo().setMessage("JIT compilation time cannot be monitored, skipping the warm-up").log();
+            return;
+        }
+        AvailabilityChangeEvent.publish(this.publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        final LongSupplier compilationClock = this.compilationTimeMillis.get();
+
+        final long start = System.nanoTime();
+        final long deadline = start + this.properties.maxDuration().toNanos();
+        final long stableMillis = this.properties.stableCompilationTime().toMillis();
+        long compilationTime = compilationClock.getAsLong();
+        int iterations = 0;
+        boolean stable = false;
+        try (JitWarmUpScratch scratch = this.scratch.get()) {
+            while (iterations < this.properties.maxIterations() && System.nanoTime() < deadline) {
+                for (int i = 0; i < this.properties.roundIterations(); i++, iterations++) {
+                    exercise(scratch, SCRATCH_PREFIX + (iterations % SCRATCH_ARTICLES));
+                }
+                final long previous = compilationTime;
+                compilationTime = compilationClock.getAsLong();
+                if (iterations >= this.properties.minIterations() && compilationTime - previous <= stableMillis) {
+                    stable = true;
+                    break;
+                }
+            }
+        }
+
+        final int total = iterations;
+        final boolean stabilised = stable;
+        log.atInfo().setMessage("JIT warm-up ran [{}] iterations in [{}] ms, compilation {}")
+            .addArgument(total)
+            .addArgument(() -> (System.nanoTime() - start) / 1_000_000)
+            .addArgument(() -> stabilised ? "stabilised" : "still active")
+            .log();
+    }
+
+    private static void exercise(final JitWarmUpScratch scratch, final String id) {
+        final CommandBus commandBus = scratch.commandBus();
+        final QueryBus queryBus = scratch.queryBus();
+        CreateArticleCommand.validateThenCreate(id, SCRATCH_AUTHOR, "Warm-up", "Warm-up article")
+            .forEach(command -> commandBus.<Error, CreateArticleCommand>execute(command));
+        FindArticleQuery.validateThenCreate(id)
+            .forEach(query -> queryBus.<Error, ArticleDTO, FindArticleQuery>query(query));
+        UpdateArticleCommand.validateThenCreate(id, SCRATCH_AUTHOR, "Warm-up, updated", "Updated warm-up article")
+            .forEach(command -> commandBus.<Error, UpdateArticleCommand>execute(command));
+        GetAllArticlesQuery.validateThenCreate()
+            .forEach(query -> queryBus.<Error, List<ArticleDTO>, GetAllArticlesQuery>query(query));
+        DeleteArticleCommand.validateThenCreate(id)
+            .forEach(command -> commandBus.<Error, DeleteArticleCommand>execute(command));
+        // Finding an article that no longer exists warms up the failure path too
+        FindArticleQuery.validateThenCreate(id)
+            .forEach(query -> queryBus.<Error, ArticleDTO, FindArticleQuery>query(query));
+    }
+
+    private static Option<LongSupplier> compilationTime(final CompilationMXBean compilation) {
+        return Option.of(compilation)
+            .filter(CompilationMXBean::isCompilationTimeMonitoringSupported)
+            .<LongSupplier>map(c -> c::getTotalCompilationTime);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the JIT warm-up run before the application reports itself ready.
+ * <p>
+ * The warm-up is off unless enabled, as it is in the {@code production} profile: it would otherwise delay the
+ * readiness of every local run, and skew the startup benchmarks and the AOT cache training run.
+ * </p>
+ *
+ * @param enabled               whether the warm-up runs at all
+ * @param roundIterations       the number of iterations between two checks of the JIT compilation time
+ * @param minIterations         the minimum number of iterations, even if compilation stabilises earlier
+ * @param maxIterations         the maximum number of iterations, even if compilation has not stabilised yet
+ * @param maxDuration           the maximum duration of the warm-up, even if compilation has not stabilised yet
+ * @param stableCompilationTime the JIT compilation time of a round under which compilation is deemed stable
+ * @author Enrique Medina Montenegro
+ */
+@ConfigurationProperties("jit.warm-up")
+record JitWarmUpProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int roundIterations,
+        @DefaultValue("2000") int minIterations,
+        @DefaultValue("50000") int maxIterations,
+        @DefaultValue("30s") Duration maxDuration,
+        @DefaultValue("5ms") Duration stableCompilationTime) {
+}
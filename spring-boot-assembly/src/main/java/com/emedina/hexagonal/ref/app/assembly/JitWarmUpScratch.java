@@ -0,0 +1,105 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import com.emedina.hexagonal.ref.app.application.ports.out.AuthorOutputPort;
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
+import com.emedina.sharedkernel.application.annotation.Adapter;
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+import com.emedina.sharedkernel.command.core.CommandBus;
+import com.emedina.sharedkernel.domain.service.annotation.DomainService;
+import com.emedina.sharedkernel.query.core.QueryBus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+
+/**
+ * Scratch wiring the {@link JitWarmUp} drives its synthetic traffic through.
+ * <p>
+ * The handlers, the in-memory repository with its outbox and relay, the read model and the event bus are created
+ * afresh in a standalone context, configured as the application but with a meter registry of their own and a
+ * simulated author lookup, so that the warm-up compiles the same code paths without any production state, metric,
+ * subscriber or downstream system seeing its traffic. The whole context is discarded once the warm-up is over.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+final class JitWarmUpScratch implements AutoCloseable {
+
+    static final String SCRATCH_AUTHOR_NAME = "Warm-up author";
+
+    private final CommandBus commandBus;
+    private final QueryBus queryBus;
+    private final Runnable discard;
+
+    JitWarmUpScratch(final CommandBus commandBus, final QueryBus queryBus, final Runnable discard) {
+        this.commandBus = commandBus;
+        this.queryBus = queryBus;
+        this.discard = discard;
+    }
+
+    /**
+     * Creates the scratch wiring, configured from the given environment.
+     *
+     * @param environment the environment of the application
+     * @return the scratch wiring, to be closed once the warm-up is over
+     */
+    static JitWarmUpScratch open(final ConfigurableEnvironment environment) {
+        final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().merge(environment);
+        context.register(Wiring.class);
+        context.refresh();
+        return new JitWarmUpScratch(context.getBean(CommandBus.class), context.getBean(QueryBus.class), context::close);
+    }
+
+    CommandBus commandBus() {
+        return this.commandBus;
+    }
+
+    QueryBus queryBus() {
+        return this.queryBus;
+    }
+
+    /**
+     * Discards the scratch wiring and everything written through it.
+     */
+    @Override
+    public void close() {
+        this.discard.run();
+    }
+
+    /**
+     * Beans of the scratch context: the application and the adapters it is warmed up through, but neither the API
+     * adapter nor the author API client.
+     */
+    @ComponentScan(basePackages = {
+            "com.emedina.hexagonal.ref.app.application",
+            "com.emedina.hexagonal.ref.app.domain",
+            "com.emedina.hexagonal.ref.app.events",
+            "com.emedina.hexagonal.ref.app.repositories"
+    }, useDefaultFilters = false, includeFilters = @ComponentScan.Filter(
+            type = FilterType.ANNOTATION,
+            classes = {ApplicationService.class, Adapter.class, DomainService.class}
+    ))
+    @Import(CommandQueryBusAssembler.class)
+    static class Wiring {
+
+        @Bean
+        MeterRegistry scratchMeterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AuthorOutputPort scratchAuthorOutputPort() {
+            return id -> Either.right(new AuthorDTO(id, SCRATCH_AUTHOR_NAME));
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+/**
+ * Reachability metadata of the application for the native image, covering what Spring AOT cannot infer from the
+ * bean definitions.
+ * <ul>
+ * <li>MapStruct loads the generated implementation of every mapper by name and instantiates it reflectively.</li>
+ * <li>The command and query bus registries resolve the command or query served by each handler from the generic
+ * signature of its use case.</li>
+ * <li>The author DTO is decoded by Jackson from the responses of the author API, outside of any controller
+ * signature.</li>
+ * <li>Vavr needs no reflection of its own; the error values it carries are registered for serialization, as they
+ * are {@link java.io.Serializable}.</li>
+ * </ul>
+ * springdoc ships its own hints.
+ *
+ * @author Enrique Medina Montenegro
+ */
+class NativeImageHints implements RuntimeHintsRegistrar {
+
+    static final List<String> MAPPERS = List.of(
+            "com.emedina.hexagonal.ref.app.api.ApiMapperImpl",
+            "com.emedina.hexagonal.ref.app.application.ArticleMapperImpl");
+
+    static final List<String> USE_CASES = List.of(
+            "com.emedina.hexagonal.ref.app.application.ports.in.CreateArticleUseCase",
+            "com.emedina.hexagonal.ref.app.application.ports.in.UpdateArticleUseCase",
+            "com.emedina.hexagonal.ref.app.application.ports.in.DeleteArticleUseCase",
+            "com.emedina.hexagonal.ref.app.application.ports.in.FindArticleUseCase",
+            "com.emedina.hexagonal.ref.app.application.ports.in.GetAllArticlesUseCase",
+            "com.emedina.hexagonal.ref.app.application.ports.in.GetArticleChangesUseCase",
+            "com.emedina.hexagonal.ref.app.application.ports.in.WatchArticleChangesUseCase");
+
+    static final List<String> HANDLERS = List.of(
+            "com.emedina.hexagonal.ref.app.application.CreateArticleHandler",
+            "com.emedina.hexagonal.ref.app.application.UpdateArticleHandler",
+            "com.emedina.hexagonal.ref.app.application.DeleteArticleHandler",
+            "com.emedina.hexagonal.ref.app.application.FindArticleHandler",
+            "com.emedina.hexagonal.ref.app.application.GetAllArticlesHandler",
+            "com.emedina.hexagonal.ref.app.application.GetArticleChangesHandler",
+            "com.emedina.hexagonal.ref.app.application.WatchArticleChangesHandler");
+
+    static final List<String> MESSAGES = List.of(
+            "com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand",
+            "com.emedina.hexagonal.ref.app.application.command.UpdateArticleCommand",
+            "com.emedina.hexagonal.ref.app.application.command.DeleteArticleCommand",
+            "com.emedina.hexagonal.ref.app.application.query.FindArticleQuery",
+            "com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery",
+            "com.emedina.hexagonal.ref.app.application.query.GetArticleChangesQuery",
+            "com.emedina.hexagonal.ref.app.application.query.WatchArticleChangesQuery");
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        MAPPERS.forEach(mapper -> hints.reflection()
+                .registerType(TypeReference.of(mapper), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+
+        // Registering the type is enough for its generic signature and members to be introspected
+        USE_CASES.forEach(useCase -> hints.reflection().registerType(TypeReference.of(useCase)));
+        HANDLERS.forEach(handler -> hints.reflection().registerType(TypeReference.of(handler)));
+        MESSAGES.forEach(message -> hints.reflection().registerType(TypeReference.of(message)));
+
+        this.bindingRegistrar.registerReflectionHints(hints.reflection(), AuthorDTO.class, ArticleDTO.class);
+
+        hints.serialization().registerType(Error.class);
+        for (final Class<?> error : errorTypes(Error.class)) {
+            hints.serialization().registerType(error);
+        }
+    }
+
+    private static List<Class<?>> errorTypes(final Class<?> root) {
+        if (!root.isSealed()) {
+            return List.of(root);
+        }
+        return Arrays.stream(root.getPermittedSubclasses())
+                .flatMap(subclass -> errorTypes(subclass).stream())
+                .toList();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import java.util.List;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+
+import com.emedina.sharedkernel.application.annotation.Adapter;
+import com.emedina.sharedkernel.application.annotation.ApplicationService;
+import com.emedina.sharedkernel.domain.service.annotation.DomainService;
+
+/**
+ * Assembles the component scanning and the lazy initialisation of the application according to its startup mode.
+ * <p>
+ * By default the whole {@code com.emedina} namespace is scanned, third-party libraries included. With
+ * {@code startup.scan=narrow} only the packages of the application holding beans are scanned instead, which is
+ * what the {@code fast-startup} profile does; that profile also turns on lazy initialisation, restricted by the
+ * {@link NonCriticalBeans} filter to the beans that no request depends on, such as the OpenAPI scanner and the
+ * actuator endpoints other than health.
+ * </p>
+ *
+ * @author Enrique Medina Montenegro
+ */
+@Configuration(proxyBeanMethods = false)
+class StartupAssembler {
+
+    static final String SCAN_PROPERTY = "startup.scan";
+
+    @Bean
+    static LazyInitializationExcludeFilter nonCriticalBeans() {
+        return new NonCriticalBeans(NonCriticalBeans.DEFAULT_PACKAGES);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = SCAN_PROPERTY, havingValue = "full", matchIfMissing = true)
+    @ComponentScan(basePackages = "com.emedina", includeFilters = @ComponentScan.Filter(
+            type = FilterType.ANNOTATION,
+            classes = {ApplicationService.class, Adapter.class, DomainService.class}
+    ))
+    static class FullScan {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = SCAN_PROPERTY, havingValue = "narrow")
+    @ComponentScan(basePackages = {
+            "com.emedina.hexagonal.ref.app.api",
+            "com.emedina.hexagonal.ref.app.application",
+            "com.emedina.hexagonal.ref.app.domain",
+            "com.emedina.hexagonal.ref.app.events",
+            "com.emedina.hexagonal.ref.app.external",
+            "com.emedina.hexagonal.ref.app.repositories"
+    }, includeFilters = @ComponentScan.Filter(
+            type = FilterType.ANNOTATION,
+            classes = {ApplicationService.class, Adapter.class, DomainService.class}
+    ))
+    static class NarrowScan {
+    }
+
+    /**
+     * Keeps every bean eagerly initialised when lazy initialisation is on, except those of the non-critical packages
+     * and the actuator endpoints, health excluded as the probes depend on it.
+     */
+    static final class NonCriticalBeans implements LazyInitializationExcludeFilter {
+
+        static final List<String> DEFAULT_PACKAGES = List.of("org.springdoc.", "org.springframework.boot.actuate.");
+
+        private final List<String> packages;
+
+        NonCriticalBeans(final List<String> packages) {
+            this.packages = List.copyOf(packages);
+        }
+
+        @Override
+        public boolean isExcluded(final String beanName, final BeanDefinition beanDefinition,
+                final Class<?> beanType) {
+            return beanType == null || !this.isNonCritical(beanType);
+        }
+
+        boolean isNonCritical(final Class<?> beanType) {
+            final String name = beanType.getName();
+            if (name.contains("Health")) {
+                return false;
+            }
+            return this.packages.stream().anyMatch(name::startsWith)
+                || name.endsWith("Endpoint") || name.endsWith("EndpointWebExtension");
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ import org.springframework.context.annotation.Configuration;
     packages = {
         "com.emedina.hexagonal.ref.app.api..",
         "com.emedina.hexagonal.ref.app.repositories..",
+        "com.emedina.hexagonal.ref.app.events..",
         "com.emedina.hexagonal.ref.app.external.."
     }
 )
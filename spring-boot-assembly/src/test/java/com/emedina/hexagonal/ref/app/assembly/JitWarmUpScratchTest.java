@@ -0,0 +1,69 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand;
+import com.emedina.hexagonal.ref.app.application.query.FindArticleQuery;
+import com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery;
+import com.emedina.hexagonal.ref.app.shared.consistency.ConsistencyToken;
+import com.emedina.hexagonal.ref.app.shared.dto.ArticleDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+import io.vavr.control.Either;
+
+/**
+ * Unit tests for JitWarmUpScratch.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("JitWarmUpScratch Tests")
+class JitWarmUpScratchTest {
+
+    @Test
+    @DisplayName("When articles are written through the scratch wiring, then should find them by the simulated author")
+    void shouldFindArticlesWithSimulatedAuthor_whenWrittenThroughScratchWiring() {
+        try (var scratch = JitWarmUpScratch.open(new StandardEnvironment())) {
+            // Given
+            var command = CreateArticleCommand.validateThenCreate(JitWarmUp.SCRATCH_PREFIX + "1",
+                JitWarmUp.SCRATCH_PREFIX + "author", "Warm-up", "Warm-up article").get();
+            var query = FindArticleQuery.validateThenCreate(JitWarmUp.SCRATCH_PREFIX + "1").get();
+            var token = ConsistencyToken.none();
+
+            // When
+            Either<Error, Void> created = ConsistencyToken.callWithin(token,
+                () -> scratch.commandBus().execute(command));
+            Either<Error, ArticleDTO> found = ConsistencyToken.callWithin(
+                ConsistencyToken.requiring(token.written()), () -> scratch.queryBus().query(query));
+
+            // Then
+            assertThat(created.isRight()).isTrue();
+            assertThat(found.get().author()).isEqualTo(JitWarmUpScratch.SCRATCH_AUTHOR_NAME);
+        }
+    }
+
+    @Test
+    @DisplayName("When the scratch wiring is discarded, then should discard the articles written through it")
+    void shouldDiscardArticles_whenScratchWiringDiscarded() {
+        // Given
+        try (var scratch = JitWarmUpScratch.open(new StandardEnvironment())) {
+            scratch.commandBus().execute(CreateArticleCommand.validateThenCreate(JitWarmUp.SCRATCH_PREFIX + "1",
+                JitWarmUp.SCRATCH_PREFIX + "author", "Warm-up", "Warm-up article").get());
+        }
+
+        // When
+        try (var scratch = JitWarmUpScratch.open(new StandardEnvironment())) {
+            Either<Error, List<ArticleDTO>> all = scratch.queryBus()
+                .query(GetAllArticlesQuery.validateThenCreate().get());
+
+            // Then
+            assertThat(all.get()).isEmpty();
+        }
+    }
+
+}
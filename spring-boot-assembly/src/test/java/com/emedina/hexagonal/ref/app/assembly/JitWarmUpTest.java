@@ -0,0 +1,160 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.emedina.hexagonal.ref.app.application.command.CreateArticleCommand;
+import com.emedina.hexagonal.ref.app.application.query.GetAllArticlesQuery;
+import com.emedina.sharedkernel.command.core.CommandBus;
+import com.emedina.sharedkernel.query.core.QueryBus;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+
+/**
+ * Unit tests for JitWarmUp.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("JitWarmUp Tests")
+class JitWarmUpTest {
+
+    private CommandBus commandBus;
+    private QueryBus queryBus;
+    private ApplicationEventPublisher publisher;
+    private AtomicLong compilationTime;
+    private AtomicInteger opened;
+    private AtomicInteger discarded;
+
+    @BeforeEach
+    void setUp() {
+        commandBus = mock(CommandBus.class);
+        queryBus = mock(QueryBus.class);
+        publisher = mock(ApplicationEventPublisher.class);
+        compilationTime = new AtomicLong();
+        opened = new AtomicInteger();
+        discarded = new AtomicInteger();
+        when(commandBus.execute(any())).thenReturn(Either.right(null));
+        when(queryBus.query(any(GetAllArticlesQuery.class))).thenReturn(Either.right(List.of()));
+    }
+
+    @Test
+    @DisplayName("When disabled, then should not drive any traffic")
+    void shouldNotDriveTraffic_whenDisabled() {
+        // Given
+        var warmUp = warmUp(properties(false, 100, 50_000), Option.of(compilationTime::get));
+
+        // When
+        warmUp.run(null);
+
+        // Then
+        verifyNoInteractions(commandBus, queryBus, publisher);
+        assertThat(opened).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("When compilation time cannot be monitored, then should skip the warm-up")
+    void shouldSkip_whenCompilationTimeCannotBeMonitored() {
+        // Given
+        var warmUp = warmUp(properties(true, 100, 50_000), Option.none());
+
+        // When
+        warmUp.run(null);
+
+        // Then
+        verifyNoInteractions(commandBus, queryBus, publisher);
+        assertThat(opened).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("When compilation is stable from the start, then should stop after the minimum iterations")
+    void shouldStopAfterMinIterations_whenCompilationStable() {
+        // Given
+        var warmUp = warmUp(properties(true, 200, 50_000), Option.of(compilationTime::get));
+
+        // When
+        warmUp.run(null);
+
+        // Then
+        ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(publisher).publishEvent(event.capture());
+        assertThat(event.getValue()).isInstanceOfSatisfying(AvailabilityChangeEvent.class,
+            change -> assertThat(change.getState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC));
+        verify(commandBus, times(200)).execute(any(CreateArticleCommand.class));
+    }
+
+    @Test
+    @DisplayName("When compilation keeps going, then should stop at the maximum iterations")
+    void shouldStopAtMaxIterations_whenCompilationKeepsGoing() {
+        // Given
+        LongSupplier busyCompiler = () -> compilationTime.addAndGet(1_000);
+        var warmUp = warmUp(properties(true, 100, 300), Option.of(busyCompiler));
+
+        // When
+        warmUp.run(null);
+
+        // Then
+        verify(commandBus, times(300)).execute(any(CreateArticleCommand.class));
+    }
+
+    @Test
+    @DisplayName("When the warm-up is over, then should discard the scratch wiring it drove the traffic through")
+    void shouldDiscardScratchWiring_whenWarmUpOver() {
+        // Given
+        var warmUp = warmUp(properties(true, 100, 50_000), Option.of(compilationTime::get));
+
+        // When
+        warmUp.run(null);
+
+        // Then
+        assertThat(opened).hasValue(1);
+        assertThat(discarded).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("When the traffic fails, then should still discard the scratch wiring")
+    void shouldDiscardScratchWiring_whenTrafficFails() {
+        // Given
+        when(commandBus.execute(any())).thenThrow(new IllegalStateException("Broken handler"));
+        var warmUp = warmUp(properties(true, 100, 50_000), Option.of(compilationTime::get));
+
+        // When & Then
+        assertThatThrownBy(() -> warmUp.run(null)).isInstanceOf(IllegalStateException.class);
+        assertThat(discarded).hasValue(1);
+    }
+
+    private JitWarmUp warmUp(final JitWarmUpProperties properties, final Option<LongSupplier> compilationClock) {
+        return new JitWarmUp(() -> {
+            opened.incrementAndGet();
+            return new JitWarmUpScratch(commandBus, queryBus, discarded::incrementAndGet);
+        }, properties, publisher, compilationClock);
+    }
+
+    private static JitWarmUpProperties properties(final boolean enabled, final int minIterations,
+            final int maxIterations) {
+        return new JitWarmUpProperties(enabled, 100, minIterations, maxIterations, Duration.ofMinutes(1),
+            Duration.ofMillis(5));
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.emedina.hexagonal.ref.app.shared.dto.AuthorDTO;
+import com.emedina.hexagonal.ref.app.shared.error.Error;
+
+/**
+ * Unit tests for NativeImageHints.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("NativeImageHints Tests")
+class NativeImageHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("When registering hints, then every listed type should exist on the classpath")
+    void shouldListExistingTypes_whenRegisteringHints() {
+        // Given
+        var classLoader = getClass().getClassLoader();
+
+        // When & Then
+        for (var types : List.of(NativeImageHints.MAPPERS, NativeImageHints.USE_CASES,
+            NativeImageHints.HANDLERS, NativeImageHints.MESSAGES)) {
+            for (String type : types) {
+                assertThat(classLoader.getResource(type.replace('.', '/') + ".class")).as(type).isNotNull();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("When registering hints, then the MapStruct implementations should be instantiable")
+    void shouldRegisterMapperConstructors_whenRegisteringHints() {
+        // When & Then
+        NativeImageHints.MAPPERS.forEach(mapper -> assertThat(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of(mapper))
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+            .test(hints)).as(mapper).isTrue());
+    }
+
+    @Test
+    @DisplayName("When registering hints, then the use cases should be registered for the bus registries")
+    void shouldRegisterUseCases_whenRegisteringHints() {
+        // When & Then
+        NativeImageHints.USE_CASES.forEach(useCase -> assertThat(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of(useCase))
+            .test(hints)).as(useCase).isTrue());
+    }
+
+    @Test
+    @DisplayName("When registering hints, then the author DTO should be bindable and the errors serializable")
+    void shouldRegisterBindingAndSerialization_whenRegisteringHints() {
+        // When & Then
+        assertThat(RuntimeHintsPredicates.reflection().onType(AuthorDTO.class).test(hints)).isTrue();
+        assertThat(RuntimeHintsPredicates.serialization()
+            .onType(Error.BusinessError.DuplicateArticle.class).test(hints)).isTrue();
+        assertThat(RuntimeHintsPredicates.serialization()
+            .onType(Error.TechnicalError.DeadlineExceeded.class).test(hints)).isTrue();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.emedina.hexagonal.ref.app.assembly;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+/**
+ * Unit tests for StartupAssembler.
+ *
+ * @author Enrique Medina Montenegro
+ */
+@DisplayName("StartupAssembler Tests")
+class StartupAssemblerTest {
+
+    @Nested
+    @DisplayName("Given the non-critical beans filter")
+    class NonCriticalBeansTests {
+
+        private final LazyInitializationExcludeFilter filter = StartupAssembler.nonCriticalBeans();
+
+        @Test
+        @DisplayName("When the bean belongs to the application, then should keep it eager")
+        void shouldKeepEager_whenBeanBelongsToApplication() {
+            // When & Then
+            assertThat(filter.isExcluded("applicationAssembler", null, ApplicationAssembler.class)).isTrue();
+        }
+
+        @Test
+        @DisplayName("When the bean type is unknown, then should keep it eager")
+        void shouldKeepEager_whenBeanTypeUnknown() {
+            // When & Then
+            assertThat(filter.isExcluded("unknown", null, null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("When the bean is an actuator endpoint other than health, then should make it lazy")
+        void shouldMakeLazy_whenBeanIsActuatorEndpoint() {
+            // Given
+            var nonCriticalBeans = new StartupAssembler.NonCriticalBeans(
+                StartupAssembler.NonCriticalBeans.DEFAULT_PACKAGES);
+
+            // When & Then
+            assertThat(nonCriticalBeans.isNonCritical(MetricsEndpoint.class)).isTrue();
+            assertThat(nonCriticalBeans.isNonCritical(HealthEndpoint.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("When the bean belongs to a non-critical package, then should make it lazy")
+        void shouldMakeLazy_whenBeanBelongsToNonCriticalPackage() {
+            // Given
+            var nonCriticalBeans = new StartupAssembler.NonCriticalBeans(
+                List.of(StartupAssemblerTest.class.getPackageName() + "."));
+
+            // When & Then
+            assertThat(nonCriticalBeans.isExcluded("assembler", null, ApplicationAssembler.class)).isFalse();
+        }
+
+    }
+
+    private static final class MetricsEndpoint {
+    }
+
+    private static final class HealthEndpoint {
+    }
+
+}